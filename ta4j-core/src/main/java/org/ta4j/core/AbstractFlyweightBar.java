@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Base of the flyweight {@link Bar} views on bar storages (e.g. the columns of
+ * a {@link ColumnarBarSeries} or the records of a {@link MappedBarSeries}).
+ *
+ * The views are compared, hashed and printed from their values like a
+ * {@link BaseBar}.
+ */
+abstract class AbstractFlyweightBar implements Bar {
+
+    private static final long serialVersionUID = 6254328372549136412L;
+
+    @Override
+    public String toString() {
+        return String.format(
+                "{end time: %1s, close price: %2$f, open price: %3$f, low price: %4$f, high price: %5$f, volume: %6$f}",
+                getEndTime().withZoneSameInstant(ZoneId.systemDefault()), getClosePrice().doubleValue(),
+                getOpenPrice().doubleValue(), getLowPrice().doubleValue(), getHighPrice().doubleValue(),
+                getVolume().doubleValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getBeginTime(), getEndTime(), getTimePeriod(), getOpenPrice(), getHighPrice(),
+                getLowPrice(), getClosePrice(), getVolume(), getAmount(), getTrades());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof Bar))
+            return false;
+        final Bar other = (Bar) obj;
+        return Objects.equals(getBeginTime(), other.getBeginTime()) && Objects.equals(getEndTime(), other.getEndTime())
+                && Objects.equals(getTimePeriod(), other.getTimePeriod())
+                && Objects.equals(getOpenPrice(), other.getOpenPrice())
+                && Objects.equals(getHighPrice(), other.getHighPrice())
+                && Objects.equals(getLowPrice(), other.getLowPrice())
+                && Objects.equals(getClosePrice(), other.getClosePrice())
+                && Objects.equals(getVolume(), other.getVolume()) && Objects.equals(getAmount(), other.getAmount())
+                && getTrades() == other.getTrades();
+    }
+}
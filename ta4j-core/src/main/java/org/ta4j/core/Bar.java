@@ -26,11 +26,13 @@ package org.ta4j.core;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.function.Function;
 
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.TimeUtils;
 
 /**
  * End bar of a time period.
@@ -89,6 +91,27 @@ public interface Bar extends Serializable {
      */
     ZonedDateTime getEndTime();
 
+    /**
+     * @return the begin timestamp of the bar period, in nanoseconds since the epoch
+     */
+    default long getBeginTimeEpochNanos() {
+        return TimeUtils.toEpochNanos(getBeginTime());
+    }
+
+    /**
+     * @return the end timestamp of the bar period, in nanoseconds since the epoch
+     */
+    default long getEndTimeEpochNanos() {
+        return TimeUtils.toEpochNanos(getEndTime());
+    }
+
+    /**
+     * @return the zone of the begin and end timestamps
+     */
+    default ZoneId getZone() {
+        return getEndTime().getZone();
+    }
+
     /**
      * @param timestamp a timestamp
      * @return true if the provided timestamp is between the begin time and the end
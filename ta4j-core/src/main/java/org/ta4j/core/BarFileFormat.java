@@ -0,0 +1,163 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+
+/**
+ * Binary file format of {@link BarFileWriter} and {@link MappedBarSeries}.
+ *
+ * A file is made of a header of {@value #HEADER_SIZE} bytes followed by one
+ * fixed-size record of {@value #RECORD_SIZE} bytes per bar. All values are
+ * little-endian.
+ *
+ * <pre>
+ * header:  int magic | int version | int record size | int zone id length
+ *          | long bar count | zone id (UTF-8)
+ * record:  long end time (epoch nanos) | long time period (nanos)
+ *          | double open | double high | double low | double close
+ *          | double volume | double amount | long trades
+ * </pre>
+ */
+final class BarFileFormat {
+
+    static final int MAGIC = 0x5441344A; // "TA4J"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 128;
+    static final int RECORD_SIZE = 72;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int END_TIME_OFFSET = 0;
+    static final int TIME_PERIOD_OFFSET = 8;
+    static final int OPEN_PRICE_OFFSET = 16;
+    static final int HIGH_PRICE_OFFSET = 24;
+    static final int LOW_PRICE_OFFSET = 32;
+    static final int CLOSE_PRICE_OFFSET = 40;
+    static final int VOLUME_OFFSET = 48;
+    static final int AMOUNT_OFFSET = 56;
+    static final int TRADES_OFFSET = 64;
+
+    private static final int BAR_COUNT_OFFSET = 16;
+    private static final int ZONE_OFFSET = 24;
+    private static final int MAX_ZONE_LENGTH = HEADER_SIZE - ZONE_OFFSET;
+
+    private BarFileFormat() {
+    }
+
+    /**
+     * Header of a bar file.
+     */
+    static final class Header {
+
+        final ZoneId zone;
+        final long barCount;
+
+        Header(ZoneId zone, long barCount) {
+            this.zone = zone;
+            this.barCount = barCount;
+        }
+    }
+
+    /**
+     * Writes a header at the beginning of a file.
+     *
+     * @param channel the file channel
+     * @param header  the header
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the zone id is too long
+     */
+    static void writeHeader(FileChannel channel, Header header) throws IOException {
+        byte[] zone = header.zone.getId().getBytes(StandardCharsets.UTF_8);
+        if (zone.length > MAX_ZONE_LENGTH) {
+            throw new IllegalArgumentException("Zone id too long: " + header.zone);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).putInt(zone.length);
+        buffer.putLong(header.barCount).put(zone);
+        buffer.clear();
+        writeFully(channel, buffer, 0);
+    }
+
+    /**
+     * Reads and validates the header of a file.
+     *
+     * @param channel the file channel
+     * @return the header
+     * @throws IOException if an I/O error occurs or if the file is not a valid bar
+     *                     file
+     */
+    static Header readHeader(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("Not a bar file: file too short");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                throw new IOException("Not a bar file: unexpected end of file");
+            }
+        }
+        buffer.flip();
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a bar file: wrong magic number");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported bar file version: " + version);
+        }
+        if (buffer.getInt() != RECORD_SIZE) {
+            throw new IOException("Unsupported bar file record size");
+        }
+        int zoneLength = buffer.getInt();
+        long barCount = buffer.getLong(BAR_COUNT_OFFSET);
+        if (zoneLength < 0 || zoneLength > MAX_ZONE_LENGTH || barCount < 0) {
+            throw new IOException("Corrupted bar file header");
+        }
+        byte[] zone = new byte[zoneLength];
+        buffer.position(ZONE_OFFSET);
+        buffer.get(zone);
+        if (channel.size() < HEADER_SIZE + barCount * RECORD_SIZE) {
+            throw new IOException(String.format("Corrupted bar file: %s bars expected", barCount));
+        }
+        return new Header(ZoneId.of(new String(zone, StandardCharsets.UTF_8)), barCount);
+    }
+
+    /**
+     * Writes the whole buffer at a position of a file.
+     *
+     * @param channel  the file channel
+     * @param buffer   the buffer to write
+     * @param position the file position
+     * @throws IOException if an I/O error occurs
+     */
+    static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
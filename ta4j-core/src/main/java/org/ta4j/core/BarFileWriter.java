@@ -0,0 +1,167 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * Writer of binary bar files, to be read by {@link MappedBarSeries}.
+ *
+ * Bars are written one after another with {@link #write(Bar)}; their end times
+ * must be strictly increasing. The number of bars is stored in the header of
+ * the file when the writer is closed.
+ *
+ * Prices and volumes are stored as doubles: converting a series using
+ * {@link org.ta4j.core.num.DecimalNum DecimalNum} may lose precision.
+ */
+public class BarFileWriter implements Closeable {
+
+    /** Number of records buffered before being written to the file */
+    private static final int BUFFERED_RECORDS = 1024;
+
+    private final FileChannel channel;
+    private final ZoneId zone;
+    private final ByteBuffer buffer;
+    private long barCount;
+    private long lastEndTime = Long.MIN_VALUE;
+    private boolean closed;
+
+    /**
+     * Constructor. Creates the file or truncates it if it already exists.
+     *
+     * @param path the path of the file
+     * @param zone the zone of the end times of the bars when they are read
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the zone id is too long
+     */
+    public BarFileWriter(Path path, ZoneId zone) throws IOException {
+        this.zone = zone;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocate(BUFFERED_RECORDS * BarFileFormat.RECORD_SIZE).order(BarFileFormat.BYTE_ORDER);
+        try {
+            BarFileFormat.writeHeader(channel, new BarFileFormat.Header(zone, 0));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all the bars of a series to a file. The zone of the file is the zone
+     * of the first bar (or the system default zone for an empty series).
+     *
+     * @param series the series to write
+     * @param path   the path of the file
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(BarSeries series, Path path) throws IOException {
+        if (series.isEmpty()) {
+            new BarFileWriter(path, ZoneId.systemDefault()).close();
+            return;
+        }
+        try (BarFileWriter writer = new BarFileWriter(path, series.getFirstBar().getZone())) {
+            for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+                writer.write(series.getBar(i));
+            }
+        }
+    }
+
+    /**
+     * Writes a bar at the end of the file.
+     *
+     * @param bar the bar to write
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the end time of the bar is not after the
+     *                                  end time of the previous bar
+     * @throws IllegalStateException    if the writer is closed
+     */
+    public void write(Bar bar) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer closed");
+        }
+        long endTime = bar.getEndTimeEpochNanos();
+        if (endTime <= lastEndTime) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot write a bar with end time:%s that is not after the previous bar", bar.getEndTime()));
+        }
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.putLong(endTime);
+        buffer.putLong(bar.getTimePeriod().toNanos());
+        buffer.putDouble(toDouble(bar.getOpenPrice()));
+        buffer.putDouble(toDouble(bar.getHighPrice()));
+        buffer.putDouble(toDouble(bar.getLowPrice()));
+        buffer.putDouble(toDouble(bar.getClosePrice()));
+        buffer.putDouble(toDouble(bar.getVolume()));
+        buffer.putDouble(toDouble(bar.getAmount()));
+        buffer.putLong(bar.getTrades());
+        lastEndTime = endTime;
+        barCount++;
+    }
+
+    /**
+     * @return the number of bars written so far
+     */
+    public long getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * Writes the buffered bars and the header, then closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+            BarFileFormat.writeHeader(channel, new BarFileFormat.Header(zone, barCount));
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        long writtenBars = barCount - buffer.remaining() / BarFileFormat.RECORD_SIZE;
+        BarFileFormat.writeFully(channel, buffer, BarFileFormat.HEADER_SIZE + writtenBars * BarFileFormat.RECORD_SIZE);
+        buffer.clear();
+    }
+
+    private static double toDouble(Num value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+}
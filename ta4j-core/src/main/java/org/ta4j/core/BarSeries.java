@@ -26,12 +26,19 @@ package org.ta4j.core;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Function;
 
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.utils.TimeUtils;
 
 /**
  * Sequence of {@link Bar bars} separated by a predefined period (e.g. 15
@@ -143,6 +150,20 @@ public interface BarSeries extends Serializable {
      */
     int getRemovedBarsCount();
 
+    /**
+     * Returns the number of modifications of the bars of this series. It changes
+     * whenever a bar is added or replaced, or the last bar is updated through
+     * {@link #addTrade(Num, Num)} or {@link #addPrice(Num)} of this series (but not
+     * when a {@link Bar} is updated directly), so that values computed from the
+     * last bar can be reused as long as it is unchanged.
+     *
+     * @return the modification count, or -1 if this series does not count its
+     *         modifications
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
     /**
      * Adds a bar at the end of the series.
      *
@@ -178,6 +199,60 @@ public interface BarSeries extends Serializable {
      */
     void addBar(Bar bar, boolean replace);
 
+    /**
+     * Adds bars at the end of the series.
+     *
+     * The bars are checked as if they were added one by one with
+     * {@link #addBar(Bar)}, but implementations may check the whole batch at once
+     * and grow their storage only once. Exceeding bars are removed.
+     *
+     * @param bars the bars to be added, ordered by end time
+     * @see BarSeries#setMaximumBarCount(int)
+     */
+    default void addBars(Collection<? extends Bar> bars) {
+        for (Bar bar : bars) {
+            addBar(bar);
+        }
+    }
+
+    /**
+     * Adds bars given as primitive columns at the end of the series. Amounts and
+     * trade counts are set to zero.
+     *
+     * This is the fastest way to backfill a series: implementations may check the
+     * whole batch at once and avoid creating intermediate objects. Exceeding bars
+     * are removed.
+     *
+     * @param timePeriod  the time period of the bars
+     * @param zone        the zone of the end times
+     * @param endTimes    the end times, in nanoseconds since the epoch (see
+     *                    {@link org.ta4j.core.utils.TimeUtils#toEpochNanos(ZonedDateTime)}),
+     *                    strictly increasing
+     * @param openPrices  the open prices
+     * @param highPrices  the high prices
+     * @param lowPrices   the low prices
+     * @param closePrices the close prices
+     * @param volumes     the volumes
+     * @throws IllegalArgumentException if the arrays do not have the same length or
+     *                                  if the end times are not strictly increasing
+     *                                  after the end time of the series
+     * @see BarSeries#setMaximumBarCount(int)
+     */
+    default void addBars(Duration timePeriod, ZoneId zone, long[] endTimes, double[] openPrices, double[] highPrices,
+            double[] lowPrices, double[] closePrices, double[] volumes) {
+        for (double[] column : new double[][] { openPrices, highPrices, lowPrices, closePrices, volumes }) {
+            if (column.length != endTimes.length) {
+                throw new IllegalArgumentException("All bar arrays must have the same length");
+            }
+        }
+        List<Bar> bars = new ArrayList<>(endTimes.length);
+        for (int i = 0; i < endTimes.length; i++) {
+            bars.add(new BaseBar(timePeriod, TimeUtils.toZonedDateTime(endTimes[i], zone), openPrices[i], highPrices[i],
+                    lowPrices[i], closePrices[i], volumes[i], 0, 0, function()));
+        }
+        addBars(bars);
+    }
+
     /**
      * Adds a bar at the end of the series.
      *
@@ -340,6 +415,21 @@ public interface BarSeries extends Serializable {
      */
     BarSeries getSubSeries(int startIndex, int endIndex);
 
+    /**
+     * Returns a read-only {@link BarSeriesView view} on the {@link Bar bars}
+     * between <tt>startIndex</tt> (inclusive) and <tt>endIndex</tt> (exclusive) of
+     * this BarSeries. Same as {@link #getSubSeries(int, int)} but without copying
+     * the bars: the view shares them with this BarSeries.
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a view with Bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     */
+    default BarSeriesView getSubSeriesView(int startIndex, int endIndex) {
+        return new BarSeriesView(this, startIndex, endIndex);
+    }
+
     /**
      * Transforms a {@link Number} into the {@link Num implementation} used by this
      * bar series
@@ -357,4 +447,51 @@ public interface BarSeries extends Serializable {
      */
     Function<Number, Num> function();
 
+    /**
+     * Returns the factory creating the {@link Num Nums} of this bar series. The
+     * factory shares frequently used constants like {@link NumFactory#zero()} and
+     * {@link NumFactory#hundred()}, so implementations should always return the
+     * same factory. By default, it is the factory of {@link #function()} kept by
+     * {@link NumFactory#of(java.util.function.Function)}.
+     *
+     * @return the Num factory of this bar series
+     */
+    default NumFactory numFactory() {
+        return NumFactory.of(function());
+    }
+
+    /**
+     * @return the registry sharing the indicators of this series, or null if they
+     *         are not shared (default)
+     */
+    default IndicatorRegistry getIndicatorRegistry() {
+        return null;
+    }
+
+    /**
+     * Sets the registry sharing the indicators of this series, see
+     * {@link IndicatorRegistry}. Only the indicators created afterwards are shared.
+     *
+     * The series which do not share their indicators (default) ignore the registry:
+     * {@link #getIndicatorRegistry()} stays null.
+     *
+     * @param indicatorRegistry the registry, or null to stop sharing indicators
+     */
+    default void setIndicatorRegistry(IndicatorRegistry indicatorRegistry) {
+        // indicators not shared
+    }
+
+    /**
+     * Returns the lock allowing a thread to add bars while other threads read the
+     * series and its indicators. The bars are added under the write lock, and the
+     * {@link org.ta4j.core.indicators.CachedIndicator cached indicators} read their
+     * values under the read lock.
+     *
+     * @return the lock of the series, or null if it does not support concurrent
+     *         access (default)
+     */
+    default ReadWriteLock getReadWriteLock() {
+        return null;
+    }
+
 }
@@ -23,11 +23,18 @@
  */
 package org.ta4j.core;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.ta4j.core.Trade.TradeType;
 import org.ta4j.core.analysis.cost.CostModel;
 import org.ta4j.core.analysis.cost.ZeroCostModel;
+import org.ta4j.core.indicators.IndicatorDependencies;
+import org.ta4j.core.indicators.IndicatorPrecomputer;
 import org.ta4j.core.num.Num;
 
 /**
@@ -48,6 +55,16 @@ public class BarSeriesManager {
     private CostModel transactionCostModel;
     private CostModel holdingCostModel;
 
+    /** True to precompute the indicators of the strategies before running them */
+    private boolean precomputeIndicators;
+
+    /** The pool precomputing the indicators in parallel, or null */
+    private ForkJoinPool precomputePool;
+
+    /** The precomputation plans of the strategies already run */
+    private final Map<Strategy, IndicatorPrecomputer.Plan> precomputePlans = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
     /**
      * Constructor.
      * 
@@ -77,6 +94,46 @@ public class BarSeriesManager {
         return barSeries;
     }
 
+    /**
+     * @return true if the indicators of the strategies are precomputed before
+     *         running them
+     */
+    public boolean isPrecomputeIndicators() {
+        return precomputeIndicators;
+    }
+
+    /**
+     * Sets whether the indicators used by the rules of a strategy are precomputed
+     * over the run indexes before running it (see {@link IndicatorPrecomputer}),
+     * instead of being calculated on first use. The dependency graph of a strategy
+     * is walked on its first run only.
+     *
+     * @param precomputeIndicators true to precompute the indicators
+     */
+    public void setPrecomputeIndicators(boolean precomputeIndicators) {
+        this.precomputeIndicators = precomputeIndicators;
+    }
+
+    /**
+     * @return the pool precomputing the independent indicators in parallel, or null
+     */
+    public ForkJoinPool getPrecomputePool() {
+        return precomputePool;
+    }
+
+    /**
+     * Sets the pool precomputing the independent indicators of a strategy in
+     * parallel. Without pool (default), they are precomputed in parallel on the
+     * common pool only if the managed series supports concurrent access (see
+     * {@link BarSeries#getReadWriteLock()}), and in the running thread otherwise.
+     *
+     * @param precomputePool the pool, or null
+     * @see IndicatorPrecomputer
+     */
+    public void setPrecomputePool(ForkJoinPool precomputePool) {
+        this.precomputePool = precomputePool;
+    }
+
     /**
      * Runs the provided strategy over the managed series.
      *
@@ -164,6 +221,15 @@ public class BarSeriesManager {
             log.trace("Running strategy (indexes: {} -> {}): {} (starting with {})", runBeginIndex, runEndIndex,
                     strategy, tradeType);
         }
+        if (precomputeIndicators) {
+            IndicatorPrecomputer.Plan plan = precomputePlans.computeIfAbsent(strategy,
+                    s -> IndicatorPrecomputer.plan(IndicatorDependencies.getIndicators(s)));
+            if (precomputePool != null) {
+                IndicatorPrecomputer.precompute(plan, runBeginIndex, runEndIndex, precomputePool);
+            } else {
+                IndicatorPrecomputer.precompute(plan, runBeginIndex, runEndIndex);
+            }
+        }
         TradingRecord tradingRecord = new BaseTradingRecord(tradeType, transactionCostModel, holdingCostModel);
         for (int i = runBeginIndex; i <= runEndIndex; i++) {
             // For each bar between both indexes...
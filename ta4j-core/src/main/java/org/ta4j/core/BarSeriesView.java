@@ -0,0 +1,263 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
+
+import org.ta4j.core.indicators.helpers.BarSeriesViewIndicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Read-only view on a range of bars of another {@link BarSeries}.
+ *
+ * Unlike {@link BarSeries#getSubSeries(int, int)}, a view does not copy
+ * anything: it shares the bars of its parent series and just offsets the
+ * indexes. I. e. index 0 of the view is index <tt>startIndex</tt> of the parent
+ * series.
+ *
+ * Indicators built on a view can reuse the values already calculated by the
+ * same indicators on the parent series through a
+ * {@link BarSeriesViewIndicator}.
+ *
+ * Notes:
+ * <ul>
+ * <li>bars cannot be added to a view, but changes to the shared bars (e.g.
+ * {@link BarSeries#addPrice(Num)} on the parent) are visible through it</li>
+ * <li>the view is only valid as long as the parent series keeps its bars (see
+ * {@link BarSeries#setMaximumBarCount(int)})</li>
+ * </ul>
+ *
+ * @see BarSeries#getSubSeriesView(int, int)
+ */
+public class BarSeriesView implements BarSeries {
+
+    private static final long serialVersionUID = 3165404612392712683L;
+
+    /** The parent series */
+    private final BarSeries parent;
+    /** Index in the parent series of the first bar of the view */
+    private final int parentBeginIndex;
+    /** Number of bars of the view */
+    private final int barCount;
+
+    /**
+     * Constructor. If <tt>startIndex</tt> is before the first available bar of the
+     * parent series the view starts with the first available bar. If
+     * <tt>endIndex</tt> is after the last bar of the parent series the view ends
+     * with the last bar.
+     *
+     * @param parent     the parent series
+     * @param startIndex the start index (inclusive) in the parent series
+     * @param endIndex   the end index (exclusive) in the parent series
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     */
+    public BarSeriesView(BarSeries parent, int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        if (parent instanceof BarSeriesView) {
+            // View of a view: flattening it
+            BarSeriesView parentView = (BarSeriesView) parent;
+            this.parent = parentView.parent;
+            startIndex = parentView.getParentIndex(startIndex);
+            endIndex = parentView.getParentIndex(Math.min(endIndex, parentView.barCount));
+        } else {
+            this.parent = parent;
+        }
+        if (this.parent.isEmpty()) {
+            this.parentBeginIndex = startIndex;
+            this.barCount = 0;
+        } else {
+            int firstAvailableIndex = Math.max(this.parent.getBeginIndex(), this.parent.getRemovedBarsCount());
+            this.parentBeginIndex = Math.max(startIndex, firstAvailableIndex);
+            this.barCount = Math.max(Math.min(endIndex, this.parent.getEndIndex() + 1) - parentBeginIndex, 0);
+        }
+    }
+
+    /**
+     * @return the parent series
+     */
+    public BarSeries getParent() {
+        return parent;
+    }
+
+    /**
+     * @param index an index of this view
+     * @return the corresponding index of the parent series
+     */
+    public int getParentIndex(int index) {
+        return parentBeginIndex + index;
+    }
+
+    @Override
+    public String getName() {
+        return parent.getName();
+    }
+
+    @Override
+    public Bar getBar(int i) {
+        if (i < 0 || i >= barCount) {
+            throw new IndexOutOfBoundsException(String.format("Size of series view: %s bars, index = %s", barCount, i));
+        }
+        return parent.getBar(parentBeginIndex + i);
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * @return an unmodifiable list of the bars of the view
+     */
+    @Override
+    public List<Bar> getBarData() {
+        if (barCount == 0) {
+            return Collections.emptyList();
+        }
+        int fromIndex = parentBeginIndex - parent.getRemovedBarsCount();
+        return Collections.unmodifiableList(parent.getBarData().subList(fromIndex, fromIndex + barCount));
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return barCount == 0 ? -1 : 0;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return barCount - 1;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        throw new IllegalStateException("Cannot set a maximum bar count on a bar series view");
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return 0;
+    }
+
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice, Num closePrice, Num volume,
+            Num amount) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume, Num amount) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addTrade(Num tradeVolume, Num tradePrice) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addPrice(Num price) {
+        throw readOnly();
+    }
+
+    /**
+     * Returns a view on a subset of this view (sharing the bars of the parent
+     * series).
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a view with Bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     */
+    @Override
+    public BarSeriesView getSubSeries(int startIndex, int endIndex) {
+        return getSubSeriesView(startIndex, endIndex);
+    }
+
+    @Override
+    public BarSeriesView getSubSeriesView(int startIndex, int endIndex) {
+        return new BarSeriesView(this, startIndex, endIndex);
+    }
+
+    @Override
+    public Num numOf(Number number) {
+        return parent.numOf(number);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return parent.getModificationCount();
+    }
+
+    @Override
+    public ReadWriteLock getReadWriteLock() {
+        return parent.getReadWriteLock();
+    }
+
+    @Override
+    public NumFactory numFactory() {
+        return parent.numFactory();
+    }
+
+    @Override
+    public Function<Number, Num> function() {
+        return parent.function();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Cannot add data to a bar series view");
+    }
+}
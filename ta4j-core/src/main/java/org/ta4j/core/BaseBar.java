@@ -25,6 +25,7 @@ package org.ta4j.core;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Objects;
@@ -33,19 +34,26 @@ import java.util.function.Function;
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.DoubleNum;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.TimeUtils;
 
 /**
  * Base implementation of a {@link Bar}.
+ *
+ * The end time is kept as primitive epoch seconds and nanoseconds along with
+ * its zone, the {@link ZonedDateTime begin and end times} are only created when
+ * they are requested.
  */
 public class BaseBar implements Bar {
 
-    private static final long serialVersionUID = 8038383777467488147L;
+    private static final long serialVersionUID = -2683587203416379524L;
     /** Time period (e.g. 1 day, 15 min, etc.) of the bar */
     private Duration timePeriod;
-    /** End time of the bar */
-    private ZonedDateTime endTime;
-    /** Begin time of the bar */
-    private ZonedDateTime beginTime;
+    /** End time of the bar, in seconds since the epoch */
+    private long endEpochSecond;
+    /** Nanoseconds of the second of the end time */
+    private int endNano;
+    /** Zone of the begin and end times of the bar */
+    private ZoneId zone;
     /** Open price of the period */
     private Num openPrice = null;
     /** Close price of the period */
@@ -71,8 +79,9 @@ public class BaseBar implements Bar {
     public BaseBar(Duration timePeriod, ZonedDateTime endTime, Function<Number, Num> numFunction) {
         checkTimeArguments(timePeriod, endTime);
         this.timePeriod = timePeriod;
-        this.endTime = endTime;
-        this.beginTime = endTime.minus(timePeriod);
+        this.endEpochSecond = endTime.toEpochSecond();
+        this.endNano = endTime.getNano();
+        this.zone = endTime.getZone();
         this.volume = numFunction.apply(0);
         this.amount = numFunction.apply(0);
     }
@@ -275,8 +284,40 @@ public class BaseBar implements Bar {
             Num closePrice, Num volume, Num amount, long trades) {
         checkTimeArguments(timePeriod, endTime);
         this.timePeriod = timePeriod;
-        this.endTime = endTime;
-        this.beginTime = endTime.minus(timePeriod);
+        this.endEpochSecond = endTime.toEpochSecond();
+        this.endNano = endTime.getNano();
+        this.zone = endTime.getZone();
+        this.openPrice = openPrice;
+        this.highPrice = highPrice;
+        this.lowPrice = lowPrice;
+        this.closePrice = closePrice;
+        this.volume = volume;
+        this.amount = amount;
+        this.trades = trades;
+    }
+
+    /**
+     * Constructor used by the bulk loading of bar series, with an end time in
+     * nanoseconds since the epoch.
+     *
+     * @param timePeriod        the time period
+     * @param endTimeEpochNanos the end time of the bar period, in nanoseconds since
+     *                          the epoch
+     * @param zone              the zone of the end time
+     * @param openPrice         the open price of the bar period
+     * @param highPrice         the highest price of the bar period
+     * @param lowPrice          the lowest price of the bar period
+     * @param closePrice        the close price of the bar period
+     * @param volume            the volume of the bar period
+     * @param amount            the amount of the bar period
+     * @param trades            the trades count of the bar period
+     */
+    BaseBar(Duration timePeriod, long endTimeEpochNanos, ZoneId zone, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume, Num amount, long trades) {
+        this.timePeriod = Objects.requireNonNull(timePeriod, "Time period cannot be null");
+        this.endEpochSecond = Math.floorDiv(endTimeEpochNanos, TimeUtils.NANOS_PER_SECOND);
+        this.endNano = (int) Math.floorMod(endTimeEpochNanos, TimeUtils.NANOS_PER_SECOND);
+        this.zone = Objects.requireNonNull(zone, "Zone cannot be null");
         this.openPrice = openPrice;
         this.highPrice = highPrice;
         this.lowPrice = lowPrice;
@@ -364,14 +405,38 @@ public class BaseBar implements Bar {
      * @return the begin timestamp of the bar period
      */
     public ZonedDateTime getBeginTime() {
-        return beginTime;
+        return Instant.ofEpochSecond(endEpochSecond, endNano).minus(timePeriod).atZone(zone);
     }
 
     /**
      * @return the end timestamp of the bar period
      */
     public ZonedDateTime getEndTime() {
-        return endTime;
+        return Instant.ofEpochSecond(endEpochSecond, endNano).atZone(zone);
+    }
+
+    @Override
+    public long getBeginTimeEpochNanos() {
+        return Math.subtractExact(getEndTimeEpochNanos(), timePeriod.toNanos());
+    }
+
+    @Override
+    public long getEndTimeEpochNanos() {
+        return Math.addExact(Math.multiplyExact(endEpochSecond, TimeUtils.NANOS_PER_SECOND), endNano);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * @param other another bar
+     * @return true if this bar ends after the other one
+     */
+    boolean endsAfter(BaseBar other) {
+        return endEpochSecond > other.endEpochSecond
+                || (endEpochSecond == other.endEpochSecond && endNano > other.endNano);
     }
 
     /**
@@ -406,8 +471,8 @@ public class BaseBar implements Bar {
     public String toString() {
         return String.format(
                 "{end time: %1s, close price: %2$f, open price: %3$f, low price: %4$f, high price: %5$f, volume: %6$f}",
-                endTime.withZoneSameInstant(ZoneId.systemDefault()), closePrice.doubleValue(), openPrice.doubleValue(),
-                lowPrice.doubleValue(), highPrice.doubleValue(), volume.doubleValue());
+                getEndTime().withZoneSameInstant(ZoneId.systemDefault()), closePrice.doubleValue(),
+                openPrice.doubleValue(), lowPrice.doubleValue(), highPrice.doubleValue(), volume.doubleValue());
     }
 
     /**
@@ -426,8 +491,8 @@ public class BaseBar implements Bar {
 
     @Override
     public int hashCode() {
-        return Objects.hash(beginTime, endTime, timePeriod, openPrice, highPrice, lowPrice, closePrice, volume, amount,
-                trades);
+        return Objects.hash(endEpochSecond, endNano, zone, timePeriod, openPrice, highPrice, lowPrice, closePrice,
+                volume, amount, trades);
     }
 
     @Override
@@ -437,7 +502,7 @@ public class BaseBar implements Bar {
         if (!(obj instanceof BaseBar))
             return false;
         final BaseBar other = (BaseBar) obj;
-        return Objects.equals(beginTime, other.beginTime) && Objects.equals(endTime, other.endTime)
+        return endEpochSecond == other.endEpochSecond && endNano == other.endNano && Objects.equals(zone, other.zone)
                 && Objects.equals(timePeriod, other.timePeriod) && Objects.equals(openPrice, other.openPrice)
                 && Objects.equals(highPrice, other.highPrice) && Objects.equals(lowPrice, other.lowPrice)
                 && Objects.equals(closePrice, other.closePrice) && Objects.equals(volume, other.volume)
@@ -27,20 +27,32 @@ import static org.ta4j.core.num.NaN.NaN;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.utils.RingBufferList;
+import org.ta4j.core.utils.TimeUtils;
 
 /**
  * Base implementation of a {@link BarSeries}.
  * </p>
+ * Series created without a list of bars store their bars in a
+ * {@link RingBufferList}, so that removing the bars exceeding the
+ * {@link #setMaximumBarCount(int) maximum bar count} is an O(1) operation.
  */
 public class BaseBarSeries implements BarSeries {
 
@@ -53,6 +65,10 @@ public class BaseBarSeries implements BarSeries {
      * Num type function
      **/
     protected final transient Function<Number, Num> numFunction;
+    /**
+     * Num factory backed by the num type function
+     **/
+    protected final transient NumFactory numFactory;
     /**
      * The logger
      */
@@ -81,6 +97,18 @@ public class BaseBarSeries implements BarSeries {
      * Number of removed bars
      */
     private int removedBarsCount = 0;
+    /**
+     * Number of modifications of the bars, see {@link #getModificationCount()}
+     */
+    private long modificationCount = 0;
+    /**
+     * Registry sharing the indicators of the series, or null
+     */
+    private transient IndicatorRegistry indicatorRegistry;
+    /**
+     * Lock of the series for concurrent access, or null
+     */
+    private transient ReadWriteLock readWriteLock;
     /**
      * True if the current series is constrained (i.e. its indexes cannot change),
      * false otherwise
@@ -100,7 +128,7 @@ public class BaseBarSeries implements BarSeries {
      * @param name the name of the series
      */
     public BaseBarSeries(String name) {
-        this(name, new ArrayList<>());
+        this(name, new RingBufferList<>());
     }
 
     /**
@@ -130,7 +158,7 @@ public class BaseBarSeries implements BarSeries {
      *                    {@link Num Num implementation}
      */
     public BaseBarSeries(String name, Function<Number, Num> numFunction) {
-        this(name, new ArrayList<>(), numFunction);
+        this(name, new RingBufferList<>(), numFunction);
     }
 
     /**
@@ -183,10 +211,12 @@ public class BaseBarSeries implements BarSeries {
             this.seriesEndIndex = -1;
             this.constrained = false;
             this.numFunction = numFunction;
+            this.numFactory = NumFactory.of(numFunction);
             return;
         }
         // Bar list not empty: take Function of first bar
         this.numFunction = bars.get(0).getClosePrice().function();
+        this.numFactory = NumFactory.of(this.numFunction);
         // Bar list not empty: checking num types
         if (!checkBars(bars)) {
             throw new IllegalArgumentException(String.format(
@@ -265,7 +295,39 @@ public class BaseBarSeries implements BarSeries {
 
     @Override
     public Num numOf(Number number) {
-        return this.numFunction.apply(number);
+        return numFactory.numOf(number);
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry;
+    }
+
+    @Override
+    public void setIndicatorRegistry(IndicatorRegistry indicatorRegistry) {
+        this.indicatorRegistry = indicatorRegistry;
+    }
+
+    @Override
+    public ReadWriteLock getReadWriteLock() {
+        return readWriteLock;
+    }
+
+    /**
+     * Enables or disables the concurrent access to this series and to the
+     * indicators built on it, see {@link #getReadWriteLock()}. It must be set
+     * before creating the indicators.
+     *
+     * @param concurrentAccess true to allow a thread adding bars while other
+     *                         threads read the indicators
+     */
+    public void setConcurrentAccess(boolean concurrentAccess) {
+        readWriteLock = concurrentAccess ? new ReentrantReadWriteLock() : null;
+    }
+
+    @Override
+    public NumFactory numFactory() {
+        return numFactory;
     }
 
     @Override
@@ -316,25 +378,30 @@ public class BaseBarSeries implements BarSeries {
 
     @Override
     public Bar getBar(int i) {
-        int innerIndex = i - removedBarsCount;
-        if (innerIndex < 0) {
-            if (i < 0) {
-                // Cannot return the i-th bar if i < 0
+        Lock lock = lockForReading();
+        try {
+            int innerIndex = i - removedBarsCount;
+            if (innerIndex < 0) {
+                if (i < 0) {
+                    // Cannot return the i-th bar if i < 0
+                    throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
+                }
+                if (log.isTraceEnabled()) {
+                    log.trace("Bar series `{}` ({} bars): bar {} already removed, use {}-th instead", name, bars.size(),
+                            i, removedBarsCount);
+                }
+                if (bars.isEmpty()) {
+                    throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, removedBarsCount));
+                }
+                innerIndex = 0;
+            } else if (innerIndex >= bars.size()) {
+                // Cannot return the n-th bar if n >= bars.size()
                 throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
             }
-            if (log.isTraceEnabled()) {
-                log.trace("Bar series `{}` ({} bars): bar {} already removed, use {}-th instead", name, bars.size(), i,
-                        removedBarsCount);
-            }
-            if (bars.isEmpty()) {
-                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, removedBarsCount));
-            }
-            innerIndex = 0;
-        } else if (innerIndex >= bars.size()) {
-            // Cannot return the n-th bar if n >= bars.size()
-            throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
+            return bars.get(innerIndex);
+        } finally {
+            unlock(lock);
         }
-        return bars.get(innerIndex);
     }
 
     @Override
@@ -368,14 +435,19 @@ public class BaseBarSeries implements BarSeries {
 
     @Override
     public void setMaximumBarCount(int maximumBarCount) {
-        if (constrained) {
-            throw new IllegalStateException("Cannot set a maximum bar count on a constrained bar series");
-        }
-        if (maximumBarCount <= 0) {
-            throw new IllegalArgumentException("Maximum bar count must be strictly positive");
+        Lock lock = lockForWriting();
+        try {
+            if (constrained) {
+                throw new IllegalStateException("Cannot set a maximum bar count on a constrained bar series");
+            }
+            if (maximumBarCount <= 0) {
+                throw new IllegalArgumentException("Maximum bar count must be strictly positive");
+            }
+            this.maximumBarCount = maximumBarCount;
+            removeExceedingBars();
+        } finally {
+            unlock(lock);
         }
-        this.maximumBarCount = maximumBarCount;
-        removeExceedingBars();
     }
 
     @Override
@@ -383,6 +455,11 @@ public class BaseBarSeries implements BarSeries {
         return removedBarsCount;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * @param bar the <code>Bar</code> to be added
      * @apiNote to add bar data directly use #addBar(Duration, ZonedDateTime, Num,
@@ -390,32 +467,165 @@ public class BaseBarSeries implements BarSeries {
      */
     @Override
     public void addBar(Bar bar, boolean replace) {
-        Objects.requireNonNull(bar);
-        if (!checkBar(bar)) {
-            throw new IllegalArgumentException(
-                    String.format("Cannot add Bar with data type: %s to series with data" + "type: %s",
-                            bar.getClosePrice().getClass(), numOf(1).getClass()));
+        Lock lock = lockForWriting();
+        try {
+            Objects.requireNonNull(bar);
+            if (!checkBar(bar)) {
+                throw new IllegalArgumentException(
+                        String.format("Cannot add Bar with data type: %s to series with data" + "type: %s",
+                                bar.getClosePrice().getClass(), numOf(1).getClass()));
+            }
+            if (!bars.isEmpty()) {
+                if (replace) {
+                    bars.set(bars.size() - 1, bar);
+                    modificationCount++;
+                    return;
+                }
+                final int lastBarIndex = bars.size() - 1;
+                Bar lastBar = bars.get(lastBarIndex);
+                if (!endsAfter(bar, lastBar)) {
+                    throw new IllegalArgumentException(
+                            String.format("Cannot add a bar with end time:%s that is <= to series end time: %s",
+                                    bar.getEndTime(), lastBar.getEndTime()));
+                }
+            }
+
+            bars.add(bar);
+            modificationCount++;
+            if (seriesBeginIndex == -1) {
+                // Begin index set to 0 only if it wasn't initialized
+                seriesBeginIndex = 0;
+            }
+            seriesEndIndex++;
+            removeExceedingBars();
+        } finally {
+            unlock(lock);
         }
-        if (!bars.isEmpty()) {
-            if (replace) {
-                bars.set(bars.size() - 1, bar);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The whole batch is checked before adding any bar: the Num type is resolved
+     * once and the end times are compared pairwise. Bars which would be removed at
+     * once because of the maximum bar count are not stored.
+     */
+    @Override
+    public void addBars(Collection<? extends Bar> newBars) {
+        Lock lock = lockForWriting();
+        try {
+            if (newBars.isEmpty()) {
                 return;
             }
-            final int lastBarIndex = bars.size() - 1;
-            ZonedDateTime seriesEndTime = bars.get(lastBarIndex).getEndTime();
-            if (!bar.getEndTime().isAfter(seriesEndTime)) {
-                throw new IllegalArgumentException(
-                        String.format("Cannot add a bar with end time:%s that is <= to series end time: %s",
-                                bar.getEndTime(), seriesEndTime));
+            Class<? extends Num> numType = numOf(1).getClass();
+            Bar previousBar = bars.isEmpty() ? null : bars.get(bars.size() - 1);
+            for (Bar bar : newBars) {
+                Objects.requireNonNull(bar);
+                Num closePrice = bar.getClosePrice();
+                if (closePrice != null && closePrice.getClass() != numType && !closePrice.equals(NaN)) {
+                    throw new IllegalArgumentException(
+                            String.format("Cannot add Bar with data type: %s to series with data" + "type: %s",
+                                    closePrice.getClass(), numType));
+                }
+                if (previousBar != null && !endsAfter(bar, previousBar)) {
+                    throw new IllegalArgumentException(
+                            String.format("Cannot add a bar with end time:%s that is <= to series end time: %s",
+                                    bar.getEndTime(), previousBar.getEndTime()));
+                }
+                previousBar = bar;
             }
+            int skippedBars = Math.max(0, newBars.size() - maximumBarCount);
+            if (skippedBars == 0) {
+                bars.addAll(newBars);
+            } else {
+                List<? extends Bar> barList = newBars instanceof List ? (List<? extends Bar>) newBars
+                        : new ArrayList<>(newBars);
+                bars.addAll(barList.subList(skippedBars, barList.size()));
+            }
+            barsAdded(newBars.size(), skippedBars);
+        } finally {
+            unlock(lock);
         }
+    }
 
-        bars.add(bar);
+    @Override
+    public void addBars(Duration timePeriod, ZoneId zone, long[] endTimes, double[] openPrices, double[] highPrices,
+            double[] lowPrices, double[] closePrices, double[] volumes) {
+        Lock lock = lockForWriting();
+        try {
+            int fromIndex = checkBarColumns(timePeriod, zone, endTimes, openPrices, highPrices, lowPrices, closePrices,
+                    volumes);
+            List<Bar> newBars = new ArrayList<>(endTimes.length - fromIndex);
+            Num zero = numOf(0);
+            for (int i = fromIndex; i < endTimes.length; i++) {
+                newBars.add(new BaseBar(timePeriod, endTimes[i], zone, numOf(openPrices[i]), numOf(highPrices[i]),
+                        numOf(lowPrices[i]), numOf(closePrices[i]), numOf(volumes[i]), zero, 0));
+            }
+            bars.addAll(newBars);
+            barsAdded(endTimes.length, fromIndex);
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /**
+     * Checks bars given as primitive columns before adding them.
+     *
+     * @param timePeriod the time period of the bars
+     * @param zone       the zone of the end times
+     * @param endTimes   the end times, in nanoseconds since the epoch
+     * @param columns    the price and volume columns
+     * @return the index of the first bar to store, the bars before it would be
+     *         removed at once because of the maximum bar count
+     * @throws IllegalArgumentException if the arrays do not have the same length or
+     *                                  if the end times are not strictly increasing
+     *                                  after the end time of the series
+     */
+    int checkBarColumns(Duration timePeriod, ZoneId zone, long[] endTimes, double[]... columns) {
+        if (timePeriod == null) {
+            throw new IllegalArgumentException("Time period cannot be null");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        for (double[] column : columns) {
+            if (column.length != endTimes.length) {
+                throw new IllegalArgumentException("All bar arrays must have the same length");
+            }
+        }
+        boolean first = bars.isEmpty();
+        long previousEndTime = first ? 0 : bars.get(bars.size() - 1).getEndTimeEpochNanos();
+        for (long endTime : endTimes) {
+            if (!first && endTime <= previousEndTime) {
+                throw new IllegalArgumentException(String.format(
+                        "Cannot add a bar with end time:%s that is <= to series end time: %s",
+                        TimeUtils.toZonedDateTime(endTime, zone), TimeUtils.toZonedDateTime(previousEndTime, zone)));
+            }
+            first = false;
+            previousEndTime = endTime;
+        }
+        return Math.max(0, endTimes.length - maximumBarCount);
+    }
+
+    /**
+     * Updates the indexes of the series after bars have been appended to its
+     * storage, and removes the exceeding bars.
+     *
+     * @param addedBars   the number of bars added to the series
+     * @param skippedBars the number of added bars which have not been stored
+     *                    because of the maximum bar count
+     */
+    void barsAdded(int addedBars, int skippedBars) {
+        if (addedBars == 0) {
+            return;
+        }
+        modificationCount++;
         if (seriesBeginIndex == -1) {
             // Begin index set to 0 only if it wasn't initialized
             seriesBeginIndex = 0;
         }
-        seriesEndIndex++;
+        seriesEndIndex += addedBars;
+        removedBarsCount += skippedBars;
         removeExceedingBars();
     }
 
@@ -461,12 +671,72 @@ public class BaseBarSeries implements BarSeries {
 
     @Override
     public void addTrade(Num tradeVolume, Num tradePrice) {
-        getLastBar().addTrade(tradeVolume, tradePrice);
+        Lock lock = lockForWriting();
+        try {
+            getLastBar().addTrade(tradeVolume, tradePrice);
+            modificationCount++;
+        } finally {
+            unlock(lock);
+        }
     }
 
     @Override
     public void addPrice(Num price) {
-        getLastBar().addPrice(price);
+        Lock lock = lockForWriting();
+        try {
+            getLastBar().addPrice(price);
+            modificationCount++;
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /**
+     * @param bar         a bar
+     * @param previousBar the previous bar
+     * @return true if the bar ends after the previous bar
+     */
+    private static boolean endsAfter(Bar bar, Bar previousBar) {
+        if (bar instanceof BaseBar && previousBar instanceof BaseBar) {
+            // Comparing the primitive times, without creating ZonedDateTimes
+            return ((BaseBar) bar).endsAfter((BaseBar) previousBar);
+        }
+        return bar.getEndTime().isAfter(previousBar.getEndTime());
+    }
+
+    /**
+     * Acquires the read lock of the series, if concurrent access is enabled.
+     *
+     * @return the acquired lock, or null
+     */
+    Lock lockForReading() {
+        return lock(readWriteLock == null ? null : readWriteLock.readLock());
+    }
+
+    /**
+     * Acquires the write lock of the series, if concurrent access is enabled.
+     *
+     * @return the acquired lock, or null
+     */
+    Lock lockForWriting() {
+        return lock(readWriteLock == null ? null : readWriteLock.writeLock());
+    }
+
+    private static Lock lock(Lock lock) {
+        if (lock != null) {
+            lock.lock();
+        }
+        return lock;
+    }
+
+    /**
+     * @param lock the lock returned by {@link #lockForReading()} or
+     *             {@link #lockForWriting()}
+     */
+    static void unlock(Lock lock) {
+        if (lock != null) {
+            lock.unlock();
+        }
     }
 
     /**
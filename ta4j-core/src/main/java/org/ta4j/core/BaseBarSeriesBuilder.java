@@ -23,13 +23,15 @@
  */
 package org.ta4j.core;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
 import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleDoubleNum;
 import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedPointNum;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.RingBufferList;
 
 public class BaseBarSeriesBuilder implements BarSeriesBuilder {
 
@@ -42,6 +44,8 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
     private Function<Number, Num> numFunction;
     private boolean constrained;
     private int maxBarCount;
+    private boolean columnar;
+    private boolean concurrentAccess;
 
     public BaseBarSeriesBuilder() {
         initValues();
@@ -52,11 +56,13 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
     }
 
     private void initValues() {
-        this.bars = new ArrayList<>();
+        this.bars = new RingBufferList<>();
         this.name = "unnamed_series";
         this.numFunction = BaseBarSeriesBuilder.defaultFunction;
         this.constrained = false;
         this.maxBarCount = Integer.MAX_VALUE;
+        this.columnar = false;
+        this.concurrentAccess = false;
     }
 
     @Override
@@ -67,8 +73,11 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
             beginIndex = 0;
             endIndex = bars.size() - 1;
         }
-        BaseBarSeries series = new BaseBarSeries(name, bars, beginIndex, endIndex, constrained, numFunction);
+        BaseBarSeries series = columnar
+                ? new ColumnarBarSeries(name, bars, beginIndex, endIndex, constrained, numFunction)
+                : new BaseBarSeries(name, bars, beginIndex, endIndex, constrained, numFunction);
         series.setMaximumBarCount(maxBarCount);
+        series.setConcurrentAccess(concurrentAccess);
         initValues(); // reinitialize values for next series
         return series;
     }
@@ -93,6 +102,34 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
         return this;
     }
 
+    /**
+     * Columnar storage keeps the prices, volumes and amounts as {@code double}s:
+     * with another {@link Num} type than {@link org.ta4j.core.num.DoubleNum
+     * DoubleNum} (e.g. the default {@link org.ta4j.core.num.DecimalNum
+     * DecimalNum}), they are rounded to the nearest {@code double} when stored and
+     * the bars return that value in the {@link Num} type of the series.
+     *
+     * @param columnar true to store the bars in primitive columns (see
+     *                 {@link ColumnarBarSeries}), false to store {@link Bar}
+     *                 objects
+     * @return the builder
+     */
+    public BaseBarSeriesBuilder withColumnarStorage(boolean columnar) {
+        this.columnar = columnar;
+        return this;
+    }
+
+    /**
+     * @param concurrentAccess true to allow a thread adding bars while other
+     *                         threads read the indicators of the series (see
+     *                         {@link BarSeries#getReadWriteLock()})
+     * @return the builder
+     */
+    public BaseBarSeriesBuilder withConcurrentAccess(boolean concurrentAccess) {
+        this.concurrentAccess = concurrentAccess;
+        return this;
+    }
+
     public BaseBarSeriesBuilder withNumTypeOf(Num type) {
         numFunction = type.function();
         return this;
@@ -110,6 +147,12 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
         } else if (abstractNumClass == DoubleNum.class) {
             numFunction = DoubleNum::valueOf;
             return this;
+        } else if (abstractNumClass == FixedPointNum.class) {
+            numFunction = FixedPointNum::valueOf;
+            return this;
+        } else if (abstractNumClass == DoubleDoubleNum.class) {
+            numFunction = DoubleDoubleNum::valueOf;
+            return this;
         }
         numFunction = DecimalNum::valueOf;
         return this;
@@ -0,0 +1,479 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.TimeUtils;
+
+/**
+ * Columnar storage of {@link Bar bars}.
+ *
+ * The bar data is kept in parallel primitive arrays: one {@code double[]} per
+ * price/volume column, the end times as epoch nanoseconds and the time periods
+ * as nanoseconds. All bars share the {@link ZoneId} of the first stored bar.
+ * {@link #get(int)} returns a lightweight {@link Bar} view which reads from
+ * (and writes to) these columns.
+ *
+ * Removing bars from the head of the list (as done by
+ * {@link BaseBarSeries#setMaximumBarCount(int)}) only moves an offset, the
+ * arrays are compacted lazily when they have to grow. Bar views stay valid as
+ * long as their bar has not been removed from the head.
+ */
+final class ColumnarBarList extends AbstractList<Bar> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 4211870127453298427L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Num type function used to create the Nums of the bar views */
+    private final transient Function<Number, Num> numFunction;
+    /** Zone of all bars, taken from the first stored bar */
+    private ZoneId zone;
+
+    private long[] endTimes;
+    private long[] timePeriods;
+    private double[] openPrices;
+    private double[] highPrices;
+    private double[] lowPrices;
+    private double[] closePrices;
+    private double[] volumes;
+    private double[] amounts;
+    private long[] trades;
+
+    /** Array index of the first bar */
+    private int offset;
+    /** Number of stored bars */
+    private int size;
+    /** Number of bars removed from the head, keeps the bar views stable */
+    private long removedCount;
+
+    /**
+     * Constructor.
+     *
+     * @param numFunction the Num type function of the bar views
+     */
+    ColumnarBarList(Function<Number, Num> numFunction) {
+        this(numFunction, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param numFunction the Num type function of the bar views
+     * @param capacity    the initial capacity
+     */
+    ColumnarBarList(Function<Number, Num> numFunction, int capacity) {
+        this.numFunction = numFunction;
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * @return the Num type function of the bar views
+     */
+    Function<Number, Num> function() {
+        return numFunction;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Bar get(int index) {
+        checkIndex(index, size);
+        return new ColumnarBar(this, removedCount + index);
+    }
+
+    @Override
+    public Bar set(int index, Bar bar) {
+        checkIndex(index, size);
+        Bar previous = snapshot(offset + index);
+        write(offset + index, bar);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Bar bar) {
+        checkIndex(index, size + 1);
+        if (index != size) {
+            throw new UnsupportedOperationException("Columnar bar storage only supports appending bars");
+        }
+        Objects.requireNonNull(bar);
+        if (offset + size == endTimes.length) {
+            ensureCapacity(size + 1);
+        }
+        write(offset + size, bar);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Bar> bars) {
+        ensureCapacity(size + bars.size());
+        return super.addAll(bars);
+    }
+
+    /**
+     * Appends bars given as primitive columns (end times in nanoseconds since the
+     * epoch). Amounts and trade counts are set to zero.
+     *
+     * @param timePeriod  the time period of the bars
+     * @param zone        the zone of the bars (ignored if bars are already stored)
+     * @param endTimes    the end times
+     * @param openPrices  the open prices
+     * @param highPrices  the high prices
+     * @param lowPrices   the low prices
+     * @param closePrices the close prices
+     * @param volumes     the volumes
+     * @param fromIndex   the first array index to append (inclusive)
+     * @param toIndex     the last array index to append (exclusive)
+     */
+    void addAll(Duration timePeriod, ZoneId zone, long[] endTimes, double[] openPrices, double[] highPrices,
+            double[] lowPrices, double[] closePrices, double[] volumes, int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        if (this.zone == null) {
+            this.zone = zone;
+        }
+        ensureCapacity(size + count);
+        int from = offset + size;
+        int to = from + count;
+        System.arraycopy(endTimes, fromIndex, this.endTimes, from, count);
+        Arrays.fill(timePeriods, from, to, timePeriod.toNanos());
+        System.arraycopy(openPrices, fromIndex, this.openPrices, from, count);
+        System.arraycopy(highPrices, fromIndex, this.highPrices, from, count);
+        System.arraycopy(lowPrices, fromIndex, this.lowPrices, from, count);
+        System.arraycopy(closePrices, fromIndex, this.closePrices, from, count);
+        System.arraycopy(volumes, fromIndex, this.volumes, from, count);
+        Arrays.fill(amounts, from, to, 0d);
+        Arrays.fill(trades, from, to, 0L);
+        size += count;
+        modCount++;
+    }
+
+    @Override
+    public Bar remove(int index) {
+        checkIndex(index, size);
+        Bar previous = snapshot(offset + index);
+        removeRange(index, index + 1);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        if (fromIndex == 0) {
+            // Head removal: only move the offset
+            offset += count;
+            removedCount += count;
+        } else {
+            int from = offset + toIndex;
+            int to = offset + fromIndex;
+            int length = size - toIndex;
+            System.arraycopy(endTimes, from, endTimes, to, length);
+            System.arraycopy(timePeriods, from, timePeriods, to, length);
+            System.arraycopy(openPrices, from, openPrices, to, length);
+            System.arraycopy(highPrices, from, highPrices, to, length);
+            System.arraycopy(lowPrices, from, lowPrices, to, length);
+            System.arraycopy(closePrices, from, closePrices, to, length);
+            System.arraycopy(volumes, from, volumes, to, length);
+            System.arraycopy(amounts, from, amounts, to, length);
+            System.arraycopy(trades, from, trades, to, length);
+        }
+        size -= count;
+        if (size == 0) {
+            offset = 0;
+        }
+        modCount++;
+    }
+
+    /**
+     * Copies a range of this storage into a new storage.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (exclusive)
+     * @return a new storage holding a copy of the bars between both indexes
+     */
+    ColumnarBarList copyOf(int fromIndex, int toIndex) {
+        checkIndex(fromIndex, size + 1);
+        checkIndex(toIndex, size + 1);
+        int length = Math.max(toIndex - fromIndex, 0);
+        ColumnarBarList copy = new ColumnarBarList(numFunction, length);
+        int from = offset + fromIndex;
+        System.arraycopy(endTimes, from, copy.endTimes, 0, length);
+        System.arraycopy(timePeriods, from, copy.timePeriods, 0, length);
+        System.arraycopy(openPrices, from, copy.openPrices, 0, length);
+        System.arraycopy(highPrices, from, copy.highPrices, 0, length);
+        System.arraycopy(lowPrices, from, copy.lowPrices, 0, length);
+        System.arraycopy(closePrices, from, copy.closePrices, 0, length);
+        System.arraycopy(volumes, from, copy.volumes, 0, length);
+        System.arraycopy(amounts, from, copy.amounts, 0, length);
+        System.arraycopy(trades, from, copy.trades, 0, length);
+        copy.zone = zone;
+        copy.size = length;
+        return copy;
+    }
+
+    /**
+     * Makes sure that at least <code>minCapacity</code> bars can be stored without
+     * reallocation. Removed head slots are reclaimed first.
+     *
+     * @param minCapacity the minimum capacity
+     */
+    void ensureCapacity(int minCapacity) {
+        int capacity = endTimes.length;
+        if (minCapacity <= capacity - offset) {
+            return;
+        }
+        if (minCapacity <= capacity && offset >= size) {
+            // At least half of the arrays is made of removed bars: compacting is enough
+            compact(capacity);
+        } else {
+            compact(Math.max(minCapacity, capacity + (capacity >> 1)));
+        }
+    }
+
+    private void compact(int capacity) {
+        endTimes = copy(endTimes, capacity);
+        timePeriods = copy(timePeriods, capacity);
+        openPrices = copy(openPrices, capacity);
+        highPrices = copy(highPrices, capacity);
+        lowPrices = copy(lowPrices, capacity);
+        closePrices = copy(closePrices, capacity);
+        volumes = copy(volumes, capacity);
+        amounts = copy(amounts, capacity);
+        trades = copy(trades, capacity);
+        offset = 0;
+    }
+
+    private long[] copy(long[] column, int capacity) {
+        long[] newColumn = column.length == capacity ? column : new long[capacity];
+        System.arraycopy(column, offset, newColumn, 0, size);
+        return newColumn;
+    }
+
+    private double[] copy(double[] column, int capacity) {
+        double[] newColumn = column.length == capacity ? column : new double[capacity];
+        System.arraycopy(column, offset, newColumn, 0, size);
+        return newColumn;
+    }
+
+    private void allocate(int capacity) {
+        endTimes = new long[capacity];
+        timePeriods = new long[capacity];
+        openPrices = new double[capacity];
+        highPrices = new double[capacity];
+        lowPrices = new double[capacity];
+        closePrices = new double[capacity];
+        volumes = new double[capacity];
+        amounts = new double[capacity];
+        trades = new long[capacity];
+    }
+
+    private void write(int position, Bar bar) {
+        if (zone == null) {
+            zone = bar.getZone();
+        }
+        endTimes[position] = bar.getEndTimeEpochNanos();
+        timePeriods[position] = bar.getTimePeriod().toNanos();
+        openPrices[position] = toDouble(bar.getOpenPrice());
+        highPrices[position] = toDouble(bar.getHighPrice());
+        lowPrices[position] = toDouble(bar.getLowPrice());
+        closePrices[position] = toDouble(bar.getClosePrice());
+        volumes[position] = toDouble(bar.getVolume());
+        amounts[position] = toDouble(bar.getAmount());
+        trades[position] = bar.getTrades();
+    }
+
+    private Bar snapshot(int position) {
+        return new BaseBar(Duration.ofNanos(timePeriods[position]), toZonedDateTime(endTimes[position]),
+                toNum(openPrices[position]), toNum(highPrices[position]), toNum(lowPrices[position]),
+                toNum(closePrices[position]), toNum(volumes[position]), toNum(amounts[position]), trades[position]);
+    }
+
+    /**
+     * @param sequence the sequence number of a bar (i.e. its index plus the number
+     *                 of bars removed from the head)
+     * @return the array index of the bar
+     * @throws IllegalStateException if the bar has been removed
+     */
+    private int position(long sequence) {
+        long index = sequence - removedCount;
+        if (index < 0 || index >= size) {
+            throw new IllegalStateException("Bar has been removed from the columnar storage");
+        }
+        return offset + (int) index;
+    }
+
+    private Num toNum(double value) {
+        return Double.isNaN(value) ? NaN : numFunction.apply(value);
+    }
+
+    private static double toDouble(Num value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+
+    private ZonedDateTime toZonedDateTime(long epochNanos) {
+        return TimeUtils.toZonedDateTime(epochNanos, zone);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+        }
+    }
+
+    /**
+     * Flyweight {@link Bar} view on a row of a {@link ColumnarBarList}.
+     */
+    private static final class ColumnarBar extends AbstractFlyweightBar {
+
+        private static final long serialVersionUID = -3370512993167622318L;
+
+        private final ColumnarBarList storage;
+        private final long sequence;
+
+        private ColumnarBar(ColumnarBarList storage, long sequence) {
+            this.storage = storage;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Num getOpenPrice() {
+            return storage.toNum(storage.openPrices[storage.position(sequence)]);
+        }
+
+        @Override
+        public Num getLowPrice() {
+            return storage.toNum(storage.lowPrices[storage.position(sequence)]);
+        }
+
+        @Override
+        public Num getHighPrice() {
+            return storage.toNum(storage.highPrices[storage.position(sequence)]);
+        }
+
+        @Override
+        public Num getClosePrice() {
+            return storage.toNum(storage.closePrices[storage.position(sequence)]);
+        }
+
+        @Override
+        public Num getVolume() {
+            return storage.toNum(storage.volumes[storage.position(sequence)]);
+        }
+
+        @Override
+        public long getTrades() {
+            return storage.trades[storage.position(sequence)];
+        }
+
+        @Override
+        public Num getAmount() {
+            return storage.toNum(storage.amounts[storage.position(sequence)]);
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return Duration.ofNanos(storage.timePeriods[storage.position(sequence)]);
+        }
+
+        @Override
+        public ZonedDateTime getBeginTime() {
+            int position = storage.position(sequence);
+            return storage.toZonedDateTime(storage.endTimes[position] - storage.timePeriods[position]);
+        }
+
+        @Override
+        public ZonedDateTime getEndTime() {
+            return storage.toZonedDateTime(storage.endTimes[storage.position(sequence)]);
+        }
+
+        @Override
+        public long getBeginTimeEpochNanos() {
+            int position = storage.position(sequence);
+            return storage.endTimes[position] - storage.timePeriods[position];
+        }
+
+        @Override
+        public long getEndTimeEpochNanos() {
+            return storage.endTimes[storage.position(sequence)];
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return storage.zone;
+        }
+
+        @Override
+        public void addTrade(Num tradeVolume, Num tradePrice) {
+            addPrice(tradePrice);
+            int position = storage.position(sequence);
+            double volume = tradeVolume.doubleValue();
+            storage.volumes[position] += volume;
+            storage.amounts[position] += volume * tradePrice.doubleValue();
+            storage.trades[position]++;
+        }
+
+        @Override
+        public void addPrice(Num price) {
+            int position = storage.position(sequence);
+            double value = price.doubleValue();
+            if (Double.isNaN(storage.openPrices[position])) {
+                storage.openPrices[position] = value;
+            }
+            storage.closePrices[position] = value;
+            if (Double.isNaN(storage.highPrices[position]) || storage.highPrices[position] < value) {
+                storage.highPrices[position] = value;
+            }
+            if (Double.isNaN(storage.lowPrices[position]) || storage.lowPrices[position] > value) {
+                storage.lowPrices[position] = value;
+            }
+        }
+    }
+}
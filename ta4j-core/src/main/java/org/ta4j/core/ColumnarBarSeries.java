@@ -0,0 +1,220 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * Columnar implementation of a {@link BarSeries}.
+ *
+ * Instead of one {@link BaseBar} object per bar, the open, high, low, close,
+ * volume and amount values are stored in parallel {@code double} columns and
+ * the times as {@code long} epoch values. {@link #getBar(int)} hands out
+ * flyweight {@link Bar} views on demand, so a long history only costs a few
+ * dozen bytes per bar.
+ *
+ * Notes:
+ * <ul>
+ * <li>values are stored as {@code double}: with another {@link Num} type than
+ * {@link org.ta4j.core.num.DoubleNum DoubleNum} (e.g. {@link DecimalNum} or
+ * {@link org.ta4j.core.num.FixedPointNum FixedPointNum}), they are rounded to
+ * the nearest {@code double} and returned as that value in the {@link Num} type
+ * of the series</li>
+ * <li>all bars are reported in the zone of the first bar</li>
+ * <li>missing prices are reported as {@link org.ta4j.core.num.NaN NaN}</li>
+ * <li>the bars returned by {@link #getBar(int)} and {@link #getBarData()} are
+ * views: they reflect later changes of the bar (e.g. through
+ * {@link #addTrade(Num, Num)}) and cannot be used once the bar has been removed
+ * because of the {@link #setMaximumBarCount(int) maximum bar count}</li>
+ * </ul>
+ *
+ * @see BaseBarSeriesBuilder#withColumnarStorage(boolean)
+ */
+public class ColumnarBarSeries extends BaseBarSeries {
+
+    private static final long serialVersionUID = -7430529843713006946L;
+
+    /**
+     * Constructor of an unnamed series.
+     */
+    public ColumnarBarSeries() {
+        this("unnamed_series");
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name the name of the series
+     */
+    public ColumnarBarSeries(String name) {
+        this(name, DecimalNum::valueOf);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name        the name of the series
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     */
+    public ColumnarBarSeries(String name, Function<Number, Num> numFunction) {
+        this(name, new ArrayList<>(), numFunction);
+    }
+
+    /**
+     * Constructor. The bars are copied into the columnar storage.
+     *
+     * @param name        the name of the series
+     * @param bars        the list of bars of the series
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     */
+    public ColumnarBarSeries(String name, List<Bar> bars, Function<Number, Num> numFunction) {
+        this(name, bars, 0, bars.size() - 1, false, numFunction);
+    }
+
+    /**
+     * Constructor. The bars are copied into the columnar storage.
+     *
+     * @param name             the name of the series
+     * @param bars             the list of bars of the series
+     * @param seriesBeginIndex the begin index (inclusive) of the bar series
+     * @param seriesEndIndex   the end index (inclusive) of the bar series
+     * @param constrained      true to constrain the bar series (i.e. indexes cannot
+     *                         change), false otherwise
+     * @param numFunction      a {@link Function} to convert a {@link Number} to a
+     *                         {@link Num Num implementation}
+     */
+    ColumnarBarSeries(String name, List<Bar> bars, int seriesBeginIndex, int seriesEndIndex, boolean constrained,
+            Function<Number, Num> numFunction) {
+        this(name, toColumnarStorage(bars, numFunction), seriesBeginIndex, seriesEndIndex, constrained);
+    }
+
+    private ColumnarBarSeries(String name, ColumnarBarList bars, int seriesBeginIndex, int seriesEndIndex,
+            boolean constrained) {
+        super(name, bars, seriesBeginIndex, seriesEndIndex, constrained, bars.function());
+    }
+
+    /**
+     * Returns a new ColumnarBarSeries that is a subset of this ColumnarBarSeries.
+     * The columns between <tt>startIndex</tt> (inclusive) and <tt>endIndex</tt>
+     * (exclusive) are copied into the new series.
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a new ColumnarBarSeries with Bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     * @see BaseBarSeries#getSubSeries(int, int)
+     */
+    @Override
+    public ColumnarBarSeries getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        ColumnarBarList bars = (ColumnarBarList) getBarData();
+        if (bars.isEmpty()) {
+            return new ColumnarBarSeries(getName(), new ColumnarBarList(bars.function()), -1, -1, false);
+        }
+        int start = Math.max(startIndex - getRemovedBarsCount(), getBeginIndex());
+        int end = Math.min(endIndex - getRemovedBarsCount(), getEndIndex() + 1);
+        ColumnarBarList subBars = bars.copyOf(start, end);
+        return new ColumnarBarSeries(getName(), subBars, 0, subBars.size() - 1, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The columns are written directly into the columnar storage, without creating
+     * intermediate bars.
+     */
+    @Override
+    public void addBars(Duration timePeriod, ZoneId zone, long[] endTimes, double[] openPrices, double[] highPrices,
+            double[] lowPrices, double[] closePrices, double[] volumes) {
+        Lock lock = lockForWriting();
+        try {
+            int fromIndex = checkBarColumns(timePeriod, zone, endTimes, openPrices, highPrices, lowPrices, closePrices,
+                    volumes);
+            ((ColumnarBarList) getBarData()).addAll(timePeriod, zone, endTimes, openPrices, highPrices, lowPrices,
+                    closePrices, volumes, fromIndex, endTimes.length);
+            barsAdded(endTimes.length, fromIndex);
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /**
+     * Copies bars into a new columnar storage.
+     *
+     * @param bars        the list of bars
+     * @param numFunction the Num type function of the series
+     * @return the columnar storage
+     * @throws IllegalArgumentException if the bars use different Num
+     *                                  implementations
+     */
+    private static ColumnarBarList toColumnarStorage(List<Bar> bars, Function<Number, Num> numFunction) {
+        ColumnarBarList storage = new ColumnarBarList(numFunctionOf(bars, numFunction), bars.size());
+        storage.addAll(bars);
+        return storage;
+    }
+
+    /**
+     * Like {@link BaseBarSeries}, the Num type of non-empty bar lists is taken from
+     * the first bar.
+     *
+     * @param bars        the list of bars
+     * @param numFunction the Num type function of the series
+     * @return the Num type function of the bars
+     * @throws IllegalArgumentException if the bars use different Num
+     *                                  implementations
+     */
+    static Function<Number, Num> numFunctionOf(List<Bar> bars, Function<Number, Num> numFunction) {
+        if (bars.isEmpty() || bars.get(0).getClosePrice() == null) {
+            return numFunction;
+        }
+        Num firstClosePrice = bars.get(0).getClosePrice();
+        for (Bar bar : bars) {
+            Num closePrice = bar.getClosePrice();
+            if (closePrice != null && closePrice.getClass() != firstClosePrice.getClass() && !closePrice.equals(NaN)) {
+                throw new IllegalArgumentException(String.format(
+                        "Num implementation of bars: %s" + " does not match to Num implementation of bar series: %s",
+                        closePrice.getClass(), firstClosePrice.getClass()));
+            }
+        }
+        return firstClosePrice.function();
+    }
+}
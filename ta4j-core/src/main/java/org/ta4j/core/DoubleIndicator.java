@@ -0,0 +1,69 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * Indicator of {@link Num} values which can also be computed on primitive
+ * doubles.
+ *
+ * For a series using {@link DoubleNum}, {@link #getDouble(int)} is computed
+ * without creating any {@link Num} (as long as the indicators it depends on are
+ * double indicators too) and is bit-identical to
+ * {@code getValue(index).doubleValue()}. For other Num types, it is simply the
+ * double value of {@link #getValue(int)}.
+ */
+public interface DoubleIndicator extends Indicator<Num> {
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator as a double
+     */
+    double getDouble(int index);
+
+    /**
+     * @param indicator an indicator
+     * @param index     the bar index
+     * @return the value of the indicator as a double, computed on primitives if the
+     *         indicator is a {@link DoubleIndicator}
+     */
+    static double doubleValue(Indicator<Num> indicator, int index) {
+        if (indicator instanceof DoubleIndicator) {
+            return ((DoubleIndicator) indicator).getDouble(index);
+        }
+        return indicator.getValue(index).doubleValue();
+    }
+
+    /**
+     * @param indicator an indicator
+     * @return true if the bar series of the indicator uses {@link DoubleNum}, i.e.
+     *         if its values can be computed on primitive doubles
+     */
+    static boolean hasDoubleValues(Indicator<?> indicator) {
+        BarSeries series = indicator.getBarSeries();
+        return series != null && series.numOf(0) instanceof DoubleNum;
+    }
+}
@@ -23,10 +23,15 @@
  */
 package org.ta4j.core;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.ta4j.core.indicators.IndicatorDependencies;
+import org.ta4j.core.indicators.IndicatorPrecomputer;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
 
 /**
  * Indicator over a {@link BarSeries bar series}. <p/p> For each index of the
@@ -52,6 +57,42 @@ public interface Indicator<T> {
      */
     Num numOf(Number number);
 
+    /**
+     * @return the {@link NumFactory} of the related bar series, sharing the
+     *         frequently used {@link Num Nums}
+     */
+    default NumFactory numFactory() {
+        return getBarSeries().numFactory();
+    }
+
+    /**
+     * Returns the indicators this indicator is calculated from, i.e. its edges in
+     * the indicator dependency graph.
+     *
+     * The indicators of ta4j override it. By default, they are the indicators held
+     * by the fields of this indicator declared with an indicator type, directly or
+     * in arrays and collections of indicators (see {@link IndicatorDependencies}).
+     * Indicators using other indicators in another way (e.g. captured by a lambda
+     * or in a field of another type) must override it.
+     *
+     * @return the input indicators
+     */
+    default List<Indicator<?>> getInputs() {
+        return IndicatorDependencies.getSubIndicators(this);
+    }
+
+    /**
+     * Fills the caches of this indicator and of its sub-indicators, in dependency
+     * order and in forward loops, instead of the recursive calculations of the
+     * values on first use. See {@link IndicatorPrecomputer}.
+     *
+     * @param from the first bar index (included)
+     * @param to   the last bar index (included)
+     */
+    default void precompute(int from, int to) {
+        IndicatorPrecomputer.precompute(Collections.singletonList(this), from, to);
+    }
+
     /**
      * Returns all values from an {@link Indicator} as an array of Doubles. The
      * returned doubles could have a minor loss of precise, if {@link Indicator} was
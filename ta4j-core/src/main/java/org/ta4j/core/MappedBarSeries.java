@@ -0,0 +1,423 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.utils.TimeUtils;
+
+/**
+ * Read-only {@link BarSeries} backed by a memory-mapped bar file (see
+ * {@link BarFileWriter}).
+ *
+ * Opening a series only reads the header of the file: the bars are read by the
+ * operating system page cache when they are accessed. The {@link Bar bars}
+ * returned by this series are lightweight views on the mapped records; their
+ * {@link Num nums} are created on each call.
+ *
+ * Notes:
+ * <ul>
+ * <li>bars cannot be added to this series</li>
+ * <li>the file must not be modified while it is mapped</li>
+ * <li>{@link #getSubSeries(int, int)} returns a {@link BarSeriesView} instead
+ * of a copy</li>
+ * <li>the series cannot be serialized (its mapped buffers cannot): the bar file
+ * is the serialized form of the series</li>
+ * </ul>
+ */
+public class MappedBarSeries implements BarSeries {
+
+    private static final long serialVersionUID = -2206183532516436316L;
+
+    /** Maximum number of records per mapped buffer (a buffer is limited to 2GB) */
+    private static final int MAX_CHUNK_RECORDS = Integer.MAX_VALUE / BarFileFormat.RECORD_SIZE;
+
+    /** Num type function */
+    private final transient Function<Number, Num> numFunction;
+    private final transient NumFactory numFactory;
+    private transient IndicatorRegistry indicatorRegistry;
+    /** Name of the series */
+    private final String name;
+    /** Zone of the end times of the bars */
+    private final ZoneId zone;
+    /** Number of bars */
+    private final int barCount;
+    /** Number of records of each mapped buffer */
+    private final int recordsPerChunk;
+    /** Mapped buffers of the records */
+    private final transient ByteBuffer[] chunks;
+
+    /**
+     * Constructor. The series is named after the file and uses {@link DecimalNum}.
+     *
+     * @param path the path of the bar file
+     * @throws IOException if an I/O error occurs or if the file is not a valid bar
+     *                     file
+     */
+    public MappedBarSeries(Path path) throws IOException {
+        this(String.valueOf(path.getFileName()), path, DecimalNum::valueOf);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name        the name of the series
+     * @param path        the path of the bar file
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     * @throws IOException if an I/O error occurs or if the file is not a valid bar
+     *                     file
+     */
+    public MappedBarSeries(String name, Path path, Function<Number, Num> numFunction) throws IOException {
+        this(name, path, numFunction, MAX_CHUNK_RECORDS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name            the name of the series
+     * @param path            the path of the bar file
+     * @param numFunction     a {@link Function} to convert a {@link Number} to a
+     *                        {@link Num Num implementation}
+     * @param recordsPerChunk the maximum number of records per mapped buffer
+     * @throws IOException if an I/O error occurs or if the file is not a valid bar
+     *                     file
+     */
+    MappedBarSeries(String name, Path path, Function<Number, Num> numFunction, int recordsPerChunk) throws IOException {
+        this.name = name;
+        this.numFunction = numFunction;
+        this.numFactory = NumFactory.of(numFunction);
+        this.recordsPerChunk = recordsPerChunk;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            BarFileFormat.Header header = BarFileFormat.readHeader(channel);
+            if (header.barCount > Integer.MAX_VALUE) {
+                throw new IOException(String.format("Too many bars: %s", header.barCount));
+            }
+            this.zone = header.zone;
+            this.barCount = (int) header.barCount;
+            this.chunks = new ByteBuffer[(barCount + recordsPerChunk - 1) / recordsPerChunk];
+            for (int i = 0; i < chunks.length; i++) {
+                long firstRecord = (long) i * recordsPerChunk;
+                long records = Math.min(recordsPerChunk, barCount - firstRecord);
+                chunks[i] = channel
+                        .map(FileChannel.MapMode.READ_ONLY,
+                                BarFileFormat.HEADER_SIZE + firstRecord * BarFileFormat.RECORD_SIZE,
+                                records * BarFileFormat.RECORD_SIZE)
+                        .order(BarFileFormat.BYTE_ORDER);
+            }
+        }
+    }
+
+    /**
+     * @return the zone of the end times of the bars
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Bar getBar(int i) {
+        if (i < 0 || i >= barCount) {
+            throw new IndexOutOfBoundsException(String.format("Size of series: %s bars, index = %s", barCount, i));
+        }
+        return new MappedBar(i);
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * @return an unmodifiable list of the bars of the series
+     */
+    @Override
+    public List<Bar> getBarData() {
+        return new MappedBarList();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return barCount == 0 ? -1 : 0;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return barCount - 1;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        throw new IllegalStateException("Cannot set a maximum bar count on a memory-mapped bar series");
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return 0;
+    }
+
+    @Override
+    public long getModificationCount() {
+        // read-only
+        return 0;
+    }
+
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice, Num closePrice, Num volume,
+            Num amount) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume, Num amount) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addTrade(Num tradeVolume, Num tradePrice) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addPrice(Num price) {
+        throw readOnly();
+    }
+
+    /**
+     * Returns a view on a subset of this series (the bars are not copied).
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a view with Bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     */
+    @Override
+    public BarSeriesView getSubSeries(int startIndex, int endIndex) {
+        return getSubSeriesView(startIndex, endIndex);
+    }
+
+    @Override
+    public Num numOf(Number number) {
+        return numFactory.numOf(number);
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry;
+    }
+
+    @Override
+    public void setIndicatorRegistry(IndicatorRegistry indicatorRegistry) {
+        this.indicatorRegistry = indicatorRegistry;
+    }
+
+    @Override
+    public NumFactory numFactory() {
+        return numFactory;
+    }
+
+    @Override
+    public Function<Number, Num> function() {
+        return numFunction;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(getClass().getName());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException {
+        throw new NotSerializableException(getClass().getName());
+    }
+
+    private long getLong(int index, int fieldOffset) {
+        return chunks[index / recordsPerChunk]
+                .getLong((index % recordsPerChunk) * BarFileFormat.RECORD_SIZE + fieldOffset);
+    }
+
+    private double getDouble(int index, int fieldOffset) {
+        return chunks[index / recordsPerChunk]
+                .getDouble((index % recordsPerChunk) * BarFileFormat.RECORD_SIZE + fieldOffset);
+    }
+
+    private Num getNum(int index, int fieldOffset) {
+        double value = getDouble(index, fieldOffset);
+        return Double.isNaN(value) ? NaN : numFunction.apply(value);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Cannot add data to a memory-mapped bar series");
+    }
+
+    /**
+     * Unmodifiable list of the bars of the series.
+     */
+    private final class MappedBarList extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(int index) {
+            return getBar(index);
+        }
+
+        @Override
+        public int size() {
+            return barCount;
+        }
+    }
+
+    /**
+     * View on a mapped record.
+     */
+    private final class MappedBar extends AbstractFlyweightBar {
+
+        private static final long serialVersionUID = 5495520433318327312L;
+
+        private final int index;
+
+        private MappedBar(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Num getOpenPrice() {
+            return getNum(index, BarFileFormat.OPEN_PRICE_OFFSET);
+        }
+
+        @Override
+        public Num getLowPrice() {
+            return getNum(index, BarFileFormat.LOW_PRICE_OFFSET);
+        }
+
+        @Override
+        public Num getHighPrice() {
+            return getNum(index, BarFileFormat.HIGH_PRICE_OFFSET);
+        }
+
+        @Override
+        public Num getClosePrice() {
+            return getNum(index, BarFileFormat.CLOSE_PRICE_OFFSET);
+        }
+
+        @Override
+        public Num getVolume() {
+            return getNum(index, BarFileFormat.VOLUME_OFFSET);
+        }
+
+        @Override
+        public long getTrades() {
+            return getLong(index, BarFileFormat.TRADES_OFFSET);
+        }
+
+        @Override
+        public Num getAmount() {
+            return getNum(index, BarFileFormat.AMOUNT_OFFSET);
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return Duration.ofNanos(getLong(index, BarFileFormat.TIME_PERIOD_OFFSET));
+        }
+
+        @Override
+        public ZonedDateTime getBeginTime() {
+            return getEndTime().minus(getTimePeriod());
+        }
+
+        @Override
+        public ZonedDateTime getEndTime() {
+            return TimeUtils.toZonedDateTime(getLong(index, BarFileFormat.END_TIME_OFFSET), zone);
+        }
+
+        @Override
+        public long getBeginTimeEpochNanos() {
+            return getLong(index, BarFileFormat.END_TIME_OFFSET) - getLong(index, BarFileFormat.TIME_PERIOD_OFFSET);
+        }
+
+        @Override
+        public long getEndTimeEpochNanos() {
+            return getLong(index, BarFileFormat.END_TIME_OFFSET);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public void addTrade(Num tradeVolume, Num tradePrice) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addPrice(Num price) {
+            throw readOnly();
+        }
+    }
+}
@@ -0,0 +1,517 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.RingBufferList;
+import org.ta4j.core.utils.TimeUtils;
+
+/**
+ * Off-heap storage of {@link Bar bars}.
+ *
+ * The bar data is kept outside of the Java heap, in direct {@link ByteBuffer}
+ * slabs of fixed-size records (same layout as the records of a bar file, see
+ * {@link BarFileWriter}). All bars share the {@link ZoneId} of the first stored
+ * bar. {@link #get(int)} returns a lightweight {@link Bar} view which reads
+ * from (and writes to) the records.
+ *
+ * Removing bars from the head of the list (as done by
+ * {@link BaseBarSeries#setMaximumBarCount(int)}) only moves an offset; a slab
+ * whose records have all been removed is recycled for the next appended bars,
+ * so a moving series does not allocate once it is full. Bar views stay valid as
+ * long as their bar has not been removed from the head and the storage has not
+ * been closed.
+ */
+final class OffHeapBarList extends AbstractList<Bar> implements RandomAccess, Closeable {
+
+    /** Default number of records per slab (288KB slabs) */
+    static final int DEFAULT_SLAB_RECORDS = 4096;
+
+    /** Num type function used to create the Nums of the bar views */
+    private final Function<Number, Num> numFunction;
+    /** Number of records per slab */
+    private final int slabRecords;
+    /** Slabs in use, the first one holding the first bar */
+    private final RingBufferList<ByteBuffer> slabs = new RingBufferList<>();
+    /** Released slab kept for reuse */
+    private ByteBuffer spareSlab;
+    /** Zone of all bars, taken from the first stored bar */
+    private ZoneId zone;
+
+    /** Record index of the first bar in the first slab */
+    private int offset;
+    /** Number of stored bars */
+    private int size;
+    /** Number of bars removed from the head, keeps the bar views stable */
+    private long removedCount;
+    /** True once the storage has been closed */
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param numFunction the Num type function of the bar views
+     * @param slabRecords the number of records per slab
+     */
+    OffHeapBarList(Function<Number, Num> numFunction, int slabRecords) {
+        if (slabRecords < 1) {
+            throw new IllegalArgumentException("Slab record count must be positive");
+        }
+        this.numFunction = numFunction;
+        this.slabRecords = slabRecords;
+    }
+
+    /**
+     * @return the Num type function of the bar views
+     */
+    Function<Number, Num> function() {
+        return numFunction;
+    }
+
+    /**
+     * @return the number of records per slab
+     */
+    int slabRecords() {
+        return slabRecords;
+    }
+
+    /**
+     * @return the number of bytes of off-heap memory held by this storage
+     */
+    long allocatedBytes() {
+        int slabCount = slabs.size() + (spareSlab == null ? 0 : 1);
+        return (long) slabCount * slabRecords * BarFileFormat.RECORD_SIZE;
+    }
+
+    /**
+     * @return true if the storage has been closed
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Releases all the slabs. The storage (and its bar views) cannot be used
+     * anymore. The off-heap memory is returned to the system once the released
+     * buffers have been garbage collected.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        slabs.clear();
+        spareSlab = null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Bar get(int index) {
+        checkOpen();
+        checkIndex(index, size);
+        return new OffHeapBar(this, removedCount + index);
+    }
+
+    @Override
+    public Bar set(int index, Bar bar) {
+        checkOpen();
+        checkIndex(index, size);
+        Bar previous = snapshot(offset + index);
+        write(offset + index, bar);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Bar bar) {
+        checkOpen();
+        checkIndex(index, size + 1);
+        if (index != size) {
+            throw new UnsupportedOperationException("Off-heap bar storage only supports appending bars");
+        }
+        Objects.requireNonNull(bar);
+        int position = offset + size;
+        if (position / slabRecords == slabs.size()) {
+            slabs.add(newSlab());
+        }
+        write(position, bar);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends bars given as primitive columns (end times in nanoseconds since the
+     * epoch). Amounts and trade counts are set to zero.
+     *
+     * @param timePeriod  the time period of the bars
+     * @param zone        the zone of the bars (ignored if bars are already stored)
+     * @param endTimes    the end times
+     * @param openPrices  the open prices
+     * @param highPrices  the high prices
+     * @param lowPrices   the low prices
+     * @param closePrices the close prices
+     * @param volumes     the volumes
+     * @param fromIndex   the first array index to append (inclusive)
+     * @param toIndex     the last array index to append (exclusive)
+     */
+    void addAll(Duration timePeriod, ZoneId zone, long[] endTimes, double[] openPrices, double[] highPrices,
+            double[] lowPrices, double[] closePrices, double[] volumes, int fromIndex, int toIndex) {
+        checkOpen();
+        if (this.zone == null) {
+            this.zone = zone;
+        }
+        long timePeriodNanos = timePeriod.toNanos();
+        for (int i = fromIndex; i < toIndex; i++) {
+            int position = offset + size;
+            if (position / slabRecords == slabs.size()) {
+                slabs.add(newSlab());
+            }
+            putLong(position, BarFileFormat.END_TIME_OFFSET, endTimes[i]);
+            putLong(position, BarFileFormat.TIME_PERIOD_OFFSET, timePeriodNanos);
+            putDouble(position, BarFileFormat.OPEN_PRICE_OFFSET, openPrices[i]);
+            putDouble(position, BarFileFormat.HIGH_PRICE_OFFSET, highPrices[i]);
+            putDouble(position, BarFileFormat.LOW_PRICE_OFFSET, lowPrices[i]);
+            putDouble(position, BarFileFormat.CLOSE_PRICE_OFFSET, closePrices[i]);
+            putDouble(position, BarFileFormat.VOLUME_OFFSET, volumes[i]);
+            putDouble(position, BarFileFormat.AMOUNT_OFFSET, 0d);
+            putLong(position, BarFileFormat.TRADES_OFFSET, 0L);
+            size++;
+        }
+        modCount++;
+    }
+
+    @Override
+    public Bar remove(int index) {
+        checkIndex(index, size);
+        Bar previous = snapshot(offset + index);
+        removeRange(index, index + 1);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        if (fromIndex == 0) {
+            // Head removal: only move the offset and recycle the emptied slabs
+            offset += count;
+            removedCount += count;
+            while (offset >= slabRecords) {
+                releaseSlab(slabs.remove(0));
+                offset -= slabRecords;
+            }
+        } else {
+            for (int i = fromIndex; i < size - count; i++) {
+                copyRecord(offset + i + count, offset + i);
+            }
+        }
+        size -= count;
+        if (size == 0) {
+            offset = 0;
+        }
+        int usedSlabs = (offset + size + slabRecords - 1) / slabRecords;
+        while (slabs.size() > usedSlabs) {
+            releaseSlab(slabs.remove(slabs.size() - 1));
+        }
+        modCount++;
+    }
+
+    /**
+     * Copies a range of this storage into a new storage.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (exclusive)
+     * @return a new storage holding a copy of the bars between both indexes
+     */
+    OffHeapBarList copyOf(int fromIndex, int toIndex) {
+        checkIndex(fromIndex, size + 1);
+        checkIndex(toIndex, size + 1);
+        OffHeapBarList copy = new OffHeapBarList(numFunction, slabRecords);
+        copy.zone = zone;
+        for (int i = fromIndex; i < toIndex; i++) {
+            int position = copy.size;
+            if (position / slabRecords == copy.slabs.size()) {
+                copy.slabs.add(copy.newSlab());
+            }
+            ByteBuffer source = record(offset + i);
+            copy.record(position).put(source);
+            copy.size++;
+        }
+        return copy;
+    }
+
+    private ByteBuffer newSlab() {
+        ByteBuffer slab = spareSlab;
+        spareSlab = null;
+        if (slab == null) {
+            slab = ByteBuffer.allocateDirect(slabRecords * BarFileFormat.RECORD_SIZE).order(BarFileFormat.BYTE_ORDER);
+        }
+        return slab;
+    }
+
+    private void releaseSlab(ByteBuffer slab) {
+        // Keeping one slab is enough for a moving series, the others are freed
+        spareSlab = slab;
+    }
+
+    /**
+     * @param position the position of a record
+     * @return a buffer limited to the record
+     */
+    private ByteBuffer record(int position) {
+        ByteBuffer buffer = slabs.get(position / slabRecords).duplicate();
+        int start = (position % slabRecords) * BarFileFormat.RECORD_SIZE;
+        buffer.limit(start + BarFileFormat.RECORD_SIZE).position(start);
+        return buffer;
+    }
+
+    private void copyRecord(int from, int to) {
+        record(to).put(record(from));
+    }
+
+    private long getLong(int position, int fieldOffset) {
+        return slabs.get(position / slabRecords)
+                .getLong((position % slabRecords) * BarFileFormat.RECORD_SIZE + fieldOffset);
+    }
+
+    private double getDouble(int position, int fieldOffset) {
+        return slabs.get(position / slabRecords)
+                .getDouble((position % slabRecords) * BarFileFormat.RECORD_SIZE + fieldOffset);
+    }
+
+    private void putLong(int position, int fieldOffset, long value) {
+        slabs.get(position / slabRecords)
+                .putLong((position % slabRecords) * BarFileFormat.RECORD_SIZE + fieldOffset, value);
+    }
+
+    private void putDouble(int position, int fieldOffset, double value) {
+        slabs.get(position / slabRecords)
+                .putDouble((position % slabRecords) * BarFileFormat.RECORD_SIZE + fieldOffset, value);
+    }
+
+    private void write(int position, Bar bar) {
+        if (zone == null) {
+            zone = bar.getZone();
+        }
+        putLong(position, BarFileFormat.END_TIME_OFFSET, bar.getEndTimeEpochNanos());
+        putLong(position, BarFileFormat.TIME_PERIOD_OFFSET, bar.getTimePeriod().toNanos());
+        putDouble(position, BarFileFormat.OPEN_PRICE_OFFSET, toDouble(bar.getOpenPrice()));
+        putDouble(position, BarFileFormat.HIGH_PRICE_OFFSET, toDouble(bar.getHighPrice()));
+        putDouble(position, BarFileFormat.LOW_PRICE_OFFSET, toDouble(bar.getLowPrice()));
+        putDouble(position, BarFileFormat.CLOSE_PRICE_OFFSET, toDouble(bar.getClosePrice()));
+        putDouble(position, BarFileFormat.VOLUME_OFFSET, toDouble(bar.getVolume()));
+        putDouble(position, BarFileFormat.AMOUNT_OFFSET, toDouble(bar.getAmount()));
+        putLong(position, BarFileFormat.TRADES_OFFSET, bar.getTrades());
+    }
+
+    private Bar snapshot(int position) {
+        return new BaseBar(Duration.ofNanos(getLong(position, BarFileFormat.TIME_PERIOD_OFFSET)),
+                toZonedDateTime(getLong(position, BarFileFormat.END_TIME_OFFSET)),
+                getNum(position, BarFileFormat.OPEN_PRICE_OFFSET), getNum(position, BarFileFormat.HIGH_PRICE_OFFSET),
+                getNum(position, BarFileFormat.LOW_PRICE_OFFSET), getNum(position, BarFileFormat.CLOSE_PRICE_OFFSET),
+                getNum(position, BarFileFormat.VOLUME_OFFSET), getNum(position, BarFileFormat.AMOUNT_OFFSET),
+                getLong(position, BarFileFormat.TRADES_OFFSET));
+    }
+
+    /**
+     * @param sequence the sequence number of a bar (i.e. its index plus the number
+     *                 of bars removed from the head)
+     * @return the record position of the bar
+     * @throws IllegalStateException if the bar has been removed or if the storage
+     *                               has been closed
+     */
+    private int position(long sequence) {
+        checkOpen();
+        long index = sequence - removedCount;
+        if (index < 0 || index >= size) {
+            throw new IllegalStateException("Bar has been removed from the off-heap storage");
+        }
+        return offset + (int) index;
+    }
+
+    private Num getNum(int position, int fieldOffset) {
+        double value = getDouble(position, fieldOffset);
+        return Double.isNaN(value) ? NaN : numFunction.apply(value);
+    }
+
+    private static double toDouble(Num value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+
+    private ZonedDateTime toZonedDateTime(long epochNanos) {
+        return TimeUtils.toZonedDateTime(epochNanos, zone);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Off-heap bar storage has been closed");
+        }
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+        }
+    }
+
+    /**
+     * Flyweight {@link Bar} view on a record of an {@link OffHeapBarList}.
+     */
+    private static final class OffHeapBar extends AbstractFlyweightBar {
+
+        private static final long serialVersionUID = 2750465181245406378L;
+
+        private final transient OffHeapBarList storage;
+        private final long sequence;
+
+        private OffHeapBar(OffHeapBarList storage, long sequence) {
+            this.storage = storage;
+            this.sequence = sequence;
+        }
+
+        private Num getNum(int fieldOffset) {
+            return storage.getNum(storage.position(sequence), fieldOffset);
+        }
+
+        @Override
+        public Num getOpenPrice() {
+            return getNum(BarFileFormat.OPEN_PRICE_OFFSET);
+        }
+
+        @Override
+        public Num getLowPrice() {
+            return getNum(BarFileFormat.LOW_PRICE_OFFSET);
+        }
+
+        @Override
+        public Num getHighPrice() {
+            return getNum(BarFileFormat.HIGH_PRICE_OFFSET);
+        }
+
+        @Override
+        public Num getClosePrice() {
+            return getNum(BarFileFormat.CLOSE_PRICE_OFFSET);
+        }
+
+        @Override
+        public Num getVolume() {
+            return getNum(BarFileFormat.VOLUME_OFFSET);
+        }
+
+        @Override
+        public long getTrades() {
+            return storage.getLong(storage.position(sequence), BarFileFormat.TRADES_OFFSET);
+        }
+
+        @Override
+        public Num getAmount() {
+            return getNum(BarFileFormat.AMOUNT_OFFSET);
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return Duration.ofNanos(storage.getLong(storage.position(sequence), BarFileFormat.TIME_PERIOD_OFFSET));
+        }
+
+        @Override
+        public ZonedDateTime getBeginTime() {
+            int position = storage.position(sequence);
+            return storage.toZonedDateTime(storage.getLong(position, BarFileFormat.END_TIME_OFFSET)
+                    - storage.getLong(position, BarFileFormat.TIME_PERIOD_OFFSET));
+        }
+
+        @Override
+        public ZonedDateTime getEndTime() {
+            return storage.toZonedDateTime(storage.getLong(storage.position(sequence), BarFileFormat.END_TIME_OFFSET));
+        }
+
+        @Override
+        public long getBeginTimeEpochNanos() {
+            int position = storage.position(sequence);
+            return storage.getLong(position, BarFileFormat.END_TIME_OFFSET)
+                    - storage.getLong(position, BarFileFormat.TIME_PERIOD_OFFSET);
+        }
+
+        @Override
+        public long getEndTimeEpochNanos() {
+            return storage.getLong(storage.position(sequence), BarFileFormat.END_TIME_OFFSET);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return storage.zone;
+        }
+
+        @Override
+        public void addTrade(Num tradeVolume, Num tradePrice) {
+            addPrice(tradePrice);
+            int position = storage.position(sequence);
+            double volume = tradeVolume.doubleValue();
+            storage.putDouble(position, BarFileFormat.VOLUME_OFFSET,
+                    storage.getDouble(position, BarFileFormat.VOLUME_OFFSET) + volume);
+            storage.putDouble(position, BarFileFormat.AMOUNT_OFFSET,
+                    storage.getDouble(position, BarFileFormat.AMOUNT_OFFSET) + volume * tradePrice.doubleValue());
+            storage.putLong(position, BarFileFormat.TRADES_OFFSET,
+                    storage.getLong(position, BarFileFormat.TRADES_OFFSET) + 1);
+        }
+
+        @Override
+        public void addPrice(Num price) {
+            int position = storage.position(sequence);
+            double value = price.doubleValue();
+            if (Double.isNaN(storage.getDouble(position, BarFileFormat.OPEN_PRICE_OFFSET))) {
+                storage.putDouble(position, BarFileFormat.OPEN_PRICE_OFFSET, value);
+            }
+            storage.putDouble(position, BarFileFormat.CLOSE_PRICE_OFFSET, value);
+            double highPrice = storage.getDouble(position, BarFileFormat.HIGH_PRICE_OFFSET);
+            if (Double.isNaN(highPrice) || highPrice < value) {
+                storage.putDouble(position, BarFileFormat.HIGH_PRICE_OFFSET, value);
+            }
+            double lowPrice = storage.getDouble(position, BarFileFormat.LOW_PRICE_OFFSET);
+            if (Double.isNaN(lowPrice) || lowPrice > value) {
+                storage.putDouble(position, BarFileFormat.LOW_PRICE_OFFSET, value);
+            }
+        }
+    }
+}
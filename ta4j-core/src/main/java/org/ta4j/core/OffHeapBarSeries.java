@@ -0,0 +1,216 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * Off-heap implementation of a {@link BarSeries}.
+ *
+ * The bar data is stored in direct memory slabs instead of {@link BaseBar}
+ * objects, so that large universes of series do not weigh on the garbage
+ * collector: the stored bars never become garbage and a moving series (see
+ * {@link #setMaximumBarCount(int)}) recycles its slabs instead of allocating
+ * new ones. {@link #getBar(int)} hands out flyweight {@link Bar} views on
+ * demand.
+ *
+ * The series holds native memory until it is {@link #close() closed}; it cannot
+ * be used afterwards.
+ *
+ * Notes:
+ * <ul>
+ * <li>values are stored as {@code double}: a {@link DecimalNum} series is
+ * rounded to double precision</li>
+ * <li>all bars are reported in the zone of the first bar</li>
+ * <li>missing prices are reported as {@link org.ta4j.core.num.NaN NaN}</li>
+ * <li>the bars returned by {@link #getBar(int)} and {@link #getBarData()} are
+ * views: they reflect later changes of the bar (e.g. through
+ * {@link #addTrade(Num, Num)}) and cannot be used once the bar has been removed
+ * because of the {@link #setMaximumBarCount(int) maximum bar count}</li>
+ * <li>the series cannot be serialized</li>
+ * </ul>
+ */
+public class OffHeapBarSeries extends BaseBarSeries implements Closeable {
+
+    private static final long serialVersionUID = 6118453311364986232L;
+
+    /**
+     * Constructor of an unnamed series.
+     */
+    public OffHeapBarSeries() {
+        this("unnamed_series");
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name the name of the series
+     */
+    public OffHeapBarSeries(String name) {
+        this(name, DecimalNum::valueOf);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name        the name of the series
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     */
+    public OffHeapBarSeries(String name, Function<Number, Num> numFunction) {
+        this(name, new ArrayList<>(), numFunction);
+    }
+
+    /**
+     * Constructor. The bars are copied into the off-heap storage.
+     *
+     * @param name        the name of the series
+     * @param bars        the list of bars of the series
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     */
+    public OffHeapBarSeries(String name, List<Bar> bars, Function<Number, Num> numFunction) {
+        this(name, toOffHeapStorage(bars, numFunction, OffHeapBarList.DEFAULT_SLAB_RECORDS), 0, bars.size() - 1);
+    }
+
+    /**
+     * Constructor of an empty series.
+     *
+     * @param name        the name of the series
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     * @param slabRecords the number of bars per memory slab
+     */
+    OffHeapBarSeries(String name, Function<Number, Num> numFunction, int slabRecords) {
+        this(name, new OffHeapBarList(numFunction, slabRecords), -1, -1);
+    }
+
+    private OffHeapBarSeries(String name, OffHeapBarList bars, int seriesBeginIndex, int seriesEndIndex) {
+        super(name, bars, seriesBeginIndex, seriesEndIndex, false, bars.function());
+    }
+
+    /**
+     * Returns a new OffHeapBarSeries that is a subset of this OffHeapBarSeries. The
+     * bars between <tt>startIndex</tt> (inclusive) and <tt>endIndex</tt>
+     * (exclusive) are copied into the new series, which has to be closed on its
+     * own.
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a new OffHeapBarSeries with Bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     * @see BaseBarSeries#getSubSeries(int, int)
+     */
+    @Override
+    public OffHeapBarSeries getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        OffHeapBarList bars = getStorage();
+        if (bars.isEmpty()) {
+            return new OffHeapBarSeries(getName(), new OffHeapBarList(bars.function(), bars.slabRecords()), -1, -1);
+        }
+        int start = Math.max(startIndex - getRemovedBarsCount(), getBeginIndex());
+        int end = Math.min(endIndex - getRemovedBarsCount(), getEndIndex() + 1);
+        OffHeapBarList subBars = bars.copyOf(start, end);
+        return new OffHeapBarSeries(getName(), subBars, 0, subBars.size() - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The columns are written directly into the off-heap storage, without creating
+     * intermediate bars.
+     */
+    @Override
+    public void addBars(Duration timePeriod, ZoneId zone, long[] endTimes, double[] openPrices, double[] highPrices,
+            double[] lowPrices, double[] closePrices, double[] volumes) {
+        Lock lock = lockForWriting();
+        try {
+            int fromIndex = checkBarColumns(timePeriod, zone, endTimes, openPrices, highPrices, lowPrices, closePrices,
+                    volumes);
+            getStorage().addAll(timePeriod, zone, endTimes, openPrices, highPrices, lowPrices, closePrices, volumes,
+                    fromIndex, endTimes.length);
+            barsAdded(endTimes.length, fromIndex);
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /**
+     * @return the number of bytes of off-heap memory held by this series
+     */
+    public long getAllocatedBytes() {
+        return getStorage().allocatedBytes();
+    }
+
+    /**
+     * @return true if the series has been closed
+     */
+    public boolean isClosed() {
+        return getStorage().isClosed();
+    }
+
+    /**
+     * Releases the off-heap memory of the series. The series and its bars cannot be
+     * used anymore.
+     */
+    @Override
+    public void close() {
+        getStorage().close();
+    }
+
+    private OffHeapBarList getStorage() {
+        return (OffHeapBarList) getBarData();
+    }
+
+    /**
+     * Copies bars into a new off-heap storage.
+     *
+     * @param bars        the list of bars
+     * @param numFunction the Num type function of the series
+     * @param slabRecords the number of bars per memory slab
+     * @return the off-heap storage
+     * @throws IllegalArgumentException if the bars use different Num
+     *                                  implementations
+     */
+    private static OffHeapBarList toOffHeapStorage(List<Bar> bars, Function<Number, Num> numFunction, int slabRecords) {
+        OffHeapBarList storage = new OffHeapBarList(ColumnarBarSeries.numFunctionOf(bars, numFunction), slabRecords);
+        storage.addAll(bars);
+        return storage;
+    }
+}
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core;
 
+import java.util.List;
+
+import org.ta4j.core.indicators.IndicatorDependencies;
 import org.ta4j.core.rules.AndRule;
 import org.ta4j.core.rules.NotRule;
 import org.ta4j.core.rules.OrRule;
@@ -71,6 +74,33 @@ public interface Rule {
         return new NotRule(this);
     }
 
+    /**
+     * Returns the rules this rule is combined from.
+     *
+     * The rules of ta4j override it. By default, they are the rules held by the
+     * fields of this rule declared with a rule type, directly or in arrays and
+     * collections of rules (see {@link IndicatorDependencies}).
+     *
+     * @return the input rules
+     */
+    default List<Rule> getInputRules() {
+        return IndicatorDependencies.getSubRules(this);
+    }
+
+    /**
+     * Returns the indicators this rule is evaluated on (not the ones of its input
+     * rules).
+     *
+     * The rules of ta4j override it. By default, they are the indicators held by
+     * the fields of this rule declared with an indicator type, directly or in
+     * arrays and collections of indicators (see {@link IndicatorDependencies}).
+     *
+     * @return the input indicators
+     */
+    default List<Indicator<?>> getInputIndicators() {
+        return IndicatorDependencies.getRuleIndicators(this);
+    }
+
     /**
      * @param index the bar index
      * @return true if this rule is satisfied for the provided index, false
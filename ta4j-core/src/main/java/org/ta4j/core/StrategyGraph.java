@@ -0,0 +1,214 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The dependency graph of a {@link Strategy}: its rules, the indicators they
+ * are evaluated on, and the inputs of these indicators.
+ *
+ * The graph is a snapshot taken by {@link #of(Strategy)} through
+ * {@link Rule#getInputRules()}, {@link Rule#getInputIndicators()} and
+ * {@link Indicator#getInputs()}. Nodes are compared by identity, so an
+ * indicator shared by several rules appears once.
+ */
+public final class StrategyGraph {
+
+    /**
+     * Visits the nodes of a {@link StrategyGraph}, each one after its inputs.
+     */
+    public interface Visitor {
+
+        /**
+         * @param indicator the visited indicator
+         */
+        default void visitIndicator(Indicator<?> indicator) {
+        }
+
+        /**
+         * @param rule the visited rule
+         */
+        default void visitRule(Rule rule) {
+        }
+    }
+
+    private final Strategy strategy;
+    private final List<Indicator<?>> indicators = new ArrayList<>();
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<Indicator<?>, List<Indicator<?>>> indicatorInputs = new IdentityHashMap<>();
+    private final Map<Rule, List<Rule>> ruleInputRules = new IdentityHashMap<>();
+    private final Map<Rule, List<Indicator<?>>> ruleInputIndicators = new IdentityHashMap<>();
+    private final Map<Object, List<Object>> dependents = new IdentityHashMap<>();
+
+    /** The nodes in visiting order, each one after its inputs. */
+    private final List<Object> nodes = new ArrayList<>();
+
+    private StrategyGraph(Strategy strategy) {
+        this.strategy = strategy;
+        addRule(strategy.getEntryRule());
+        addRule(strategy.getExitRule());
+    }
+
+    /**
+     * Builds the dependency graph of a strategy.
+     *
+     * @param strategy the strategy
+     * @return its dependency graph
+     */
+    public static StrategyGraph of(Strategy strategy) {
+        return new StrategyGraph(Objects.requireNonNull(strategy, "strategy"));
+    }
+
+    private void addRule(Rule rule) {
+        if (rule == null || ruleInputRules.containsKey(rule)) {
+            return;
+        }
+        List<Rule> inputRules = rule.getInputRules();
+        List<Indicator<?>> inputIndicators = rule.getInputIndicators();
+        ruleInputRules.put(rule, inputRules);
+        ruleInputIndicators.put(rule, inputIndicators);
+        for (Indicator<?> indicator : inputIndicators) {
+            addIndicator(indicator);
+            addDependent(indicator, rule);
+        }
+        for (Rule inputRule : inputRules) {
+            addRule(inputRule);
+            addDependent(inputRule, rule);
+        }
+        rules.add(rule);
+        nodes.add(rule);
+    }
+
+    private void addIndicator(Indicator<?> indicator) {
+        if (indicatorInputs.containsKey(indicator)) {
+            return;
+        }
+        List<Indicator<?>> inputs = indicator.getInputs();
+        indicatorInputs.put(indicator, inputs);
+        for (Indicator<?> input : inputs) {
+            addIndicator(input);
+            addDependent(input, indicator);
+        }
+        indicators.add(indicator);
+        nodes.add(indicator);
+    }
+
+    private void addDependent(Object input, Object dependent) {
+        List<Object> list = dependents.computeIfAbsent(input, k -> new ArrayList<>());
+        for (Object existing : list) {
+            if (existing == dependent) {
+                return;
+            }
+        }
+        list.add(dependent);
+    }
+
+    /**
+     * @return the strategy of this graph
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the rules of the strategy (entry and exit rules and their inputs),
+     *         each rule after its input rules
+     */
+    public List<Rule> getRules() {
+        return Collections.unmodifiableList(rules);
+    }
+
+    /**
+     * @return the indicators of the strategy and all their inputs, each indicator
+     *         after its inputs
+     */
+    public List<Indicator<?>> getIndicators() {
+        return Collections.unmodifiableList(indicators);
+    }
+
+    /**
+     * @param rule a rule of the graph
+     * @return the rules it is combined from, empty if the rule is not in the graph
+     */
+    public List<Rule> getInputRules(Rule rule) {
+        return unmodifiable(ruleInputRules.get(rule));
+    }
+
+    /**
+     * @param rule a rule of the graph
+     * @return the indicators it is evaluated on, empty if the rule is not in the
+     *         graph
+     */
+    public List<Indicator<?>> getInputIndicators(Rule rule) {
+        return unmodifiable(ruleInputIndicators.get(rule));
+    }
+
+    /**
+     * @param indicator an indicator of the graph
+     * @return the indicators it is calculated from, empty if the indicator is not
+     *         in the graph
+     */
+    public List<Indicator<?>> getInputs(Indicator<?> indicator) {
+        return unmodifiable(indicatorInputs.get(indicator));
+    }
+
+    /**
+     * @param node an indicator or a rule of the graph
+     * @return the indicators and rules using it directly
+     */
+    public List<Object> getDependents(Object node) {
+        return unmodifiable(dependents.get(node));
+    }
+
+    /**
+     * Visits the indicators and rules of the graph, each one after its inputs.
+     *
+     * @param visitor the visitor
+     */
+    public void accept(Visitor visitor) {
+        for (Object node : nodes) {
+            if (node instanceof Rule) {
+                visitor.visitRule((Rule) node);
+            } else {
+                visitor.visitIndicator((Indicator<?>) node);
+            }
+        }
+    }
+
+    private static <T> List<T> unmodifiable(List<T> list) {
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{strategy=" + strategy.getName() + ", rules=" + rules.size()
+                + ", indicators=" + indicators.size() + "}";
+    }
+}
@@ -59,7 +59,7 @@ public class CashFlow implements Indicator<Num> {
      */
     public CashFlow(BarSeries barSeries, Position position) {
         this.barSeries = barSeries;
-        values = new ArrayList<>(Collections.singletonList(numOf(1)));
+        values = new ArrayList<>(Collections.singletonList(numFactory().one()));
         calculate(position);
         fillToTheEnd();
     }
@@ -72,7 +72,7 @@ public class CashFlow implements Indicator<Num> {
      */
     public CashFlow(BarSeries barSeries, TradingRecord tradingRecord) {
         this.barSeries = barSeries;
-        values = new ArrayList<>(Collections.singletonList(numOf(1)));
+        values = new ArrayList<>(Collections.singletonList(numFactory().one()));
         calculate(tradingRecord);
 
         fillToTheEnd();
@@ -88,7 +88,7 @@ public class CashFlow implements Indicator<Num> {
      */
     public CashFlow(BarSeries barSeries, TradingRecord tradingRecord, int finalIndex) {
         this.barSeries = barSeries;
-        values = new ArrayList<>(Collections.singletonList(numOf(1)));
+        values = new ArrayList<>(Collections.singletonList(numFactory().one()));
         calculate(tradingRecord, finalIndex);
 
         fillToTheEnd();
@@ -267,4 +267,9 @@ public class CashFlow implements Indicator<Num> {
         }
         return idx;
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
@@ -87,7 +87,7 @@ public class Returns implements Indicator<Num> {
      * @param position  a single position
      */
     public Returns(BarSeries barSeries, Position position, ReturnType type) {
-        one = barSeries.numOf(1);
+        one = barSeries.numFactory().one();
         this.barSeries = barSeries;
         this.type = type;
         // at index 0, there is no return
@@ -104,7 +104,7 @@ public class Returns implements Indicator<Num> {
      * @param tradingRecord the trading record
      */
     public Returns(BarSeries barSeries, TradingRecord tradingRecord, ReturnType type) {
-        one = barSeries.numOf(1);
+        one = barSeries.numFactory().one();
         this.barSeries = barSeries;
         this.type = type;
         // at index 0, there is no return
@@ -162,7 +162,7 @@ public class Returns implements Indicator<Num> {
         final int entryIndex = position.getEntry().getIndex();
         int begin = entryIndex + 1;
         if (begin > values.size()) {
-            values.addAll(Collections.nCopies(begin - values.size(), barSeries.numOf(0)));
+            values.addAll(Collections.nCopies(begin - values.size(), barSeries.numFactory().zero()));
         }
 
         int startingIndex = Math.max(begin, 1);
@@ -221,7 +221,13 @@ public class Returns implements Indicator<Num> {
      */
     private void fillToTheEnd() {
         if (barSeries.getEndIndex() >= values.size()) {
-            values.addAll(Collections.nCopies(barSeries.getEndIndex() - values.size() + 1, barSeries.numOf(0)));
+            values.addAll(
+                    Collections.nCopies(barSeries.getEndIndex() - values.size() + 1, barSeries.numFactory().zero()));
         }
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
@@ -23,20 +23,25 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.TRIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Average true range indicator.
  */
-public class ATRIndicator extends AbstractIndicator<Num> {
+public class ATRIndicator extends AbstractIndicator<Num> implements DoubleIndicator {
 
     private final TRIndicator trIndicator;
     private final MMAIndicator averageTrueRangeIndicator;
 
     public ATRIndicator(BarSeries series, int barCount) {
-        this(new TRIndicator(series), barCount);
+        this(IndicatorRegistry.shared(series, TRIndicator.class, () -> new TRIndicator(series), series), barCount);
     }
 
     public ATRIndicator(TRIndicator tr, int barCount) {
@@ -50,6 +55,11 @@ public class ATRIndicator extends AbstractIndicator<Num> {
         return averageTrueRangeIndicator.getValue(index);
     }
 
+    @Override
+    public double getDouble(int index) {
+        return averageTrueRangeIndicator.getDouble(index);
+    }
+
     public TRIndicator getTRIndicator() {
         return trIndicator;
     }
@@ -58,6 +68,11 @@ public class ATRIndicator extends AbstractIndicator<Num> {
         return averageTrueRangeIndicator.getBarCount();
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(trIndicator, averageTrueRangeIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + getBarCount();
@@ -23,23 +23,29 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Base class for Exponential Moving Average implementations.
  */
-public abstract class AbstractEMAIndicator extends RecursiveCachedIndicator<Num> {
+public abstract class AbstractEMAIndicator extends RecursiveCachedDoubleIndicator {
 
     private final Indicator<Num> indicator;
     private final int barCount;
     private final Num multiplier;
+    private final double doubleMultiplier;
 
     protected AbstractEMAIndicator(Indicator<Num> indicator, int barCount, double multiplier) {
         super(indicator);
         this.indicator = indicator;
         this.barCount = barCount;
         this.multiplier = numOf(multiplier);
+        this.doubleMultiplier = this.multiplier.doubleValue();
     }
 
     @Override
@@ -51,6 +57,20 @@ public abstract class AbstractEMAIndicator extends RecursiveCachedIndicator<Num>
         return indicator.getValue(index).minus(prevValue).multipliedBy(multiplier).plus(prevValue);
     }
 
+    @Override
+    protected double calculateDouble(int index) {
+        if (index == 0) {
+            return DoubleIndicator.doubleValue(indicator, 0);
+        }
+        double prevValue = getDouble(index - 1);
+        return (DoubleIndicator.doubleValue(indicator, index) - prevValue) * doubleMultiplier + prevValue;
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
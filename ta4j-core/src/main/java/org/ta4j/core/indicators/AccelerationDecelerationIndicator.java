@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.MedianPriceIndicator;
 import org.ta4j.core.num.Num;
 
@@ -49,4 +53,9 @@ public class AccelerationDecelerationIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return awesome.getValue(index).minus(sma.getValue(index));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(awesome, sma);
+    }
 }
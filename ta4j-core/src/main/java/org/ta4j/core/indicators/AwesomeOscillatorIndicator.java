@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.MedianPriceIndicator;
@@ -74,4 +77,9 @@ public class AwesomeOscillatorIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return sma5.getValue(index).minus(sma34.getValue(index));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(sma5, sma34);
+    }
 }
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.indicators.statistics.MeanDeviationIndicator;
 import org.ta4j.core.num.Num;
@@ -52,9 +56,12 @@ public class CCIIndicator extends CachedIndicator<Num> {
     public CCIIndicator(BarSeries series, int barCount) {
         super(series);
         factor = numOf(0.015);
-        typicalPriceInd = new TypicalPriceIndicator(series);
-        smaInd = new SMAIndicator(typicalPriceInd, barCount);
-        meanDeviationInd = new MeanDeviationIndicator(typicalPriceInd, barCount);
+        typicalPriceInd = IndicatorRegistry.shared(series, TypicalPriceIndicator.class,
+                () -> new TypicalPriceIndicator(series), series);
+        smaInd = IndicatorRegistry.shared(series, SMAIndicator.class, () -> new SMAIndicator(typicalPriceInd, barCount),
+                typicalPriceInd, barCount);
+        meanDeviationInd = IndicatorRegistry.shared(series, MeanDeviationIndicator.class,
+                () -> new MeanDeviationIndicator(typicalPriceInd, barCount), typicalPriceInd, barCount);
         this.barCount = barCount;
     }
 
@@ -69,6 +76,11 @@ public class CCIIndicator extends CachedIndicator<Num> {
         return (typicalPrice.minus(typicalPriceAvg)).dividedBy(meanDeviation.multipliedBy(factor));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(typicalPriceInd, smaInd, meanDeviationInd);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
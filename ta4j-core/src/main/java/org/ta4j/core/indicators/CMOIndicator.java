@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.GainIndicator;
 import org.ta4j.core.indicators.helpers.LossIndicator;
@@ -59,14 +62,21 @@ public class CMOIndicator extends CachedIndicator<Num> {
 
     @Override
     protected Num calculate(int index) {
-        Num sumOfGains = numOf(0);
+        Num sumOfGains = numFactory().zero();
         for (int i = Math.max(1, index - barCount + 1); i <= index; i++) {
             sumOfGains = sumOfGains.plus(gainIndicator.getValue(i));
         }
-        Num sumOfLosses = numOf(0);
+        Num sumOfLosses = numFactory().zero();
         for (int i = Math.max(1, index - barCount + 1); i <= index; i++) {
             sumOfLosses = sumOfLosses.plus(lossIndicator.getValue(i));
         }
-        return sumOfGains.minus(sumOfLosses).dividedBy(sumOfGains.plus(sumOfLosses)).multipliedBy(numOf(100));
+        return sumOfGains.minus(sumOfLosses)
+                .dividedBy(sumOfGains.plus(sumOfLosses))
+                .multipliedBy(numFactory().hundred());
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(gainIndicator, lossIndicator);
     }
 }
@@ -0,0 +1,73 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Cached {@link DoubleIndicator}.
+ *
+ * On a series using {@link org.ta4j.core.num.DoubleNum DoubleNum},
+ * {@link #getDouble(int)} is computed by {@link #calculateDouble(int)} and its
+ * results are cached as primitives. Otherwise, it is the double value of
+ * {@link #getValue(int)}.
+ */
+public abstract class CachedDoubleIndicator extends CachedIndicator<Num> implements DoubleIndicator {
+
+    /**
+     * Constructor.
+     *
+     * @param series the related bar series
+     */
+    protected CachedDoubleIndicator(BarSeries series) {
+        super(series);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator a related indicator (with a bar series)
+     */
+    protected CachedDoubleIndicator(Indicator<?> indicator) {
+        this(indicator.getBarSeries());
+    }
+
+    /**
+     * Calculates the value of the indicator on primitive doubles, with the same
+     * operations as {@link #calculate(int)} on {@link org.ta4j.core.num.DoubleNum
+     * DoubleNum}.
+     *
+     * @param index the bar index
+     * @return the value of the indicator as a double
+     */
+    protected abstract double calculateDouble(int index);
+
+    @Override
+    public double getDouble(int index) {
+        return getCachedDouble(index);
+    }
+}
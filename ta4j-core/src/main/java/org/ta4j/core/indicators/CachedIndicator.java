@@ -23,25 +23,66 @@
  */
 package org.ta4j.core.indicators;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.IndicatorMetrics.Cause;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedPointNum;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.RingBufferList;
 
 /**
  * Cached {@link Indicator indicator}.
  *
  * Caches the constructor of the indicator. Avoid to calculate the same index of
  * the indicator twice.
+ *
+ * The value of the last bar is cached as long as the
+ * {@link BarSeries#getModificationCount() modification count} of the series is
+ * unchanged, i.e. until a bar is added or the last bar is updated through the
+ * series.
+ *
+ * On series using {@link DoubleNum} or {@link FixedPointNum}, the {@link Num}
+ * results are cached as primitives (see {@link PrimitiveCache}). A cached
+ * result is turned into a {@link Num} when it is first read, and this
+ * {@link Num} is kept alongside to be returned by the next reads.
+ *
+ * The cache hits, misses and calculations can be recorded, see
+ * {@link IndicatorMetrics}.
+ *
+ * If the series supports concurrent access (see
+ * {@link BarSeries#getReadWriteLock()}), the values are read under the read
+ * lock of the series and the monitor of the indicator: several threads can read
+ * the indicator while a thread adds bars. The sub-indicators being locked after
+ * the indicators using them, the locks are always acquired in the same order.
  */
 public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
     /**
-     * List of cached results
+     * How {@link Num} results are stored as primitives
      */
-    private final List<T> results;
+    private enum PrimitiveEncoding {
+        /** {@link DoubleNum} as bits of its double value */
+        DOUBLE,
+        /** {@link FixedPointNum} as its unscaled value */
+        FIXED_POINT
+    }
+
+    /** The unscaled value standing for {@link NaN} */
+    private static final long FIXED_POINT_NAN = Long.MIN_VALUE;
+
+    /**
+     * List of cached results. Organized as a circular buffer so that dropping the
+     * results of removed bars doesn't move the remaining ones. If the results are
+     * stored as primitives, it holds the ones already turned into {@link Num}s.
+     */
+    private final RingBufferList<T> results;
 
     /**
      * Should always be the index of the last result in the results list. I.E. the
@@ -49,6 +90,57 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      */
     protected int highestResultIndex = -1;
 
+    /**
+     * True if the indicator is a {@link CachedDoubleIndicator} and the series uses
+     * {@link org.ta4j.core.num.DoubleNum DoubleNum}, see
+     * {@link #getCachedDouble(int)}.
+     */
+    private final boolean doubleValues;
+
+    /**
+     * How the results are stored in {@link #primitiveResults}, or null if they are
+     * stored as objects in {@link #results}.
+     */
+    private PrimitiveEncoding encoding;
+
+    /**
+     * The scale of the results if they are stored as
+     * {@link PrimitiveEncoding#FIXED_POINT}.
+     */
+    private final int fixedPointScale;
+
+    /**
+     * Cache of the primitive results, created on first use. It holds the results of
+     * {@link #getCachedDouble(int)} and, if they are numbers stored as primitives,
+     * the ones of {@link #getValue(int)}.
+     */
+    private PrimitiveCache primitiveResults;
+
+    /**
+     * The index, the {@link BarSeries#getModificationCount() modification count}
+     * and the value of the last bar when it was calculated last
+     */
+    private int lastBarIndex = -1;
+    private long lastBarModificationCount;
+    private T lastBarResult;
+
+    /**
+     * Same as {@link #lastBarIndex} etc. for {@link #getCachedDouble(int)}
+     */
+    private int lastBarDoubleIndex = -1;
+    private long lastBarDoubleModificationCount;
+    private double lastBarDoubleResult;
+
+    /**
+     * The lock of the series for concurrent access, or null
+     */
+    private final ReadWriteLock seriesLock;
+
+    /**
+     * The recorded metrics, or null if disabled
+     */
+    private IndicatorMetrics metrics;
+
     /**
      * Constructor.
      *
@@ -57,7 +149,16 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
     protected CachedIndicator(BarSeries series) {
         super(series);
         int limit = series.getMaximumBarCount();
-        results = limit == Integer.MAX_VALUE ? new ArrayList<>() : new ArrayList<>(limit);
+        results = limit == Integer.MAX_VALUE ? new RingBufferList<>() : new RingBufferList<>(limit + 1);
+        doubleValues = this instanceof CachedDoubleIndicator && DoubleIndicator.hasDoubleValues(this);
+        Num zero = series == null ? null : series.numFactory().zero();
+        if (zero instanceof DoubleNum) {
+            encoding = PrimitiveEncoding.DOUBLE;
+        } else if (zero instanceof FixedPointNum) {
+            encoding = PrimitiveEncoding.FIXED_POINT;
+        }
+        fixedPointScale = zero instanceof FixedPointNum ? ((FixedPointNum) zero).getScale() : 0;
+        seriesLock = series == null ? null : series.getReadWriteLock();
     }
 
     /**
@@ -77,12 +178,37 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
     @Override
     public T getValue(int index) {
+        if (seriesLock == null) {
+            return getValueFromCache(index);
+        }
+        Lock readLock = seriesLock.readLock();
+        readLock.lock();
+        try {
+            synchronized (this) {
+                return getValueFromCache(index);
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value of the indicator from the cache, calculating it if needed.
+     * Called with the locks held if the series supports concurrent access.
+     *
+     * @param index the bar index
+     * @return the value of the indicator
+     */
+    protected T getValueFromCache(int index) {
+        if (metrics != null) {
+            metrics.requested();
+        }
         BarSeries series = getBarSeries();
         if (series == null) {
             // Series is null; the indicator doesn't need cache.
             // (e.g. simple computation of the value)
             // --> Calculating the value
-            T result = calculate(index);
+            T result = calculateResult(index, Cause.NOT_CACHED);
             if (log.isTraceEnabled()) {
                 log.trace("{}({}): {}", this, index, result);
             }
@@ -91,6 +217,10 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
         // Series is not null
 
+        if (encoding != null) {
+            return getPrimitiveValue(index, series);
+        }
+
         final int removedBarsCount = series.getRemovedBarsCount();
         final int maximumResultCount = series.getMaximumBarCount();
 
@@ -102,32 +232,33 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
                         getClass().getSimpleName(), index, removedBarsCount);
             }
             increaseLengthTo(removedBarsCount, maximumResultCount);
-            highestResultIndex = removedBarsCount;
+            // Never moving the highest index back: the cached results would be shifted
+            highestResultIndex = Math.max(highestResultIndex, removedBarsCount);
             result = results.get(0);
             if (result == null) {
                 // It should be "result = calculate(removedBarsCount);".
                 // We use "result = calculate(0);" as a workaround
                 // to fix issue #120 (https://github.com/mdeverdelhan/ta4j/issues/120).
-                result = calculate(0);
+                result = calculateResult(0, Cause.REMOVED_BAR);
                 results.set(0, result);
             }
         } else {
             if (index == series.getEndIndex()) {
-                // Don't cache result if last bar
-                result = calculate(index);
+                // The last bar may still change
+                result = getLastBarValue(index, series);
             } else {
                 increaseLengthTo(index, maximumResultCount);
                 if (index > highestResultIndex) {
                     // Result not calculated yet
                     highestResultIndex = index;
-                    result = calculate(index);
+                    result = calculateResult(index, Cause.NOT_CACHED);
                     results.set(results.size() - 1, result);
                 } else {
                     // Result covered by current cache
                     int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
                     result = results.get(resultInnerIndex);
                     if (result == null) {
-                        result = calculate(index);
+                        result = calculateResult(index, Cause.NOT_CACHED);
                         results.set(resultInnerIndex, result);
                     }
                 }
@@ -140,6 +271,291 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
         return result;
     }
 
+    /**
+     * Returns the value of the indicator for the last bar, which is only reused
+     * while the {@link BarSeries#getModificationCount() modification count} of the
+     * series is unchanged.
+     *
+     * @param index  the index of the last bar
+     * @param series the bar series
+     * @return the value of the indicator
+     */
+    private T getLastBarValue(int index, BarSeries series) {
+        long modificationCount = series.getModificationCount();
+        if (modificationCount < 0) {
+            return calculateResult(index, Cause.LAST_BAR);
+        }
+        if (index != lastBarIndex || modificationCount != lastBarModificationCount) {
+            lastBarResult = calculateResult(index, Cause.LAST_BAR);
+            lastBarIndex = index;
+            lastBarModificationCount = modificationCount;
+        }
+        return lastBarResult;
+    }
+
+    /**
+     * Returns the value of the indicator from the {@link #primitiveResults}, like
+     * {@link #getValue(int)} returns it from the object results, except that the
+     * results of removed bars are calculated without being cached. The last bar is
+     * not cached either. A cached result is decoded once, the {@link Num} being
+     * kept in the object results for the next reads.
+     *
+     * If a result cannot be stored as primitive (e.g. a {@code Boolean}, or a
+     * {@code DoubleNum} holding a {@code Double.NaN} which is not {@link NaN}), the
+     * results of this indicator are stored as objects from then on.
+     *
+     * @param index  the bar index
+     * @param series the bar series
+     * @return the value of the indicator
+     */
+    private T getPrimitiveValue(int index, BarSeries series) {
+        if (index < series.getRemovedBarsCount()) {
+            // Same workaround as for the object results (see issue #120), not
+            // cached: the first cache slot belongs to the first remaining bar
+            return calculateResult(0, Cause.REMOVED_BAR);
+        }
+        if (index == series.getEndIndex()) {
+            // The last bar may still change
+            return getLastBarValue(index, series);
+        }
+        if (primitiveResults == null) {
+            primitiveResults = new PrimitiveCache(series.getMaximumBarCount());
+        }
+        increaseLengthTo(index, series.getMaximumBarCount());
+        highestResultIndex = Math.max(highestResultIndex, index);
+        if (primitiveResults.contains(index)) {
+            int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
+            T result = results.get(resultInnerIndex);
+            if (result == null) {
+                result = decode(index);
+                results.set(resultInnerIndex, result);
+            }
+            return result;
+        }
+        T result = calculateResult(index, Cause.NOT_CACHED);
+        if (encoding != null && !encode(index, result)) {
+            // Storing the results as objects from now on, starting with this one
+            encoding = null;
+            results.clear();
+            highestResultIndex = -1;
+            increaseLengthTo(index, series.getMaximumBarCount());
+            highestResultIndex = index;
+            results.set(results.size() - 1, result);
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("{}({}): {}", this, index, result);
+        }
+        return result;
+    }
+
+    /**
+     * Stores a result in the {@link #primitiveResults}, if possible.
+     *
+     * @param index  the bar index
+     * @param result the result
+     * @return true if the result was stored
+     */
+    private boolean encode(int index, T result) {
+        if (encoding == PrimitiveEncoding.DOUBLE) {
+            if (result == NaN) {
+                primitiveResults.putDouble(index, Double.NaN);
+                return true;
+            }
+            if (result instanceof DoubleNum && !Double.isNaN(((DoubleNum) result).doubleValue())) {
+                primitiveResults.putDouble(index, ((DoubleNum) result).doubleValue());
+                return true;
+            }
+        } else {
+            if (result == NaN) {
+                primitiveResults.putLong(index, FIXED_POINT_NAN);
+                return true;
+            }
+            if (result instanceof FixedPointNum) {
+                FixedPointNum fixedPointResult = (FixedPointNum) result;
+                if (fixedPointResult.getScale() == fixedPointScale
+                        && fixedPointResult.getUnscaledValue() != FIXED_POINT_NAN) {
+                    primitiveResults.putLong(index, fixedPointResult.getUnscaledValue());
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param index the bar index of a result stored in {@link #primitiveResults}
+     * @return the result as Num
+     */
+    @SuppressWarnings("unchecked")
+    private T decode(int index) {
+        if (encoding == PrimitiveEncoding.DOUBLE) {
+            double value = primitiveResults.getDouble(index);
+            return (T) (Double.isNaN(value) ? NaN : DoubleNum.valueOf(value));
+        }
+        long value = primitiveResults.getLong(index);
+        return (T) (value == FIXED_POINT_NAN ? NaN : FixedPointNum.ofUnscaled(value, fixedPointScale));
+    }
+
+    /**
+     * Returns the value of the indicator as a double, for the
+     * {@link CachedDoubleIndicator} implementations.
+     *
+     * If the series uses {@link org.ta4j.core.num.DoubleNum DoubleNum}, the value
+     * is computed by {@link CachedDoubleIndicator#calculateDouble(int)} and cached
+     * like {@link #getValue(int)} caches its results. Otherwise, it is the double
+     * value of {@link #getValue(int)}.
+     *
+     * @param index the bar index
+     * @return the value of the indicator as a double
+     */
+    double getCachedDouble(int index) {
+        if (seriesLock == null) {
+            return getDoubleFromCache(index);
+        }
+        Lock readLock = seriesLock.readLock();
+        readLock.lock();
+        try {
+            synchronized (this) {
+                return getDoubleFromCache(index);
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value of the indicator as a double from the cache, see
+     * {@link #getCachedDouble(int)}. Called with the locks held if the series
+     * supports concurrent access.
+     *
+     * @param index the bar index
+     * @return the value of the indicator as a double
+     */
+    double getDoubleFromCache(int index) {
+        if (!doubleValues) {
+            return ((Num) getValue(index)).doubleValue();
+        }
+        if (metrics != null) {
+            metrics.requested();
+        }
+        BarSeries series = getBarSeries();
+        if (index < series.getRemovedBarsCount()) {
+            // Same workaround as getValue(int) for the results of removed bars
+            return calculateDoubleResult(0, Cause.REMOVED_BAR);
+        }
+        if (index == series.getEndIndex()) {
+            // The last bar may still change
+            long modificationCount = series.getModificationCount();
+            if (modificationCount < 0) {
+                return calculateDoubleResult(index, Cause.LAST_BAR);
+            }
+            if (index != lastBarDoubleIndex || modificationCount != lastBarDoubleModificationCount) {
+                lastBarDoubleResult = calculateDoubleResult(index, Cause.LAST_BAR);
+                lastBarDoubleIndex = index;
+                lastBarDoubleModificationCount = modificationCount;
+            }
+            return lastBarDoubleResult;
+        }
+        if (primitiveResults == null) {
+            primitiveResults = new PrimitiveCache(series.getMaximumBarCount());
+        }
+        if (primitiveResults.contains(index)) {
+            return primitiveResults.getDouble(index);
+        }
+        double result = calculateDoubleResult(index, Cause.NOT_CACHED);
+        primitiveResults.putDouble(index, result);
+        return result;
+    }
+
+    /**
+     * Calls {@link #calculate(int)}, recording the metrics if enabled.
+     *
+     * @param index the bar index
+     * @param cause the cause of the calculation
+     * @return the value of the indicator
+     */
+    private T calculateResult(int index, Cause cause) {
+        IndicatorMetrics recordedMetrics = metrics;
+        if (recordedMetrics == null) {
+            return calculate(index);
+        }
+        long parentState = recordedMetrics.startCalculation();
+        long start = System.nanoTime();
+        try {
+            return calculate(index);
+        } finally {
+            recordedMetrics.calculated(cause, start, parentState);
+        }
+    }
+
+    /**
+     * Calls {@link CachedDoubleIndicator#calculateDouble(int)}, recording the
+     * metrics if enabled.
+     *
+     * @param index the bar index
+     * @param cause the cause of the calculation
+     * @return the value of the indicator as a double
+     */
+    private double calculateDoubleResult(int index, Cause cause) {
+        CachedDoubleIndicator doubleIndicator = (CachedDoubleIndicator) this;
+        IndicatorMetrics recordedMetrics = metrics;
+        if (recordedMetrics == null) {
+            return doubleIndicator.calculateDouble(index);
+        }
+        long parentState = recordedMetrics.startCalculation();
+        long start = System.nanoTime();
+        try {
+            return doubleIndicator.calculateDouble(index);
+        } finally {
+            recordedMetrics.calculated(cause, start, parentState);
+        }
+    }
+
+    /**
+     * Enables or disables the {@link IndicatorMetrics metrics} of this indicator.
+     * Enabling them again keeps the recorded metrics.
+     *
+     * @param enabled true to record the metrics
+     * @see IndicatorMetrics#enable(Indicator)
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        if (!enabled) {
+            metrics = null;
+        } else if (metrics == null) {
+            metrics = new IndicatorMetrics();
+        }
+    }
+
+    /**
+     * @return the recorded metrics, or null if they are disabled
+     */
+    public IndicatorMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the number of cached results, the value of the last bar excluded
+     */
+    public int getCacheSize() {
+        if (encoding != null) {
+            return primitiveResults == null ? 0 : primitiveResults.size();
+        }
+        int size = doubleValues && primitiveResults != null ? primitiveResults.size() : 0;
+        for (T result : results) {
+            if (result != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the highest index of the cached primitive results, or -1
+     */
+    int getHighestDoubleIndex() {
+        return primitiveResults == null ? -1 : primitiveResults.getHighestIndex();
+    }
+
     /**
      * Increases the size of cached results buffer.
      *
@@ -151,15 +567,27 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
             int newResultsCount = Math.min(index - highestResultIndex, maxLength);
             if (newResultsCount == maxLength) {
                 results.clear();
-                results.addAll(Collections.nCopies(maxLength, null));
+                appendEmptyResults(maxLength);
             } else if (newResultsCount > 0) {
-                results.addAll(Collections.nCopies(newResultsCount, null));
+                appendEmptyResults(newResultsCount);
                 removeExceedingResults(maxLength);
             }
         } else {
             // First use of cache
             assert results.isEmpty() : "Cache results list should be empty";
-            results.addAll(Collections.nCopies(Math.min(index + 1, maxLength), null));
+            appendEmptyResults(Math.min(index + 1, maxLength));
+        }
+    }
+
+    /**
+     * Appends empty (i.e. not calculated yet) results to the cache.
+     *
+     * @param count the number of results to append
+     */
+    private void appendEmptyResults(int count) {
+        results.ensureCapacity(results.size() + count);
+        for (int i = 0; i < count; i++) {
+            results.add(null);
         }
     }
 
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.num.Num;
@@ -68,4 +72,9 @@ public class ChandelierExitLongIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return high.getValue(index).minus(atr.getValue(index).multipliedBy(k));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(high, atr);
+    }
 }
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
 import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 import org.ta4j.core.num.Num;
@@ -68,4 +72,9 @@ public class ChandelierExitShortIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return low.getValue(index).plus(atr.getValue(index).multipliedBy(k));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(low, atr);
+    }
 }
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
@@ -82,4 +86,9 @@ public class ChopIndicator extends CachedIndicator<Num> {
         // TODO: implement Num.log10(Num)
         return scaleUpTo.multipliedBy(numOf(Math.log10(a.doubleValue()))).dividedBy(log10n);
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(atrIndicator, hvi, lvi);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.SumIndicator;
 import org.ta4j.core.num.Num;
@@ -69,4 +72,9 @@ public class CoppockCurveIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return wma.getValue(index);
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(wma);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
@@ -83,6 +86,11 @@ public class DPOIndicator extends CachedIndicator<Num> {
         return indicatorMinusPreviousSMAIndicator.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicatorMinusPreviousSMAIndicator);
+    }
+
     @Override
     public String toString() {
         return name;
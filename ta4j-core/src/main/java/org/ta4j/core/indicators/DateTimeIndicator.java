@@ -23,26 +23,64 @@
  */
 package org.ta4j.core.indicators;
 
+import java.time.DayOfWeek;
 import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.utils.TimeUtils;
 
 /**
  * DateTime indicator.
+ *
+ * When it is given a primitive version of its action (e.g.
+ * {@link Bar#getBeginTimeEpochNanos()} for {@link Bar#getBeginTime()}),
+ * {@link #getEpochNanos(int)}, {@link #getNanoOfDay(int)} and
+ * {@link #getDayOfWeek(int)} are computed from the primitive bar times without
+ * creating (nor caching) any {@link ZonedDateTime}.
  */
 public class DateTimeIndicator extends CachedIndicator<ZonedDateTime> {
 
     private final Function<Bar, ZonedDateTime> action;
+    private final ToLongFunction<Bar> epochNanosAction;
 
+    /**
+     * Constructor of an indicator on the begin times of the bars.
+     *
+     * @param barSeries the bar series
+     */
     public DateTimeIndicator(BarSeries barSeries) {
-        this(barSeries, Bar::getBeginTime);
+        this(barSeries, Bar::getBeginTime, Bar::getBeginTimeEpochNanos);
     }
 
+    /**
+     * Constructor.
+     *
+     * @param barSeries the bar series
+     * @param action    the date time of a bar
+     */
     public DateTimeIndicator(BarSeries barSeries, Function<Bar, ZonedDateTime> action) {
+        this(barSeries, action, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param barSeries        the bar series
+     * @param action           the date time of a bar
+     * @param epochNanosAction the same date time in nanoseconds since the epoch (in
+     *                         the {@link Bar#getZone() zone of the bar}), or null
+     */
+    public DateTimeIndicator(BarSeries barSeries, Function<Bar, ZonedDateTime> action,
+            ToLongFunction<Bar> epochNanosAction) {
         super(barSeries);
         this.action = action;
+        this.epochNanosAction = epochNanosAction;
     }
 
     @Override
@@ -50,4 +88,44 @@ public class DateTimeIndicator extends CachedIndicator<ZonedDateTime> {
         Bar bar = getBarSeries().getBar(index);
         return this.action.apply(bar);
     }
+
+    /**
+     * @param index the bar index
+     * @return the date time at the index, in nanoseconds since the epoch
+     */
+    public long getEpochNanos(int index) {
+        if (epochNanosAction == null) {
+            return TimeUtils.toEpochNanos(getValue(index));
+        }
+        return epochNanosAction.applyAsLong(getBarSeries().getBar(index));
+    }
+
+    /**
+     * @param index the bar index
+     * @return the local time of day of the date time at the index, in nanoseconds
+     */
+    public long getNanoOfDay(int index) {
+        if (epochNanosAction == null) {
+            return getValue(index).toLocalTime().toNanoOfDay();
+        }
+        Bar bar = getBarSeries().getBar(index);
+        return TimeUtils.toNanoOfDay(epochNanosAction.applyAsLong(bar), bar.getZone());
+    }
+
+    /**
+     * @param index the bar index
+     * @return the day of week of the date time at the index
+     */
+    public DayOfWeek getDayOfWeek(int index) {
+        if (epochNanosAction == null) {
+            return getValue(index).getDayOfWeek();
+        }
+        Bar bar = getBarSeries().getBar(index);
+        return TimeUtils.toDayOfWeek(epochNanosAction.applyAsLong(bar), bar.getZone());
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
@@ -24,7 +24,9 @@
 package org.ta4j.core.indicators;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.ta4j.core.Bar;
@@ -69,4 +71,9 @@ public class DistanceFromMAIndicator extends CachedIndicator<Num> {
         Num maValue = (Num) movingAverage.getValue(index);
         return (closePrice.minus(maValue)).dividedBy(maValue);
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(movingAverage);
+    }
 }
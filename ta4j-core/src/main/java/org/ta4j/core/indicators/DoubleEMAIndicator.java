@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -55,7 +58,12 @@ public class DoubleEMAIndicator extends CachedIndicator<Num> {
 
     @Override
     protected Num calculate(int index) {
-        return ema.getValue(index).multipliedBy(numOf(2)).minus(emaEma.getValue(index));
+        return ema.getValue(index).multipliedBy(numFactory().two()).minus(emaEma.getValue(index));
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(ema, emaEma);
     }
 
     @Override
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
@@ -156,7 +159,7 @@ public class FisherIndicator extends RecursiveCachedIndicator<Num> {
             @Override
             protected Num calculate(int index) {
                 if (index <= 0) {
-                    return numOf(0);
+                    return numFactory().zero();
                 }
 
                 // Value = (alpha * 2 * ((ref - MinL) / (MaxH - MinL) - 0.5) + beta *
@@ -165,17 +168,22 @@ public class FisherIndicator extends RecursiveCachedIndicator<Num> {
                 Num minL = periodLow.getValue(index);
                 Num maxH = periodHigh.getValue(index);
                 Num term1 = currentRef.minus(minL).dividedBy(maxH.minus(minL)).minus(numOf(ZERO_DOT_FIVE));
-                Num term2 = alpha.multipliedBy(numOf(2)).multipliedBy(term1);
+                Num term2 = alpha.multipliedBy(numFactory().two()).multipliedBy(term1);
                 Num term3 = term2.plus(beta.multipliedBy(getValue(index - 1)));
                 return term3.dividedBy(FisherIndicator.this.densityFactor);
             }
+
+            @Override
+            public List<Indicator<?>> getInputs() {
+                return Arrays.asList(FisherIndicator.this.ref, periodLow, periodHigh);
+            }
         };
     }
 
     @Override
     protected Num calculate(int index) {
         if (index <= 0) {
-            return numOf(0);
+            return numFactory().zero();
         }
 
         Num value = intermediateValue.getValue(index);
@@ -187,9 +195,14 @@ public class FisherIndicator extends RecursiveCachedIndicator<Num> {
         }
 
         // Fisher = gamma * Log((1 + Value) / (1 - Value)) + delta * priorFisher
-        Num term1 = numOf((Math.log(numOf(1).plus(value).dividedBy(numOf(1).minus(value)).doubleValue())));
+        Num term1 = numOf(
+                (Math.log(numFactory().one().plus(value).dividedBy(numFactory().one().minus(value)).doubleValue())));
         Num term2 = getValue(index - 1);
         return gamma.multipliedBy(term1).plus(delta.multipliedBy(term2));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(ref, intermediateValue);
+    }
 }
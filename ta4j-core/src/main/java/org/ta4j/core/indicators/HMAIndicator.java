@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.CombineIndicator;
 import org.ta4j.core.indicators.helpers.TransformIndicator;
@@ -55,6 +58,11 @@ public class HMAIndicator extends CachedIndicator<Num> {
         return sqrtWma.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(sqrtWma);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -0,0 +1,290 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+
+/**
+ * Discovers the dependencies between {@link Indicator indicators}, {@link Rule
+ * rules} and {@link Strategy strategies}.
+ *
+ * The graph is walked through {@link Indicator#getInputs()},
+ * {@link Rule#getInputRules()} and {@link Rule#getInputIndicators()}, which the
+ * indicators and rules of ta4j override to return their inputs.
+ *
+ * For the other indicators and rules, the default implementations fall back to
+ * {@link #getSubIndicators(Indicator)}, {@link #getSubRules(Rule)} and
+ * {@link #getRuleIndicators(Rule)}: they return the indicators and rules held
+ * by the fields of the indicator or rule declared with an indicator or rule
+ * type, an array of it or an {@link Iterable} of it, looked up once per class.
+ * The inputs held in other ways (e.g. captured by a lambda, in a field of
+ * another type or created on first use) are not found, so such classes must
+ * override these methods.
+ */
+public final class IndicatorDependencies {
+
+    /** The fields which may hold indicators, per class */
+    private static final ClassValue<Field[]> INDICATOR_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> ownerType) {
+            return findFields(ownerType, Indicator.class);
+        }
+    };
+
+    /** The fields which may hold rules, per class */
+    private static final ClassValue<Field[]> RULE_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> ownerType) {
+            return findFields(ownerType, Rule.class);
+        }
+    };
+
+    private IndicatorDependencies() {
+    }
+
+    /**
+     * Returns the indicators held by the fields of an indicator, the default
+     * {@link Indicator#getInputs()}.
+     *
+     * @param indicator the indicator
+     * @return its sub-indicators, in the order of their fields
+     */
+    public static List<Indicator<?>> getSubIndicators(Indicator<?> indicator) {
+        return getFieldValues(indicator, INDICATOR_FIELDS, Indicator.class);
+    }
+
+    /**
+     * Returns the rules held by the fields of a rule, the default
+     * {@link Rule#getInputRules()}.
+     *
+     * @param rule the rule
+     * @return its sub-rules, in the order of their fields
+     */
+    public static List<Rule> getSubRules(Rule rule) {
+        return getFieldValues(rule, RULE_FIELDS, Rule.class);
+    }
+
+    /**
+     * Returns the indicators held by the fields of a rule, the default
+     * {@link Rule#getInputIndicators()}.
+     *
+     * @param rule the rule
+     * @return its indicators, in the order of their fields
+     */
+    public static List<Indicator<?>> getRuleIndicators(Rule rule) {
+        return getFieldValues(rule, INDICATOR_FIELDS, Indicator.class);
+    }
+
+    /**
+     * Returns the indicators used by a strategy or a rule, through its rules.
+     *
+     * @param component a {@link Strategy} or a {@link Rule}
+     * @return the indicators it uses directly (i.e. not their inputs)
+     */
+    public static List<Indicator<?>> getIndicators(Object component) {
+        List<Indicator<?>> indicators = new ArrayList<>();
+        Set<Rule> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (component instanceof Strategy) {
+            Strategy strategy = (Strategy) component;
+            addIndicators(strategy.getEntryRule(), indicators, visited);
+            addIndicators(strategy.getExitRule(), indicators, visited);
+        } else if (component instanceof Rule) {
+            addIndicators((Rule) component, indicators, visited);
+        }
+        return indicators;
+    }
+
+    private static void addIndicators(Rule rule, List<Indicator<?>> indicators, Set<Rule> visited) {
+        if (rule == null || !visited.add(rule)) {
+            return;
+        }
+        for (Indicator<?> indicator : rule.getInputIndicators()) {
+            if (!containsSame(indicators, indicator)) {
+                indicators.add(indicator);
+            }
+        }
+        for (Rule inputRule : rule.getInputRules()) {
+            addIndicators(inputRule, indicators, visited);
+        }
+    }
+
+    /**
+     * Returns the indicators used by a strategy or a rule and all their inputs,
+     * each indicator after its inputs.
+     *
+     * @param component a {@link Strategy}, a {@link Rule} or an {@link Indicator}
+     * @return the indicators in dependency order
+     */
+    public static List<Indicator<?>> getAllIndicators(Object component) {
+        List<Indicator<?>> roots = component instanceof Indicator ? Collections.singletonList((Indicator<?>) component)
+                : getIndicators(component);
+        return inDependencyOrder(roots);
+    }
+
+    /**
+     * Returns indicators and all their inputs, each indicator after its inputs.
+     *
+     * @param indicators the indicators
+     * @return the indicators in dependency order
+     */
+    public static List<Indicator<?>> inDependencyOrder(Iterable<? extends Indicator<?>> indicators) {
+        List<Indicator<?>> ordered = new ArrayList<>();
+        Set<Indicator<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Indicator<?> indicator : indicators) {
+            addInDependencyOrder(indicator, ordered, visited);
+        }
+        return ordered;
+    }
+
+    private static void addInDependencyOrder(Indicator<?> indicator, List<Indicator<?>> ordered,
+            Set<Indicator<?>> visited) {
+        if (!visited.add(indicator)) {
+            return;
+        }
+        for (Indicator<?> input : indicator.getInputs()) {
+            addInDependencyOrder(input, ordered, visited);
+        }
+        ordered.add(indicator);
+    }
+
+    /**
+     * Returns the values of a type held by the fields of an object.
+     *
+     * @param owner  the object, which is not returned
+     * @param fields the fields which may hold the values, per class
+     * @param type   the type of the values
+     * @return the distinct values, in the order of the fields
+     * @throws IllegalStateException if a field cannot be read
+     */
+    private static <T> List<T> getFieldValues(Object owner, ClassValue<Field[]> fields, Class<? super T> type) {
+        List<T> found = new ArrayList<>();
+        for (Field field : fields.get(owner.getClass())) {
+            try {
+                addValues(owner, field.get(owner), type, found);
+            } catch (IllegalAccessException e) {
+                throw inaccessible(field, e);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @param ownerType the class
+     * @param type      the type of the values
+     * @return the fields of the class and its superclasses declared with the type,
+     *         an array of it or an {@link Iterable} of it
+     * @throws IllegalStateException if such a field cannot be made accessible
+     */
+    private static Field[] findFields(Class<?> ownerType, Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = ownerType; current != null
+                && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || !mayHold(field, type)) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                } catch (RuntimeException e) {
+                    throw inaccessible(field, e);
+                }
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    private static IllegalStateException inaccessible(Field field, Exception cause) {
+        return new IllegalStateException("Cannot read the inputs of " + field.getDeclaringClass().getName()
+                + " from its field " + field.getName() + ", its input methods must be overridden", cause);
+    }
+
+    /**
+     * @param field the field
+     * @param type  the type of the values
+     * @return true if the field is declared with the type, an array of it or an
+     *         {@link Iterable} of it
+     */
+    private static boolean mayHold(Field field, Class<?> type) {
+        Class<?> fieldType = field.getType();
+        while (fieldType.isArray()) {
+            fieldType = fieldType.getComponentType();
+        }
+        if (type.isAssignableFrom(fieldType)) {
+            return true;
+        }
+        if (!Iterable.class.isAssignableFrom(field.getType())
+                || !(field.getGenericType() instanceof ParameterizedType)) {
+            return false;
+        }
+        Type elementType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+        if (elementType instanceof WildcardType) {
+            elementType = ((WildcardType) elementType).getUpperBounds()[0];
+        }
+        if (elementType instanceof ParameterizedType) {
+            elementType = ((ParameterizedType) elementType).getRawType();
+        }
+        return elementType instanceof Class && type.isAssignableFrom((Class<?>) elementType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addValues(Object owner, Object value, Class<? super T> type, List<T> found) {
+        if (type.isInstance(value)) {
+            if (value != owner && !containsSame(found, value)) {
+                found.add((T) value);
+            }
+        } else if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                addValues(owner, element, type, found);
+            }
+        } else if (value != null && value.getClass().isArray() && !value.getClass().getComponentType().isPrimitive()) {
+            for (int i = 0; i < Array.getLength(value); i++) {
+                addValues(owner, Array.get(value, i), type, found);
+            }
+        }
+    }
+
+    private static boolean containsSame(List<?> values, Object value) {
+        for (Object element : values) {
+            if (element == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,332 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.ta4j.core.Indicator;
+
+/**
+ * Cache and calculation metrics of a {@link CachedIndicator}.
+ *
+ * The metrics are opt-in: they are only recorded once enabled with
+ * {@link CachedIndicator#setMetricsEnabled(boolean)} or, for an indicator and
+ * all its sub-indicators, with {@link #enable(Indicator)}. A disabled indicator
+ * records nothing.
+ *
+ * A request is a call of {@link CachedIndicator#getValue(int)} (or of its
+ * primitive counterpart), which is either a hit, answered from the cache, or a
+ * miss, calculating the value. The calculations are counted by cause: a value
+ * which was never cached, the value of the last bar which is recalculated after
+ * a modification of the series, or the value of a bar removed from the series.
+ *
+ * The time is the self time of the calculations, i.e. excluding the time spent
+ * in the calculations of the sub-indicators which record metrics too.
+ *
+ * The metrics are not thread-safe.
+ */
+public final class IndicatorMetrics {
+
+    /**
+     * The cause of a calculation
+     */
+    enum Cause {
+        /** The value was not cached */
+        NOT_CACHED,
+        /** The value of the last bar may have changed */
+        LAST_BAR,
+        /** The value of a removed bar was requested */
+        REMOVED_BAR
+    }
+
+    /**
+     * The time spent in the calculations of the sub-indicators of the current
+     * calculation, per thread
+     */
+    private static final ThreadLocal<long[]> SUB_CALCULATION_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private long requestCount;
+    private long calculationCount;
+    private long lastBarCalculationCount;
+    private long removedBarCalculationCount;
+    private long calculationNanos;
+
+    /**
+     * Records a request.
+     */
+    void requested() {
+        requestCount++;
+    }
+
+    /**
+     * Records the start of a calculation.
+     *
+     * @return the state to pass to {@link #calculated(Cause, long, long)}
+     */
+    long startCalculation() {
+        long[] subCalculationNanos = SUB_CALCULATION_NANOS.get();
+        long parentSubCalculationNanos = subCalculationNanos[0];
+        subCalculationNanos[0] = 0;
+        return parentSubCalculationNanos;
+    }
+
+    /**
+     * Records the end of a calculation.
+     *
+     * @param cause                     the cause of the calculation
+     * @param startNanos                the start time of the calculation
+     * @param parentSubCalculationNanos the state returned by
+     *                                  {@link #startCalculation()}
+     */
+    void calculated(Cause cause, long startNanos, long parentSubCalculationNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        long[] subCalculationNanos = SUB_CALCULATION_NANOS.get();
+        calculationNanos += nanos - subCalculationNanos[0];
+        subCalculationNanos[0] = parentSubCalculationNanos + nanos;
+        switch (cause) {
+        case LAST_BAR:
+            lastBarCalculationCount++;
+            break;
+        case REMOVED_BAR:
+            removedBarCalculationCount++;
+            break;
+        default:
+            calculationCount++;
+        }
+    }
+
+    /**
+     * @return the number of requested values
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return the number of requested values answered from the cache
+     */
+    public long getHitCount() {
+        return requestCount - getMissCount();
+    }
+
+    /**
+     * @return the number of requested values which were calculated
+     */
+    public long getMissCount() {
+        return calculationCount + lastBarCalculationCount + removedBarCalculationCount;
+    }
+
+    /**
+     * @return the number of calculations of values which were not cached
+     */
+    public long getCalculationCount() {
+        return calculationCount;
+    }
+
+    /**
+     * @return the number of calculations of the last bar value, after a
+     *         modification of the series
+     */
+    public long getLastBarCalculationCount() {
+        return lastBarCalculationCount;
+    }
+
+    /**
+     * @return the number of calculations of removed bar values
+     */
+    public long getRemovedBarCalculationCount() {
+        return removedBarCalculationCount;
+    }
+
+    /**
+     * @return the self time of the calculations, in nanoseconds
+     */
+    public long getCalculationNanos() {
+        return calculationNanos;
+    }
+
+    /**
+     * Resets the metrics.
+     */
+    public void reset() {
+        requestCount = 0;
+        calculationCount = 0;
+        lastBarCalculationCount = 0;
+        removedBarCalculationCount = 0;
+        calculationNanos = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d hits=%d calculations=%d lastBar=%d removedBar=%d time=%.3fms", requestCount,
+                getHitCount(), calculationCount, lastBarCalculationCount, removedBarCalculationCount,
+                calculationNanos / 1e6);
+    }
+
+    /**
+     * Enables the metrics of an indicator and of all its sub-indicators.
+     *
+     * @param indicator the indicator
+     */
+    public static void enable(Indicator<?> indicator) {
+        setEnabled(indicator, true);
+    }
+
+    /**
+     * Disables the metrics of an indicator and of all its sub-indicators.
+     *
+     * @param indicator the indicator
+     */
+    public static void disable(Indicator<?> indicator) {
+        setEnabled(indicator, false);
+    }
+
+    private static void setEnabled(Indicator<?> indicator, boolean enabled) {
+        Set<Indicator<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        setEnabled(indicator, enabled, visited);
+    }
+
+    private static void setEnabled(Indicator<?> indicator, boolean enabled, Set<Indicator<?>> visited) {
+        if (!visited.add(indicator)) {
+            return;
+        }
+        if (indicator instanceof CachedIndicator) {
+            ((CachedIndicator<?>) indicator).setMetricsEnabled(enabled);
+        }
+        for (Indicator<?> subIndicator : indicator.getInputs()) {
+            setEnabled(subIndicator, enabled, visited);
+        }
+    }
+
+    /**
+     * Returns the metrics of an indicator and of its sub-indicators, following the
+     * indicator dependency graph. A sub-indicator shared by several indicators
+     * appears under each of them.
+     *
+     * @param indicator the indicator
+     * @return the root node of the metrics tree
+     */
+    public static Node tree(Indicator<?> indicator) {
+        return tree(indicator, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static Node tree(Indicator<?> indicator, Set<Indicator<?>> path) {
+        List<Node> children = new ArrayList<>();
+        path.add(indicator);
+        for (Indicator<?> subIndicator : indicator.getInputs()) {
+            if (!path.contains(subIndicator)) {
+                children.add(tree(subIndicator, path));
+            }
+        }
+        path.remove(indicator);
+        return new Node(indicator, children);
+    }
+
+    /**
+     * A node of a metrics tree.
+     */
+    public static final class Node {
+
+        private final Indicator<?> indicator;
+        private final List<Node> children;
+
+        private Node(Indicator<?> indicator, List<Node> children) {
+            this.indicator = indicator;
+            this.children = Collections.unmodifiableList(children);
+        }
+
+        /**
+         * @return the indicator
+         */
+        public Indicator<?> getIndicator() {
+            return indicator;
+        }
+
+        /**
+         * @return the metrics of the indicator, or null if it records no metrics
+         */
+        public IndicatorMetrics getMetrics() {
+            return indicator instanceof CachedIndicator ? ((CachedIndicator<?>) indicator).getMetrics() : null;
+        }
+
+        /**
+         * @return the number of cached results of the indicator, or 0 if it has no
+         *         cache
+         */
+        public int getCacheSize() {
+            return indicator instanceof CachedIndicator ? ((CachedIndicator<?>) indicator).getCacheSize() : 0;
+        }
+
+        /**
+         * @return the nodes of the sub-indicators
+         */
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        /**
+         * @return the self time of the calculations of this node and of all its
+         *         descendants, in nanoseconds, counting a shared indicator once
+         */
+        public long getTotalCalculationNanos() {
+            Set<Indicator<?>> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+            return getTotalCalculationNanos(counted);
+        }
+
+        private long getTotalCalculationNanos(Set<Indicator<?>> counted) {
+            IndicatorMetrics metrics = getMetrics();
+            long nanos = metrics == null || !counted.add(indicator) ? 0 : metrics.getCalculationNanos();
+            for (Node child : children) {
+                nanos += child.getTotalCalculationNanos(counted);
+            }
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            append(builder, 0);
+            return builder.toString();
+        }
+
+        private void append(StringBuilder builder, int depth) {
+            for (int i = 0; i < depth; i++) {
+                builder.append("  ");
+            }
+            builder.append(indicator);
+            IndicatorMetrics metrics = getMetrics();
+            if (metrics != null) {
+                builder.append(" [").append(metrics).append(" cache=").append(getCacheSize()).append(']');
+            }
+            builder.append(System.lineSeparator());
+            for (Node child : children) {
+                child.append(builder, depth + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+
+/**
+ * Fills the caches of indicators and of their sub-indicators in bulk.
+ *
+ * The indicators are computed in dependency order, each of them in a forward
+ * loop over the bar indexes, so that every calculation finds the values it
+ * needs already cached instead of recursing into the uncached ones.
+ *
+ * The independent branches of the dependency graph, i.e. the groups of cached
+ * indicators sharing no cached indicator, can be computed in parallel on a
+ * {@link ForkJoinPool}. The indicators which are not {@link CachedIndicator
+ * cached} are considered stateless and may be shared by several branches. As
+ * the branches are found from the {@link Indicator#getInputs() inputs} of the
+ * indicators, they are only computed in parallel on a pool given by the caller,
+ * or if the series of the indicators support concurrent access (see
+ * {@link BarSeries#getReadWriteLock()}); they are computed in the calling
+ * thread otherwise.
+ */
+public final class IndicatorPrecomputer {
+
+    private IndicatorPrecomputer() {
+    }
+
+    /**
+     * Precomputes indicators on the common {@link ForkJoinPool} if their series
+     * support concurrent access, in the calling thread otherwise.
+     *
+     * @param indicators the indicators
+     * @param from       the first bar index (included)
+     * @param to         the last bar index (included)
+     * @see #precompute(Collection, int, int, ForkJoinPool)
+     */
+    public static void precompute(Collection<? extends Indicator<?>> indicators, int from, int to) {
+        precompute(plan(indicators), from, to);
+    }
+
+    /**
+     * Precomputes indicators and all their sub-indicators from a bar index to
+     * another one.
+     *
+     * @param indicators the indicators
+     * @param from       the first bar index (included)
+     * @param to         the last bar index (included)
+     * @param pool       the pool computing the independent branches in parallel, or
+     *                   null to compute them in the calling thread
+     */
+    public static void precompute(Collection<? extends Indicator<?>> indicators, int from, int to, ForkJoinPool pool) {
+        precompute(plan(indicators), from, to, pool);
+    }
+
+    /**
+     * Walks the dependency graph of indicators once, for several precomputations
+     * (e.g. the runs of a strategy).
+     *
+     * @param indicators the indicators
+     * @return the plan of the precomputation of the indicators and all their
+     *         sub-indicators
+     */
+    public static Plan plan(Collection<? extends Indicator<?>> indicators) {
+        return new Plan(getIndependentBranches(IndicatorDependencies.inDependencyOrder(indicators)));
+    }
+
+    /**
+     * Precomputes the indicators of a plan on the common {@link ForkJoinPool} if
+     * their series support concurrent access, in the calling thread otherwise.
+     *
+     * @param plan the plan, see {@link #plan(Collection)}
+     * @param from the first bar index (included)
+     * @param to   the last bar index (included)
+     */
+    public static void precompute(Plan plan, int from, int to) {
+        precompute(plan, from, to, plan.hasConcurrentSeries() ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Precomputes the indicators of a plan from a bar index to another one.
+     *
+     * @param plan the plan, see {@link #plan(Collection)}
+     * @param from the first bar index (included)
+     * @param to   the last bar index (included)
+     * @param pool the pool computing the independent branches in parallel, or null
+     *             to compute them in the calling thread
+     */
+    public static void precompute(Plan plan, int from, int to, ForkJoinPool pool) {
+        List<List<CachedIndicator<?>>> branches = plan.branches;
+        if (pool == null || branches.size() < 2) {
+            for (List<CachedIndicator<?>> branch : branches) {
+                precompute(branch, from, to);
+            }
+            return;
+        }
+        pool.invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                List<RecursiveAction> tasks = new ArrayList<>(branches.size());
+                for (List<CachedIndicator<?>> branch : branches) {
+                    tasks.add(new RecursiveAction() {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected void compute() {
+                            precompute(branch, from, to);
+                        }
+                    });
+                }
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * The cached indicators of a dependency graph, split into independent branches
+     * in dependency order.
+     */
+    public static final class Plan {
+
+        private final List<List<CachedIndicator<?>>> branches;
+
+        private Plan(List<List<CachedIndicator<?>>> branches) {
+            this.branches = branches;
+        }
+
+        /**
+         * @return the number of branches computed in parallel
+         */
+        public int getBranchCount() {
+            return branches.size();
+        }
+
+        /**
+         * @return true if the series of all the indicators support concurrent access
+         */
+        private boolean hasConcurrentSeries() {
+            for (List<CachedIndicator<?>> branch : branches) {
+                for (CachedIndicator<?> indicator : branch) {
+                    BarSeries series = indicator.getBarSeries();
+                    if (series == null || series.getReadWriteLock() == null) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Fills the caches of cached indicators in the given order.
+     *
+     * @param indicators the indicators, each one after its sub-indicators
+     * @param from       the first bar index (included)
+     * @param to         the last bar index (included)
+     */
+    private static void precompute(List<CachedIndicator<?>> indicators, int from, int to) {
+        for (CachedIndicator<?> indicator : indicators) {
+            BarSeries series = indicator.getBarSeries();
+            if (series == null || series.isEmpty()) {
+                continue;
+            }
+            int begin = Math.max(from, Math.max(series.getBeginIndex(), series.getRemovedBarsCount()));
+            int end = Math.min(to, series.getEndIndex());
+            boolean doubleValues = indicator instanceof CachedDoubleIndicator
+                    && DoubleIndicator.hasDoubleValues(indicator);
+            for (int i = begin; i <= end; i++) {
+                if (doubleValues) {
+                    indicator.getCachedDouble(i);
+                } else {
+                    indicator.getValue(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the cached indicators into the groups sharing no cached indicator.
+     *
+     * @param indicators the indicators, each one after its sub-indicators
+     * @return the cached indicators of each group, in the same order
+     */
+    static List<List<CachedIndicator<?>>> getIndependentBranches(List<Indicator<?>> indicators) {
+        Map<Indicator<?>, Indicator<?>> parents = new IdentityHashMap<>();
+        Map<Indicator<?>, Boolean> stateful = new IdentityHashMap<>();
+        for (Indicator<?> indicator : indicators) {
+            // the sub-indicators come first: their state is already known
+            boolean hasState = indicator instanceof CachedIndicator;
+            for (Indicator<?> subIndicator : indicator.getInputs()) {
+                if (stateful.getOrDefault(subIndicator, Boolean.FALSE)) {
+                    hasState = true;
+                    union(parents, indicator, subIndicator);
+                }
+            }
+            stateful.put(indicator, hasState);
+        }
+        Map<Indicator<?>, List<CachedIndicator<?>>> branchesByRoot = new IdentityHashMap<>();
+        List<List<CachedIndicator<?>>> branches = new ArrayList<>();
+        for (Indicator<?> indicator : indicators) {
+            if (indicator instanceof CachedIndicator) {
+                List<CachedIndicator<?>> branch = branchesByRoot.get(find(parents, indicator));
+                if (branch == null) {
+                    branch = new ArrayList<>();
+                    branchesByRoot.put(find(parents, indicator), branch);
+                    branches.add(branch);
+                }
+                branch.add((CachedIndicator<?>) indicator);
+            }
+        }
+        return branches;
+    }
+
+    private static Indicator<?> find(Map<Indicator<?>, Indicator<?>> parents, Indicator<?> indicator) {
+        Indicator<?> root = indicator;
+        for (Indicator<?> parent = parents.get(root); parent != null; parent = parents.get(root)) {
+            root = parent;
+        }
+        if (root != indicator) {
+            parents.put(indicator, root);
+        }
+        return root;
+    }
+
+    private static void union(Map<Indicator<?>, Indicator<?>> parents, Indicator<?> indicator,
+            Indicator<?> otherIndicator) {
+        Indicator<?> root = find(parents, indicator);
+        Indicator<?> otherRoot = find(parents, otherIndicator);
+        if (root != otherRoot) {
+            parents.put(root, otherRoot);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+
+/**
+ * Registry sharing the {@link Indicator indicators} of a {@link BarSeries bar
+ * series}.
+ *
+ * An indicator is identified by its type and the arguments it is created with
+ * (its input indicators, compared by identity, and its parameters, compared by
+ * {@code equals}). The first request creates the indicator, the following ones
+ * return the same instance, so that its cached results are computed once for
+ * all the strategies and indicators using it.
+ *
+ * The registry is opt-in: it is used by the indicators creating their
+ * sub-indicators with {@link #shared(BarSeries, Class, Supplier, Object...)}
+ * only once it is set with {@link BarSeries#setIndicatorRegistry}. It keeps its
+ * indicators as long as it is referenced by the series.
+ */
+public class IndicatorRegistry {
+
+    private final Map<List<Object>, Indicator<?>> indicators = new HashMap<>();
+
+    /**
+     * Returns the registered indicator of the given type and arguments, or
+     * registers a new one created by the constructor.
+     *
+     * @param type        the type of the indicator
+     * @param constructor the constructor of the indicator, called if it is not
+     *                    registered yet
+     * @param arguments   the input indicators and parameters of the indicator
+     * @param <I>         the type of the indicator
+     * @return the registered indicator
+     */
+    public synchronized <I extends Indicator<?>> I get(Class<I> type, Supplier<? extends I> constructor,
+            Object... arguments) {
+        List<Object> key = new ArrayList<>(arguments.length + 1);
+        key.add(type);
+        key.addAll(Arrays.asList(arguments));
+        Indicator<?> indicator = indicators.get(key);
+        if (indicator == null) {
+            // not using computeIfAbsent: the constructor may register its own
+            // sub-indicators
+            indicator = constructor.get();
+            indicators.put(key, indicator);
+        }
+        return type.cast(indicator);
+    }
+
+    /**
+     * @return the number of registered indicators
+     */
+    public synchronized int size() {
+        return indicators.size();
+    }
+
+    /**
+     * Returns the indicator of the given type and arguments shared by the registry
+     * of the bar series, or a new one if the series has no registry.
+     *
+     * @param series      the bar series
+     * @param type        the type of the indicator
+     * @param constructor the constructor of the indicator
+     * @param arguments   the input indicators and parameters of the indicator
+     * @param <I>         the type of the indicator
+     * @return the shared or new indicator
+     * @see #get(Class, Supplier, Object...)
+     */
+    public static <I extends Indicator<?>> I shared(BarSeries series, Class<I> type, Supplier<? extends I> constructor,
+            Object... arguments) {
+        IndicatorRegistry registry = series == null ? null : series.getIndicatorRegistry();
+        return registry == null ? constructor.get() : registry.get(type, constructor, arguments);
+    }
+}
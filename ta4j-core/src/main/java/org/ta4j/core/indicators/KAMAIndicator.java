@@ -23,8 +23,12 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumAccumulator;
 
 /**
  * The Kaufman's Adaptive Moving Average (KAMA) Indicator.
@@ -56,8 +60,8 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Num> {
         super(price);
         this.price = price;
         this.barCountEffectiveRatio = barCountEffectiveRatio;
-        fastest = numOf(2).dividedBy(numOf(barCountFast + 1));
-        slowest = numOf(2).dividedBy(numOf(barCountSlow + 1));
+        fastest = numFactory().two().dividedBy(numOf(barCountFast + 1));
+        slowest = numFactory().two().dividedBy(numOf(barCountSlow + 1));
     }
 
     /**
@@ -86,11 +90,11 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Num> {
          */
         int startChangeIndex = Math.max(0, index - barCountEffectiveRatio);
         Num change = currentPrice.minus(price.getValue(startChangeIndex)).abs();
-        Num volatility = numOf(0);
+        NumAccumulator volatility = numFactory().newAccumulator();
         for (int i = startChangeIndex; i < index; i++) {
-            volatility = volatility.plus(price.getValue(i + 1).minus(price.getValue(i)).abs());
+            volatility.addAbsoluteDifference(price.getValue(i + 1), price.getValue(i));
         }
-        Num er = change.dividedBy(volatility);
+        Num er = change.dividedBy(volatility.toNum());
         /*
          * Smoothing Constant (SC) SC = [ER x (fastest SC - slowest SC) + slowest SC]2
          * SC = [ER x (2/(2+1) - 2/(30+1)) + 2/(30+1)]2
@@ -103,4 +107,8 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Num> {
         return priorKAMA.plus(sc.multipliedBy(currentPrice.minus(priorKAMA)));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(price);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -83,8 +86,8 @@ public class KSTIndicator extends CachedIndicator<Num> {
 
     @Override
     protected Num calculate(int index) {
-        Num RCMA1Multiplier = numOf(1);
-        Num RCMA2Multiplier = numOf(2);
+        Num RCMA1Multiplier = numFactory().one();
+        Num RCMA2Multiplier = numFactory().two();
         Num RCMA3Multiplier = numOf(3);
         Num RCMA4Multiplier = numOf(4);
 
@@ -93,4 +96,9 @@ public class KSTIndicator extends CachedIndicator<Num> {
                 .plus(RCMA3.getValue(index).multipliedBy(RCMA3Multiplier))
                 .plus(RCMA4.getValue(index).multipliedBy(RCMA4Multiplier)));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(RCMA1, RCMA2, RCMA3, RCMA4);
+    }
 }
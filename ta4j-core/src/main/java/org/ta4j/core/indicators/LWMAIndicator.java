@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -37,7 +40,7 @@ public class LWMAIndicator extends CachedIndicator<Num> {
 
     private final Indicator<Num> indicator;
     private final int barCount;
-    private final Num zero = numOf(0);
+    private final Num zero = numFactory().zero();
 
     public LWMAIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
@@ -64,6 +67,11 @@ public class LWMAIndicator extends CachedIndicator<Num> {
         return sum.dividedBy(denominator);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -60,8 +63,10 @@ public class MACDIndicator extends CachedIndicator<Num> {
         if (shortBarCount > longBarCount) {
             throw new IllegalArgumentException("Long term period count must be greater than short term period count");
         }
-        shortTermEma = new EMAIndicator(indicator, shortBarCount);
-        longTermEma = new EMAIndicator(indicator, longBarCount);
+        shortTermEma = IndicatorRegistry.shared(getBarSeries(), EMAIndicator.class,
+                () -> new EMAIndicator(indicator, shortBarCount), indicator, shortBarCount);
+        longTermEma = IndicatorRegistry.shared(getBarSeries(), EMAIndicator.class,
+                () -> new EMAIndicator(indicator, longBarCount), indicator, longBarCount);
     }
 
     /**
@@ -86,4 +91,9 @@ public class MACDIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return shortTermEma.getValue(index).minus(longTermEma.getValue(index));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(shortTermEma, longTermEma);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.CombineIndicator;
@@ -62,11 +65,16 @@ public class MassIndexIndicator extends CachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         final int startIndex = Math.max(0, index - barCount + 1);
-        Num massIndex = numOf(0);
+        Num massIndex = numFactory().zero();
         for (int i = startIndex; i <= index; i++) {
             Num emaRatio = singleEma.getValue(i).dividedBy(doubleEma.getValue(i));
             massIndex = massIndex.plus(emaRatio);
         }
         return massIndex;
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(singleEma, doubleEma);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -59,14 +62,21 @@ public class PPOIndicator extends CachedIndicator<Num> {
         if (shortBarCount > longBarCount) {
             throw new IllegalArgumentException("Long term period count must be greater than short term period count");
         }
-        this.shortTermEma = new EMAIndicator(indicator, shortBarCount);
-        this.longTermEma = new EMAIndicator(indicator, longBarCount);
+        this.shortTermEma = IndicatorRegistry.shared(getBarSeries(), EMAIndicator.class,
+                () -> new EMAIndicator(indicator, shortBarCount), indicator, shortBarCount);
+        this.longTermEma = IndicatorRegistry.shared(getBarSeries(), EMAIndicator.class,
+                () -> new EMAIndicator(indicator, longBarCount), indicator, longBarCount);
     }
 
     @Override
     protected Num calculate(int index) {
         Num shortEmaValue = shortTermEma.getValue(index);
         Num longEmaValue = longTermEma.getValue(index);
-        return shortEmaValue.minus(longEmaValue).dividedBy(longEmaValue).multipliedBy(numOf(100));
+        return shortEmaValue.minus(longEmaValue).dividedBy(longEmaValue).multipliedBy(numFactory().hundred());
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(shortTermEma, longTermEma);
     }
 }
@@ -25,7 +25,11 @@ package org.ta4j.core.indicators;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
@@ -182,4 +186,9 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Num> {
             accelerationFactor = accelerationFactor.plus(accelerationIncrement);
         }
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(lowPriceIndicator, highPriceIndicator);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+/**
+ * Cache of primitive results, indexed by bar index. A result is stored as a
+ * {@code long}, either the bits of a {@code double} or e.g. the unscaled value
+ * of a {@link org.ta4j.core.num.FixedPointNum FixedPointNum}, i.e. 8 bytes and
+ * a bit per result instead of an object and its reference.
+ *
+ * The results are stored in a circular array holding at most
+ * {@code maximumCapacity} consecutive indexes (the ones up to the highest
+ * stored index) and a bitmap tells which of them have been calculated, so that
+ * NaN results can be cached as well.
+ */
+final class PrimitiveCache {
+
+    /** The maximum number of results to keep */
+    private final int maximumCapacity;
+
+    /** The results, the result of index i is stored at i % values.length */
+    private long[] values = new long[0];
+
+    /** One bit per slot of {@link #values}, set if the slot holds a result */
+    private long[] validity = new long[0];
+
+    /** The highest stored index */
+    private int highestIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumCapacity the maximum number of results to keep
+     */
+    PrimitiveCache(int maximumCapacity) {
+        this.maximumCapacity = Math.max(1, maximumCapacity);
+    }
+
+    /**
+     * @return the highest stored index, or -1 if the cache is empty
+     */
+    int getHighestIndex() {
+        return highestIndex;
+    }
+
+    /**
+     * @return the number of cached results
+     */
+    int size() {
+        int size = 0;
+        for (long bits : validity) {
+            size += Long.bitCount(bits);
+        }
+        return size;
+    }
+
+    /**
+     * @param index the bar index
+     * @return true if the result of the index is cached
+     */
+    boolean contains(int index) {
+        return index >= 0 && index <= highestIndex && index > highestIndex - values.length
+                && isValid(index % values.length);
+    }
+
+    /**
+     * @param index the bar index, which must be {@link #contains(int) contained}
+     * @return the cached result
+     */
+    long getLong(int index) {
+        return values[index % values.length];
+    }
+
+    /**
+     * @param index the bar index, which must be {@link #contains(int) contained}
+     * @return the cached result, stored by {@link #putDouble(int, double)}
+     */
+    double getDouble(int index) {
+        return Double.longBitsToDouble(getLong(index));
+    }
+
+    /**
+     * Stores a {@code double} result, see {@link #putLong(int, long)}.
+     *
+     * @param index the bar index
+     * @param value the result
+     */
+    void putDouble(int index, double value) {
+        putLong(index, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Stores a result. Results older than the maximum capacity are dropped.
+     *
+     * @param index the bar index
+     * @param value the result
+     */
+    void putLong(int index, long value) {
+        if (index > highestIndex) {
+            int requiredCapacity = (int) Math.min(index + 1L, maximumCapacity);
+            if (requiredCapacity > values.length) {
+                grow(requiredCapacity);
+            }
+            // Invalidating the slots of the dropped results
+            int capacity = values.length;
+            for (int i = Math.max(highestIndex + 1, index - capacity + 1); i <= index; i++) {
+                int slot = i % capacity;
+                validity[slot >>> 6] &= ~(1L << slot);
+            }
+            highestIndex = index;
+        } else if (index <= highestIndex - values.length || index < 0) {
+            // Too old to be kept
+            return;
+        }
+        int slot = index % values.length;
+        values[slot] = value;
+        validity[slot >>> 6] |= 1L << slot;
+    }
+
+    private boolean isValid(int slot) {
+        return (validity[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    private void grow(int minCapacity) {
+        int oldCapacity = values.length;
+        int newCapacity = Math.min(Math.max(minCapacity, oldCapacity + (oldCapacity >> 1)), maximumCapacity);
+        long[] newValues = new long[newCapacity];
+        long[] newValidity = new long[(newCapacity + 63) >>> 6];
+        for (int i = Math.max(0, highestIndex - oldCapacity + 1); i <= highestIndex; i++) {
+            int slot = i % oldCapacity;
+            if (isValid(slot)) {
+                int newSlot = i % newCapacity;
+                newValues[newSlot] = values[slot];
+                newValidity[newSlot >>> 6] |= 1L << newSlot;
+            }
+        }
+        values = newValues;
+        validity = newValidity;
+    }
+}
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -53,6 +56,11 @@ public class RAVIIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         Num shortMA = shortSma.getValue(index);
         Num longMA = longSma.getValue(index);
-        return shortMA.minus(longMA).dividedBy(longMA).multipliedBy(numOf(100));
+        return shortMA.minus(longMA).dividedBy(longMA).multipliedBy(numFactory().hundred());
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(shortSma, longSma);
     }
 }
@@ -23,9 +23,14 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.GainIndicator;
 import org.ta4j.core.indicators.helpers.LossIndicator;
+import org.ta4j.core.num.DoubleNumMath;
 import org.ta4j.core.num.Num;
 
 /**
@@ -33,15 +38,22 @@ import org.ta4j.core.num.Num;
  *
  * Computed using original Welles Wilder formula.
  */
-public class RSIIndicator extends CachedIndicator<Num> {
+public class RSIIndicator extends CachedDoubleIndicator {
 
     private final MMAIndicator averageGainIndicator;
     private final MMAIndicator averageLossIndicator;
 
     public RSIIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
-        this.averageGainIndicator = new MMAIndicator(new GainIndicator(indicator), barCount);
-        this.averageLossIndicator = new MMAIndicator(new LossIndicator(indicator), barCount);
+        BarSeries series = indicator.getBarSeries();
+        GainIndicator gainIndicator = IndicatorRegistry.shared(series, GainIndicator.class,
+                () -> new GainIndicator(indicator), indicator);
+        LossIndicator lossIndicator = IndicatorRegistry.shared(series, LossIndicator.class,
+                () -> new LossIndicator(indicator), indicator);
+        this.averageGainIndicator = IndicatorRegistry.shared(series, MMAIndicator.class,
+                () -> new MMAIndicator(gainIndicator, barCount), gainIndicator, barCount);
+        this.averageLossIndicator = IndicatorRegistry.shared(series, MMAIndicator.class,
+                () -> new MMAIndicator(lossIndicator, barCount), lossIndicator, barCount);
     }
 
     @Override
@@ -51,13 +63,36 @@ public class RSIIndicator extends CachedIndicator<Num> {
         Num averageLoss = averageLossIndicator.getValue(index);
         if (averageLoss.isZero()) {
             if (averageGain.isZero()) {
-                return numOf(0);
+                return numFactory().zero();
             } else {
-                return numOf(100);
+                return numFactory().hundred();
             }
         }
         Num relativeStrength = averageGain.dividedBy(averageLoss);
         // compute relative strength index
-        return numOf(100).minus(numOf(100).dividedBy(numOf(1).plus(relativeStrength)));
+        return numFactory().hundred()
+                .minus(numFactory().hundred().dividedBy(numFactory().one().plus(relativeStrength)));
+    }
+
+    @Override
+    protected double calculateDouble(int index) {
+        // compute relative strength
+        double averageGain = averageGainIndicator.getDouble(index);
+        double averageLoss = averageLossIndicator.getDouble(index);
+        if (averageLoss == 0) {
+            if (averageGain == 0) {
+                return 0;
+            } else {
+                return 100;
+            }
+        }
+        double relativeStrength = DoubleNumMath.dividedBy(averageGain, averageLoss);
+        // compute relative strength index
+        return 100 - DoubleNumMath.dividedBy(100, 1 + relativeStrength);
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(averageGainIndicator, averageLossIndicator);
     }
 }
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
 
@@ -55,7 +59,7 @@ public class RWIHighIndicator extends CachedIndicator<Num> {
             return NaN.NaN;
         }
 
-        Num maxRWIH = numOf(0);
+        Num maxRWIH = numFactory().zero();
         for (int n = 2; n <= barCount; n++) {
             maxRWIH = maxRWIH.max(calcRWIHFor(index, n));
         }
@@ -73,6 +77,11 @@ public class RWIHighIndicator extends CachedIndicator<Num> {
         return high.minus(lowN).dividedBy(atrN.multipliedBy(sqrtN));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
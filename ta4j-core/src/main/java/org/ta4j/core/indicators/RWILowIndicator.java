@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
 
@@ -55,7 +59,7 @@ public class RWILowIndicator extends CachedIndicator<Num> {
             return NaN.NaN;
         }
 
-        Num minRWIL = numOf(0);
+        Num minRWIL = numFactory().zero();
         for (int n = 2; n <= barCount; n++) {
             minRWIL = minRWIL.max(calcRWIHFor(index, n));
         }
@@ -73,6 +77,11 @@ public class RWILowIndicator extends CachedIndicator<Num> {
         return highN.minus(low).dividedBy(atrN.multipliedBy(sqrtN));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
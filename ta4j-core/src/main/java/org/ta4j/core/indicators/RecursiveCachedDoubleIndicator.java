@@ -0,0 +1,74 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Recursive {@link CachedDoubleIndicator}.
+ *
+ * Like {@link RecursiveCachedIndicator}, the values preceding an index are
+ * calculated iteratively if too many of them are not calculated yet, both for
+ * {@link #getValue(int)} and {@link #getDouble(int)}.
+ */
+public abstract class RecursiveCachedDoubleIndicator extends CachedDoubleIndicator {
+
+    /**
+     * Constructor.
+     *
+     * @param series the related bar series
+     */
+    protected RecursiveCachedDoubleIndicator(BarSeries series) {
+        super(series);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator a related indicator (with a bar series)
+     */
+    protected RecursiveCachedDoubleIndicator(Indicator<?> indicator) {
+        this(indicator.getBarSeries());
+    }
+
+    @Override
+    protected Num getValueFromCache(int index) {
+        int firstIndex = RecursiveCachedIndicator.firstIterativeIndex(getBarSeries(), index, highestResultIndex);
+        for (int prevIdx = firstIndex; prevIdx < index; prevIdx++) {
+            super.getValueFromCache(prevIdx);
+        }
+        return super.getValueFromCache(index);
+    }
+
+    @Override
+    double getDoubleFromCache(int index) {
+        int firstIndex = RecursiveCachedIndicator.firstIterativeIndex(getBarSeries(), index, getHighestDoubleIndex());
+        for (int prevIdx = firstIndex; prevIdx < index; prevIdx++) {
+            super.getDoubleFromCache(prevIdx);
+        }
+        return super.getDoubleFromCache(index);
+    }
+}
@@ -63,24 +63,32 @@ public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
     }
 
     @Override
-    public T getValue(int index) {
-        BarSeries series = getBarSeries();
-        if (series != null) {
-            final int seriesEndIndex = series.getEndIndex();
-            if (index <= seriesEndIndex) {
-                // We are not after the end of the series
-                final int removedBarsCount = series.getRemovedBarsCount();
-                int startIndex = Math.max(removedBarsCount, highestResultIndex);
-                if (index - startIndex > RECURSION_THRESHOLD) {
-                    // Too many uncalculated values; the risk for a StackOverflowError becomes high.
-                    // Calculating the previous values iteratively
-                    for (int prevIdx = startIndex; prevIdx < index; prevIdx++) {
-                        super.getValue(prevIdx);
-                    }
-                }
-            }
+    protected T getValueFromCache(int index) {
+        int firstIndex = firstIterativeIndex(getBarSeries(), index, highestResultIndex);
+        for (int prevIdx = firstIndex; prevIdx < index; prevIdx++) {
+            super.getValueFromCache(prevIdx);
         }
+        return super.getValueFromCache(index);
+    }
 
-        return super.getValue(index);
+    /**
+     * Returns the first of the values preceding an index to calculate iteratively.
+     * They are calculated if there are too many uncalculated values, i.e. if the
+     * risk for a StackOverflowError becomes high.
+     *
+     * @param series       the bar series
+     * @param index        the bar index
+     * @param highestIndex the highest index of the calculated values
+     * @return the first index to calculate iteratively, or {@code index} if none
+     */
+    static int firstIterativeIndex(BarSeries series, int index, int highestIndex) {
+        if (series != null && index <= series.getEndIndex()) {
+            // We are not after the end of the series
+            int startIndex = Math.max(series.getRemovedBarsCount(), highestIndex);
+            if (index - startIndex > RECURSION_THRESHOLD) {
+                return startIndex;
+            }
+        }
+        return index;
     }
 }
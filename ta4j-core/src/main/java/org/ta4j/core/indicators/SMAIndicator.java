@@ -23,36 +23,311 @@
  */
 package org.ta4j.core.indicators;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleNumMath;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumAccumulator;
 
 /**
  * Simple moving average (SMA) indicator.
  *
+ * The sum of the window is updated from the previous one (adding the new value
+ * and subtracting the one leaving the window) instead of being summed again,
+ * see {@link SlidingWindowState}. The window is summed directly if the update
+ * gives {@link Num#isNaN() NaN} (e.g. once a NaN value has been in the window)
+ * or if the updates would use removed bars.
+ *
+ * The updated sum is the summed window for
+ * {@link org.ta4j.core.num.FixedPointNum FixedPointNum}. For
+ * {@link DecimalNum}, the sum is updated exactly and only used while no partial
+ * sum of the window needs more digits than the precision, i.e. while summing
+ * the window would not round: the results are the same as summing the window,
+ * and the window is summed again otherwise (e.g. for values with all the digits
+ * of the precision). For {@link org.ta4j.core.num.DoubleNum DoubleNum}, the
+ * rounding errors of the additions and subtractions accumulate over at most
+ * {@code barCount} updates: the sum differs from the summed window by at most
+ * about {@code 2 * barCount} units in the last place of the largest sum (e.g.
+ * {@code 1e-8} for a 200 bars sum of prices around 1000, i.e. {@code 6e-11} on
+ * the average), and typically by much less as the errors tend to cancel out.
+ *
  * @see <a href=
  *      "https://www.investopedia.com/terms/s/sma.asp">https://www.investopedia.com/terms/s/sma.asp</a>
  */
-public class SMAIndicator extends CachedIndicator<Num> {
+public class SMAIndicator extends CachedDoubleIndicator {
 
     private final Indicator<Num> indicator;
 
     private final int barCount;
 
+    /** The sum of the window, for {@link #calculate(int)} */
+    private final WindowSum sum;
+
+    /** The exact sum of the window, for {@link #calculate(int)} on DecimalNum */
+    private final DecimalWindowSum decimalSum;
+
+    /** The sum of the window, for {@link #calculateDouble(int)} */
+    private final DoubleWindowSum doubleSum;
+
     public SMAIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
         this.indicator = indicator;
         this.barCount = barCount;
+        Num zero = numFactory().zero();
+        this.sum = zero instanceof DecimalNum ? null : new WindowSum();
+        this.decimalSum = zero instanceof DecimalNum ? new DecimalWindowSum(((DecimalNum) zero).getMathContext())
+                : null;
+        this.doubleSum = new DoubleWindowSum();
     }
 
     @Override
     protected Num calculate(int index) {
-        Num sum = numOf(0);
+        Num windowSum = null;
+        if (decimalSum != null) {
+            if (decimalSum.moveTo(index)) {
+                windowSum = decimalSum.toNum();
+            }
+        } else if (sum.moveTo(index) && !sum.value.isNaN()) {
+            windowSum = sum.value;
+        }
+        if (windowSum == null) {
+            windowSum = sumWindow(index);
+        }
+
+        final int realBarCount = Math.min(barCount, index + 1);
+        return windowSum.dividedBy(numOf(realBarCount));
+    }
+
+    private Num sumWindow(int index) {
+        NumAccumulator windowSum = numFactory().newAccumulator();
         for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
-            sum = sum.plus(indicator.getValue(i));
+            windowSum.add(indicator.getValue(i));
+        }
+        return windowSum.toNum();
+    }
+
+    @Override
+    protected double calculateDouble(int index) {
+        double windowSum = Double.NaN;
+        if (doubleSum.moveTo(index)) {
+            windowSum = doubleSum.value;
+        }
+        if (Double.isNaN(windowSum)) {
+            windowSum = sumDoubleWindow(index);
         }
 
         final int realBarCount = Math.min(barCount, index + 1);
-        return sum.dividedBy(numOf(realBarCount));
+        return DoubleNumMath.dividedBy(windowSum, realBarCount);
+    }
+
+    private double sumDoubleWindow(int index) {
+        double windowSum = 0;
+        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+            windowSum += DoubleIndicator.doubleValue(indicator, i);
+        }
+        return windowSum;
+    }
+
+    /** The sum of the window as {@link Num} */
+    private final class WindowSum extends SlidingWindowState {
+
+        private Num value;
+        private Num savedValue;
+
+        private WindowSum() {
+            super(getBarSeries(), barCount);
+        }
+
+        @Override
+        protected void reset(int index) {
+            value = sumWindow(index);
+        }
+
+        @Override
+        protected void update(int index) {
+            value = value.plus(indicator.getValue(index));
+            if (index >= barCount) {
+                value = value.minus(indicator.getValue(index - barCount));
+            }
+        }
+
+        @Override
+        protected void save() {
+            savedValue = value;
+        }
+
+        @Override
+        protected void restore() {
+            value = savedValue;
+        }
+    }
+
+    /**
+     * The exact sum of the window for {@link DecimalNum}, the rounded sum of the
+     * window as long as no partial sum needs more digits than the precision.
+     */
+    private final class DecimalWindowSum extends SlidingWindowState {
+
+        private final MathContext mathContext;
+
+        private BigDecimal value;
+        /** The sum of the absolute values, bounding the partial sums */
+        private BigDecimal absoluteValue;
+        /** The number of values of the window per scale, negative scales as 0 */
+        private int[] scaleCounts = new int[8];
+        /** The largest scale of the values of the window, at least 0 */
+        private int maxScale;
+        private boolean isNaN;
+
+        private BigDecimal savedValue;
+        private BigDecimal savedAbsoluteValue;
+        private int[] savedScaleCounts = new int[8];
+        private int savedMaxScale;
+        private boolean savedIsNaN;
+
+        private DecimalWindowSum(MathContext mathContext) {
+            super(getBarSeries(), barCount);
+            this.mathContext = mathContext;
+        }
+
+        @Override
+        protected void reset(int index) {
+            value = BigDecimal.ZERO;
+            absoluteValue = BigDecimal.ZERO;
+            Arrays.fill(scaleCounts, 0);
+            maxScale = 0;
+            isNaN = false;
+            for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+                add(i);
+            }
+        }
+
+        @Override
+        protected void update(int index) {
+            add(index);
+            if (index >= barCount) {
+                remove(index - barCount);
+            }
+        }
+
+        private void add(int index) {
+            Num num = indicator.getValue(index);
+            if (isNaN || num.isNaN()) {
+                isNaN = true;
+                return;
+            }
+            BigDecimal augend = (BigDecimal) num.getDelegate();
+            value = value.add(augend);
+            absoluteValue = absoluteValue.add(augend.abs());
+            int scale = Math.max(0, augend.scale());
+            if (scale >= scaleCounts.length) {
+                scaleCounts = Arrays.copyOf(scaleCounts, scale + 8);
+            }
+            scaleCounts[scale]++;
+            maxScale = Math.max(maxScale, scale);
+        }
+
+        private void remove(int index) {
+            if (isNaN) {
+                return;
+            }
+            BigDecimal subtrahend = (BigDecimal) indicator.getValue(index).getDelegate();
+            value = value.subtract(subtrahend);
+            absoluteValue = absoluteValue.subtract(subtrahend.abs());
+            scaleCounts[Math.max(0, subtrahend.scale())]--;
+            while (maxScale > 0 && scaleCounts[maxScale] == 0) {
+                maxScale--;
+            }
+        }
+
+        /**
+         * @return the sum of the window as summed by {@link #sumWindow(int)}, or null
+         *         if summing the window rounds
+         */
+        private Num toNum() {
+            if (isNaN) {
+                return null;
+            }
+            // Each partial sum is at most absoluteValue and has at most maxScale
+            // digits after the point, so none of them is rounded if this fits
+            int precision = mathContext.getPrecision();
+            if (precision > 0 && absoluteValue.signum() != 0
+                    && absoluteValue.precision() - absoluteValue.scale() + maxScale > precision) {
+                return null;
+            }
+            // the scale of the summed window is the largest one of its values
+            return DecimalNum.valueOf(value.setScale(maxScale), precision);
+        }
+
+        @Override
+        protected void save() {
+            savedValue = value;
+            savedAbsoluteValue = absoluteValue;
+            if (savedScaleCounts.length != scaleCounts.length) {
+                savedScaleCounts = new int[scaleCounts.length];
+            }
+            System.arraycopy(scaleCounts, 0, savedScaleCounts, 0, scaleCounts.length);
+            savedMaxScale = maxScale;
+            savedIsNaN = isNaN;
+        }
+
+        @Override
+        protected void restore() {
+            value = savedValue;
+            absoluteValue = savedAbsoluteValue;
+            if (scaleCounts.length != savedScaleCounts.length) {
+                scaleCounts = new int[savedScaleCounts.length];
+            }
+            System.arraycopy(savedScaleCounts, 0, scaleCounts, 0, savedScaleCounts.length);
+            maxScale = savedMaxScale;
+            isNaN = savedIsNaN;
+        }
+    }
+
+    /** The sum of the window as double */
+    private final class DoubleWindowSum extends SlidingWindowState {
+
+        private double value;
+        private double savedValue;
+
+        private DoubleWindowSum() {
+            super(getBarSeries(), barCount);
+        }
+
+        @Override
+        protected void reset(int index) {
+            value = sumDoubleWindow(index);
+        }
+
+        @Override
+        protected void update(int index) {
+            value += DoubleIndicator.doubleValue(indicator, index);
+            if (index >= barCount) {
+                value -= DoubleIndicator.doubleValue(indicator, index - barCount);
+            }
+        }
+
+        @Override
+        protected void save() {
+            savedValue = value;
+        }
+
+        @Override
+        protected void restore() {
+            value = savedValue;
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
     }
 
     @Override
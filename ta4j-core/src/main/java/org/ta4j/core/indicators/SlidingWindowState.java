@@ -0,0 +1,144 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.ta4j.core.BarSeries;
+
+/**
+ * The state of a moving window of {@code barCount} bars (e.g. the sum of their
+ * values), updated from the window of the previous index instead of being
+ * computed from all the bars of the window.
+ *
+ * To keep the results independent of the order of the calculations, the updates
+ * always start from the window of an anchor index, which is computed directly:
+ * the previous multiple of {@code barCount} before the index. Sequential
+ * calculations take O(1) per index, and a random access at most the time of
+ * computing a window and {@code barCount} updates.
+ *
+ * The state of the last index before the end index of the series is kept: the
+ * last bar, which may still change, is one update of it, so that each new value
+ * of the last bar (e.g. {@link BarSeries#addPrice(org.ta4j.core.num.Num)}) also
+ * takes O(1).
+ *
+ * The implementations hold the current state and a saved copy of it. The state
+ * is not used if the windows from the anchor index include removed bars (see
+ * {@link BarSeries#getMaximumBarCount()}).
+ */
+public abstract class SlidingWindowState {
+
+    private final BarSeries series;
+    private final int barCount;
+
+    /** The index of the saved state, or -1 */
+    private int savedIndex = -1;
+
+    /** The anchor index the saved state was updated from */
+    private int savedAnchorIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param series   the bar series
+     * @param barCount the number of bars of the window
+     */
+    protected SlidingWindowState(BarSeries series, int barCount) {
+        this.series = series;
+        this.barCount = barCount;
+    }
+
+    /**
+     * Makes the current state the state of the window of the index.
+     *
+     * @param index the bar index
+     * @return false if the current state could not be computed (the window must be
+     *         computed directly)
+     */
+    public boolean moveTo(int index) {
+        int anchorIndex = getAnchorIndex(index);
+        if (anchorIndex < 0) {
+            return false;
+        }
+        int stateIndex;
+        if (savedAnchorIndex == anchorIndex && savedIndex <= index) {
+            restore();
+            stateIndex = savedIndex;
+        } else {
+            reset(anchorIndex);
+            stateIndex = anchorIndex;
+        }
+        // The bars before the end index don't change anymore
+        int lastStableIndex = Math.min(index, series.getEndIndex() - 1);
+        while (stateIndex < lastStableIndex) {
+            update(++stateIndex);
+        }
+        if (stateIndex <= lastStableIndex) {
+            save();
+            savedIndex = stateIndex;
+            savedAnchorIndex = anchorIndex;
+        }
+        while (stateIndex < index) {
+            update(++stateIndex);
+        }
+        return true;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the previous multiple of the bar count before the index (0 for the
+     *         index 0), or -1 if the windows from it include removed bars
+     */
+    private int getAnchorIndex(int index) {
+        if (barCount < 1) {
+            return -1;
+        }
+        int anchorIndex = index < 1 ? 0 : index - 1 - (index - 1) % barCount;
+        int removedBarsCount = series.getRemovedBarsCount();
+        if (removedBarsCount > 0 && anchorIndex - barCount + 1 < removedBarsCount) {
+            return -1;
+        }
+        return anchorIndex;
+    }
+
+    /**
+     * Computes the current state from all the bars of the window of the index.
+     *
+     * @param index the bar index
+     */
+    protected abstract void reset(int index);
+
+    /**
+     * Updates the current state from the window of the previous index to the window
+     * of the index: the bar of the index enters the window and, if the index is at
+     * least {@code barCount}, the bar of {@code index - barCount} leaves it.
+     *
+     * @param index the bar index
+     */
+    protected abstract void update(int index);
+
+    /** Saves a copy of the current state. */
+    protected abstract void save();
+
+    /** Makes the saved copy the current state. */
+    protected abstract void restore();
+}
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -50,6 +53,11 @@ public class StochasticOscillatorDIndicator extends CachedIndicator<Num> {
         return indicator.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " " + indicator;
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
@@ -74,7 +77,12 @@ public class StochasticOscillatorKIndicator extends CachedIndicator<Num> {
         return indicator.getValue(index)
                 .minus(lowestLowPrice)
                 .dividedBy(highestHighPrice.minus(lowestLowPrice))
-                .multipliedBy(numOf(100));
+                .multipliedBy(numFactory().hundred());
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicator, highPriceIndicator, lowPriceIndicator);
     }
 
     @Override
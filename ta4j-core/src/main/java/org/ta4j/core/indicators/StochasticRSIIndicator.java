@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
@@ -81,4 +84,8 @@ public class StochasticRSIIndicator extends CachedIndicator<Num> {
         return rsi.getValue(index).minus(minRsiValue).dividedBy(maxRsi.getValue(index).minus(minRsiValue));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(rsi, minRsi, maxRsi);
+    }
 }
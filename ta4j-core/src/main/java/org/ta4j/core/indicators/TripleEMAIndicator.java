@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -66,6 +69,11 @@ public class TripleEMAIndicator extends CachedIndicator<Num> {
         return numOf(3).multipliedBy(ema.getValue(index).minus(emaEma.getValue(index))).plus(emaEmaEma.getValue(index));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(ema, emaEma, emaEmaEma);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.num.Num;
@@ -54,8 +57,8 @@ public class UlcerIndexIndicator extends CachedIndicator<Num> {
         super(indicator);
         this.indicator = indicator;
         this.barCount = barCount;
-        this.zero = numOf(0);
-        this.hundred = numOf(100);
+        this.zero = numFactory().zero();
+        this.hundred = numFactory().hundred();
     }
 
     @Override
@@ -76,6 +79,11 @@ public class UlcerIndexIndicator extends CachedIndicator<Num> {
         return squaredAverage.sqrt();
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
@@ -48,4 +51,9 @@ public class UnstableIndicator extends CachedIndicator<Num> {
         }
         return indicator.getValue(index);
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
 }
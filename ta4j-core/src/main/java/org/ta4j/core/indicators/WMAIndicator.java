@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -46,7 +49,7 @@ public class WMAIndicator extends CachedIndicator<Num> {
             return indicator.getValue(0);
         }
 
-        Num value = numOf(0);
+        Num value = numFactory().zero();
         int loopLength = (index - barCount < 0) ? index + 1 : barCount;
         int actualIndex = index;
         for (int i = loopLength; i > 0; i--) {
@@ -57,6 +60,11 @@ public class WMAIndicator extends CachedIndicator<Num> {
         return value.dividedBy(numOf((loopLength * (loopLength + 1)) / 2));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
@@ -74,6 +77,11 @@ public class WilliamsRIndicator extends CachedIndicator<Num> {
                 .dividedBy(highestHighPrice.minus(lowestLowPrice))).multipliedBy(multiplier);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(closePriceIndicator, highPriceIndicator, lowPriceIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
@@ -44,7 +47,7 @@ public class ZLEMAIndicator extends RecursiveCachedIndicator<Num> {
         super(indicator);
         this.indicator = indicator;
         this.barCount = barCount;
-        k = numOf(2).dividedBy(numOf(barCount + 1));
+        k = numFactory().two().dividedBy(numOf(barCount + 1));
         lag = (barCount - 1) / 2;
     }
 
@@ -59,8 +62,14 @@ public class ZLEMAIndicator extends RecursiveCachedIndicator<Num> {
             return indicator.getValue(0);
         }
         Num zlemaPrev = getValue(index - 1);
-        return k.multipliedBy(numOf(2).multipliedBy(indicator.getValue(index)).minus(indicator.getValue(index - lag)))
-                .plus(numOf(1).minus(k).multipliedBy(zlemaPrev));
+        return k.multipliedBy(
+                numFactory().two().multipliedBy(indicator.getValue(index)).minus(indicator.getValue(index - lag)))
+                .plus(numFactory().one().minus(k).multipliedBy(zlemaPrev));
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
     }
 
     @Override
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.adx;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.MMAIndicator;
 import org.ta4j.core.num.Num;
@@ -56,6 +60,11 @@ public class ADXIndicator extends CachedIndicator<Num> {
         return averageDXIndicator.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(averageDXIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " diBarCount: " + diBarCount + " adxBarCount: " + adxBarCount;
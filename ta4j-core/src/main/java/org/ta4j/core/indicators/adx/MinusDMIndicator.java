@@ -23,8 +23,12 @@
  */
 package org.ta4j.core.indicators.adx;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -40,17 +44,22 @@ public class MinusDMIndicator extends CachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         if (index == 0) {
-            return numOf(0);
+            return numFactory().zero();
         }
         final Bar prevBar = getBarSeries().getBar(index - 1);
         final Bar currentBar = getBarSeries().getBar(index);
 
         final Num upMove = currentBar.getHighPrice().minus(prevBar.getHighPrice());
         final Num downMove = prevBar.getLowPrice().minus(currentBar.getLowPrice());
-        if (downMove.isGreaterThan(upMove) && downMove.isGreaterThan(numOf(0))) {
+        if (downMove.isGreaterThan(upMove) && downMove.isGreaterThan(numFactory().zero())) {
             return downMove;
         } else {
-            return numOf(0);
+            return numFactory().zero();
         }
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.adx;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.ATRIndicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.MMAIndicator;
@@ -56,6 +60,11 @@ public class PlusDIIndicator extends CachedIndicator<Num> {
         return avgPlusDMIndicator.getValue(index).dividedBy(atrIndicator.getValue(index)).multipliedBy(numOf(100));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(avgPlusDMIndicator, atrIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators.aroon;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
@@ -57,7 +60,7 @@ public class AroonDownIndicator extends CachedIndicator<Num> {
         super(lowPriceIndicator);
         this.barCount = barCount;
         this.lowPriceIndicator = lowPriceIndicator;
-        this.hundred = numOf(100);
+        this.hundred = numFactory().hundred();
         this.barCountNum = numOf(barCount);
         // + 1 needed for last possible iteration in loop
         this.lowestLowPriceIndicator = new LowestValueIndicator(lowPriceIndicator, barCount + 1);
@@ -91,6 +94,11 @@ public class AroonDownIndicator extends CachedIndicator<Num> {
         return numOf(barCount - nbBars).dividedBy(barCountNum).multipliedBy(hundred);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(lowestLowPriceIndicator, lowPriceIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
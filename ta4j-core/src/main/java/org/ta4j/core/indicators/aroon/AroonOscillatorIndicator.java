@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.aroon;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -52,6 +56,11 @@ public class AroonOscillatorIndicator extends CachedIndicator<Num> {
         return aroonUpIndicator.getValue(index).minus(aroonDownIndicator.getValue(index));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(aroonDownIndicator, aroonUpIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
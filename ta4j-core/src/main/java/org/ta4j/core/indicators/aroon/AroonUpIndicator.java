@@ -25,6 +25,9 @@ package org.ta4j.core.indicators.aroon;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
@@ -57,7 +60,7 @@ public class AroonUpIndicator extends CachedIndicator<Num> {
         super(highPriceIndicator);
         this.barCount = barCount;
         this.highPriceIndicator = highPriceIndicator;
-        this.hundred = numOf(100);
+        this.hundred = numFactory().hundred();
         this.barCountNum = numOf(barCount);
         // + 1 needed for last possible iteration in loop
         this.highestHighPriceIndicator = new HighestValueIndicator(highPriceIndicator, barCount + 1);
@@ -91,6 +94,11 @@ public class AroonUpIndicator extends CachedIndicator<Num> {
         return numOf(barCount - nbBars).dividedBy(barCountNum).multipliedBy(hundred);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(highestHighPriceIndicator, highPriceIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -25,7 +25,6 @@ package org.ta4j.core.indicators.bollinger;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.numeric.NumericIndicator;
 import org.ta4j.core.num.Num;
 
@@ -54,7 +53,7 @@ public class BollingerBandFacade {
      * @param k         the multiplier used to calculate the upper and lower bands
      */
     public BollingerBandFacade(BarSeries barSeries, int barCount, Number k) {
-        this.price = NumericIndicator.of(new ClosePriceIndicator(barSeries));
+        this.price = NumericIndicator.closePrice(barSeries);
         this.middle = NumericIndicator.of(price.sma(barCount));
         final NumericIndicator stdev = price.stddev(barCount);
         this.upper = middle.plus(stdev.multipliedBy(k));
@@ -23,6 +23,10 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -53,11 +57,16 @@ public class BollingerBandWidthIndicator extends CachedIndicator<Num> {
         this.bbu = bbu;
         this.bbm = bbm;
         this.bbl = bbl;
-        this.hundred = bbm.getBarSeries().numOf(100);
+        this.hundred = bbm.getBarSeries().numFactory().hundred();
     }
 
     @Override
     protected Num calculate(int index) {
         return bbu.getValue(index).minus(bbl.getValue(index)).dividedBy(bbm.getValue(index)).multipliedBy(hundred);
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(bbu, bbm, bbl);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -48,7 +51,7 @@ public class BollingerBandsLowerIndicator extends CachedIndicator<Num> {
      *                  Typically a StandardDeviationIndicator is used.
      */
     public BollingerBandsLowerIndicator(BollingerBandsMiddleIndicator bbm, Indicator<Num> indicator) {
-        this(bbm, indicator, bbm.getBarSeries().numOf(2));
+        this(bbm, indicator, bbm.getBarSeries().numFactory().two());
     }
 
     /**
@@ -80,6 +83,11 @@ public class BollingerBandsLowerIndicator extends CachedIndicator<Num> {
         return k;
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicator, bbm);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "k: " + k + "deviation: " + indicator + "series: " + bbm;
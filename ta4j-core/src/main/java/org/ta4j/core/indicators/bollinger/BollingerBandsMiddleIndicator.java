@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -57,6 +60,11 @@ public class BollingerBandsMiddleIndicator extends CachedIndicator<Num> {
         return indicator;
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " deviation: " + indicator;
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -50,7 +53,7 @@ public class BollingerBandsUpperIndicator extends CachedIndicator<Num> {
      *                  Typically a StandardDeviationIndicator is used.
      */
     public BollingerBandsUpperIndicator(BollingerBandsMiddleIndicator bbm, Indicator<Num> deviation) {
-        this(bbm, deviation, bbm.getBarSeries().numOf(2));
+        this(bbm, deviation, bbm.getBarSeries().numFactory().two());
     }
 
     /**
@@ -82,6 +85,11 @@ public class BollingerBandsUpperIndicator extends CachedIndicator<Num> {
         return k;
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(deviation, bbm);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "k: " + k + "deviation: " + deviation + "series" + bbm;
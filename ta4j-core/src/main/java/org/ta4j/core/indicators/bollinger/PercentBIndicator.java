@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
@@ -67,4 +70,9 @@ public class PercentBIndicator extends CachedIndicator<Num> {
         Num lowValue = bbl.getValue(index);
         return value.minus(lowValue).dividedBy(upValue.minus(lowValue));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicator, bbu, bbl);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.candles;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
@@ -79,4 +82,9 @@ public class DojiIndicator extends CachedIndicator<Boolean> {
 
         return currentBodyHeight.isLessThan(averageBodyHeight.multipliedBy(factor));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(bodyHeightInd, averageBodyHeightInd);
+    }
 }
@@ -23,8 +23,12 @@
  */
 package org.ta4j.core.indicators.candles;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -62,4 +66,9 @@ public class LowerShadowIndicator extends CachedIndicator<Num> {
             return closePrice.minus(t.getLowPrice());
         }
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
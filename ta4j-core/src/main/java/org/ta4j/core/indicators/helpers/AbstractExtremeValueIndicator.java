@@ -0,0 +1,219 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Base class of the indicators returning the extreme (highest or lowest) value
+ * of an indicator over the last {@code barCount} bars, {@link Num#isNaN() NaN}
+ * values being ignored.
+ *
+ * The candidates of the window are kept in a monotonic deque: each value is
+ * added at the back after removing the values it makes irrelevant, and the
+ * front is removed once it leaves the window. Sequential calculations take
+ * amortized O(1) per index; on random access, the deque is built again from the
+ * window. The window is scanned instead if it includes removed bars (see
+ * {@link BarSeries#getMaximumBarCount()}), and the value of the last bar is
+ * compared with the deque without adding it, as the last bar may still change.
+ */
+abstract class AbstractExtremeValueIndicator extends CachedIndicator<Num> {
+
+    /** The initial capacity of the deque */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Indicator<Num> indicator;
+
+    private final int barCount;
+
+    /**
+     * The indices and values of the deque, in a circular buffer starting at
+     * {@link #head}
+     */
+    private int[] dequeIndices;
+    private Num[] dequeValues;
+    private int head;
+    private int size;
+
+    /** The last index added to the deque, or -1 */
+    private int dequeIndex = -1;
+
+    protected AbstractExtremeValueIndicator(Indicator<Num> indicator, int barCount) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+    }
+
+    /**
+     * @param value a value of the window
+     * @param other another value of the window
+     * @return true if the value is at least as extreme as the other one
+     */
+    protected abstract boolean isAtLeastAsExtreme(Num value, Num other);
+
+    @Override
+    protected Num calculate(int index) {
+        BarSeries series = getBarSeries();
+        int startIndex = Math.max(0, index - barCount + 1);
+        int removedBarsCount = series.getRemovedBarsCount();
+        if (removedBarsCount > 0 && startIndex < removedBarsCount) {
+            return scan(startIndex, index);
+        }
+        if (index != dequeIndex + 1) {
+            clear();
+            for (int i = startIndex; i < index; i++) {
+                add(i, startIndex);
+            }
+        }
+        if (index == series.getEndIndex()) {
+            return getLastBarValue(index, startIndex);
+        }
+        add(index, startIndex);
+        return size == 0 ? NaN : dequeValues[head];
+    }
+
+    /**
+     * Adds the value of an index at the back of the deque, after removing the
+     * values leaving the window and the values which are not more extreme.
+     *
+     * @param index      the bar index
+     * @param startIndex the first index of the window
+     */
+    private void add(int index, int startIndex) {
+        removeBefore(startIndex);
+        dequeIndex = index;
+        Num value = indicator.getValue(index);
+        if (value.isNaN()) {
+            return;
+        }
+        while (size > 0 && isAtLeastAsExtreme(value, dequeValues[slot(size - 1)])) {
+            dequeValues[slot(size - 1)] = null;
+            size--;
+        }
+        if (dequeIndices == null || size == dequeIndices.length) {
+            grow();
+        }
+        int slot = slot(size);
+        dequeIndices[slot] = index;
+        dequeValues[slot] = value;
+        size++;
+    }
+
+    /**
+     * Returns the extreme value of the window of the last bar, comparing its value
+     * with the deque of the previous index without changing it.
+     *
+     * @param index      the index of the last bar
+     * @param startIndex the first index of the window
+     * @return the extreme value
+     */
+    private Num getLastBarValue(int index, int startIndex) {
+        removeBefore(startIndex);
+        Num extreme = size == 0 ? null : dequeValues[head];
+        Num value = indicator.getValue(index);
+        if (value.isNaN()) {
+            return extreme == null ? NaN : extreme;
+        }
+        return extreme == null || isAtLeastAsExtreme(value, extreme) ? value : extreme;
+    }
+
+    /**
+     * @param startIndex the first index of the window
+     * @param index      the last index of the window
+     * @return the extreme value of the window, the most recent one among equal
+     *         values
+     */
+    private Num scan(int startIndex, int index) {
+        Num extreme = null;
+        for (int i = index; i >= startIndex; i--) {
+            Num value = indicator.getValue(i);
+            if (!value.isNaN() && (extreme == null || !isAtLeastAsExtreme(extreme, value))) {
+                extreme = value;
+            }
+        }
+        return extreme == null ? NaN : extreme;
+    }
+
+    /**
+     * Removes the values at the front of the deque which left the window.
+     *
+     * @param startIndex the first index of the window
+     */
+    private void removeBefore(int startIndex) {
+        while (size > 0 && dequeIndices[head] < startIndex) {
+            dequeValues[head] = null;
+            head = slot(1);
+            size--;
+        }
+    }
+
+    private void clear() {
+        while (size > 0) {
+            dequeValues[slot(--size)] = null;
+        }
+        head = 0;
+        dequeIndex = -1;
+    }
+
+    private int slot(int position) {
+        int slot = head + position;
+        return slot < dequeIndices.length ? slot : slot - dequeIndices.length;
+    }
+
+    /**
+     * Grows the deque, which holds at most {@code barCount} values.
+     */
+    private void grow() {
+        int capacity = dequeIndices == null ? Math.min(barCount, INITIAL_CAPACITY)
+                : (int) Math.min(barCount, 2L * dequeIndices.length);
+        capacity = Math.max(capacity, size + 1);
+        int[] indices = new int[capacity];
+        Num[] values = new Num[capacity];
+        for (int i = 0; i < size; i++) {
+            indices[i] = dequeIndices[slot(i)];
+            values[i] = dequeValues[slot(i)];
+        }
+        dequeIndices = indices;
+        dequeValues = values;
+        head = 0;
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
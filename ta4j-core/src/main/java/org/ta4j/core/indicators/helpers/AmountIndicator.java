@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -41,4 +45,9 @@ public class AmountIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return getBarSeries().getBar(index).getAmount();
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
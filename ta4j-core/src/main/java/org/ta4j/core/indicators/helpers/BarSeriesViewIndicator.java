@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.ta4j.core.BarSeriesView;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicator;
+
+/**
+ * Indicator on a {@link BarSeriesView} reusing the values of the same indicator
+ * on the parent series.
+ *
+ * As soon as the <tt>barCount</tt> bars an indicator looks back fit inside the
+ * view, its value on the view equals its value on the parent series. For those
+ * indexes the (already cached) value of the parent indicator is returned; only
+ * the first <tt>barCount - 1</tt> values are calculated by the indicator built
+ * on the view.
+ *
+ * Recursive indicators (e.g. EMA) depend on all the previous bars and should
+ * not be wrapped.
+ *
+ * @param <T> the type of returned value
+ */
+public class BarSeriesViewIndicator<T> extends AbstractIndicator<T> {
+
+    private final BarSeriesView view;
+    private final Indicator<T> indicator;
+    private final Indicator<T> parentIndicator;
+    private final int barCount;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator       the indicator built on a {@link BarSeriesView}
+     * @param parentIndicator the same indicator built on the parent series of the
+     *                        view
+     * @param barCount        the number of bars the indicator looks back (including
+     *                        the current one)
+     * @throws IllegalArgumentException if the indicators are not built on a view
+     *                                  and its parent series
+     */
+    public BarSeriesViewIndicator(Indicator<T> indicator, Indicator<T> parentIndicator, int barCount) {
+        super(indicator.getBarSeries());
+        if (!(indicator.getBarSeries() instanceof BarSeriesView)) {
+            throw new IllegalArgumentException("The indicator must be built on a bar series view");
+        }
+        this.view = (BarSeriesView) indicator.getBarSeries();
+        if (view.getParent() != parentIndicator.getBarSeries()) {
+            throw new IllegalArgumentException("The parent indicator must be built on the parent series of the view");
+        }
+        if (barCount < 1) {
+            throw new IllegalArgumentException("Bar count must be strictly positive");
+        }
+        this.indicator = indicator;
+        this.parentIndicator = parentIndicator;
+        this.barCount = barCount;
+    }
+
+    @Override
+    public T getValue(int index) {
+        if (index >= barCount - 1) {
+            return parentIndicator.getValue(view.getParentIndex(index));
+        }
+        return indicator.getValue(index);
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicator, parentIndicator);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + indicator + " barCount: " + barCount;
+    }
+}
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -186,6 +189,11 @@ public class BooleanTransformIndicator extends CachedIndicator<Boolean> {
         return false;
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         if (type != null) {
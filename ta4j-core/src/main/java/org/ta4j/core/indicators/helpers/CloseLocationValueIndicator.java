@@ -23,8 +23,12 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -36,7 +40,7 @@ import org.ta4j.core.num.Num;
  */
 public class CloseLocationValueIndicator extends CachedIndicator<Num> {
 
-    private final Num zero = numOf(0);
+    private final Num zero = numFactory().zero();
 
     public CloseLocationValueIndicator(BarSeries series) {
         super(series);
@@ -53,4 +57,9 @@ public class CloseLocationValueIndicator extends CachedIndicator<Num> {
 
         return diffHighLow.isNaN() ? zero : ((close.minus(low)).minus(high.minus(close))).dividedBy(diffHighLow);
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 
@@ -108,6 +110,11 @@ public class CombineIndicator extends CachedIndicator<Num> {
         return new CombineIndicator(indicatorLeft, indicatorRight, Num::min);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicatorLeft, indicatorRight);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
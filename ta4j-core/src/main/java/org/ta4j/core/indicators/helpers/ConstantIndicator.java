@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 
 /**
@@ -43,6 +47,11 @@ public class ConstantIndicator<T> extends AbstractIndicator<T> {
         return value;
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " Value: " + value;
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.indicators.CachedIndicator;
@@ -222,8 +225,8 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
             return false;
         }
 
-        if (minStrength != null && minStrength.isGreaterThan(numOf(1))) {
-            minStrength = numOf(1);
+        if (minStrength != null && minStrength.isGreaterThan(numFactory().one())) {
+            minStrength = numFactory().one();
         }
 
         if (type != null) {
@@ -377,4 +380,8 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
         return (slrRef.getValue(index).minus(slrRef.getValue(firstIndex))).dividedBy(slrRef.getValue(index));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(ref, other);
+    }
 }
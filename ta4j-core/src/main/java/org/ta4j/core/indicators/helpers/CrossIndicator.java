@@ -23,8 +23,13 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.num.DoubleNumMath;
 import org.ta4j.core.num.Num;
 
 /**
@@ -39,6 +44,9 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
     /** Lower indicator */
     private final Indicator<Num> low;
 
+    /** True if the values can be compared on primitive doubles */
+    private final boolean doubleValues;
+
     /**
      * Constructor.
      * 
@@ -50,10 +58,14 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
         super(up);
         this.up = up;
         this.low = low;
+        this.doubleValues = DoubleIndicator.hasDoubleValues(up) && DoubleIndicator.hasDoubleValues(low);
     }
 
     @Override
     protected Boolean calculate(int index) {
+        if (doubleValues) {
+            return calculateOnDoubles(index);
+        }
 
         int i = index;
         if (i == 0 || up.getValue(i).isGreaterThanOrEqual(low.getValue(i))) {
@@ -70,6 +82,31 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
         return (i != 0) && (up.getValue(i).isGreaterThan(low.getValue(i)));
     }
 
+    /**
+     * Same as {@link #calculate(int)}, on primitive doubles.
+     *
+     * @param index the bar index
+     * @return true if the indicators crossed at the index
+     */
+    private boolean calculateOnDoubles(int index) {
+        int i = index;
+        if (i == 0 || DoubleNumMath.isGreaterThanOrEqual(DoubleIndicator.doubleValue(up, i),
+                DoubleIndicator.doubleValue(low, i))) {
+            return false;
+        }
+
+        i--;
+        if (DoubleNumMath.isGreaterThan(DoubleIndicator.doubleValue(up, i), DoubleIndicator.doubleValue(low, i))) {
+            return true;
+        }
+        while (i > 0
+                && DoubleNumMath.isEqual(DoubleIndicator.doubleValue(up, i), DoubleIndicator.doubleValue(low, i))) {
+            i--;
+        }
+        return (i != 0)
+                && DoubleNumMath.isGreaterThan(DoubleIndicator.doubleValue(up, i), DoubleIndicator.doubleValue(low, i));
+    }
+
     /**
      * @return the initial lower indicator
      */
@@ -84,6 +121,11 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
         return up;
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(up, low);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " " + low + " " + up;
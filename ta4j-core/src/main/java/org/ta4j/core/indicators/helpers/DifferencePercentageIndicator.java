@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.NaN;
@@ -46,7 +49,7 @@ public class DifferencePercentageIndicator extends CachedIndicator<Num> {
     private Num lastNotification;
 
     public DifferencePercentageIndicator(Indicator<Num> indicator) {
-        this(indicator, indicator.numOf(0));
+        this(indicator, indicator.numFactory().zero());
     }
 
     public DifferencePercentageIndicator(Indicator<Num> indicator, Number percentageThreshold) {
@@ -57,7 +60,7 @@ public class DifferencePercentageIndicator extends CachedIndicator<Num> {
         super(indicator);
         this.indicator = indicator;
         this.percentageThreshold = percentageThreshold;
-        hundred = numOf(100);
+        hundred = numFactory().hundred();
     }
 
     @Override
@@ -81,4 +84,9 @@ public class DifferencePercentageIndicator extends CachedIndicator<Num> {
     private Num fractionToPercentage(Num changeFraction) {
         return changeFraction.multipliedBy(hundred).minus(hundred);
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
 }
@@ -25,9 +25,11 @@ package org.ta4j.core.indicators.helpers;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 
 /**
@@ -59,4 +61,8 @@ public class FixedIndicator<T> extends AbstractIndicator<T> {
         return values.get(index);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
@@ -23,14 +23,19 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
+import org.ta4j.core.num.DoubleNumMath;
 import org.ta4j.core.num.Num;
 
 /**
  * Gain indicator.
  */
-public class GainIndicator extends CachedIndicator<Num> {
+public class GainIndicator extends CachedDoubleIndicator {
 
     private final Indicator<Num> indicator;
 
@@ -42,12 +47,31 @@ public class GainIndicator extends CachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         if (index == 0) {
-            return numOf(0);
+            return numFactory().zero();
         }
         if (indicator.getValue(index).isGreaterThan(indicator.getValue(index - 1))) {
             return indicator.getValue(index).minus(indicator.getValue(index - 1));
         } else {
-            return numOf(0);
+            return numFactory().zero();
+        }
+    }
+
+    @Override
+    protected double calculateDouble(int index) {
+        if (index == 0) {
+            return 0;
         }
+        double current = DoubleIndicator.doubleValue(indicator, index);
+        double previous = DoubleIndicator.doubleValue(indicator, index - 1);
+        if (DoubleNumMath.isGreaterThan(current, previous)) {
+            return current - previous;
+        } else {
+            return 0;
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
     }
 }
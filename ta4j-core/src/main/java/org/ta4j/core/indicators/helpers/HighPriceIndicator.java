@@ -23,14 +23,19 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * High price indicator.
  */
-public class HighPriceIndicator extends AbstractIndicator<Num> {
+public class HighPriceIndicator extends AbstractIndicator<Num> implements DoubleIndicator {
 
     public HighPriceIndicator(BarSeries series) {
         super(series);
@@ -40,4 +45,14 @@ public class HighPriceIndicator extends AbstractIndicator<Num> {
     public Num getValue(int index) {
         return getBarSeries().getBar(index).getHighPrice();
     }
+
+    @Override
+    public double getDouble(int index) {
+        return getBarSeries().getBar(index).getHighPrice().doubleValue();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
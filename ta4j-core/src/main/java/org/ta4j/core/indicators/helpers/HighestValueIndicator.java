@@ -24,41 +24,23 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Highest value indicator.
+ *
+ * Returns the highest value of the indicator over the last {@code barCount}
+ * bars, ignoring {@link Num#isNaN() NaN} values (NaN if all the values are
+ * NaN). It takes amortized O(1) per index in sequential calculations.
  */
-public class HighestValueIndicator extends CachedIndicator<Num> {
-
-    private final Indicator<Num> indicator;
-
-    private final int barCount;
+public class HighestValueIndicator extends AbstractExtremeValueIndicator {
 
     public HighestValueIndicator(Indicator<Num> indicator, int barCount) {
-        super(indicator);
-        this.indicator = indicator;
-        this.barCount = barCount;
-    }
-
-    @Override
-    protected Num calculate(int index) {
-        if (indicator.getValue(index).isNaN() && barCount != 1) {
-            return new HighestValueIndicator(indicator, barCount - 1).getValue(index - 1);
-        }
-        int end = Math.max(0, index - barCount + 1);
-        Num highest = indicator.getValue(index);
-        for (int i = index - 1; i >= end; i--) {
-            if (highest.isLessThan(indicator.getValue(i))) {
-                highest = indicator.getValue(i);
-            }
-        }
-        return highest;
+        super(indicator, barCount);
     }
 
     @Override
-    public String toString() {
-        return getClass().getSimpleName() + " barCount: " + barCount;
+    protected boolean isAtLeastAsExtreme(Num value, Num other) {
+        return value.isGreaterThanOrEqual(other);
     }
 }
@@ -23,14 +23,19 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Low price indicator.
  */
-public class LowPriceIndicator extends AbstractIndicator<Num> {
+public class LowPriceIndicator extends AbstractIndicator<Num> implements DoubleIndicator {
 
     public LowPriceIndicator(BarSeries series) {
         super(series);
@@ -40,4 +45,14 @@ public class LowPriceIndicator extends AbstractIndicator<Num> {
     public Num getValue(int index) {
         return getBarSeries().getBar(index).getLowPrice();
     }
+
+    @Override
+    public double getDouble(int index) {
+        return getBarSeries().getBar(index).getLowPrice().doubleValue();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
@@ -23,15 +23,20 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
+import org.ta4j.core.num.DoubleNumMath;
 import org.ta4j.core.num.Num;
 
 /**
  * Average high-low indicator.
  */
-public class MedianPriceIndicator extends CachedIndicator<Num> {
+public class MedianPriceIndicator extends CachedDoubleIndicator {
 
     public MedianPriceIndicator(BarSeries series) {
         super(series);
@@ -40,6 +45,17 @@ public class MedianPriceIndicator extends CachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         final Bar bar = getBarSeries().getBar(index);
-        return bar.getHighPrice().plus(bar.getLowPrice()).dividedBy(numOf(2));
+        return bar.getHighPrice().plus(bar.getLowPrice()).dividedBy(numFactory().two());
+    }
+
+    @Override
+    protected double calculateDouble(int index) {
+        final Bar bar = getBarSeries().getBar(index);
+        return DoubleNumMath.dividedBy(bar.getHighPrice().doubleValue() + bar.getLowPrice().doubleValue(), 2);
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
     }
 }
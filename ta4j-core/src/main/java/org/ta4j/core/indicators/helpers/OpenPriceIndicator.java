@@ -23,14 +23,19 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Open price indicator.
  */
-public class OpenPriceIndicator extends AbstractIndicator<Num> {
+public class OpenPriceIndicator extends AbstractIndicator<Num> implements DoubleIndicator {
 
     public OpenPriceIndicator(BarSeries series) {
         super(series);
@@ -40,4 +45,14 @@ public class OpenPriceIndicator extends AbstractIndicator<Num> {
     public Num getValue(int index) {
         return getBarSeries().getBar(index).getOpenPrice();
     }
+
+    @Override
+    public double getDouble(int index) {
+        return getBarSeries().getBar(index).getOpenPrice().doubleValue();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
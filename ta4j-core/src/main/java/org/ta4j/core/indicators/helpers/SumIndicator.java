@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -50,10 +53,15 @@ public class SumIndicator extends CachedIndicator<Num> {
 
     @Override
     protected Num calculate(int index) {
-        Num sum = numOf(0);
+        Num sum = numFactory().zero();
         for (Indicator<Num> operand : operands) {
             sum = sum.plus(operand.getValue(index));
         }
         return sum;
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(operands);
+    }
 }
@@ -23,14 +23,19 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * True range indicator.
  */
-public class TRIndicator extends CachedIndicator<Num> {
+public class TRIndicator extends CachedDoubleIndicator {
 
     public TRIndicator(BarSeries series) {
         super(series);
@@ -39,10 +44,30 @@ public class TRIndicator extends CachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         Num ts = getBarSeries().getBar(index).getHighPrice().minus(getBarSeries().getBar(index).getLowPrice());
-        Num ys = index == 0 ? numOf(0)
+        Num ys = index == 0 ? numFactory().zero()
                 : getBarSeries().getBar(index).getHighPrice().minus(getBarSeries().getBar(index - 1).getClosePrice());
-        Num yst = index == 0 ? numOf(0)
+        Num yst = index == 0 ? numFactory().zero()
                 : getBarSeries().getBar(index - 1).getClosePrice().minus(getBarSeries().getBar(index).getLowPrice());
         return ts.abs().max(ys.abs()).max(yst.abs());
     }
+
+    @Override
+    protected double calculateDouble(int index) {
+        Bar bar = getBarSeries().getBar(index);
+        double highPrice = bar.getHighPrice().doubleValue();
+        double lowPrice = bar.getLowPrice().doubleValue();
+        double ts = highPrice - lowPrice;
+        if (index == 0) {
+            return Math.max(Math.abs(ts), 0);
+        }
+        double previousClosePrice = getBarSeries().getBar(index - 1).getClosePrice().doubleValue();
+        double ys = highPrice - previousClosePrice;
+        double yst = previousClosePrice - lowPrice;
+        return Math.max(Math.max(Math.abs(ts), Math.abs(ys)), Math.abs(yst));
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
 /**
@@ -39,4 +43,9 @@ public class TradeCountIndicator extends CachedIndicator<Long> {
     protected Long calculate(int index) {
         return getBarSeries().getBar(index).getTrades();
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
@@ -23,6 +23,8 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -133,6 +135,11 @@ public class TransformIndicator extends CachedIndicator<Num> {
         return new TransformIndicator(indicator, val -> val.numOf(Math.log(val.doubleValue())));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -23,15 +23,20 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
+import org.ta4j.core.num.DoubleNumMath;
 import org.ta4j.core.num.Num;
 
 /**
  * Typical price indicator.
  */
-public class TypicalPriceIndicator extends CachedIndicator<Num> {
+public class TypicalPriceIndicator extends CachedDoubleIndicator {
 
     public TypicalPriceIndicator(BarSeries series) {
         super(series);
@@ -45,4 +50,18 @@ public class TypicalPriceIndicator extends CachedIndicator<Num> {
         final Num closePrice = bar.getClosePrice();
         return highPrice.plus(lowPrice).plus(closePrice).dividedBy(numOf(3));
     }
+
+    @Override
+    protected double calculateDouble(int index) {
+        final Bar bar = getBarSeries().getBar(index);
+        final double highPrice = bar.getHighPrice().doubleValue();
+        final double lowPrice = bar.getLowPrice().doubleValue();
+        final double closePrice = bar.getClosePrice().doubleValue();
+        return DoubleNumMath.dividedBy(highPrice + lowPrice + closePrice, 3);
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -46,10 +50,15 @@ public class VolumeIndicator extends CachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         int startIndex = Math.max(0, index - barCount + 1);
-        Num sumOfVolume = numOf(0);
+        Num sumOfVolume = numFactory().zero();
         for (int i = startIndex; i <= index; i++) {
             sumOfVolume = sumOfVolume.plus(getBarSeries().getBar(i).getVolume());
         }
         return sumOfVolume;
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.ichimoku;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.num.NaN;
@@ -79,4 +83,8 @@ public class IchimokuChikouSpanIndicator extends CachedIndicator<Num> {
         }
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(closePriceIndicator);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.ichimoku;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
@@ -61,6 +64,11 @@ public class IchimokuLineIndicator extends CachedIndicator<Num> {
 
     @Override
     protected Num calculate(int index) {
-        return periodHigh.getValue(index).plus(periodLow.getValue(index)).dividedBy(numOf(2));
+        return periodHigh.getValue(index).plus(periodLow.getValue(index)).dividedBy(numFactory().two());
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(periodHigh, periodLow);
     }
 }
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.ichimoku;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
@@ -91,9 +95,14 @@ public class IchimokuSenkouSpanAIndicator extends CachedIndicator<Num> {
         // at index=7 we need index=3 when offset=5
         int spanIndex = index - offset + 1;
         if (spanIndex >= getBarSeries().getBeginIndex()) {
-            return conversionLine.getValue(spanIndex).plus(baseLine.getValue(spanIndex)).dividedBy(numOf(2));
+            return conversionLine.getValue(spanIndex).plus(baseLine.getValue(spanIndex)).dividedBy(numFactory().two());
         } else {
             return NaN.NaN;
         }
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(conversionLine, baseLine);
+    }
 }
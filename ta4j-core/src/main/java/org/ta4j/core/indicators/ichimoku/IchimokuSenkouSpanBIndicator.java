@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.ichimoku;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
@@ -89,4 +93,9 @@ public class IchimokuSenkouSpanBIndicator extends CachedIndicator<Num> {
             return NaN.NaN;
         }
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(lineIndicator);
+    }
 }
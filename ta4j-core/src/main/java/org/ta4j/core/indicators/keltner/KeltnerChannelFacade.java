@@ -25,7 +25,7 @@ package org.ta4j.core.indicators.keltner;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.ATRIndicator;
-import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.numeric.NumericIndicator;
 
 /**
@@ -44,8 +44,9 @@ public class KeltnerChannelFacade {
     private final NumericIndicator lower;
 
     public KeltnerChannelFacade(BarSeries bs, int emaCount, int atrCount, Number k) {
-        NumericIndicator price = NumericIndicator.of(new ClosePriceIndicator(bs));
-        NumericIndicator atr = NumericIndicator.of(new ATRIndicator(bs, atrCount));
+        NumericIndicator price = NumericIndicator.closePrice(bs);
+        NumericIndicator atr = NumericIndicator.of(
+                IndicatorRegistry.shared(bs, ATRIndicator.class, () -> new ATRIndicator(bs, atrCount), bs, atrCount));
         this.middle = price.ema(emaCount);
         this.upper = middle.plus(atr.multipliedBy(k));
         this.lower = middle.minus(atr.multipliedBy(k));
@@ -23,10 +23,14 @@
  */
 package org.ta4j.core.indicators.keltner;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.num.Num;
 
@@ -42,12 +46,14 @@ public class KeltnerChannelMiddleIndicator extends AbstractIndicator<Num> {
     private final EMAIndicator emaIndicator;
 
     public KeltnerChannelMiddleIndicator(BarSeries series, int barCountEMA) {
-        this(new TypicalPriceIndicator(series), barCountEMA);
+        this(IndicatorRegistry.shared(series, TypicalPriceIndicator.class, () -> new TypicalPriceIndicator(series),
+                series), barCountEMA);
     }
 
     public KeltnerChannelMiddleIndicator(Indicator<Num> indicator, int barCountEMA) {
         super(indicator.getBarSeries());
-        emaIndicator = new EMAIndicator(indicator, barCountEMA);
+        emaIndicator = IndicatorRegistry.shared(getBarSeries(), EMAIndicator.class,
+                () -> new EMAIndicator(indicator, barCountEMA), indicator, barCountEMA);
     }
 
     @Override
@@ -59,6 +65,11 @@ public class KeltnerChannelMiddleIndicator extends AbstractIndicator<Num> {
         return emaIndicator.getBarCount();
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(emaIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + getBarCount();
@@ -23,6 +23,10 @@
  */
 package org.ta4j.core.indicators.keltner;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.ATRIndicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -63,6 +67,11 @@ public class KeltnerChannelUpperIndicator extends CachedIndicator<Num> {
         return keltnerMiddleIndicator.getBarCount();
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(averageTrueRangeIndicator, keltnerMiddleIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + getBarCount();
@@ -23,6 +23,8 @@
  */
 package org.ta4j.core.indicators.numeric;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.BinaryOperator;
 
 import org.ta4j.core.BarSeries;
@@ -87,4 +89,8 @@ class BinaryOperation implements Indicator<Num> {
         return left.numOf(number);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(left, right);
+    }
 }
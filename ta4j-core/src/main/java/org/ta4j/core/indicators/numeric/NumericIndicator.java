@@ -23,10 +23,14 @@
  */
 package org.ta4j.core.indicators.numeric;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
@@ -78,7 +82,7 @@ public class NumericIndicator implements Indicator<Num> {
      * @return a NumericIndicator wrapped around a ClosePriceIndicator
      */
     public static NumericIndicator closePrice(BarSeries bs) {
-        return of(new ClosePriceIndicator(bs));
+        return of(IndicatorRegistry.shared(bs, ClosePriceIndicator.class, () -> new ClosePriceIndicator(bs), bs));
     }
 
     /**
@@ -87,7 +91,7 @@ public class NumericIndicator implements Indicator<Num> {
      * @return a NumericIndicator wrapped around a VolumeIndicator
      */
     public static NumericIndicator volume(BarSeries bs) {
-        return of(new VolumeIndicator(bs));
+        return of(IndicatorRegistry.shared(bs, VolumeIndicator.class, () -> new VolumeIndicator(bs), bs));
     }
 
     protected final Indicator<Num> delegate;
@@ -162,27 +166,33 @@ public class NumericIndicator implements Indicator<Num> {
     }
 
     public NumericIndicator sma(int n) {
-        return NumericIndicator.of(new SMAIndicator(this, n));
+        return NumericIndicator.of(
+                IndicatorRegistry.shared(getBarSeries(), SMAIndicator.class, () -> new SMAIndicator(this, n), this, n));
     }
 
     public NumericIndicator ema(int n) {
-        return NumericIndicator.of(new EMAIndicator(this, n));
+        return NumericIndicator.of(
+                IndicatorRegistry.shared(getBarSeries(), EMAIndicator.class, () -> new EMAIndicator(this, n), this, n));
     }
 
     public NumericIndicator stddev(int n) {
-        return NumericIndicator.of(new StandardDeviationIndicator(this, n));
+        return NumericIndicator.of(IndicatorRegistry.shared(getBarSeries(), StandardDeviationIndicator.class,
+                () -> new StandardDeviationIndicator(this, n), this, n));
     }
 
     public NumericIndicator highest(int n) {
-        return NumericIndicator.of(new HighestValueIndicator(this, n));
+        return NumericIndicator.of(IndicatorRegistry.shared(getBarSeries(), HighestValueIndicator.class,
+                () -> new HighestValueIndicator(this, n), this, n));
     }
 
     public NumericIndicator lowest(int n) {
-        return NumericIndicator.of(new LowestValueIndicator(this, n));
+        return NumericIndicator.of(IndicatorRegistry.shared(getBarSeries(), LowestValueIndicator.class,
+                () -> new LowestValueIndicator(this, n), this, n));
     }
 
     public NumericIndicator previous(int n) {
-        return NumericIndicator.of(new PreviousValueIndicator(this, n));
+        return NumericIndicator.of(IndicatorRegistry.shared(getBarSeries(), PreviousValueIndicator.class,
+                () -> new PreviousValueIndicator(this, n), this, n));
     }
 
     public Indicator<Num> previous() {
@@ -240,6 +250,11 @@ public class NumericIndicator implements Indicator<Num> {
         return delegate.numOf(number);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(delegate);
+    }
+
     @Override
     public String toString() {
         return delegate.toString();
@@ -23,6 +23,8 @@
  */
 package org.ta4j.core.indicators.numeric;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
 import org.ta4j.core.BarSeries;
@@ -69,4 +71,8 @@ class UnaryOperation implements Indicator<Num> {
         return operand.numOf(number);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(operand);
+    }
 }
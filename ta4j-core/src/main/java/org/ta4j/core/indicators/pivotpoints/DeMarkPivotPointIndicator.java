@@ -27,10 +27,12 @@ import static org.ta4j.core.num.NaN.NaN;
 
 import java.time.temporal.IsoFields;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -80,7 +82,7 @@ public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Num> {
     public DeMarkPivotPointIndicator(BarSeries series, TimeLevel timeLevelId) {
         super(series);
         this.timeLevel = timeLevelId;
-        this.two = numOf(2);
+        this.two = numFactory().two();
     }
 
     @Override
@@ -181,4 +183,8 @@ public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Num> {
         }
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
@@ -25,9 +25,11 @@ package org.ta4j.core.indicators.pivotpoints;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.ta4j.core.Bar;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -62,7 +64,7 @@ public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Num> {
         super(pivotPointIndicator);
         this.pivotPointIndicator = pivotPointIndicator;
         this.level = level;
-        this.two = numOf(2);
+        this.two = numFactory().two();
     }
 
     @Override
@@ -107,4 +109,9 @@ public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Num> {
 
         return x.dividedBy(two).minus(high);
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(pivotPointIndicator);
+    }
 }
@@ -25,9 +25,11 @@ package org.ta4j.core.indicators.pivotpoints;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.ta4j.core.Bar;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -118,4 +120,9 @@ public class FibonacciReversalIndicator extends RecursiveCachedIndicator<Num> {
         }
         return pivotPointIndicator.getValue(index).minus(fibonacciFactor.multipliedBy(high.minus(low)));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(pivotPointIndicator);
+    }
 }
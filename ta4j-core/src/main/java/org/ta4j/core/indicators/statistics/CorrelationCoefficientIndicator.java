@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -63,4 +66,9 @@ public class CorrelationCoefficientIndicator extends CachedIndicator<Num> {
         return cov.dividedBy(multipliedSqrt);
 
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(variance1, variance2, covariance);
+    }
 }
@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
@@ -59,7 +62,7 @@ public class CovarianceIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         final int startIndex = Math.max(0, index - barCount + 1);
         final int numberOfObservations = index - startIndex + 1;
-        Num covariance = numOf(0);
+        Num covariance = numFactory().zero();
         Num average1 = sma1.getValue(index);
         Num average2 = sma2.getValue(index);
         for (int i = startIndex; i <= index; i++) {
@@ -70,6 +73,11 @@ public class CovarianceIndicator extends CachedIndicator<Num> {
         return covariance;
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicator1, indicator2, sma1, sma2);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
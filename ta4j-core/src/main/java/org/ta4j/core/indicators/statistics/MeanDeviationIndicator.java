@@ -23,10 +23,15 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumAccumulator;
 
 /**
  * Mean deviation indicator.
@@ -51,12 +56,13 @@ public class MeanDeviationIndicator extends CachedIndicator<Num> {
         super(indicator);
         this.indicator = indicator;
         this.barCount = barCount;
-        sma = new SMAIndicator(indicator, barCount);
+        sma = IndicatorRegistry.shared(getBarSeries(), SMAIndicator.class, () -> new SMAIndicator(indicator, barCount),
+                indicator, barCount);
     }
 
     @Override
     protected Num calculate(int index) {
-        Num absoluteDeviations = numOf(0);
+        NumAccumulator absoluteDeviations = numFactory().newAccumulator();
 
         final Num average = sma.getValue(index);
         final int startIndex = Math.max(0, index - barCount + 1);
@@ -64,9 +70,14 @@ public class MeanDeviationIndicator extends CachedIndicator<Num> {
 
         for (int i = startIndex; i <= index; i++) {
             // For each period...
-            absoluteDeviations = absoluteDeviations.plus(indicator.getValue(i).minus(average).abs());
+            absoluteDeviations.addAbsoluteDifference(indicator.getValue(i), average);
         }
-        return absoluteDeviations.dividedBy(numOf(nbValues));
+        return absoluteDeviations.toNum().dividedBy(numOf(nbValues));
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicator, sma);
     }
 
     @Override
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators.statistics;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
@@ -61,11 +64,11 @@ public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Num> {
 
         Num n = numOf(barCount);
 
-        Num Sx = numOf(0);
-        Num Sy = numOf(0);
-        Num Sxx = numOf(0);
-        Num Syy = numOf(0);
-        Num Sxy = numOf(0);
+        Num Sx = numFactory().zero();
+        Num Sy = numFactory().zero();
+        Num Sxx = numFactory().zero();
+        Num Syy = numFactory().zero();
+        Num Sxy = numFactory().zero();
 
         for (int i = Math.max(getBarSeries().getBeginIndex(), index - barCount + 1); i <= index; i++) {
 
@@ -83,7 +86,7 @@ public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Num> {
         Num toSqrt = (n.multipliedBy(Sxx).minus(Sx.multipliedBy(Sx)))
                 .multipliedBy(n.multipliedBy(Syy).minus(Sy.multipliedBy(Sy)));
 
-        if (toSqrt.isGreaterThan(numOf(0))) {
+        if (toSqrt.isGreaterThan(numFactory().zero())) {
             // pearson = (n * Sxy - Sx * Sy) / sqrt((n * Sxx - Sx * Sx) * (n * Syy - Sy *
             // Sy))
             return (n.multipliedBy(Sxy).minus(Sx.multipliedBy(Sy))).dividedBy(toSqrt.sqrt());
@@ -91,4 +94,9 @@ public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Num> {
 
         return NaN;
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicator1, indicator2);
+    }
 }
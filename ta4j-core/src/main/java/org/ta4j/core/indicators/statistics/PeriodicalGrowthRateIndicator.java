@@ -25,6 +25,9 @@ package org.ta4j.core.indicators.statistics;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -73,7 +76,7 @@ public class PeriodicalGrowthRateIndicator extends CachedIndicator<Num> {
         super(indicator);
         this.indicator = indicator;
         this.barCount = barCount;
-        one = numOf(1);
+        one = numFactory().one();
     }
 
     /**
@@ -133,4 +136,9 @@ public class PeriodicalGrowthRateIndicator extends CachedIndicator<Num> {
         return timeframedReturn;
 
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
 }
@@ -23,8 +23,12 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.num.Num;
 
@@ -51,8 +55,10 @@ public class SigmaIndicator extends CachedIndicator<Num> {
         super(ref);
         this.ref = ref;
         this.barCount = barCount;
-        mean = new SMAIndicator(ref, barCount);
-        sd = new StandardDeviationIndicator(ref, barCount);
+        mean = IndicatorRegistry.shared(getBarSeries(), SMAIndicator.class, () -> new SMAIndicator(ref, barCount), ref,
+                barCount);
+        sd = IndicatorRegistry.shared(getBarSeries(), StandardDeviationIndicator.class,
+                () -> new StandardDeviationIndicator(ref, barCount), ref, barCount);
     }
 
     @Override
@@ -61,6 +67,11 @@ public class SigmaIndicator extends CachedIndicator<Num> {
         return (ref.getValue(index).minus(mean.getValue(index))).dividedBy(sd.getValue(index));
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(ref, mean, sd);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
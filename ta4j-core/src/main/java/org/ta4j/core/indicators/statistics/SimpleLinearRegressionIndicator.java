@@ -23,10 +23,12 @@
  */
 package org.ta4j.core.indicators.statistics;
 
-import static org.ta4j.core.num.NaN.NaN;
+import java.util.Collections;
+import java.util.List;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.num.Num;
 
 /**
@@ -35,6 +37,12 @@ import org.ta4j.core.num.Num;
  * A moving (i.e. over the time frame) simple linear regression (least squares).
  * y = slope * x + intercept See also:
  * http://introcs.cs.princeton.edu/java/97data/LinearRegression.java.html
+ *
+ * The value is one component of the line computed by
+ * {@link SimpleLinearRegressionLineIndicator}. The indicators of the same
+ * regression share one line if they are created from it, or through the
+ * {@link IndicatorRegistry} of the series; otherwise each of them computes its
+ * own line.
  */
 public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
 
@@ -45,11 +53,8 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
         Y, SLOPE, INTERCEPT
     }
 
-    private Indicator<Num> indicator;
-    private int barCount;
-    private Num slope;
-    private Num intercept;
-    private SimpleLinearRegressionType type;
+    private final SimpleLinearRegressionLineIndicator line;
+    private final SimpleLinearRegressionType type;
 
     /**
      * Constructor for the y-values of the formula (y = slope * x + intercept).
@@ -69,61 +74,40 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
      * @param type      the type of the outcome value (y, slope, intercept)
      */
     public SimpleLinearRegressionIndicator(Indicator<Num> indicator, int barCount, SimpleLinearRegressionType type) {
-        super(indicator);
-        this.indicator = indicator;
-        this.barCount = barCount;
+        this(IndicatorRegistry.shared(indicator.getBarSeries(), SimpleLinearRegressionLineIndicator.class,
+                () -> new SimpleLinearRegressionLineIndicator(indicator, barCount), indicator, barCount), type);
+    }
+
+    /**
+     * Constructor for a component of a regression line, e.g. to share the line
+     * between the indicators of its slope and its intercept.
+     *
+     * @param line the regression line
+     * @param type the type of the outcome value (y, slope, intercept)
+     */
+    public SimpleLinearRegressionIndicator(SimpleLinearRegressionLineIndicator line, SimpleLinearRegressionType type) {
+        super(line);
+        this.line = line;
         this.type = type;
     }
 
     @Override
     protected Num calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        if (index - startIndex + 1 < 2) {
-            // Not enough observations to compute a regression line
-            return NaN;
-        }
-        calculateRegressionLine(startIndex, index);
+        SimpleLinearRegressionLineIndicator.Line regressionLine = line.getValue(index);
 
         if (type == SimpleLinearRegressionType.SLOPE) {
-            return slope;
+            return regressionLine.getSlope();
         }
 
         if (type == SimpleLinearRegressionType.INTERCEPT) {
-            return intercept;
+            return regressionLine.getIntercept();
         }
 
-        return slope.multipliedBy(numOf(index)).plus(intercept);
+        return regressionLine.getY();
     }
 
-    /**
-     * Calculates the regression line.
-     *
-     * @param startIndex the start index (inclusive) in the bar series
-     * @param endIndex   the end index (inclusive) in the bar series
-     */
-    private void calculateRegressionLine(int startIndex, int endIndex) {
-        // First pass: compute xBar and yBar
-        Num sumX = numOf(0);
-        Num sumY = numOf(0);
-        for (int i = startIndex; i <= endIndex; i++) {
-            sumX = sumX.plus(numOf(i));
-            sumY = sumY.plus(indicator.getValue(i));
-        }
-        Num nbObservations = numOf(endIndex - startIndex + 1);
-        Num xBar = sumX.dividedBy(nbObservations);
-        Num yBar = sumY.dividedBy(nbObservations);
-
-        // Second pass: compute slope and intercept
-        Num xxBar = numOf(0);
-        Num xyBar = numOf(0);
-        for (int i = startIndex; i <= endIndex; i++) {
-            Num dX = numOf(i).minus(xBar);
-            Num dY = indicator.getValue(i).minus(yBar);
-            xxBar = xxBar.plus(dX.multipliedBy(dX));
-            xyBar = xyBar.plus(dX.multipliedBy(dY));
-        }
-
-        slope = xyBar.dividedBy(xxBar);
-        intercept = yBar.minus(slope.multipliedBy(xBar));
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(line);
     }
 }
@@ -0,0 +1,225 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.SlidingWindowState;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumAccumulator;
+
+/**
+ * Simple linear regression line indicator.
+ *
+ * The least squares line of the last {@code barCount} values, with its slope,
+ * its intercept and its value at the index computed together (see
+ * {@link SimpleLinearRegressionIndicator} for one of them).
+ *
+ * The line is computed from the sums of the values y and of the products x * y,
+ * where x is the position of the value in the window (0 for the first value):
+ * the sums of x and x * x only depend on the number of values. When the window
+ * slides, the sums are updated from the value entering the window and the one
+ * leaving it, see {@link SlidingWindowState}.
+ */
+public class SimpleLinearRegressionLineIndicator extends CachedIndicator<SimpleLinearRegressionLineIndicator.Line> {
+
+    /**
+     * A regression line {@code y = slope * x + intercept}, x being the index of a
+     * bar.
+     */
+    public static final class Line {
+
+        /** The line of less than two values */
+        private static final Line UNDEFINED = new Line(NaN, NaN, NaN);
+
+        private final Num slope;
+        private final Num intercept;
+        private final Num y;
+
+        private Line(Num slope, Num intercept, Num y) {
+            this.slope = slope;
+            this.intercept = intercept;
+            this.y = y;
+        }
+
+        /**
+         * @return the slope of the line
+         */
+        public Num getSlope() {
+            return slope;
+        }
+
+        /**
+         * @return the intercept of the line, i.e. its value at the index 0
+         */
+        public Num getIntercept() {
+            return intercept;
+        }
+
+        /**
+         * @return the value of the line at the index it is calculated for
+         */
+        public Num getY() {
+            return y;
+        }
+
+        @Override
+        public String toString() {
+            return "Line{slope=" + slope + ", intercept=" + intercept + ", y=" + y + "}";
+        }
+    }
+
+    private final Indicator<Num> indicator;
+    private final int barCount;
+
+    /** The sums of the window */
+    private final WindowSums sums;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator for the y-values of the line
+     * @param barCount  the time frame
+     */
+    public SimpleLinearRegressionLineIndicator(Indicator<Num> indicator, int barCount) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+        this.sums = new WindowSums();
+    }
+
+    @Override
+    protected Line calculate(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        final int count = index - startIndex + 1;
+        if (count < 2) {
+            // Not enough observations to compute a regression line
+            return Line.UNDEFINED;
+        }
+        if (sums.moveTo(index) && !sums.sumY.isNaN() && !sums.sumXY.isNaN()) {
+            return toLine(startIndex, count, sums.sumY, sums.sumXY);
+        }
+        Num[] windowSums = sumWindow(index);
+        return toLine(startIndex, count, windowSums[0], windowSums[1]);
+    }
+
+    /**
+     * @param startIndex the first index of the window
+     * @param count      the number of values of the window
+     * @param sumY       the sum of the values
+     * @param sumXY      the sum of the values times their position in the window
+     * @return the regression line
+     */
+    private Line toLine(int startIndex, int count, Num sumY, Num sumXY) {
+        Num n = numOf(count);
+        // mean of the positions 0..n-1, and sum of their squared deviations
+        Num meanX = numOf(count - 1).dividedBy(numOf(2));
+        Num sumXX = numOf((long) count * ((long) count * count - 1)).dividedBy(numOf(12));
+        Num meanY = sumY.dividedBy(n);
+        Num slope = sumXY.minus(meanX.multipliedBy(sumY)).dividedBy(sumXX);
+        // intercept at the first position of the window
+        Num windowIntercept = meanY.minus(slope.multipliedBy(meanX));
+        Num intercept = windowIntercept.minus(slope.multipliedBy(numOf(startIndex)));
+        Num y = slope.multipliedBy(numOf(count - 1)).plus(windowIntercept);
+        return new Line(slope, intercept, y);
+    }
+
+    /**
+     * @param index the last index of the window
+     * @return the sums of y and x * y of the window
+     */
+    private Num[] sumWindow(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        NumAccumulator windowSumY = numFactory().newAccumulator();
+        NumAccumulator windowSumXY = numFactory().newAccumulator();
+        for (int i = startIndex; i <= index; i++) {
+            Num value = indicator.getValue(i);
+            windowSumY.add(value);
+            windowSumXY.addProduct(numOf(i - startIndex), value);
+        }
+        return new Num[] { windowSumY.toNum(), windowSumXY.toNum() };
+    }
+
+    /** The sums of y and x * y of the window */
+    private final class WindowSums extends SlidingWindowState {
+
+        private Num sumY;
+        private Num sumXY;
+        private Num savedSumY;
+        private Num savedSumXY;
+
+        private WindowSums() {
+            super(getBarSeries(), barCount);
+        }
+
+        @Override
+        protected void reset(int index) {
+            Num[] windowSums = sumWindow(index);
+            sumY = windowSums[0];
+            sumXY = windowSums[1];
+        }
+
+        @Override
+        protected void update(int index) {
+            Num value = indicator.getValue(index);
+            if (index < barCount) {
+                // Growing window: the value is added at the position index
+                sumXY = sumXY.plus(numOf(index).multipliedBy(value));
+                sumY = sumY.plus(value);
+            } else {
+                // Sliding window: the other values move back by one position
+                Num remainingSumY = sumY.minus(indicator.getValue(index - barCount));
+                sumXY = sumXY.minus(remainingSumY).plus(numOf(barCount - 1).multipliedBy(value));
+                sumY = remainingSumY.plus(value);
+            }
+        }
+
+        @Override
+        protected void save() {
+            savedSumY = sumY;
+            savedSumXY = sumXY;
+        }
+
+        @Override
+        protected void restore() {
+            sumY = savedSumY;
+            sumXY = savedSumXY;
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(indicator);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -23,8 +23,12 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.num.Num;
 
 /**
@@ -34,7 +38,7 @@ import org.ta4j.core.num.Num;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:standard_deviation_volatility">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:standard_deviation_volatility</a>
  */
-public class StandardDeviationIndicator extends CachedIndicator<Num> {
+public class StandardDeviationIndicator extends CachedDoubleIndicator {
 
     private final VarianceIndicator variance;
 
@@ -46,11 +50,22 @@ public class StandardDeviationIndicator extends CachedIndicator<Num> {
      */
     public StandardDeviationIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
-        variance = new VarianceIndicator(indicator, barCount);
+        variance = IndicatorRegistry.shared(getBarSeries(), VarianceIndicator.class,
+                () -> new VarianceIndicator(indicator, barCount), indicator, barCount);
     }
 
     @Override
     protected Num calculate(int index) {
         return variance.getValue(index).sqrt();
     }
+
+    @Override
+    protected double calculateDouble(int index) {
+        return Math.sqrt(variance.getDouble(index));
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(variance);
+    }
 }
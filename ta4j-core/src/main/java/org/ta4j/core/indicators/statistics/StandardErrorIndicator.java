@@ -23,8 +23,12 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.num.Num;
 
 /**
@@ -45,7 +49,8 @@ public class StandardErrorIndicator extends CachedIndicator<Num> {
     public StandardErrorIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
         this.barCount = barCount;
-        this.sdev = new StandardDeviationIndicator(indicator, barCount);
+        this.sdev = IndicatorRegistry.shared(getBarSeries(), StandardDeviationIndicator.class,
+                () -> new StandardDeviationIndicator(indicator, barCount), indicator, barCount);
     }
 
     @Override
@@ -54,4 +59,9 @@ public class StandardErrorIndicator extends CachedIndicator<Num> {
         final int numberOfObservations = index - startIndex + 1;
         return sdev.getValue(index).dividedBy(numOf(numberOfObservations).sqrt());
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(sdev);
+    }
 }
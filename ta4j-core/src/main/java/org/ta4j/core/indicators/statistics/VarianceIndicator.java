@@ -23,20 +23,48 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.SlidingWindowState;
+import org.ta4j.core.num.DoubleNumMath;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumAccumulator;
 
 /**
  * Variance indicator.
+ *
+ * The population variance of the last {@code barCount} values, updated with
+ * Welford's method: when the window slides, the mean and the sum of the squared
+ * deviations are updated from the value entering the window and the one leaving
+ * it (see {@link SlidingWindowState}), instead of two passes over the window
+ * (the mean, then the squared deviations). The variance is computed in two
+ * passes if the update gives {@link Num#isNaN() NaN} or if the updates would
+ * use removed bars.
+ *
+ * The updated variance differs from the two-pass variance by a few units in the
+ * last place of the values for {@link org.ta4j.core.num.DoubleNum DoubleNum}
+ * and {@link org.ta4j.core.num.DecimalNum DecimalNum}, and by rounding errors
+ * of the mean at the scale of {@link org.ta4j.core.num.FixedPointNum
+ * FixedPointNum}.
  */
-public class VarianceIndicator extends CachedIndicator<Num> {
+public class VarianceIndicator extends CachedDoubleIndicator {
 
     private final Indicator<Num> indicator;
     private final int barCount;
     private final SMAIndicator sma;
 
+    /** The mean and the squared deviations, for {@link #calculate(int)} */
+    private final Deviations deviations;
+
+    /** The mean and the squared deviations, for {@link #calculateDouble(int)} */
+    private final DoubleDeviations doubleDeviations;
+
     /**
      * Constructor.
      * 
@@ -47,21 +75,152 @@ public class VarianceIndicator extends CachedIndicator<Num> {
         super(indicator);
         this.indicator = indicator;
         this.barCount = barCount;
-        this.sma = new SMAIndicator(indicator, barCount);
+        this.sma = IndicatorRegistry.shared(getBarSeries(), SMAIndicator.class,
+                () -> new SMAIndicator(indicator, barCount), indicator, barCount);
+        this.deviations = new Deviations();
+        this.doubleDeviations = new DoubleDeviations();
     }
 
     @Override
     protected Num calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Num variance = numOf(0);
-        Num average = sma.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Num pow = indicator.getValue(i).minus(average).pow(2);
-            variance = variance.plus(pow);
+        final int numberOfObservations = Math.min(barCount, index + 1);
+        if (deviations.moveTo(index) && !deviations.squaredDeviations.isNaN()) {
+            // Rounding errors may make a null variance slightly negative
+            Num sum = deviations.squaredDeviations.isNegative() ? numFactory().zero() : deviations.squaredDeviations;
+            return sum.dividedBy(numOf(numberOfObservations));
+        }
+        return sumOfSquaredDeviations(index, sma.getValue(index)).dividedBy(numOf(numberOfObservations));
+    }
+
+    private Num sumOfSquaredDeviations(int index, Num average) {
+        NumAccumulator sum = numFactory().newAccumulator();
+        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+            sum.addSquare(indicator.getValue(i).minus(average));
+        }
+        return sum.toNum();
+    }
+
+    @Override
+    protected double calculateDouble(int index) {
+        final int numberOfObservations = Math.min(barCount, index + 1);
+        if (doubleDeviations.moveTo(index) && !Double.isNaN(doubleDeviations.squaredDeviations)) {
+            double sum = doubleDeviations.squaredDeviations < 0 ? 0 : doubleDeviations.squaredDeviations;
+            return DoubleNumMath.dividedBy(sum, numberOfObservations);
+        }
+        return DoubleNumMath.dividedBy(sumOfSquaredDeviations(index, sma.getDouble(index)), numberOfObservations);
+    }
+
+    private double sumOfSquaredDeviations(int index, double average) {
+        double sum = 0;
+        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+            double deviation = DoubleIndicator.doubleValue(indicator, i) - average;
+            sum += deviation * deviation;
+        }
+        return sum;
+    }
+
+    /**
+     * The mean and the sum of the squared deviations of the window as {@link Num}
+     */
+    private final class Deviations extends SlidingWindowState {
+
+        private Num mean;
+        private Num squaredDeviations;
+        private Num savedMean;
+        private Num savedSquaredDeviations;
+
+        private Deviations() {
+            super(getBarSeries(), barCount);
+        }
+
+        @Override
+        protected void reset(int index) {
+            mean = sma.getValue(index);
+            squaredDeviations = sumOfSquaredDeviations(index, mean);
+        }
+
+        @Override
+        protected void update(int index) {
+            Num value = indicator.getValue(index);
+            if (index < barCount) {
+                // Growing window
+                Num delta = value.minus(mean);
+                mean = mean.plus(delta.dividedBy(numOf(index + 1)));
+                squaredDeviations = squaredDeviations.plus(delta.multipliedBy(value.minus(mean)));
+            } else {
+                // Sliding window
+                Num removed = indicator.getValue(index - barCount);
+                Num previousMean = mean;
+                Num difference = value.minus(removed);
+                mean = previousMean.plus(difference.dividedBy(numOf(barCount)));
+                squaredDeviations = squaredDeviations
+                        .plus(difference.multipliedBy(value.minus(mean).plus(removed.minus(previousMean))));
+            }
+        }
+
+        @Override
+        protected void save() {
+            savedMean = mean;
+            savedSquaredDeviations = squaredDeviations;
+        }
+
+        @Override
+        protected void restore() {
+            mean = savedMean;
+            squaredDeviations = savedSquaredDeviations;
+        }
+    }
+
+    /** The mean and the sum of the squared deviations of the window as doubles */
+    private final class DoubleDeviations extends SlidingWindowState {
+
+        private double mean;
+        private double squaredDeviations;
+        private double savedMean;
+        private double savedSquaredDeviations;
+
+        private DoubleDeviations() {
+            super(getBarSeries(), barCount);
         }
-        variance = variance.dividedBy(numOf(numberOfObservations));
-        return variance;
+
+        @Override
+        protected void reset(int index) {
+            mean = sma.getDouble(index);
+            squaredDeviations = sumOfSquaredDeviations(index, mean);
+        }
+
+        @Override
+        protected void update(int index) {
+            double value = DoubleIndicator.doubleValue(indicator, index);
+            if (index < barCount) {
+                double delta = value - mean;
+                mean += DoubleNumMath.dividedBy(delta, index + 1);
+                squaredDeviations += delta * (value - mean);
+            } else {
+                double removed = DoubleIndicator.doubleValue(indicator, index - barCount);
+                double previousMean = mean;
+                double difference = value - removed;
+                mean = previousMean + DoubleNumMath.dividedBy(difference, barCount);
+                squaredDeviations += difference * ((value - mean) + (removed - previousMean));
+            }
+        }
+
+        @Override
+        protected void save() {
+            savedMean = mean;
+            savedSquaredDeviations = squaredDeviations;
+        }
+
+        @Override
+        protected void restore() {
+            mean = savedMean;
+            squaredDeviations = savedSquaredDeviations;
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(indicator, sma);
     }
 
     @Override
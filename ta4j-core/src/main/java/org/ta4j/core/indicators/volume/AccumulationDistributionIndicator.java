@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.indicators.helpers.CloseLocationValueIndicator;
 import org.ta4j.core.num.Num;
@@ -43,7 +47,7 @@ public class AccumulationDistributionIndicator extends RecursiveCachedIndicator<
     @Override
     protected Num calculate(int index) {
         if (index == 0) {
-            return numOf(0);
+            return numFactory().zero();
         }
 
         // Calculating the money flow multiplier
@@ -54,4 +58,9 @@ public class AccumulationDistributionIndicator extends RecursiveCachedIndicator<
 
         return moneyFlowVolume.plus(getValue(index - 1));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(clvIndicator);
+    }
 }
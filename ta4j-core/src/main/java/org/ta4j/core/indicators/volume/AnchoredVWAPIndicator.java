@@ -0,0 +1,158 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.volume;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
+import org.ta4j.core.indicators.helpers.VolumeIndicator;
+import org.ta4j.core.indicators.pivotpoints.TimeLevel;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.TimeUtils;
+
+/**
+ * The anchored (or session) volume-weighted average price Indicator.
+ *
+ * The VWAP of the bars since the beginning of the period (day, ISO week, month
+ * or year of the end time of the bar, in its zone) of the current bar:
+ * {@link TimeLevel#BARBASED} starts a new period at each bar. The sums of the
+ * typical prices times the volumes and of the volumes are reset at the first
+ * bar of each period and updated at each following bar, in O(1) per index in
+ * sequential calculations. The sums of the bar before the last one are kept, so
+ * that each new value of the last bar also takes O(1). On random access, the
+ * bars of the period are summed from its first bar (or the first remaining bar
+ * of a moving series).
+ *
+ * @see VWAPIndicator
+ * @see <a href=
+ *      "https://www.investopedia.com/terms/v/vwap.asp">https://www.investopedia.com/terms/v/vwap.asp</a>
+ */
+public class AnchoredVWAPIndicator extends CachedIndicator<Num> {
+
+    private final TimeLevel timeLevel;
+    private final Indicator<Num> typicalPrice;
+    private final Indicator<Num> volume;
+
+    /** The sums of the period of {@link #sumIndex} up to it, or null */
+    private Num priceVolumeSum;
+    private Num volumeSum;
+    private int sumIndex = -1;
+    private long sumPeriod;
+
+    /**
+     * Constructor.
+     *
+     * @param series    the series
+     * @param timeLevel the period of the VWAP, e.g. {@link TimeLevel#DAY} for a
+     *                  daily session VWAP
+     */
+    public AnchoredVWAPIndicator(BarSeries series, TimeLevel timeLevel) {
+        super(series);
+        this.timeLevel = Objects.requireNonNull(timeLevel, "timeLevel");
+        this.typicalPrice = new TypicalPriceIndicator(series);
+        this.volume = new VolumeIndicator(series);
+    }
+
+    @Override
+    protected Num calculate(int index) {
+        BarSeries series = getBarSeries();
+        long period = getPeriod(index);
+        Num updatedPriceVolumeSum;
+        Num updatedVolumeSum;
+        int updatedIndex;
+        if (priceVolumeSum != null && sumIndex <= index && sumPeriod == period) {
+            // The bars between them belong to the same period
+            updatedPriceVolumeSum = priceVolumeSum;
+            updatedVolumeSum = volumeSum;
+            updatedIndex = sumIndex;
+        } else {
+            // Summing the period from its first bar
+            int firstIndex = index;
+            int beginIndex = Math.max(series.getBeginIndex(), series.getRemovedBarsCount());
+            while (firstIndex > beginIndex && getPeriod(firstIndex - 1) == period) {
+                firstIndex--;
+            }
+            updatedPriceVolumeSum = numFactory().zero();
+            updatedVolumeSum = numFactory().zero();
+            updatedIndex = firstIndex - 1;
+        }
+        // The bars before the end index don't change anymore
+        int lastStableIndex = Math.min(index, series.getEndIndex() - 1);
+        while (updatedIndex < index) {
+            updatedIndex++;
+            Num currentVolume = volume.getValue(updatedIndex);
+            updatedPriceVolumeSum = updatedPriceVolumeSum
+                    .plus(typicalPrice.getValue(updatedIndex).multipliedBy(currentVolume));
+            updatedVolumeSum = updatedVolumeSum.plus(currentVolume);
+            if (updatedIndex == lastStableIndex) {
+                priceVolumeSum = updatedPriceVolumeSum;
+                volumeSum = updatedVolumeSum;
+                sumIndex = updatedIndex;
+                sumPeriod = period;
+            }
+        }
+        return updatedPriceVolumeSum.dividedBy(updatedVolumeSum);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the period of the bar, as a number increasing with time
+     */
+    private long getPeriod(int index) {
+        if (timeLevel == TimeLevel.BARBASED) {
+            return index;
+        }
+        Bar bar = getBarSeries().getBar(index);
+        long epochDay = TimeUtils.toEpochDay(bar.getEndTimeEpochNanos(), bar.getZone());
+        switch (timeLevel) {
+        case DAY:
+            return epochDay;
+        case WEEK:
+            // 1970-01-01 was a Thursday, weeks start on Monday
+            return Math.floorDiv(epochDay + 3, 7L);
+        case MONTH:
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            return date.getYear() * 12L + date.getMonthValue();
+        default:
+            return LocalDate.ofEpochDay(epochDay).getYear();
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(typicalPrice, volume);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " timeLevel: " + timeLevel;
+    }
+}
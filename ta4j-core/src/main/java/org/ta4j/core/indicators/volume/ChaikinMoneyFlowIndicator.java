@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.CloseLocationValueIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
@@ -55,7 +59,7 @@ public class ChaikinMoneyFlowIndicator extends CachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         int startIndex = Math.max(0, index - barCount + 1);
-        Num sumOfMoneyFlowVolume = numOf(0);
+        Num sumOfMoneyFlowVolume = numFactory().zero();
         for (int i = startIndex; i <= index; i++) {
             sumOfMoneyFlowVolume = sumOfMoneyFlowVolume.plus(getMoneyFlowVolume(i));
         }
@@ -72,6 +76,11 @@ public class ChaikinMoneyFlowIndicator extends CachedIndicator<Num> {
         return clvIndicator.getValue(index).multipliedBy(getBarSeries().getBar(index).getVolume());
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(clvIndicator, volumeIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
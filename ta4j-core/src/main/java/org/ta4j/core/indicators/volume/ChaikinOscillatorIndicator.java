@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.EMAIndicator;
 import org.ta4j.core.num.Num;
@@ -66,4 +70,9 @@ public class ChaikinOscillatorIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return emaShort.getValue(index).minus(emaLong.getValue(index));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(emaShort, emaLong);
+    }
 }
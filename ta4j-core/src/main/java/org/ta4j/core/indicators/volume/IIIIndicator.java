@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
@@ -51,13 +55,13 @@ public class IIIIndicator extends CachedIndicator<Num> {
         this.highPriceIndicator = new HighPriceIndicator(series);
         this.lowPriceIndicator = new LowPriceIndicator(series);
         this.volumeIndicator = new VolumeIndicator(series);
-        this.two = numOf(2);
+        this.two = numFactory().two();
     }
 
     @Override
     protected Num calculate(int index) {
         if (index == getBarSeries().getBeginIndex()) {
-            return numOf(0);
+            return numFactory().zero();
         }
         final Num doubledClosePrice = two.multipliedBy(closePriceIndicator.getValue(index));
         final Num high = highPriceIndicator.getValue(index);
@@ -68,4 +72,9 @@ public class IIIIndicator extends CachedIndicator<Num> {
         return doubledClosePrice.minus(highPlusLow)
                 .dividedBy(highMinusLow.multipliedBy(volumeIndicator.getValue(index)));
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(closePriceIndicator, highPriceIndicator, lowPriceIndicator, volumeIndicator);
+    }
 }
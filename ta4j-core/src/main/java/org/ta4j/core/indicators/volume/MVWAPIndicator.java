@@ -23,6 +23,9 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
@@ -55,4 +58,8 @@ public class MVWAPIndicator extends CachedIndicator<Num> {
         return sma.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.singletonList(sma);
+    }
 }
@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -42,7 +46,7 @@ public class OnBalanceVolumeIndicator extends RecursiveCachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         if (index == 0) {
-            return numOf(0);
+            return numFactory().zero();
         }
         final Num prevClose = getBarSeries().getBar(index - 1).getClosePrice();
         final Num currentClose = getBarSeries().getBar(index).getClosePrice();
@@ -56,4 +60,9 @@ public class OnBalanceVolumeIndicator extends RecursiveCachedIndicator<Num> {
             return obvPrev;
         }
     }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
@@ -23,8 +23,12 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -62,4 +66,8 @@ public class PVIIndicator extends RecursiveCachedIndicator<Num> {
         return previousValue;
     }
 
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
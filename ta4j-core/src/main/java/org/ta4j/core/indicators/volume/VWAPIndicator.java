@@ -23,16 +23,26 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.SlidingWindowState;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumAccumulator;
 
 /**
  * The volume-weighted average price (VWAP) Indicator.
- * 
+ *
+ * The sums of the typical prices times the volumes and of the volumes of the
+ * window are updated from the bar entering the window and the one leaving it,
+ * see {@link SlidingWindowState}.
+ *
+ * @see AnchoredVWAPIndicator
  * @see <a href=
  *      "http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp">
  *      http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp</a>
@@ -49,6 +59,9 @@ public class VWAPIndicator extends CachedIndicator<Num> {
     private final Indicator<Num> volume;
     private final Num zero;
 
+    /** The sums of the window */
+    private final WindowSums sums;
+
     /**
      * Constructor.
      * 
@@ -60,7 +73,8 @@ public class VWAPIndicator extends CachedIndicator<Num> {
         this.barCount = barCount;
         this.typicalPrice = new TypicalPriceIndicator(series);
         this.volume = new VolumeIndicator(series);
-        this.zero = numOf(0);
+        this.zero = numFactory().zero();
+        this.sums = new WindowSums();
     }
 
     @Override
@@ -68,15 +82,73 @@ public class VWAPIndicator extends CachedIndicator<Num> {
         if (index <= 0) {
             return typicalPrice.getValue(index);
         }
-        int startIndex = Math.max(0, index - barCount + 1);
-        Num cumulativeTPV = zero;
-        Num cumulativeVolume = zero;
-        for (int i = startIndex; i <= index; i++) {
+        if (sums.moveTo(index) && !sums.priceVolumeSum.isNaN() && !sums.volumeSum.isNaN()) {
+            return sums.priceVolumeSum.dividedBy(sums.volumeSum);
+        }
+        NumAccumulator cumulativeTPV = zero.newAccumulator();
+        NumAccumulator cumulativeVolume = zero.newAccumulator();
+        sumWindow(index, cumulativeTPV, cumulativeVolume);
+        return cumulativeTPV.toNum().dividedBy(cumulativeVolume.toNum());
+    }
+
+    private void sumWindow(int index, NumAccumulator cumulativeTPV, NumAccumulator cumulativeVolume) {
+        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
             Num currentVolume = volume.getValue(i);
-            cumulativeTPV = cumulativeTPV.plus(typicalPrice.getValue(i).multipliedBy(currentVolume));
-            cumulativeVolume = cumulativeVolume.plus(currentVolume);
+            cumulativeTPV.addProduct(typicalPrice.getValue(i), currentVolume);
+            cumulativeVolume.add(currentVolume);
+        }
+    }
+
+    /** The sums of the typical prices times the volumes and of the volumes */
+    private final class WindowSums extends SlidingWindowState {
+
+        private Num priceVolumeSum;
+        private Num volumeSum;
+        private Num savedPriceVolumeSum;
+        private Num savedVolumeSum;
+
+        private WindowSums() {
+            super(getBarSeries(), barCount);
         }
-        return cumulativeTPV.dividedBy(cumulativeVolume);
+
+        @Override
+        protected void reset(int index) {
+            NumAccumulator cumulativeTPV = zero.newAccumulator();
+            NumAccumulator cumulativeVolume = zero.newAccumulator();
+            sumWindow(index, cumulativeTPV, cumulativeVolume);
+            priceVolumeSum = cumulativeTPV.toNum();
+            volumeSum = cumulativeVolume.toNum();
+        }
+
+        @Override
+        protected void update(int index) {
+            Num currentVolume = volume.getValue(index);
+            priceVolumeSum = priceVolumeSum.plus(typicalPrice.getValue(index).multipliedBy(currentVolume));
+            volumeSum = volumeSum.plus(currentVolume);
+            if (index >= barCount) {
+                Num removedVolume = volume.getValue(index - barCount);
+                priceVolumeSum = priceVolumeSum
+                        .minus(typicalPrice.getValue(index - barCount).multipliedBy(removedVolume));
+                volumeSum = volumeSum.minus(removedVolume);
+            }
+        }
+
+        @Override
+        protected void save() {
+            savedPriceVolumeSum = priceVolumeSum;
+            savedVolumeSum = volumeSum;
+        }
+
+        @Override
+        protected void restore() {
+            priceVolumeSum = savedPriceVolumeSum;
+            volumeSum = savedVolumeSum;
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getInputs() {
+        return Arrays.asList(typicalPrice, volume);
     }
 
     @Override
@@ -74,9 +74,24 @@ public final class DecimalNum implements Num {
     private static final int DEFAULT_PRECISION = 32;
     private static final Logger log = LoggerFactory.getLogger(DecimalNum.class);
 
+    /** Shared contexts, created on first use of a precision */
+    private static final MathContext[] MATH_CONTEXTS = new MathContext[1025];
+    private static final MathContext DEFAULT_MATH_CONTEXT = mathContext(DEFAULT_PRECISION);
+    /** Digits of a {@code BigDecimal} that are always kept in a long */
+    private static final int COMPACT_PRECISION = 18;
+    private static final MathContext COMPACT_MATH_CONTEXT = mathContext(COMPACT_PRECISION);
+
+    /** Cached small integers of the default precision, as requested by numOf */
+    private static final int LOWEST_CACHED_INT = -128;
+    private static final DecimalNum[] INTS = newInts(LOWEST_CACHED_INT, 1024);
+
     private static final DecimalNum ZERO = DecimalNum.valueOf(0);
     private static final DecimalNum ONE = DecimalNum.valueOf(1);
     private static final DecimalNum HUNDRED = DecimalNum.valueOf(100);
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private static final Function<Number, Num> DEFAULT_FUNCTION = number -> DecimalNum.valueOf(number,
+            DEFAULT_MATH_CONTEXT);
 
     private final MathContext mathContext;
     private final BigDecimal delegate;
@@ -88,8 +103,7 @@ public final class DecimalNum implements Num {
      */
     private DecimalNum(String val) {
         delegate = new BigDecimal(val);
-        int precision = Math.max(delegate.precision(), DEFAULT_PRECISION);
-        mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+        mathContext = mathContext(Math.max(delegate.precision(), DEFAULT_PRECISION));
     }
 
     /**
@@ -100,40 +114,61 @@ public final class DecimalNum implements Num {
      * @param precision the int precision of the Num value
      */
     private DecimalNum(String val, int precision) {
-        mathContext = new MathContext(precision, RoundingMode.HALF_UP);
-        delegate = new BigDecimal(val, new MathContext(precision, RoundingMode.HALF_UP));
-    }
-
-    private DecimalNum(short val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = mathContext(precision);
         delegate = new BigDecimal(val, mathContext);
     }
 
-    private DecimalNum(int val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
-        delegate = BigDecimal.valueOf(val);
-    }
-
     private DecimalNum(long val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = DEFAULT_MATH_CONTEXT;
         delegate = BigDecimal.valueOf(val);
     }
 
     private DecimalNum(float val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = DEFAULT_MATH_CONTEXT;
         delegate = new BigDecimal(val, mathContext);
     }
 
     private DecimalNum(double val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = DEFAULT_MATH_CONTEXT;
         delegate = BigDecimal.valueOf(val);
     }
 
     private DecimalNum(BigDecimal val, int precision) {
-        mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+        this(val, mathContext(precision));
+    }
+
+    private DecimalNum(BigDecimal val, MathContext mathContext) {
+        this.mathContext = mathContext;
         delegate = Objects.requireNonNull(val);
     }
 
+    /**
+     * Returns the shared {@code HALF_UP} context of the given precision.
+     *
+     * @param precision the precision
+     * @return the MathContext
+     */
+    private static MathContext mathContext(int precision) {
+        if (precision < 0 || precision >= MATH_CONTEXTS.length) {
+            return new MathContext(precision, RoundingMode.HALF_UP);
+        }
+        MathContext mathContext = MATH_CONTEXTS[precision];
+        if (mathContext == null) {
+            // MathContext is immutable, racing threads create equal instances
+            mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+            MATH_CONTEXTS[precision] = mathContext;
+        }
+        return mathContext;
+    }
+
+    private static DecimalNum[] newInts(int from, int to) {
+        DecimalNum[] ints = new DecimalNum[to - from + 1];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = new DecimalNum(from + i);
+        }
+        return ints;
+    }
+
     @Override
     public Num zero() {
         return ZERO;
@@ -184,7 +219,7 @@ public final class DecimalNum implements Num {
      * @return the {@code Num}
      */
     public static DecimalNum valueOf(short val) {
-        return new DecimalNum(val);
+        return valueOf((long) val);
     }
 
     /**
@@ -194,7 +229,7 @@ public final class DecimalNum implements Num {
      * @return the {@code Num}
      */
     public static DecimalNum valueOf(int val) {
-        return new DecimalNum(val);
+        return valueOf((long) val);
     }
 
     /**
@@ -204,6 +239,10 @@ public final class DecimalNum implements Num {
      * @return the {@code Num}
      */
     public static DecimalNum valueOf(long val) {
+        long cacheIndex = val - LOWEST_CACHED_INT;
+        if (cacheIndex >= 0 && cacheIndex < INTS.length) {
+            return INTS[(int) cacheIndex];
+        }
         return new DecimalNum(val);
     }
 
@@ -261,12 +300,46 @@ public final class DecimalNum implements Num {
      * @return the {@code Num}
      */
     public static DecimalNum valueOf(Number val) {
+        if (isInteger(val)) {
+            return valueOf(val.longValue());
+        }
         return new DecimalNum(val.toString());
     }
 
+    /**
+     * Returns a {@code Num} version of the given {@code Number}, rounded to the
+     * given context. Integers are not converted to a string first.
+     */
+    private static DecimalNum valueOf(Number val, MathContext mathContext) {
+        if (isInteger(val)) {
+            if (mathContext == DEFAULT_MATH_CONTEXT) {
+                return valueOf(val.longValue());
+            }
+            return new DecimalNum(BigDecimal.valueOf(val.longValue()).round(mathContext), mathContext);
+        }
+        String string = val.toString();
+        if (string.equalsIgnoreCase("NAN")) {
+            throw new NumberFormatException();
+        }
+        return new DecimalNum(new BigDecimal(string, mathContext), mathContext);
+    }
+
+    private static boolean isInteger(Number val) {
+        return val instanceof Integer || val instanceof Long || val instanceof Short || val instanceof Byte;
+    }
+
     @Override
     public Function<Number, Num> function() {
-        return (number -> DecimalNum.valueOf(number.toString(), mathContext.getPrecision()));
+        if (mathContext == DEFAULT_MATH_CONTEXT) {
+            return DEFAULT_FUNCTION;
+        }
+        MathContext context = mathContext;
+        return number -> DecimalNum.valueOf(number, context);
+    }
+
+    @Override
+    public Num numOf(Number value) {
+        return valueOf(value, mathContext);
     }
 
     /**
@@ -298,10 +371,26 @@ public final class DecimalNum implements Num {
         if (augend.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) augend).delegate;
+        BigDecimal result = round(delegate.add(((DecimalNum) augend).delegate));
+        return new DecimalNum(result, mathContext);
+    }
+
+    /**
+     * Rounds an exact result to the context of this value. Adding or subtracting
+     * without a context and rounding afterwards gives the same value as the
+     * {@code MathContext} variants, but keeps the compact {@code long}
+     * representation of {@code BigDecimal} instead of inflating both operands.
+     */
+    private BigDecimal round(BigDecimal exactResult) {
+        return round(exactResult, mathContext);
+    }
+
+    private static BigDecimal round(BigDecimal exactResult, MathContext mathContext) {
         int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.add(bigDecimal, mathContext);
-        return new DecimalNum(result, precision);
+        if (precision == 0 || exactResult.precision() <= precision) {
+            return exactResult;
+        }
+        return exactResult.round(mathContext);
     }
 
     /**
@@ -317,10 +406,8 @@ public final class DecimalNum implements Num {
         if (subtrahend.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) subtrahend).delegate;
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.subtract(bigDecimal, mathContext);
-        return new DecimalNum(result, precision);
+        BigDecimal result = round(delegate.subtract(((DecimalNum) subtrahend).delegate));
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -336,10 +423,8 @@ public final class DecimalNum implements Num {
         if (multiplicand.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) multiplicand).delegate;
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.multiply(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
-        return new DecimalNum(result, precision);
+        BigDecimal result = delegate.multiply(((DecimalNum) multiplicand).delegate, mathContext);
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -355,10 +440,61 @@ public final class DecimalNum implements Num {
         if (divisor.isNaN() || divisor.isZero()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) divisor).delegate;
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.divide(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
-        return new DecimalNum(result, precision);
+        BigDecimal divisorValue = ((DecimalNum) divisor).delegate;
+        if (mathContext.getPrecision() > COMPACT_PRECISION && delegate.signum() != 0
+                && hasFiniteInverse(divisorValue)) {
+            // BigDecimal strips the trailing zeros of an exact quotient one BigInteger
+            // division at a time, so try whether a quotient fitting a long is exact first
+            BigDecimal compactResult = delegate.divide(divisorValue, COMPACT_MATH_CONTEXT);
+            if (compactResult.multiply(divisorValue).compareTo(delegate) == 0) {
+                return new DecimalNum(withPreferredScale(compactResult, divisorValue), mathContext);
+            }
+        }
+        BigDecimal result = delegate.divide(divisorValue, mathContext);
+        return new DecimalNum(result, mathContext);
+    }
+
+    /**
+     * Gives an exact quotient the scale of
+     * {@link BigDecimal#divide(BigDecimal, MathContext)}: the preferred scale
+     * {@code this.scale() - divisor.scale()}, as close as the precision allows
+     * without rounding.
+     *
+     * @param quotient the exact quotient of this by the divisor (not zero)
+     * @param divisor  the divisor
+     * @return the quotient with the scale of the division
+     */
+    private BigDecimal withPreferredScale(BigDecimal quotient, BigDecimal divisor) {
+        BigDecimal stripped = quotient.stripTrailingZeros();
+        long preferredScale = (long) delegate.scale() - divisor.scale();
+        if (preferredScale <= stripped.scale()) {
+            return stripped;
+        }
+        long scale = Math.min(preferredScale,
+                (long) stripped.scale() + mathContext.getPrecision() - stripped.precision());
+        return stripped.setScale((int) scale);
+    }
+
+    /**
+     * @return true if {@code 1 / divisor} has a finite decimal expansion, i.e. if
+     *         the unscaled value has no other prime factors than 2 and 5
+     */
+    private static boolean hasFiniteInverse(BigDecimal divisor) {
+        if (divisor.precision() > COMPACT_PRECISION) {
+            return false;
+        }
+        BigDecimal integer = divisor.scale() == 0 ? divisor : divisor.scaleByPowerOfTen(divisor.scale());
+        long unscaledValue = Math.abs(integer.longValue());
+        while (unscaledValue % 10 == 0) {
+            unscaledValue /= 10;
+        }
+        while (unscaledValue % 2 == 0) {
+            unscaledValue /= 2;
+        }
+        while (unscaledValue % 5 == 0) {
+            unscaledValue /= 5;
+        }
+        return unscaledValue == 1;
     }
 
     /**
@@ -374,10 +510,8 @@ public final class DecimalNum implements Num {
         if (divisor.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) divisor).delegate;
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.remainder(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
-        return new DecimalNum(result, precision);
+        BigDecimal result = delegate.remainder(((DecimalNum) divisor).delegate, mathContext);
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -412,9 +546,8 @@ public final class DecimalNum implements Num {
      */
     @Override
     public Num pow(int n) {
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.pow(n, new MathContext(precision, RoundingMode.HALF_UP));
-        return new DecimalNum(result, precision);
+        BigDecimal result = delegate.pow(n, mathContext);
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -448,39 +581,45 @@ public final class DecimalNum implements Num {
 
         // Direct implementation of the example in:
         // https://en.wikipedia.org/wiki/Methods_of_computing_square_roots#Babylonian_method
-        MathContext precisionContext = new MathContext(precision, RoundingMode.HALF_UP);
-        BigDecimal estimate = new BigDecimal(delegate.toString(), precisionContext);
-        String string = String.format(Locale.ROOT, "%1.1e", estimate);
-        log.trace("scientific notation {}", string);
-        if (string.contains("e")) {
-            String[] parts = string.split("e");
-            BigDecimal mantissa = new BigDecimal(parts[0]);
-            BigDecimal exponent = new BigDecimal(parts[1]);
-            if (exponent.remainder(new BigDecimal(2)).compareTo(BigDecimal.ZERO) > 0) {
-                exponent = exponent.subtract(BigDecimal.ONE);
-                mantissa = mantissa.multiply(BigDecimal.TEN);
-                log.trace("modified notatation {}e{}", mantissa, exponent);
-            }
-            BigDecimal estimatedMantissa = mantissa.compareTo(BigDecimal.TEN) < 0 ? new BigDecimal(2)
-                    : new BigDecimal(6);
-            BigDecimal estimatedExponent = exponent.divide(new BigDecimal(2));
-            String estimateString = String.format("%sE%s", estimatedMantissa, estimatedExponent);
-            if (log.isTraceEnabled()) {
-                log.trace("x[0] =~ sqrt({}...*10^{}) =~ {}", mantissa, exponent, estimateString);
-            }
-            DecimalFormat format = new DecimalFormat();
-            format.setParseBigDecimal(true);
-            try {
-                estimate = (BigDecimal) format.parse(estimateString);
-            } catch (ParseException e) {
-                log.error("PrecicionNum ParseException:", e);
+        MathContext precisionContext = mathContext(precision);
+        BigDecimal estimate;
+        double approximation = Math.sqrt(delegate.doubleValue());
+        if (approximation > 0 && approximation < Double.POSITIVE_INFINITY) {
+            // start from the double root, leaving only the remaining digits to refine
+            estimate = BigDecimal.valueOf(approximation);
+        } else {
+            estimate = new BigDecimal(delegate.toString(), precisionContext);
+            String string = String.format(Locale.ROOT, "%1.1e", estimate);
+            log.trace("scientific notation {}", string);
+            if (string.contains("e")) {
+                String[] parts = string.split("e");
+                BigDecimal mantissa = new BigDecimal(parts[0]);
+                BigDecimal exponent = new BigDecimal(parts[1]);
+                if (exponent.remainder(new BigDecimal(2)).compareTo(BigDecimal.ZERO) > 0) {
+                    exponent = exponent.subtract(BigDecimal.ONE);
+                    mantissa = mantissa.multiply(BigDecimal.TEN);
+                    log.trace("modified notatation {}e{}", mantissa, exponent);
+                }
+                BigDecimal estimatedMantissa = mantissa.compareTo(BigDecimal.TEN) < 0 ? new BigDecimal(2)
+                        : new BigDecimal(6);
+                BigDecimal estimatedExponent = exponent.divide(new BigDecimal(2));
+                String estimateString = String.format("%sE%s", estimatedMantissa, estimatedExponent);
+                if (log.isTraceEnabled()) {
+                    log.trace("x[0] =~ sqrt({}...*10^{}) =~ {}", mantissa, exponent, estimateString);
+                }
+                DecimalFormat format = new DecimalFormat();
+                format.setParseBigDecimal(true);
+                try {
+                    estimate = (BigDecimal) format.parse(estimateString);
+                } catch (ParseException e) {
+                    log.error("PrecicionNum ParseException:", e);
+                }
             }
         }
         BigDecimal delta;
         BigDecimal test;
         BigDecimal sum;
         BigDecimal newEstimate;
-        BigDecimal two = new BigDecimal(2);
         String estimateString;
         int endIndex;
         int frontEndIndex;
@@ -489,7 +628,7 @@ public final class DecimalNum implements Num {
         do {
             test = delegate.divide(estimate, precisionContext);
             sum = estimate.add(test);
-            newEstimate = sum.divide(two, precisionContext);
+            newEstimate = sum.divide(TWO, precisionContext);
             delta = newEstimate.subtract(estimate).abs();
             estimate = newEstimate;
             if (log.isTraceEnabled()) {
@@ -548,7 +687,10 @@ public final class DecimalNum implements Num {
      */
     @Override
     public Num abs() {
-        return new DecimalNum(delegate.abs(), mathContext.getPrecision());
+        if (delegate.signum() >= 0) {
+            return this;
+        }
+        return new DecimalNum(delegate.negate(), mathContext);
     }
 
     /**
@@ -559,7 +701,7 @@ public final class DecimalNum implements Num {
      */
     @Override
     public Num negate() {
-        return new DecimalNum(delegate.negate(), mathContext.getPrecision());
+        return new DecimalNum(delegate.negate(), mathContext);
     }
 
     /**
@@ -792,4 +934,70 @@ public final class DecimalNum implements Num {
         return new DecimalNum(result.toString());
     }
 
+    @Override
+    public NumAccumulator newAccumulator() {
+        return new Accumulator(delegate, mathContext);
+    }
+
+    /**
+     * Sums on a single {@code BigDecimal}, rounded like {@link #plus(Num)} in the
+     * context of the initial value.
+     */
+    private static final class Accumulator implements NumAccumulator {
+
+        private final MathContext mathContext;
+        private BigDecimal sum;
+        private boolean isNaN;
+
+        private Accumulator(BigDecimal initialValue, MathContext mathContext) {
+            this.sum = initialValue;
+            this.mathContext = mathContext;
+        }
+
+        @Override
+        public NumAccumulator add(Num value) {
+            if (value.isNaN()) {
+                isNaN = true;
+            } else {
+                sum = round(sum.add(((DecimalNum) value).delegate), mathContext);
+            }
+            return this;
+        }
+
+        @Override
+        public NumAccumulator addProduct(Num multiplicand, Num multiplier) {
+            if (multiplicand.isNaN() || multiplier.isNaN()) {
+                isNaN = true;
+            } else {
+                DecimalNum decimalMultiplicand = (DecimalNum) multiplicand;
+                BigDecimal product = decimalMultiplicand.delegate.multiply(((DecimalNum) multiplier).delegate,
+                        decimalMultiplicand.mathContext);
+                sum = round(sum.add(product), mathContext);
+            }
+            return this;
+        }
+
+        @Override
+        public NumAccumulator addSquare(Num value) {
+            return addProduct(value, value);
+        }
+
+        @Override
+        public NumAccumulator addAbsoluteDifference(Num minuend, Num subtrahend) {
+            if (minuend.isNaN() || subtrahend.isNaN()) {
+                isNaN = true;
+            } else {
+                DecimalNum decimalMinuend = (DecimalNum) minuend;
+                BigDecimal difference = decimalMinuend
+                        .round(decimalMinuend.delegate.subtract(((DecimalNum) subtrahend).delegate));
+                sum = round(sum.add(difference.abs()), mathContext);
+            }
+            return this;
+        }
+
+        @Override
+        public Num toNum() {
+            return isNaN ? NaN : new DecimalNum(sum, mathContext);
+        }
+    }
 }
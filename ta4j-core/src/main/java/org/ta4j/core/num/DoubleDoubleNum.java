@@ -0,0 +1,662 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.Function;
+
+/**
+ * Representation of a double-double: the unevaluated sum of two non-overlapping
+ * doubles {@code hi + lo}, with {@code |lo| <= ulp(hi) / 2}. This gives about
+ * 32 significant decimal digits at a fraction of the cost of a
+ * {@link DecimalNum} of the same precision, which makes it suitable for long
+ * compounding chains that lose too many digits with {@link DoubleNum}.
+ *
+ * <p>
+ * The arithmetic follows the algorithms of Dekker, Knuth and the QD library of
+ * Hida, Li and Bailey. {@link #sqrt()}, {@link #log()} and {@link #pow(Num)}
+ * are computed to double-double precision as well. The exponent range is the
+ * one of {@code double}.
+ *
+ * @apiNote the delegate should never become a NaN value. No self NaN checks
+ *          provided
+ */
+public final class DoubleDoubleNum implements Num {
+
+    /** 2^27 + 1, used to split a double into two 26 bit halves */
+    private static final double SPLITTER = 134217729.0;
+    private static final double SPLIT_THRESHOLD = 6.69692879491417e+299;
+    private static final double TWO_POWER_28 = 0x1p28;
+    private static final double TWO_POWER_MINUS_28 = 0x1p-28;
+
+    /** Relative precision of a double-double, 2^-104 */
+    private static final double EPS = 4.93038065763132e-32;
+
+    /** Significant digits shown by {@link #toString()} */
+    private static final MathContext STRING_CONTEXT = new MathContext(32, RoundingMode.HALF_EVEN);
+
+    private static final DoubleDoubleNum ZERO = new DoubleDoubleNum(0, 0);
+    private static final DoubleDoubleNum ONE = new DoubleDoubleNum(1, 0);
+    private static final DoubleDoubleNum HUNDRED = new DoubleDoubleNum(100, 0);
+    private static final DoubleDoubleNum LN2 = new DoubleDoubleNum(6.931471805599452862e-01, 2.319046813846299558e-17);
+
+    /** 1/3!, 1/4!, ..., 1/8! for the Taylor series of exp */
+    private static final DoubleDoubleNum[] INVERSE_FACTORIALS = inverseFactorials(6);
+
+    private final double hi;
+    private final double lo;
+
+    private DoubleDoubleNum(double hi, double lo) {
+        this.hi = hi;
+        this.lo = lo;
+    }
+
+    private static DoubleDoubleNum[] inverseFactorials(int count) {
+        DoubleDoubleNum[] inverseFactorials = new DoubleDoubleNum[count];
+        DoubleDoubleNum factorial = new DoubleDoubleNum(2, 0);
+        for (int i = 0; i < count; i++) {
+            factorial = factorial.multipliedBy(i + 3);
+            inverseFactorials[i] = (DoubleDoubleNum) ONE.dividedBy(factorial);
+        }
+        return inverseFactorials;
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code int}.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static DoubleDoubleNum valueOf(int val) {
+        return new DoubleDoubleNum(val, 0);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code long}.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static DoubleDoubleNum valueOf(long val) {
+        double hi = val;
+        if (Math.abs(hi) < 0x1p53) {
+            return new DoubleDoubleNum(hi, 0);
+        }
+        return valueOf(BigDecimal.valueOf(val));
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code double}. As for
+     * {@link DecimalNum}, the value is the shortest decimal representation of the
+     * double ({@link Double#toString(double)}), so that {@code valueOf(0.1)} is
+     * exactly one tenth to double-double precision.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static DoubleDoubleNum valueOf(double val) {
+        if (Double.isNaN(val)) {
+            throw new NumberFormatException();
+        }
+        if (val == Math.rint(val) || Double.isInfinite(val)) {
+            return new DoubleDoubleNum(val, 0);
+        }
+        return valueOf(BigDecimal.valueOf(val));
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code String}.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static DoubleDoubleNum valueOf(String val) {
+        return valueOf(new BigDecimal(val));
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code BigDecimal}, rounded to
+     * double-double precision.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static DoubleDoubleNum valueOf(BigDecimal val) {
+        double hi = val.doubleValue();
+        if (Double.isInfinite(hi)) {
+            return new DoubleDoubleNum(hi, 0);
+        }
+        double lo = val.subtract(new BigDecimal(hi)).doubleValue();
+        return quickTwoSum(hi, lo);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code Number}.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static DoubleDoubleNum valueOf(Number val) {
+        if (val instanceof Integer || val instanceof Short || val instanceof Byte) {
+            return valueOf(val.intValue());
+        }
+        if (val instanceof Long) {
+            return valueOf(val.longValue());
+        }
+        if (val instanceof Double || val instanceof Float) {
+            return valueOf(val.doubleValue());
+        }
+        if (val instanceof BigDecimal) {
+            return valueOf((BigDecimal) val);
+        }
+        return valueOf(val.toString());
+    }
+
+    @Override
+    public Num zero() {
+        return ZERO;
+    }
+
+    @Override
+    public Num one() {
+        return ONE;
+    }
+
+    @Override
+    public Num hundred() {
+        return HUNDRED;
+    }
+
+    @Override
+    public Function<Number, Num> function() {
+        return DoubleDoubleNum::valueOf;
+    }
+
+    @Override
+    public Num numOf(Number value) {
+        return valueOf(value);
+    }
+
+    /**
+     * @return the leading double, i.e. the value rounded to double precision
+     */
+    public double getHi() {
+        return hi;
+    }
+
+    /**
+     * @return the trailing double, i.e. the rounding error of {@link #getHi()}
+     */
+    public double getLo() {
+        return lo;
+    }
+
+    /**
+     * Returns the exact value as {@link BigDecimal}. This allocates a new instance
+     * on every call.
+     *
+     * @return the BigDecimal representation of this value
+     */
+    @Override
+    public BigDecimal getDelegate() {
+        if (Double.isInfinite(hi)) {
+            throw new NumberFormatException("Infinite or NaN");
+        }
+        return new BigDecimal(hi).add(new BigDecimal(lo));
+    }
+
+    @Override
+    public double doubleValue() {
+        return hi;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        long whole = (long) hi;
+        double fraction = (hi - whole) + lo;
+        if (hi >= 0 && fraction < 0) {
+            whole--;
+        } else if (hi < 0 && fraction > 0) {
+            whole++;
+        }
+        return whole;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) hi;
+    }
+
+    @Override
+    public String getName() {
+        return this.getClass().getSimpleName();
+    }
+
+    @Override
+    public Num plus(Num augend) {
+        if (augend.isNaN()) {
+            return NaN;
+        }
+        DoubleDoubleNum other = (DoubleDoubleNum) augend;
+        return add(hi, lo, other.hi, other.lo);
+    }
+
+    @Override
+    public Num minus(Num subtrahend) {
+        if (subtrahend.isNaN()) {
+            return NaN;
+        }
+        DoubleDoubleNum other = (DoubleDoubleNum) subtrahend;
+        return add(hi, lo, -other.hi, -other.lo);
+    }
+
+    @Override
+    public Num multipliedBy(Num multiplicand) {
+        if (multiplicand.isNaN()) {
+            return NaN;
+        }
+        DoubleDoubleNum other = (DoubleDoubleNum) multiplicand;
+        return multiply(hi, lo, other.hi, other.lo);
+    }
+
+    @Override
+    public Num dividedBy(Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        DoubleDoubleNum other = (DoubleDoubleNum) divisor;
+        return divide(other.hi, other.lo);
+    }
+
+    @Override
+    public Num remainder(Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        DoubleDoubleNum other = (DoubleDoubleNum) divisor;
+        DoubleDoubleNum quotient = divide(other.hi, other.lo);
+        // the remainder has the sign of the dividend, as for doubles
+        DoubleDoubleNum truncated = quotient.hi >= 0 ? quotient.floorValue() : quotient.ceilValue();
+        DoubleDoubleNum product = multiply(truncated.hi, truncated.lo, other.hi, other.lo);
+        return add(hi, lo, -product.hi, -product.lo);
+    }
+
+    @Override
+    public Num floor() {
+        return floorValue();
+    }
+
+    @Override
+    public Num ceil() {
+        return ceilValue();
+    }
+
+    @Override
+    public Num pow(int n) {
+        if (n == 0) {
+            return ONE;
+        }
+        long remaining = Math.abs((long) n);
+        DoubleDoubleNum result = ONE;
+        DoubleDoubleNum base = this;
+        while (remaining > 0) {
+            if ((remaining & 1) != 0) {
+                result = multiply(result.hi, result.lo, base.hi, base.lo);
+            }
+            remaining >>= 1;
+            if (remaining > 0) {
+                base = multiply(base.hi, base.lo, base.hi, base.lo);
+            }
+        }
+        return n < 0 ? ONE.divide(result.hi, result.lo) : result;
+    }
+
+    @Override
+    public Num pow(Num n) {
+        if (n.isNaN()) {
+            return NaN;
+        }
+        DoubleDoubleNum exponent = (DoubleDoubleNum) n;
+        if (exponent.lo == 0 && exponent.hi == Math.rint(exponent.hi) && Math.abs(exponent.hi) <= Integer.MAX_VALUE) {
+            return pow((int) exponent.hi);
+        }
+        if (hi == 0) {
+            return exponent.hi > 0 ? ZERO : NaN;
+        }
+        if (hi < 0) {
+            return NaN;
+        }
+        DoubleDoubleNum logarithm = logValue();
+        return multiply(logarithm.hi, logarithm.lo, exponent.hi, exponent.lo).expValue();
+    }
+
+    @Override
+    public Num log() {
+        if (hi <= 0) {
+            return NaN;
+        }
+        return logValue();
+    }
+
+    @Override
+    public Num sqrt() {
+        if (hi < 0) {
+            return NaN;
+        }
+        if (hi == 0) {
+            return ZERO;
+        }
+        if (Double.isInfinite(hi)) {
+            return this;
+        }
+        // one Newton step on the double root, Karp and Markstein
+        double inverse = 1.0 / Math.sqrt(hi);
+        double root = hi * inverse;
+        DoubleDoubleNum square = twoProd(root, root);
+        DoubleDoubleNum difference = add(hi, lo, -square.hi, -square.lo);
+        return twoSum(root, difference.hi * (inverse * 0.5));
+    }
+
+    @Override
+    public Num sqrt(int precision) {
+        return sqrt();
+    }
+
+    @Override
+    public Num abs() {
+        return hi < 0 ? negate() : this;
+    }
+
+    @Override
+    public Num negate() {
+        return new DoubleDoubleNum(-hi, -lo);
+    }
+
+    @Override
+    public boolean isZero() {
+        return hi == 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return hi > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return hi >= 0;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return hi < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return hi <= 0;
+    }
+
+    @Override
+    public boolean isEqual(Num other) {
+        return !other.isNaN() && compareTo(other) == 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(Num other) {
+        return !other.isNaN() && compareTo(other) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqual(Num other) {
+        return !other.isNaN() && compareTo(other) > -1;
+    }
+
+    @Override
+    public boolean isLessThan(Num other) {
+        return !other.isNaN() && compareTo(other) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqual(Num other) {
+        return !other.isNaN() && compareTo(other) < 1;
+    }
+
+    @Override
+    public int compareTo(Num other) {
+        if (other.isNaN()) {
+            return 0;
+        }
+        DoubleDoubleNum o = (DoubleDoubleNum) other;
+        if (hi != o.hi) {
+            return hi < o.hi ? -1 : 1;
+        }
+        if (lo != o.lo) {
+            return lo < o.lo ? -1 : 1;
+        }
+        return 0;
+    }
+
+    @Override
+    public Num min(Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) <= 0 ? this : other);
+    }
+
+    @Override
+    public Num max(Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) >= 0 ? this : other);
+    }
+
+    @Override
+    public int hashCode() {
+        // adding 0.0 turns -0.0 into 0.0, which are equal
+        return 31 * Double.hashCode(hi + 0.0) + Double.hashCode(lo + 0.0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof DoubleDoubleNum)) {
+            return false;
+        }
+        DoubleDoubleNum other = (DoubleDoubleNum) obj;
+        return hi == other.hi && lo == other.lo;
+    }
+
+    @Override
+    public String toString() {
+        if (Double.isInfinite(hi)) {
+            return Double.toString(hi);
+        }
+        return getDelegate().round(STRING_CONTEXT).stripTrailingZeros().toPlainString();
+    }
+
+    private DoubleDoubleNum multipliedBy(double factor) {
+        DoubleDoubleNum product = twoProd(hi, factor);
+        return quickTwoSum(product.hi, product.lo + lo * factor);
+    }
+
+    private DoubleDoubleNum divide(double divisorHi, double divisorLo) {
+        // long division with three double quotients
+        double q1 = hi / divisorHi;
+        DoubleDoubleNum product = multiply(divisorHi, divisorLo, q1, 0);
+        DoubleDoubleNum remainder = add(hi, lo, -product.hi, -product.lo);
+
+        double q2 = remainder.hi / divisorHi;
+        product = multiply(divisorHi, divisorLo, q2, 0);
+        remainder = add(remainder.hi, remainder.lo, -product.hi, -product.lo);
+
+        double q3 = remainder.hi / divisorHi;
+        DoubleDoubleNum quotient = quickTwoSum(q1, q2);
+        return add(quotient.hi, quotient.lo, q3, 0);
+    }
+
+    private DoubleDoubleNum floorValue() {
+        double floorHi = Math.floor(hi);
+        if (floorHi != hi) {
+            return new DoubleDoubleNum(floorHi, 0);
+        }
+        return quickTwoSum(floorHi, Math.floor(lo));
+    }
+
+    private DoubleDoubleNum ceilValue() {
+        double ceilHi = Math.ceil(hi);
+        if (ceilHi != hi) {
+            return new DoubleDoubleNum(ceilHi, 0);
+        }
+        return quickTwoSum(ceilHi, Math.ceil(lo));
+    }
+
+    private DoubleDoubleNum logValue() {
+        if (hi == 1 && lo == 0) {
+            return ZERO;
+        }
+        // one Newton step on the double logarithm: x + this * exp(-x) - 1
+        double x = Math.log(hi);
+        DoubleDoubleNum exp = new DoubleDoubleNum(-x, 0).expValue();
+        DoubleDoubleNum product = multiply(hi, lo, exp.hi, exp.lo);
+        DoubleDoubleNum correction = add(product.hi, product.lo, -1, 0);
+        return add(x, 0, correction.hi, correction.lo);
+    }
+
+    private DoubleDoubleNum expValue() {
+        if (hi <= -709.0) {
+            return ZERO;
+        }
+        if (hi >= 709.0) {
+            return new DoubleDoubleNum(Double.POSITIVE_INFINITY, 0);
+        }
+        if (hi == 0) {
+            return ONE;
+        }
+        // exp(x) = 2^m * exp(r)^512 with x = m * ln(2) + 512 * r and |r| <= ln(2) /
+        // 1024
+        final double k = 512.0;
+        double m = Math.floor(hi / LN2.hi + 0.5);
+        DoubleDoubleNum mLn2 = LN2.multipliedBy(m);
+        DoubleDoubleNum r = add(hi, lo, -mLn2.hi, -mLn2.lo);
+        r = new DoubleDoubleNum(r.hi / k, r.lo / k);
+
+        // Taylor series of exp(r) - 1
+        DoubleDoubleNum p = multiply(r.hi, r.lo, r.hi, r.lo);
+        DoubleDoubleNum s = add(r.hi, r.lo, p.hi * 0.5, p.lo * 0.5);
+        p = multiply(p.hi, p.lo, r.hi, r.lo);
+        DoubleDoubleNum t = multiply(p.hi, p.lo, INVERSE_FACTORIALS[0].hi, INVERSE_FACTORIALS[0].lo);
+        int i = 0;
+        do {
+            s = add(s.hi, s.lo, t.hi, t.lo);
+            p = multiply(p.hi, p.lo, r.hi, r.lo);
+            i++;
+            t = multiply(p.hi, p.lo, INVERSE_FACTORIALS[i].hi, INVERSE_FACTORIALS[i].lo);
+        } while (Math.abs(t.hi) > EPS / k && i < INVERSE_FACTORIALS.length - 1);
+        s = add(s.hi, s.lo, t.hi, t.lo);
+
+        // (1 + s)^2 - 1 = 2s + s^2, nine times for the power of 512
+        for (int j = 0; j < 9; j++) {
+            DoubleDoubleNum square = multiply(s.hi, s.lo, s.hi, s.lo);
+            s = add(s.hi * 2, s.lo * 2, square.hi, square.lo);
+        }
+        s = add(s.hi, s.lo, 1, 0);
+        int exponent = (int) m;
+        return new DoubleDoubleNum(Math.scalb(s.hi, exponent), Math.scalb(s.lo, exponent));
+    }
+
+    /** (aHi + aLo) + (bHi + bLo), with the IEEE style error bound of QD */
+    private static DoubleDoubleNum add(double aHi, double aLo, double bHi, double bLo) {
+        double s1 = aHi + bHi;
+        double bb = s1 - aHi;
+        double s2 = (aHi - (s1 - bb)) + (bHi - bb);
+        double t1 = aLo + bLo;
+        bb = t1 - aLo;
+        double t2 = (aLo - (t1 - bb)) + (bLo - bb);
+        s2 += t1;
+        double hi = s1 + s2;
+        s2 = s2 - (hi - s1);
+        s2 += t2;
+        double resultHi = hi + s2;
+        if (Double.isInfinite(resultHi)) {
+            return new DoubleDoubleNum(resultHi, 0);
+        }
+        return new DoubleDoubleNum(resultHi, s2 - (resultHi - hi));
+    }
+
+    /** (aHi + aLo) * (bHi + bLo) */
+    private static DoubleDoubleNum multiply(double aHi, double aLo, double bHi, double bLo) {
+        double p = aHi * bHi;
+        if (Double.isInfinite(p)) {
+            return new DoubleDoubleNum(p, 0);
+        }
+        double error = twoProdError(aHi, bHi, p);
+        error += aHi * bLo + aLo * bHi;
+        double hi = p + error;
+        return new DoubleDoubleNum(hi, error - (hi - p));
+    }
+
+    /** Exact sum of two doubles */
+    private static DoubleDoubleNum twoSum(double a, double b) {
+        double s = a + b;
+        double bb = s - a;
+        return new DoubleDoubleNum(s, (a - (s - bb)) + (b - bb));
+    }
+
+    /** Exact sum of two doubles with {@code |a| >= |b|} */
+    private static DoubleDoubleNum quickTwoSum(double a, double b) {
+        double s = a + b;
+        return new DoubleDoubleNum(s, b - (s - a));
+    }
+
+    /** Exact product of two doubles */
+    private static DoubleDoubleNum twoProd(double a, double b) {
+        double p = a * b;
+        return new DoubleDoubleNum(p, twoProdError(a, b, p));
+    }
+
+    /** Rounding error of the product {@code p = a * b}, Dekker's algorithm */
+    private static double twoProdError(double a, double b, double p) {
+        double aHi = splitHi(a);
+        double aLo = a - aHi;
+        double bHi = splitHi(b);
+        double bLo = b - bHi;
+        return ((aHi * bHi - p) + aHi * bLo + aLo * bHi) + aLo * bLo;
+    }
+
+    /** Leading 26 bits of a double */
+    private static double splitHi(double a) {
+        if (a > SPLIT_THRESHOLD || a < -SPLIT_THRESHOLD) {
+            double scaled = a * TWO_POWER_MINUS_28;
+            double t = SPLITTER * scaled;
+            return (t - (t - scaled)) * TWO_POWER_28;
+        }
+        double t = SPLITTER * a;
+        return t - (t - a);
+    }
+}
@@ -62,6 +62,10 @@ public class DoubleNum implements Num {
         return new DoubleNum((double) i);
     }
 
+    public static DoubleNum valueOf(double i) {
+        return new DoubleNum(i);
+    }
+
     public static DoubleNum valueOf(String i) {
         return new DoubleNum(Double.parseDouble(i));
     }
@@ -95,6 +99,12 @@ public class DoubleNum implements Num {
         return delegate;
     }
 
+    @Override
+    public double doubleValue() {
+        // Avoids boxing the delegate
+        return delegate;
+    }
+
     @Override
     public String getName() {
         return this.getClass().getSimpleName();
@@ -283,4 +293,62 @@ public class DoubleNum implements Num {
         DoubleNum doubleNumO = (DoubleNum) o;
         return Double.compare(delegate, doubleNumO.delegate);
     }
+
+    @Override
+    public NumAccumulator newAccumulator() {
+        return new Accumulator(delegate);
+    }
+
+    /**
+     * Sums on a primitive {@code double}.
+     */
+    private static final class Accumulator implements NumAccumulator {
+
+        private double sum;
+        private boolean isNaN;
+
+        private Accumulator(double initialValue) {
+            this.sum = initialValue;
+        }
+
+        @Override
+        public NumAccumulator add(Num value) {
+            if (value.isNaN()) {
+                isNaN = true;
+            } else {
+                sum += ((DoubleNum) value).delegate;
+            }
+            return this;
+        }
+
+        @Override
+        public NumAccumulator addProduct(Num multiplicand, Num multiplier) {
+            if (multiplicand.isNaN() || multiplier.isNaN()) {
+                isNaN = true;
+            } else {
+                sum += ((DoubleNum) multiplicand).delegate * ((DoubleNum) multiplier).delegate;
+            }
+            return this;
+        }
+
+        @Override
+        public NumAccumulator addSquare(Num value) {
+            return addProduct(value, value);
+        }
+
+        @Override
+        public NumAccumulator addAbsoluteDifference(Num minuend, Num subtrahend) {
+            if (minuend.isNaN() || subtrahend.isNaN()) {
+                isNaN = true;
+            } else {
+                sum += Math.abs(((DoubleNum) minuend).delegate - ((DoubleNum) subtrahend).delegate);
+            }
+            return this;
+        }
+
+        @Override
+        public Num toNum() {
+            return isNaN ? NaN : new DoubleNum(sum);
+        }
+    }
 }
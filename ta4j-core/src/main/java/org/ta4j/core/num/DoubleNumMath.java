@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+/**
+ * Operations on primitive doubles following the semantics of {@link DoubleNum}
+ * (where {@link NaN} is represented by {@link Double#NaN}).
+ *
+ * Used by the primitive paths of the indicators and rules, so that their
+ * results are identical to the ones computed with {@link DoubleNum}.
+ */
+public final class DoubleNumMath {
+
+    private DoubleNumMath() {
+    }
+
+    /**
+     * @param dividend the dividend
+     * @param divisor  the divisor
+     * @return {@code dividend / divisor}, or NaN if the divisor is zero (see
+     *         {@link DoubleNum#dividedBy(Num)})
+     */
+    public static double dividedBy(double dividend, double divisor) {
+        return divisor == 0 ? Double.NaN : dividend / divisor;
+    }
+
+    /**
+     * @param value a value
+     * @param other another value
+     * @return true if both values are numbers and the value is greater than the
+     *         other one (see {@link DoubleNum#isGreaterThan(Num)})
+     */
+    public static boolean isGreaterThan(double value, double other) {
+        return !Double.isNaN(value) && !Double.isNaN(other) && Double.compare(value, other) > 0;
+    }
+
+    /**
+     * @param value a value
+     * @param other another value
+     * @return true if both values are numbers and the value is greater than or
+     *         equal to the other one (see
+     *         {@link DoubleNum#isGreaterThanOrEqual(Num)})
+     */
+    public static boolean isGreaterThanOrEqual(double value, double other) {
+        return !Double.isNaN(value) && !Double.isNaN(other) && Double.compare(value, other) >= 0;
+    }
+
+    /**
+     * @param value a value
+     * @param other another value
+     * @return true if both values are numbers and the value is less than the other
+     *         one (see {@link DoubleNum#isLessThan(Num)})
+     */
+    public static boolean isLessThan(double value, double other) {
+        return !Double.isNaN(value) && !Double.isNaN(other) && Double.compare(value, other) < 0;
+    }
+
+    /**
+     * @param value a value
+     * @param other another value
+     * @return true if both values are numbers and the value is less than or equal
+     *         to the other one (see {@link DoubleNum#isLessThanOrEqual(Num)})
+     */
+    public static boolean isLessThanOrEqual(double value, double other) {
+        return !Double.isNaN(value) && !Double.isNaN(other) && Double.compare(value, other) <= 0;
+    }
+
+    /**
+     * @param value a value
+     * @param other another value
+     * @return true if both values are equal, or if both are NaN (see
+     *         {@link DoubleNum#isEqual(Num)} and {@link NaN#isEqual(Num)})
+     */
+    public static boolean isEqual(double value, double other) {
+        return Double.isNaN(value) ? Double.isNaN(other) : value == other;
+    }
+}
@@ -0,0 +1,718 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Representation of a fixed point decimal backed by a scaled {@code long}. The
+ * value is {@code unscaledValue / 10^scale}, with a configurable number of
+ * decimal places between {@code 0} and {@link #MAX_SCALE}. Results are rounded
+ * {@link RoundingMode#HALF_UP HALF_UP} to the scale of this value.
+ *
+ * <p>
+ * Additions, subtractions and multiplications are exact up to that rounding and
+ * do not allocate anything but the result, which makes this type a lot faster
+ * than {@link DecimalNum} while avoiding the binary rounding errors of
+ * {@link DoubleNum}. Results that do not fit into a {@code long} are never
+ * wrapped: a {@link FixedPointOverflowException} reports the exact result as a
+ * {@link DecimalNum} instead. With the {@link #DEFAULT_SCALE default scale} of
+ * 8 decimal places, values up to about {@code 9.2E10} can be represented.
+ *
+ * <p>
+ * {@link #sqrt()}, {@link #log()} and fractional {@link #pow(Num) powers} are
+ * calculated with {@code double} precision and rounded to the scale.
+ *
+ * @apiNote the delegate should never become a NaN value. No self NaN checks
+ *          provided
+ */
+public final class FixedPointNum implements Num {
+
+    /** The default number of decimal places */
+    public static final int DEFAULT_SCALE = 8;
+
+    /** The maximum number of decimal places */
+    public static final int MAX_SCALE = 9;
+
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L };
+
+    /** Largest scaled double that is rounded without going through a String */
+    private static final double MAX_FAST_DOUBLE = 0x1p43;
+
+    private static final FixedPointNum[] ZEROS = new FixedPointNum[MAX_SCALE + 1];
+    private static final FixedPointNum[] ONES = new FixedPointNum[MAX_SCALE + 1];
+    private static final FixedPointNum[] HUNDREDS = new FixedPointNum[MAX_SCALE + 1];
+    private static final List<Function<Number, Num>> FUNCTIONS = newFunctions();
+
+    static {
+        for (int scale = 0; scale <= MAX_SCALE; scale++) {
+            ZEROS[scale] = new FixedPointNum(0, scale);
+            ONES[scale] = new FixedPointNum(POWERS_OF_TEN[scale], scale);
+            HUNDREDS[scale] = new FixedPointNum(100 * POWERS_OF_TEN[scale], scale);
+        }
+    }
+
+    private final long unscaledValue;
+    private final int scale;
+
+    private FixedPointNum(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+    }
+
+    private static List<Function<Number, Num>> newFunctions() {
+        List<Function<Number, Num>> functions = new ArrayList<>(MAX_SCALE + 1);
+        for (int scale = 0; scale <= MAX_SCALE; scale++) {
+            final int s = scale;
+            functions.add(number -> FixedPointNum.valueOf(number, s));
+        }
+        return Collections.unmodifiableList(functions);
+    }
+
+    /**
+     * Returns a {@code Num} with the given unscaled value, i.e.
+     * {@code unscaledValue / 10^scale}.
+     *
+     * @param unscaledValue the unscaled value
+     * @param scale         the number of decimal places
+     * @return the {@code Num}
+     */
+    public static FixedPointNum ofUnscaled(long unscaledValue, int scale) {
+        return new FixedPointNum(unscaledValue, checkScale(scale));
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code long} with the
+     * {@link #DEFAULT_SCALE default scale}.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static FixedPointNum valueOf(long val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code long}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num}
+     * @throws FixedPointOverflowException if the value does not fit
+     */
+    public static FixedPointNum valueOf(long val, int scale) {
+        try {
+            return new FixedPointNum(Math.multiplyExact(val, POWERS_OF_TEN[checkScale(scale)]), scale);
+        } catch (ArithmeticException e) {
+            throw new FixedPointOverflowException(BigDecimal.valueOf(val), scale);
+        }
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code double} with the
+     * {@link #DEFAULT_SCALE default scale}.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static FixedPointNum valueOf(double val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code double}, rounded as its
+     * shortest decimal representation ({@link Double#toString(double)}) would be.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num}
+     * @throws NumberFormatException       if the value is NaN or infinite
+     * @throws FixedPointOverflowException if the value does not fit
+     */
+    public static FixedPointNum valueOf(double val, int scale) {
+        if (Double.isNaN(val) || Double.isInfinite(val)) {
+            throw new NumberFormatException();
+        }
+        double scaled = val * POWERS_OF_TEN[checkScale(scale)];
+        double magnitude = Math.abs(scaled);
+        if (magnitude < MAX_FAST_DOUBLE) {
+            // the product is off by far less than the distance to a rounding tie
+            double fraction = magnitude - Math.floor(magnitude);
+            if (Math.abs(fraction - 0.5) > 0.01) {
+                long rounded = (long) (magnitude + 0.5);
+                return new FixedPointNum(scaled < 0 ? -rounded : rounded, scale);
+            }
+        }
+        return valueOf(BigDecimal.valueOf(val), scale);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code BigDecimal}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num}
+     * @throws FixedPointOverflowException if the value does not fit
+     */
+    public static FixedPointNum valueOf(BigDecimal val, int scale) {
+        BigInteger unscaledValue = val.setScale(checkScale(scale), RoundingMode.HALF_UP).unscaledValue();
+        if (unscaledValue.bitLength() > 63) {
+            throw new FixedPointOverflowException(val, scale);
+        }
+        return new FixedPointNum(unscaledValue.longValue(), scale);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code String} with the
+     * {@link #DEFAULT_SCALE default scale}.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static FixedPointNum valueOf(String val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code String}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num}
+     * @throws FixedPointOverflowException if the value does not fit
+     */
+    public static FixedPointNum valueOf(String val, int scale) {
+        return valueOf(new BigDecimal(val), scale);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code Number} with the
+     * {@link #DEFAULT_SCALE default scale}.
+     *
+     * @param val the number
+     * @return the {@code Num}
+     */
+    public static FixedPointNum valueOf(Number val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code Number}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num}
+     * @throws FixedPointOverflowException if the value does not fit
+     */
+    public static FixedPointNum valueOf(Number val, int scale) {
+        if (val instanceof Integer || val instanceof Long || val instanceof Short || val instanceof Byte) {
+            return valueOf(val.longValue(), scale);
+        }
+        if (val instanceof Double || val instanceof Float) {
+            return valueOf(val.doubleValue(), scale);
+        }
+        if (val instanceof BigDecimal) {
+            return valueOf((BigDecimal) val, scale);
+        }
+        return valueOf(new BigDecimal(val.toString()), scale);
+    }
+
+    private static int checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE + ": " + scale);
+        }
+        return scale;
+    }
+
+    @Override
+    public Num zero() {
+        return ZEROS[scale];
+    }
+
+    @Override
+    public Num one() {
+        return ONES[scale];
+    }
+
+    @Override
+    public Num hundred() {
+        return HUNDREDS[scale];
+    }
+
+    @Override
+    public Function<Number, Num> function() {
+        return FUNCTIONS.get(scale);
+    }
+
+    @Override
+    public Num numOf(Number value) {
+        return valueOf(value, scale);
+    }
+
+    /**
+     * @return the number of decimal places of this value
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @return the unscaled value, i.e. this value multiplied by {@code 10^scale}
+     */
+    public long getUnscaledValue() {
+        return unscaledValue;
+    }
+
+    /**
+     * Returns the value as {@link BigDecimal}. This allocates a new instance on
+     * every call.
+     *
+     * @return the BigDecimal representation of this value
+     */
+    @Override
+    public BigDecimal getDelegate() {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    @Override
+    public double doubleValue() {
+        return (double) unscaledValue / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return unscaledValue / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public String getName() {
+        return this.getClass().getSimpleName();
+    }
+
+    @Override
+    public Num plus(Num augend) {
+        if (augend.isNaN()) {
+            return NaN;
+        }
+        long other = unscaledOf(augend);
+        long result = unscaledValue + other;
+        if (((unscaledValue ^ result) & (other ^ result)) < 0) {
+            throw overflow(getDelegate().add(BigDecimal.valueOf(other, scale)));
+        }
+        return new FixedPointNum(result, scale);
+    }
+
+    @Override
+    public Num minus(Num subtrahend) {
+        if (subtrahend.isNaN()) {
+            return NaN;
+        }
+        long other = unscaledOf(subtrahend);
+        long result = unscaledValue - other;
+        if (((unscaledValue ^ other) & (unscaledValue ^ result)) < 0) {
+            throw overflow(getDelegate().subtract(BigDecimal.valueOf(other, scale)));
+        }
+        return new FixedPointNum(result, scale);
+    }
+
+    @Override
+    public Num multipliedBy(Num multiplicand) {
+        if (multiplicand.isNaN()) {
+            return NaN;
+        }
+        long other = unscaledOf(multiplicand);
+        if (unscaledValue == 0 || other == 0) {
+            return ZEROS[scale];
+        }
+        if (unscaledValue == Long.MIN_VALUE || other == Long.MIN_VALUE) {
+            return ofExact(getDelegate().multiply(BigDecimal.valueOf(other, scale)));
+        }
+        long a = Math.abs(unscaledValue);
+        long b = Math.abs(other);
+        long factor = POWERS_OF_TEN[scale];
+        long aHigh = a / factor;
+        long aLow = a % factor;
+        long bHigh = b / factor;
+        long bLow = b % factor;
+        // a * b / factor = aHigh * b + aLow * bHigh + aLow * bLow / factor, where only
+        // the first product may overflow and the last one is below 10^(2 * MAX_SCALE)
+        long lowProduct = aLow * bLow;
+        long rounded = lowProduct / factor;
+        if (lowProduct % factor * 2 >= factor) {
+            rounded++;
+        }
+        try {
+            long result = Math.addExact(Math.multiplyExact(aHigh, b), aLow * bHigh + rounded);
+            return new FixedPointNum((unscaledValue < 0) != (other < 0) ? -result : result, scale);
+        } catch (ArithmeticException e) {
+            throw overflow(getDelegate().multiply(BigDecimal.valueOf(other, scale)));
+        }
+    }
+
+    @Override
+    public Num dividedBy(Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        long other = unscaledOf(divisor);
+        if (unscaledValue == Long.MIN_VALUE || other == Long.MIN_VALUE) {
+            return ofExact(getDelegate().divide(BigDecimal.valueOf(other, scale), scale, RoundingMode.HALF_UP));
+        }
+        long a = Math.abs(unscaledValue);
+        long b = Math.abs(other);
+        long factor = POWERS_OF_TEN[scale];
+        long quotient = a / b;
+        long remainder = a % b;
+        try {
+            if (remainder <= Long.MAX_VALUE / factor) {
+                remainder *= factor;
+                quotient = Math.addExact(Math.multiplyExact(quotient, factor), remainder / b);
+                remainder %= b;
+            } else {
+                // long division, one decimal place at a time
+                for (int i = 0; i < scale; i++) {
+                    if (remainder > Long.MAX_VALUE / 10) {
+                        return ofExact(
+                                getDelegate().divide(BigDecimal.valueOf(other, scale), scale, RoundingMode.HALF_UP));
+                    }
+                    remainder *= 10;
+                    quotient = Math.addExact(Math.multiplyExact(quotient, 10), remainder / b);
+                    remainder %= b;
+                }
+            }
+            if (remainder >= b - remainder) {
+                quotient = Math.addExact(quotient, 1);
+            }
+        } catch (ArithmeticException e) {
+            throw overflow(getDelegate().divide(BigDecimal.valueOf(other, scale), scale, RoundingMode.HALF_UP));
+        }
+        return new FixedPointNum((unscaledValue < 0) != (other < 0) ? -quotient : quotient, scale);
+    }
+
+    @Override
+    public Num remainder(Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        return new FixedPointNum(unscaledValue % unscaledOf(divisor), scale);
+    }
+
+    @Override
+    public Num floor() {
+        return ofWhole(Math.floorDiv(unscaledValue, POWERS_OF_TEN[scale]));
+    }
+
+    @Override
+    public Num ceil() {
+        long factor = POWERS_OF_TEN[scale];
+        return ofWhole(Math.floorDiv(unscaledValue, factor) + (Math.floorMod(unscaledValue, factor) == 0 ? 0 : 1));
+    }
+
+    @Override
+    public Num pow(int n) {
+        if (n < 0) {
+            return one().dividedBy(pow(-n));
+        }
+        Num result = one();
+        Num base = this;
+        while (n > 0) {
+            if ((n & 1) != 0) {
+                result = result.multipliedBy(base);
+            }
+            n >>= 1;
+            if (n > 0) {
+                base = base.multipliedBy(base);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Num pow(Num n) {
+        if (n.isNaN()) {
+            return NaN;
+        }
+        long exponent = unscaledOf(n);
+        long factor = POWERS_OF_TEN[scale];
+        if (exponent % factor == 0 && Math.abs(exponent / factor) <= Integer.MAX_VALUE) {
+            return pow((int) (exponent / factor));
+        }
+        return ofDouble(Math.pow(doubleValue(), n.doubleValue()));
+    }
+
+    @Override
+    public Num log() {
+        if (unscaledValue <= 0) {
+            return NaN;
+        }
+        return ofDouble(Math.log(doubleValue()));
+    }
+
+    @Override
+    public Num sqrt() {
+        if (unscaledValue < 0) {
+            return NaN;
+        }
+        return ofDouble(Math.sqrt(doubleValue()));
+    }
+
+    @Override
+    public Num sqrt(int precision) {
+        return sqrt();
+    }
+
+    @Override
+    public Num abs() {
+        return unscaledValue < 0 ? negate() : this;
+    }
+
+    @Override
+    public Num negate() {
+        if (unscaledValue == Long.MIN_VALUE) {
+            throw overflow(getDelegate().negate());
+        }
+        return new FixedPointNum(-unscaledValue, scale);
+    }
+
+    @Override
+    public boolean isZero() {
+        return unscaledValue == 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return unscaledValue > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return unscaledValue >= 0;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return unscaledValue < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return unscaledValue <= 0;
+    }
+
+    @Override
+    public boolean isEqual(Num other) {
+        return !other.isNaN() && unscaledValue == unscaledOf(other);
+    }
+
+    @Override
+    public boolean isGreaterThan(Num other) {
+        return !other.isNaN() && unscaledValue > unscaledOf(other);
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqual(Num other) {
+        return !other.isNaN() && unscaledValue >= unscaledOf(other);
+    }
+
+    @Override
+    public boolean isLessThan(Num other) {
+        return !other.isNaN() && unscaledValue < unscaledOf(other);
+    }
+
+    @Override
+    public boolean isLessThanOrEqual(Num other) {
+        return !other.isNaN() && unscaledValue <= unscaledOf(other);
+    }
+
+    @Override
+    public int compareTo(Num other) {
+        return other.isNaN() ? 0 : Long.compare(unscaledValue, unscaledOf(other));
+    }
+
+    @Override
+    public Num min(Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) <= 0 ? this : other);
+    }
+
+    @Override
+    public Num max(Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) >= 0 ? this : other);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(unscaledValue) + scale;
+    }
+
+    /**
+     * Two values are equal if they have the same scale and unscaled value.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FixedPointNum)) {
+            return false;
+        }
+        FixedPointNum other = (FixedPointNum) obj;
+        return unscaledValue == other.unscaledValue && scale == other.scale;
+    }
+
+    @Override
+    public String toString() {
+        return getDelegate().stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * @return the unscaled value of the other {@code Num} at the scale of this
+     *         value
+     */
+    private long unscaledOf(Num other) {
+        return unscaledOf(other, scale);
+    }
+
+    private static long unscaledOf(Num other, int scale) {
+        FixedPointNum fixedPointNum = (FixedPointNum) other;
+        if (fixedPointNum.scale == scale) {
+            return fixedPointNum.unscaledValue;
+        }
+        return valueOf(fixedPointNum.getDelegate(), scale).unscaledValue;
+    }
+
+    private Num ofWhole(long wholeValue) {
+        try {
+            return new FixedPointNum(Math.multiplyExact(wholeValue, POWERS_OF_TEN[scale]), scale);
+        } catch (ArithmeticException e) {
+            throw overflow(BigDecimal.valueOf(wholeValue));
+        }
+    }
+
+    private Num ofDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return NaN;
+        }
+        return valueOf(value, scale);
+    }
+
+    private Num ofExact(BigDecimal value) {
+        return valueOf(value, scale);
+    }
+
+    private FixedPointOverflowException overflow(BigDecimal exactValue) {
+        return new FixedPointOverflowException(exactValue, scale);
+    }
+
+    @Override
+    public NumAccumulator newAccumulator() {
+        return new Accumulator(unscaledValue, scale);
+    }
+
+    /**
+     * Sums on a primitive unscaled {@code long}, checking for overflows like
+     * {@link #plus(Num)}.
+     */
+    private static final class Accumulator implements NumAccumulator {
+
+        private final int scale;
+        private long sum;
+        private boolean isNaN;
+
+        private Accumulator(long initialValue, int scale) {
+            this.sum = initialValue;
+            this.scale = scale;
+        }
+
+        @Override
+        public NumAccumulator add(Num value) {
+            if (value.isNaN()) {
+                isNaN = true;
+            } else {
+                addUnscaled(unscaledOf(value, scale));
+            }
+            return this;
+        }
+
+        @Override
+        public NumAccumulator addProduct(Num multiplicand, Num multiplier) {
+            return add(multiplicand.multipliedBy(multiplier));
+        }
+
+        @Override
+        public NumAccumulator addSquare(Num value) {
+            return add(value.multipliedBy(value));
+        }
+
+        @Override
+        public NumAccumulator addAbsoluteDifference(Num minuend, Num subtrahend) {
+            if (minuend.isNaN() || subtrahend.isNaN()) {
+                isNaN = true;
+                return this;
+            }
+            FixedPointNum fixedPointMinuend = (FixedPointNum) minuend;
+            if (fixedPointMinuend.scale == scale) {
+                long minuendValue = fixedPointMinuend.unscaledValue;
+                long subtrahendValue = unscaledOf(subtrahend, scale);
+                long difference = minuendValue - subtrahendValue;
+                if (((minuendValue ^ subtrahendValue) & (minuendValue ^ difference)) >= 0
+                        && difference != Long.MIN_VALUE) {
+                    addUnscaled(Math.abs(difference));
+                    return this;
+                }
+            }
+            // different scale or overflow, computed (and reported) by the Num operations
+            return add(minuend.minus(subtrahend).abs());
+        }
+
+        private void addUnscaled(long other) {
+            long result = sum + other;
+            if (((sum ^ result) & (other ^ result)) < 0) {
+                throw new FixedPointOverflowException(
+                        BigDecimal.valueOf(sum, scale).add(BigDecimal.valueOf(other, scale)), scale);
+            }
+            sum = result;
+        }
+
+        @Override
+        public Num toNum() {
+            return isNaN ? NaN : new FixedPointNum(sum, scale);
+        }
+    }
+}
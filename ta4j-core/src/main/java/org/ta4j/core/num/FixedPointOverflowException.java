@@ -0,0 +1,58 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import java.math.BigDecimal;
+
+/**
+ * Thrown when the result of a {@link FixedPointNum} operation does not fit into
+ * its scaled {@code long}. The exact result is reported as a
+ * {@link DecimalNum}, so that callers can switch to an arbitrary precision
+ * series instead of working on a silently wrapped value.
+ */
+public class FixedPointOverflowException extends ArithmeticException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient DecimalNum exactValue;
+
+    /**
+     * Constructor.
+     *
+     * @param exactValue the exact result of the operation that overflowed
+     * @param scale      the number of decimal places of the fixed point values
+     */
+    public FixedPointOverflowException(BigDecimal exactValue, int scale) {
+        super(String.format("%s does not fit into a FixedPointNum with %d decimal places", exactValue.toPlainString(),
+                scale));
+        this.exactValue = DecimalNum.valueOf(exactValue);
+    }
+
+    /**
+     * @return the exact result of the operation that overflowed
+     */
+    public DecimalNum getExactValue() {
+        return exactValue;
+    }
+}
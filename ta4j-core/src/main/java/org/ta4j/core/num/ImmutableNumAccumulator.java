@@ -0,0 +1,66 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+/**
+ * A {@link NumAccumulator} for any {@link Num} implementation, replacing an
+ * immutable sum on each step.
+ */
+final class ImmutableNumAccumulator implements NumAccumulator {
+
+    private Num sum;
+
+    ImmutableNumAccumulator(Num initialValue) {
+        this.sum = initialValue;
+    }
+
+    @Override
+    public NumAccumulator add(Num value) {
+        sum = sum.plus(value);
+        return this;
+    }
+
+    @Override
+    public NumAccumulator addProduct(Num multiplicand, Num multiplier) {
+        sum = sum.plus(multiplicand.multipliedBy(multiplier));
+        return this;
+    }
+
+    @Override
+    public NumAccumulator addSquare(Num value) {
+        sum = sum.plus(value.multipliedBy(value));
+        return this;
+    }
+
+    @Override
+    public NumAccumulator addAbsoluteDifference(Num minuend, Num subtrahend) {
+        sum = sum.plus(minuend.minus(subtrahend).abs());
+        return this;
+    }
+
+    @Override
+    public Num toNum() {
+        return sum;
+    }
+}
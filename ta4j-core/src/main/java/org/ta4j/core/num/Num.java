@@ -309,6 +309,16 @@ public interface Num extends Comparable<Num> {
         return this.numOf(new BigDecimal(value, mathContext));
     }
 
+    /**
+     * Returns a new {@link NumAccumulator} starting with this value. Num
+     * implementations override it to sum without creating a Num on each step.
+     *
+     * @return a new accumulator of this <code>Num</code> implementation
+     */
+    default NumAccumulator newAccumulator() {
+        return new ImmutableNumAccumulator(this);
+    }
+
     /**
      * Only for NaN this should be true
      * 
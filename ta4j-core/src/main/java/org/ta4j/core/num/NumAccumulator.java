@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+/**
+ * A mutable sum of {@link Num Nums}, for loops which would otherwise create a
+ * new immutable {@link Num} on each step (e.g. {@code sum = sum.plus(value)}).
+ *
+ * Each operation gives the same result as the corresponding immutable
+ * operations, applied to the current sum:
+ *
+ * <ul>
+ * <li>{@link #add(Num) add(value)}: {@code sum.plus(value)}
+ * <li>{@link #addProduct(Num, Num) addProduct(a, b)}:
+ * {@code sum.plus(a.multipliedBy(b))}
+ * <li>{@link #addSquare(Num) addSquare(value)}:
+ * {@code sum.plus(value.multipliedBy(value))}
+ * <li>{@link #addAbsoluteDifference(Num, Num) addAbsoluteDifference(a, b)}:
+ * {@code sum.plus(a.minus(b).abs())}
+ * </ul>
+ *
+ * Once a {@link NaN} has been added, the sum is {@link NaN}. Accumulators are
+ * created with {@link Num#newAccumulator()} or
+ * {@link NumFactory#newAccumulator()} and are not thread-safe.
+ */
+public interface NumAccumulator {
+
+    /**
+     * @param value the value to add
+     * @return this accumulator
+     */
+    NumAccumulator add(Num value);
+
+    /**
+     * @param multiplicand the first factor
+     * @param multiplier   the second factor
+     * @return this accumulator, after adding {@code multiplicand * multiplier}
+     */
+    NumAccumulator addProduct(Num multiplicand, Num multiplier);
+
+    /**
+     * @param value the value to square
+     * @return this accumulator, after adding {@code value * value}
+     */
+    NumAccumulator addSquare(Num value);
+
+    /**
+     * @param minuend    the value to subtract from
+     * @param subtrahend the value to subtract
+     * @return this accumulator, after adding {@code |minuend - subtrahend|}
+     */
+    NumAccumulator addAbsoluteDifference(Num minuend, Num subtrahend);
+
+    /**
+     * @return the current sum
+     */
+    Num toNum();
+}
@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import java.util.function.Function;
+
+/**
+ * Creates the {@link Num Nums} of a {@link org.ta4j.core.BarSeries bar series}
+ * from a {@link Function function} converting a {@link Number} into a
+ * {@link Num}.
+ *
+ * The constants {@link #zero()}, {@link #one()}, {@link #two()} and
+ * {@link #hundred()} as well as small integer values are created only once and
+ * shared, so that indicators do not allocate a new {@link Num} for them on each
+ * calculation. This is possible as {@link Num Nums} are immutable.
+ */
+public final class NumFactory {
+
+    /** The lowest integer value which is cached */
+    static final int LOWEST_CACHED_INT = -128;
+
+    /** The highest integer value which is cached */
+    static final int HIGHEST_CACHED_INT = 1024;
+
+    /**
+     * The factories of the last functions, replaced in turn. Their fields are
+     * final, so the factories read without synchronization are fully built.
+     */
+    private static final NumFactory[] FACTORIES = new NumFactory[8];
+
+    /** The index of the next factory to replace in {@link #FACTORIES} */
+    private static int nextFactory;
+
+    private final Function<Number, Num> function;
+    private final Num zero;
+    private final Num one;
+    private final Num two;
+    private final Num hundred;
+
+    /**
+     * The cached integer values, created on first use. Racing threads may create
+     * the same value twice, which is harmless as Nums are immutable.
+     */
+    private final Num[] ints = new Num[HIGHEST_CACHED_INT - LOWEST_CACHED_INT + 1];
+
+    private NumFactory(Function<Number, Num> function) {
+        this.function = function;
+        this.zero = cache(0);
+        this.one = cache(1);
+        this.two = cache(2);
+        this.hundred = cache(100);
+    }
+
+    /**
+     * Returns the factory of a function: the factories of the last functions are
+     * kept and returned again for the same function (e.g. by the default
+     * {@link org.ta4j.core.BarSeries#numFactory()}), so that their constants are
+     * shared instead of being created with a new factory on each call.
+     *
+     * @param function the function to convert a {@link Number} into a {@link Num}
+     * @return a factory creating its Nums with the function
+     */
+    public static NumFactory of(Function<Number, Num> function) {
+        // Racing threads may miss a factory being added, which is harmless
+        for (NumFactory factory : FACTORIES) {
+            if (factory != null && factory.function == function) {
+                return factory;
+            }
+        }
+        NumFactory factory = new NumFactory(function);
+        synchronized (FACTORIES) {
+            FACTORIES[nextFactory] = factory;
+            nextFactory = (nextFactory + 1) % FACTORIES.length;
+        }
+        return factory;
+    }
+
+    /**
+     * @return the function to convert a {@link Number} into a {@link Num}
+     */
+    public Function<Number, Num> function() {
+        return function;
+    }
+
+    /**
+     * @return the Num of 0
+     */
+    public Num zero() {
+        return zero;
+    }
+
+    /**
+     * @return the Num of 1
+     */
+    public Num one() {
+        return one;
+    }
+
+    /**
+     * @return the Num of 2
+     */
+    public Num two() {
+        return two;
+    }
+
+    /**
+     * @return the Num of 100
+     */
+    public Num hundred() {
+        return hundred;
+    }
+
+    /**
+     * @return a new {@link NumAccumulator} starting with {@link #zero()}
+     */
+    public NumAccumulator newAccumulator() {
+        return zero.newAccumulator();
+    }
+
+    /**
+     * @param value an integer value
+     * @return the Num of the value, shared if the value is between -128 and 1024
+     */
+    public Num numOf(int value) {
+        if (value < LOWEST_CACHED_INT || value > HIGHEST_CACHED_INT) {
+            return function.apply(value);
+        }
+        Num num = ints[value - LOWEST_CACHED_INT];
+        return num != null ? num : cache(value);
+    }
+
+    /**
+     * @param number a {@link Number}
+     * @return the Num of the number, shared if it is an integer between -128 and
+     *         1024
+     */
+    public Num numOf(Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return numOf(number.intValue());
+        }
+        return function.apply(number);
+    }
+
+    private Num cache(int value) {
+        Num num = function.apply(value);
+        ints[value - LOWEST_CACHED_INT] = num;
+        return num;
+    }
+}
@@ -23,6 +23,11 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 
@@ -62,4 +67,14 @@ public class AndRule extends AbstractRule {
     public Rule getRule2() {
         return rule2;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Arrays.asList(rule1, rule2);
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.emptyList();
+    }
 }
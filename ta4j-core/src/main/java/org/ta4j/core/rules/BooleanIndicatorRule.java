@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 
 /**
@@ -51,4 +55,14 @@ public class BooleanIndicatorRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.singletonList(indicator);
+    }
 }
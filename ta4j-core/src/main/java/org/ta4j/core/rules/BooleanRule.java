@@ -23,6 +23,11 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 
 /**
@@ -60,4 +65,14 @@ public class BooleanRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.emptyList();
+    }
 }
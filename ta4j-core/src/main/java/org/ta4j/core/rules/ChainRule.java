@@ -23,8 +23,10 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
@@ -92,4 +94,14 @@ public class ChainRule extends AbstractRule {
         traceIsSatisfied(index, true);
         return true;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        List<Rule> rules = new ArrayList<>(rulesInChain.size() + 1);
+        rules.add(initialRule);
+        for (ChainLink link : rulesInChain) {
+            rules.add(link.getRule());
+        }
+        return rules;
+    }
 }
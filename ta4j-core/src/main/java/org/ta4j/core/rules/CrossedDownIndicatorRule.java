@@ -23,7 +23,11 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
 import org.ta4j.core.indicators.helpers.CrossIndicator;
@@ -91,4 +95,14 @@ public class CrossedDownIndicatorRule extends AbstractRule {
     public Indicator<Num> getUp() {
         return cross.getUp();
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.singletonList(cross);
+    }
 }
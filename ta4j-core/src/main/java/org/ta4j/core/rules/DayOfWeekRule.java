@@ -24,11 +24,14 @@
 package org.ta4j.core.rules;
 
 import java.time.DayOfWeek;
-import java.time.ZonedDateTime;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.DateTimeIndicator;
 
@@ -44,17 +47,27 @@ public class DayOfWeekRule extends AbstractRule {
     private final DateTimeIndicator timeIndicator;
 
     public DayOfWeekRule(DateTimeIndicator timeIndicator, DayOfWeek... daysOfWeek) {
-        this.daysOfWeekSet = new HashSet<>(Arrays.asList(daysOfWeek));
+        this.daysOfWeekSet = EnumSet.noneOf(DayOfWeek.class);
+        this.daysOfWeekSet.addAll(Arrays.asList(daysOfWeek));
         this.timeIndicator = timeIndicator;
     }
 
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        ZonedDateTime dateTime = this.timeIndicator.getValue(index);
-        boolean satisfied = daysOfWeekSet.contains(dateTime.getDayOfWeek());
+        boolean satisfied = daysOfWeekSet.contains(this.timeIndicator.getDayOfWeek(index));
 
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.singletonList(timeIndicator);
+    }
 }
\ No newline at end of file
@@ -24,7 +24,11 @@
 package org.ta4j.core.rules;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 
 /**
@@ -58,4 +62,14 @@ public class FixedRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.emptyList();
+    }
 }
@@ -23,7 +23,12 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
 import org.ta4j.core.num.Num;
@@ -87,4 +92,14 @@ public class InPipeRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Arrays.asList(upper, lower, ref);
+    }
 }
@@ -25,7 +25,12 @@ package org.ta4j.core.rules;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.CombineIndicator;
 import org.ta4j.core.indicators.helpers.PreviousValueIndicator;
@@ -115,4 +120,14 @@ public class InSlopeRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Arrays.asList(ref, prev);
+    }
 }
@@ -23,6 +23,10 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 
@@ -68,4 +72,14 @@ public class JustOnceRule extends AbstractRule {
         this.satisfied = this.rule.isSatisfied(index, tradingRecord);
         return this.satisfied;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return rule == null ? Collections.emptyList() : Collections.singletonList(rule);
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.emptyList();
+    }
 }
@@ -23,6 +23,10 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 
@@ -55,4 +59,14 @@ public class NotRule extends AbstractRule {
     public Rule getRuleToNegate() {
         return ruleToNegate;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.singletonList(ruleToNegate);
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.emptyList();
+    }
 }
@@ -24,9 +24,11 @@
 package org.ta4j.core.rules;
 
 import java.time.LocalTime;
-import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.List;
 
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.DateTimeIndicator;
 
@@ -38,11 +40,19 @@ import org.ta4j.core.indicators.DateTimeIndicator;
  */
 public class TimeRangeRule extends AbstractRule {
 
-    private final List<TimeRange> timeRanges;
+    /** Begin (inclusive) of the time ranges, in nanoseconds of the day */
+    private final long[] fromNanos;
+    /** End (inclusive) of the time ranges, in nanoseconds of the day */
+    private final long[] toNanos;
     private final DateTimeIndicator timeIndicator;
 
     public TimeRangeRule(List<TimeRange> timeRanges, DateTimeIndicator beginTimeIndicator) {
-        this.timeRanges = timeRanges;
+        this.fromNanos = new long[timeRanges.size()];
+        this.toNanos = new long[timeRanges.size()];
+        for (int i = 0; i < timeRanges.size(); i++) {
+            fromNanos[i] = timeRanges.get(i).getFrom().toNanoOfDay();
+            toNanos[i] = timeRanges.get(i).getTo().toNanoOfDay();
+        }
         this.timeIndicator = beginTimeIndicator;
     }
 
@@ -50,11 +60,10 @@ public class TimeRangeRule extends AbstractRule {
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
         boolean satisfied = false;
-        ZonedDateTime dateTime = this.timeIndicator.getValue(index);
-        LocalTime localTime = dateTime.toLocalTime();
-        satisfied = this.timeRanges.stream()
-                .anyMatch(
-                        timeRange -> !localTime.isBefore(timeRange.getFrom()) && !localTime.isAfter(timeRange.getTo()));
+        long nanoOfDay = this.timeIndicator.getNanoOfDay(index);
+        for (int i = 0; i < fromNanos.length && !satisfied; i++) {
+            satisfied = fromNanos[i] <= nanoOfDay && nanoOfDay <= toNanos[i];
+        }
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
@@ -77,4 +86,14 @@ public class TimeRangeRule extends AbstractRule {
             return to;
         }
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Collections.singletonList(timeIndicator);
+    }
 }
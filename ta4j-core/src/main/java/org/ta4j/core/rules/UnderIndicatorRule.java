@@ -23,9 +23,16 @@
  */
 package org.ta4j.core.rules;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
+import org.ta4j.core.num.DoubleNumMath;
 import org.ta4j.core.num.Num;
 
 /**
@@ -45,6 +52,9 @@ public class UnderIndicatorRule extends AbstractRule {
      */
     private final Indicator<Num> second;
 
+    /** True if the values can be compared on primitive doubles */
+    private final boolean doubleValues;
+
     /**
      * Constructor.
      *
@@ -74,13 +84,30 @@ public class UnderIndicatorRule extends AbstractRule {
     public UnderIndicatorRule(Indicator<Num> first, Indicator<Num> second) {
         this.first = first;
         this.second = second;
+        this.doubleValues = DoubleIndicator.hasDoubleValues(first) && DoubleIndicator.hasDoubleValues(second);
     }
 
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        final boolean satisfied = first.getValue(index).isLessThan(second.getValue(index));
+        final boolean satisfied;
+        if (doubleValues) {
+            satisfied = DoubleNumMath.isLessThan(DoubleIndicator.doubleValue(first, index),
+                    DoubleIndicator.doubleValue(second, index));
+        } else {
+            satisfied = first.getValue(index).isLessThan(second.getValue(index));
+        }
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Rule> getInputRules() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Indicator<?>> getInputIndicators() {
+        return Arrays.asList(first, second);
+    }
 }
@@ -0,0 +1,232 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Array based {@link java.util.List list} organized as a circular buffer.
+ *
+ * Appending an element and removing elements from the head of the list are O(1)
+ * operations. Once the backing array is large enough, a list which is appended
+ * at the end and trimmed at the head (e.g. the bars of a series with a
+ * {@link org.ta4j.core.BarSeries#setMaximumBarCount(int) maximum bar count})
+ * neither moves nor allocates anything. Insertions and removals elsewhere shift
+ * the elements like an {@link java.util.ArrayList}.
+ *
+ * @param <E> the type of elements
+ */
+public class RingBufferList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = -5395271744593452817L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The circular buffer */
+    private Object[] elements;
+    /** Array index of the first element */
+    private int head;
+    /** Number of elements */
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    public RingBufferList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param initialCapacity the initial capacity of the buffer
+     */
+    public RingBufferList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        elements = new Object[Math.max(initialCapacity, 1)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) elements[position(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index, size);
+        int position = position(index);
+        E previous = (E) elements[position];
+        elements[position] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[position(size)] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Appends all the elements of a collection, growing the buffer at most once.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        Object[] newElements = collection.toArray();
+        ensureCapacity(size + newElements.length);
+        for (Object element : newElements) {
+            elements[position(size)] = element;
+            size++;
+        }
+        modCount++;
+        return newElements.length > 0;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+        if (size == elements.length) {
+            grow();
+        }
+        if (index == 0) {
+            head = head == 0 ? elements.length - 1 : head - 1;
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[position(i)] = elements[position(i - 1)];
+            }
+        }
+        elements[position(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E previous = get(index);
+        removeRange(index, index + 1);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        if (fromIndex == 0) {
+            // Removing from the head: no element has to be moved
+            for (int i = 0; i < count; i++) {
+                elements[position(i)] = null;
+            }
+            head = position(count);
+        } else {
+            for (int i = fromIndex; i < size - count; i++) {
+                elements[position(i)] = elements[position(i + count)];
+            }
+            for (int i = size - count; i < size; i++) {
+                elements[position(i)] = null;
+            }
+        }
+        size -= count;
+        if (size == 0) {
+            head = 0;
+        }
+        modCount++;
+    }
+
+    /**
+     * @return the number of elements the buffer can hold without growing
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Makes sure that the buffer can hold at least <code>minCapacity</code>
+     * elements without growing.
+     *
+     * @param minCapacity the minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = elements.length;
+        if (minCapacity > capacity) {
+            resize(Math.max(minCapacity, capacity + (capacity >> 1)));
+        }
+    }
+
+    private void grow() {
+        ensureCapacity(elements.length + 1);
+    }
+
+    private void resize(int capacity) {
+        Object[] newElements = new Object[capacity];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+        elements = newElements;
+        head = 0;
+    }
+
+    private int position(int index) {
+        int position = head + index;
+        return position >= elements.length ? position - elements.length : position;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, array, 0, firstPart);
+        System.arraycopy(elements, 0, array, firstPart, size - firstPart);
+        return array;
+    }
+}
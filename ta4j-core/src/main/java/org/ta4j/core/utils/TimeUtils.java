@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Helpers to work with times as primitive nanoseconds since the epoch
+ * (1970-01-01T00:00:00Z).
+ *
+ * A {@code long} of nanoseconds covers the years 1677 to 2262.
+ */
+public final class TimeUtils {
+
+    /** Number of nanoseconds in a second */
+    public static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** Number of nanoseconds in a day */
+    public static final long NANOS_PER_DAY = 86_400L * NANOS_PER_SECOND;
+
+    private TimeUtils() {
+    }
+
+    /**
+     * @param instant an instant
+     * @return the instant as nanoseconds since the epoch
+     * @throws ArithmeticException if the instant is out of the nanoseconds range
+     */
+    public static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    /**
+     * @param dateTime a date time
+     * @return the date time as nanoseconds since the epoch
+     * @throws ArithmeticException if the date time is out of the nanoseconds range
+     */
+    public static long toEpochNanos(ZonedDateTime dateTime) {
+        return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(), NANOS_PER_SECOND), dateTime.getNano());
+    }
+
+    /**
+     * @param epochNanos nanoseconds since the epoch
+     * @return the corresponding instant
+     */
+    public static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                Math.floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+
+    /**
+     * @param epochNanos nanoseconds since the epoch
+     * @param zone       a zone
+     * @return the corresponding date time in the zone
+     */
+    public static ZonedDateTime toZonedDateTime(long epochNanos, ZoneId zone) {
+        return toInstant(epochNanos).atZone(zone);
+    }
+
+    /**
+     * Equivalent of
+     * {@code toZonedDateTime(epochNanos, zone).toLocalTime().toNanoOfDay()}.
+     *
+     * @param epochNanos nanoseconds since the epoch
+     * @param zone       a zone
+     * @return the local time of day in the zone, in nanoseconds
+     */
+    public static long toNanoOfDay(long epochNanos, ZoneId zone) {
+        return Math.floorMod(toLocalNanos(epochNanos, zone), NANOS_PER_DAY);
+    }
+
+    /**
+     * Equivalent of {@code toZonedDateTime(epochNanos, zone).getDayOfWeek()}.
+     *
+     * @param epochNanos nanoseconds since the epoch
+     * @param zone       a zone
+     * @return the local day of week in the zone
+     */
+    public static DayOfWeek toDayOfWeek(long epochNanos, ZoneId zone) {
+        long epochDay = toEpochDay(epochNanos, zone);
+        // 1970-01-01 was a Thursday
+        return DayOfWeek.of((int) Math.floorMod(epochDay + 3, 7L) + 1);
+    }
+
+    /**
+     * Equivalent of
+     * {@code toZonedDateTime(epochNanos, zone).toLocalDate().toEpochDay()}.
+     *
+     * @param epochNanos nanoseconds since the epoch
+     * @param zone       a zone
+     * @return the local day in the zone, in days since 1970-01-01
+     */
+    public static long toEpochDay(long epochNanos, ZoneId zone) {
+        return Math.floorDiv(toLocalNanos(epochNanos, zone), NANOS_PER_DAY);
+    }
+
+    /**
+     * @param epochNanos nanoseconds since the epoch
+     * @param zone       a zone
+     * @return the local date time in the zone, as nanoseconds since the local epoch
+     */
+    private static long toLocalNanos(long epochNanos, ZoneId zone) {
+        int offsetSeconds;
+        if (zone instanceof ZoneOffset) {
+            offsetSeconds = ((ZoneOffset) zone).getTotalSeconds();
+        } else {
+            offsetSeconds = zone.getRules().getOffset(toInstant(epochNanos)).getTotalSeconds();
+        }
+        return epochNanos + offsetSeconds * NANOS_PER_SECOND;
+    }
+}
@@ -36,8 +36,12 @@ import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.Trade.TradeType;
 import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.mocks.MockBarSeries;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
 import org.ta4j.core.rules.FixedRule;
 
 public class BarSeriesManagerTest extends AbstractIndicatorTest<BarSeries, Num> {
@@ -94,6 +98,52 @@ public class BarSeriesManagerTest extends AbstractIndicatorTest<BarSeries, Num>
 
     }
 
+    @Test
+    public void runWithPrecomputedIndicators() {
+        BarSeries series = new MockBarSeries(numFunction, 20d, 40d, 60d, 10d, 30d, 50d, 0d, 20d, 40d, 30d, 10d);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        Strategy smaStrategy = new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                new CrossedDownIndicatorRule(closePrice, sma));
+        List<Position> expectedPositions = new BarSeriesManager(series)
+                .run(new BaseStrategy(new CrossedUpIndicatorRule(closePrice, new SMAIndicator(closePrice, 3)),
+                        new CrossedDownIndicatorRule(closePrice, new SMAIndicator(closePrice, 3))))
+                .getPositions();
+
+        manager = new BarSeriesManager(series);
+        manager.setPrecomputeIndicators(true);
+        sma.setMetricsEnabled(true);
+        List<Position> positions = manager.run(smaStrategy).getPositions();
+
+        assertEquals(expectedPositions, positions);
+        // precomputed once in a forward loop, then read from the cache by the rules
+        assertEquals(series.getBarCount() - 1, sma.getMetrics().getCalculationCount());
+        assertEquals(1, sma.getMetrics().getLastBarCalculationCount());
+    }
+
+    @Test
+    public void dependencyGraphIsWalkedOnFirstRunOnly() {
+        BarSeries series = new MockBarSeries(numFunction, 20d, 40d, 60d, 10d, 30d, 50d, 0d, 20d, 40d, 30d, 10d);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        int[] walks = new int[1];
+        SMAIndicator sma = new SMAIndicator(closePrice, 3) {
+            @Override
+            public List<Indicator<?>> getInputs() {
+                walks[0]++;
+                return super.getInputs();
+            }
+        };
+        Strategy smaStrategy = new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                new CrossedDownIndicatorRule(closePrice, sma));
+        manager = new BarSeriesManager(series);
+        manager.setPrecomputeIndicators(true);
+        List<Position> positions = manager.run(smaStrategy).getPositions();
+        int firstRunWalks = walks[0];
+        assertTrue(firstRunWalks > 0);
+        assertEquals(positions, manager.run(smaStrategy).getPositions());
+        assertEquals(firstRunWalks, walks[0]);
+    }
+
     @Test
     public void runOnSeries() {
         List<Position> positions = manager.run(strategy).getPositions();
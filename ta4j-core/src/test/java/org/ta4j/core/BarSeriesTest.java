@@ -35,6 +35,8 @@ import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Function;
@@ -53,6 +55,7 @@ import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.DoubleNum;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.rules.FixedRule;
+import org.ta4j.core.utils.TimeUtils;
 
 public class BarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
 
@@ -367,4 +370,145 @@ public class BarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
             assertEquals(subSeriesLastBar.getVolume(), seriesLastBar.getVolume());
         });
     }
+
+    @Test
+    public void movingSeriesKeepsIndexSemantics() {
+        final BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withMaxBarCount(50).build();
+        final ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 10_000; i++) {
+            series.addBar(time.plusMinutes(i), i, i, i, i, i);
+        }
+        assertEquals(9950, series.getRemovedBarsCount());
+        assertEquals(50, series.getBarCount());
+        assertEquals(9999, series.getEndIndex());
+        TestUtils.assertNumEquals(9950, series.getBar(0).getClosePrice());
+        TestUtils.assertNumEquals(9950, series.getBar(9950).getClosePrice());
+        TestUtils.assertNumEquals(9975, series.getBar(9975).getClosePrice());
+        TestUtils.assertNumEquals(9999, series.getLastBar().getClosePrice());
+    }
+
+    @Test
+    public void addBarsMatchesAddBar() {
+        final List<Bar> newBars = minuteBars(ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault()), 100);
+        for (int maxBarCount : new int[] { Integer.MAX_VALUE, 150, 60, 1 }) {
+            final BarSeries expected = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+            final BarSeries actual = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+            expected.setMaximumBarCount(maxBarCount);
+            actual.setMaximumBarCount(maxBarCount);
+            newBars.subList(0, 50).forEach(expected::addBar);
+            actual.addBars(newBars.subList(0, 50));
+            assertSameBars(expected, actual);
+            newBars.subList(50, 100).forEach(expected::addBar);
+            actual.addBars(new LinkedList<>(newBars.subList(50, 100)));
+            assertSameBars(expected, actual);
+        }
+    }
+
+    @Test
+    public void addBarsChecksWholeBatchBeforeAdding() {
+        final ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        final BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction)
+                .withBars(minuteBars(time, 10))
+                .build();
+        final List<Bar> newBars = minuteBars(time.plusMinutes(10), 10);
+        newBars.add(newBars.get(5));
+        try {
+            series.addBars(newBars);
+            Assert.fail("Unordered bars must be rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals(10, series.getBarCount());
+            assertEquals(9, series.getEndIndex());
+        }
+        try {
+            series.addBars(minuteBars(time.plusMinutes(5), 10));
+            Assert.fail("Bars ending before the series end time must be rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals(10, series.getBarCount());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addBarsRejectsOtherNumType() {
+        final Function<Number, Num> otherFunction = numFunction.apply(1) instanceof DoubleNum ? DecimalNum::valueOf
+                : DoubleNum::valueOf;
+        final BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        series.addBars(Collections.singletonList(
+                new BaseBar(Duration.ofMinutes(1), ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault()), 1,
+                        1, 1, 1, 1, 0, 0, otherFunction)));
+    }
+
+    @Test
+    public void addBarsFromColumnsMatchesAddBar() {
+        final ZoneId zone = ZoneId.of("Europe/Paris");
+        final ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, zone);
+        final List<Bar> newBars = minuteBars(time, 100);
+        final long[] endTimes = new long[100];
+        final double[] opens = new double[100];
+        final double[] highs = new double[100];
+        final double[] lows = new double[100];
+        final double[] closes = new double[100];
+        final double[] volumes = new double[100];
+        for (int i = 0; i < 100; i++) {
+            endTimes[i] = TimeUtils.toEpochNanos(time.plusMinutes(i));
+            opens[i] = 100 + i;
+            highs[i] = 102 + i;
+            lows[i] = 98 + i;
+            closes[i] = 101 + i;
+            volumes[i] = 10 + i;
+        }
+        for (int maxBarCount : new int[] { Integer.MAX_VALUE, 60 }) {
+            final BarSeries expected = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+            final BarSeries actual = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+            expected.setMaximumBarCount(maxBarCount);
+            actual.setMaximumBarCount(maxBarCount);
+            newBars.forEach(expected::addBar);
+            actual.addBars(Duration.ofMinutes(1), zone, endTimes, opens, highs, lows, closes, volumes);
+            assertSameBars(expected, actual);
+        }
+    }
+
+    @Test
+    public void addBarsFromColumnsChecksArrays() {
+        final ZoneId zone = ZoneId.systemDefault();
+        final BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        final double[] values = { 1, 2 };
+        try {
+            series.addBars(Duration.ofMinutes(1), zone, new long[] { 1, 2, 3 }, values, values, values, values, values);
+            Assert.fail("Arrays of different lengths must be rejected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(series.isEmpty());
+        }
+        try {
+            series.addBars(Duration.ofMinutes(1), zone, new long[] { 2, 2 }, values, values, values, values, values);
+            Assert.fail("Unordered end times must be rejected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(series.isEmpty());
+        }
+        series.addBars(Duration.ofMinutes(1), zone, new long[] { 1, 2 }, values, values, values, values, values);
+        try {
+            series.addBars(Duration.ofMinutes(1), zone, new long[] { 2, 3 }, values, values, values, values, values);
+            Assert.fail("End times before the series end time must be rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals(2, series.getBarCount());
+        }
+    }
+
+    private List<Bar> minuteBars(ZonedDateTime time, int count) {
+        final List<Bar> minuteBars = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            minuteBars.add(new BaseBar(Duration.ofMinutes(1), time.plusMinutes(i), 100 + i, 102 + i, 98 + i, 101 + i,
+                    10 + i, 0, 0, numFunction));
+        }
+        return minuteBars;
+    }
+
+    private static void assertSameBars(BarSeries expected, BarSeries actual) {
+        assertEquals(expected.getBeginIndex(), actual.getBeginIndex());
+        assertEquals(expected.getEndIndex(), actual.getEndIndex());
+        assertEquals(expected.getRemovedBarsCount(), actual.getRemovedBarsCount());
+        assertEquals(expected.getBarCount(), actual.getBarCount());
+        for (int i = expected.getBeginIndex(); i <= expected.getEndIndex(); i++) {
+            assertEquals(expected.getBar(i), actual.getBar(i));
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.ZonedDateTime;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class BarSeriesViewTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private BarSeries series;
+
+    public BarSeriesViewTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(numFunction, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    public void viewSharesBars() {
+        BarSeries view = series.getSubSeriesView(2, 5);
+        assertEquals(3, view.getBarCount());
+        assertEquals(0, view.getBeginIndex());
+        assertEquals(2, view.getEndIndex());
+        assertEquals(series.getName(), view.getName());
+        for (int i = 0; i < 3; i++) {
+            assertSame(series.getBar(i + 2), view.getBar(i));
+        }
+        assertEquals(3, view.getBarData().size());
+        assertSame(series.getBar(2), view.getBarData().get(0));
+        assertNumEquals(3, view.getFirstBar().getClosePrice());
+        assertNumEquals(5, view.getLastBar().getClosePrice());
+    }
+
+    @Test
+    public void viewMatchesSubSeries() {
+        BarSeries subSeries = series.getSubSeries(3, 1000);
+        BarSeries view = series.getSubSeriesView(3, 1000);
+        assertEquals(subSeries.getBeginIndex(), view.getBeginIndex());
+        assertEquals(subSeries.getEndIndex(), view.getEndIndex());
+        assertEquals(subSeries.getBarCount(), view.getBarCount());
+        assertEquals(subSeries.getSeriesPeriodDescription(), view.getSeriesPeriodDescription());
+    }
+
+    @Test
+    public void viewOfView() {
+        BarSeriesView view = series.getSubSeriesView(2, 8).getSubSeriesView(1, 10);
+        assertSame(series, view.getParent());
+        assertEquals(5, view.getBarCount());
+        assertEquals(3, view.getParentIndex(0));
+        assertSame(series.getBar(3), view.getFirstBar());
+        assertSame(series.getBar(7), view.getLastBar());
+    }
+
+    @Test
+    public void viewOfMovingSeries() {
+        series.setMaximumBarCount(5);
+        BarSeries view = series.getSubSeriesView(0, 7);
+        assertEquals(2, view.getBarCount());
+        assertSame(series.getBar(5), view.getBar(0));
+        assertSame(series.getBar(6), view.getBar(1));
+        assertSame(series.getBar(5), view.getBarData().get(0));
+    }
+
+    @Test
+    public void emptyView() {
+        BarSeries view = series.getSubSeriesView(20, 30);
+        assertTrue(view.isEmpty());
+        assertEquals(-1, view.getBeginIndex());
+        assertEquals(-1, view.getEndIndex());
+        assertTrue(view.getBarData().isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getBarOutsideOfView() {
+        series.getSubSeriesView(2, 5).getBar(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void viewWithWrongArguments() {
+        series.getSubSeriesView(5, 2);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void viewIsReadOnly() {
+        series.getSubSeriesView(2, 5).addBar(ZonedDateTime.now(), 1, 1, 1, 1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void maximumBarCountOnViewShouldThrowException() {
+        series.getSubSeriesView(2, 5).setMaximumBarCount(2);
+    }
+}
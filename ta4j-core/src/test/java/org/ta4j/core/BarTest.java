@@ -111,4 +111,23 @@ public class BarTest extends AbstractIndicatorTest<BarSeries, Num> {
 
         assertEquals(bar1.hashCode(), bar2.hashCode());
     }
+
+    @Test
+    public void primitiveTimes() {
+        assertEquals(endTime.toInstant().toEpochMilli() * 1_000_000, bar.getEndTimeEpochNanos());
+        assertEquals(beginTime.toInstant().toEpochMilli() * 1_000_000, bar.getBeginTimeEpochNanos());
+        assertEquals(endTime.getZone(), bar.getZone());
+    }
+
+    @Test
+    public void timesKeepZoneAndOffset() {
+        // 2:30 happens twice in Paris on that day, the later offset must be kept
+        ZonedDateTime overlap = ZonedDateTime.of(2014, 10, 26, 2, 30, 0, 0, ZoneId.of("Europe/Paris"))
+                .withLaterOffsetAtOverlap();
+        Bar overlapBar = new BaseBar(Duration.ofMinutes(30), overlap, numFunction);
+        assertEquals(overlap, overlapBar.getEndTime());
+        assertEquals(overlap.minusMinutes(30), overlapBar.getBeginTime());
+        assertFalse(overlapBar
+                .equals(new BaseBar(Duration.ofMinutes(30), overlap.withEarlierOffsetAtOverlap(), numFunction)));
+    }
 }
@@ -0,0 +1,274 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.VolumeIndicator;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+public class ColumnarBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private List<Bar> bars;
+
+    private BarSeries baseSeries;
+
+    private BarSeries columnarSeries;
+
+    public ColumnarBarSeriesTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        bars = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.of("Europe/Paris"));
+        for (int i = 0; i < 100; i++) {
+            double close = 100 + 10 * Math.sin(i / 5d);
+            bars.add(new BaseBar(Duration.ofMinutes(1), time.plusMinutes(i), close - 1, close + 2, close - 2, close,
+                    10 + i, 1000 + i, i, numFunction));
+        }
+        baseSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withBars(new ArrayList<>(bars)).build();
+        columnarSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction)
+                .withBars(new ArrayList<>(bars))
+                .withColumnarStorage(true)
+                .build();
+    }
+
+    @Test
+    public void builderCreatesColumnarSeries() {
+        assertTrue(columnarSeries instanceof ColumnarBarSeries);
+        assertEquals(baseSeries.getBeginIndex(), columnarSeries.getBeginIndex());
+        assertEquals(baseSeries.getEndIndex(), columnarSeries.getEndIndex());
+        assertEquals(baseSeries.getBarCount(), columnarSeries.getBarCount());
+        assertEquals(numFunction.apply(1).getClass(), columnarSeries.numOf(1).getClass());
+    }
+
+    @Test
+    public void barViewsMatchBars() {
+        for (int i = 0; i < bars.size(); i++) {
+            Bar expected = bars.get(i);
+            Bar actual = columnarSeries.getBar(i);
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(expected.getBeginTime(), actual.getBeginTime());
+            assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+            assertNumEquals(expected.getOpenPrice(), actual.getOpenPrice());
+            assertNumEquals(expected.getHighPrice(), actual.getHighPrice());
+            assertNumEquals(expected.getLowPrice(), actual.getLowPrice());
+            assertNumEquals(expected.getClosePrice(), actual.getClosePrice());
+            assertNumEquals(expected.getVolume(), actual.getVolume());
+            assertNumEquals(expected.getAmount(), actual.getAmount());
+            assertEquals(expected.getTrades(), actual.getTrades());
+            assertEquals(actual, expected);
+        }
+    }
+
+    @Test
+    public void addBarsFromColumnsMatchesBaseBarSeries() {
+        int count = bars.size();
+        long[] endTimes = new long[count];
+        double[] opens = new double[count];
+        double[] highs = new double[count];
+        double[] lows = new double[count];
+        double[] closes = new double[count];
+        double[] volumes = new double[count];
+        for (int i = 0; i < count; i++) {
+            Bar bar = bars.get(i);
+            endTimes[i] = bar.getEndTimeEpochNanos();
+            opens[i] = bar.getOpenPrice().doubleValue();
+            highs[i] = bar.getHighPrice().doubleValue();
+            lows[i] = bar.getLowPrice().doubleValue();
+            closes[i] = bar.getClosePrice().doubleValue();
+            volumes[i] = bar.getVolume().doubleValue();
+        }
+        BarSeries expected = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withMaxBarCount(60).build();
+        ColumnarBarSeries series = new ColumnarBarSeries("columnar", numFunction);
+        series.setMaximumBarCount(60);
+        ZoneId zone = bars.get(0).getZone();
+        for (int[] range : new int[][] { { 0, 30 }, { 30, count } }) {
+            for (int i = range[0]; i < range[1]; i++) {
+                expected.addBar(Duration.ofMinutes(1), bars.get(i).getEndTime(), opens[i], highs[i], lows[i], closes[i],
+                        volumes[i]);
+            }
+            series.addBars(Duration.ofMinutes(1), zone, Arrays.copyOfRange(endTimes, range[0], range[1]),
+                    Arrays.copyOfRange(opens, range[0], range[1]), Arrays.copyOfRange(highs, range[0], range[1]),
+                    Arrays.copyOfRange(lows, range[0], range[1]), Arrays.copyOfRange(closes, range[0], range[1]),
+                    Arrays.copyOfRange(volumes, range[0], range[1]));
+            assertEquals(expected.getBeginIndex(), series.getBeginIndex());
+            assertEquals(expected.getEndIndex(), series.getEndIndex());
+            assertEquals(expected.getRemovedBarsCount(), series.getRemovedBarsCount());
+        }
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertEquals(series.getBar(i), expected.getBar(i));
+        }
+    }
+
+    @Test
+    public void indicatorsMatchBaseBarSeries() {
+        assertIndicatorEquals(new SMAIndicator(new ClosePriceIndicator(baseSeries), 10),
+                new SMAIndicator(new ClosePriceIndicator(columnarSeries), 10));
+        assertIndicatorEquals(new RSIIndicator(new ClosePriceIndicator(baseSeries), 14),
+                new RSIIndicator(new ClosePriceIndicator(columnarSeries), 14));
+        assertIndicatorEquals(new VolumeIndicator(baseSeries, 5), new VolumeIndicator(columnarSeries, 5));
+    }
+
+    @Test
+    public void backtestMatchesBaseBarSeries() {
+        Strategy baseStrategy = crossStrategy(baseSeries);
+        Strategy columnarStrategy = crossStrategy(columnarSeries);
+        List<Position> expected = new BarSeriesManager(baseSeries).run(baseStrategy).getPositions();
+        List<Position> actual = new BarSeriesManager(columnarSeries).run(columnarStrategy).getPositions();
+        assertTrue(expected.size() > 0);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getEntry().getIndex(), actual.get(i).getEntry().getIndex());
+            assertEquals(expected.get(i).getExit().getIndex(), actual.get(i).getExit().getIndex());
+        }
+    }
+
+    @Test
+    public void maximumBarCountKeepsIndexSemantics() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction)
+                .withColumnarStorage(true)
+                .withMaxBarCount(10)
+                .build();
+        for (Bar bar : bars) {
+            series.addBar(bar);
+        }
+        assertEquals(90, series.getRemovedBarsCount());
+        assertEquals(10, series.getBarCount());
+        assertEquals(0, series.getBeginIndex());
+        assertEquals(99, series.getEndIndex());
+        assertEquals(bars.get(90).getEndTime(), series.getBar(0).getEndTime());
+        assertEquals(bars.get(90).getEndTime(), series.getBar(90).getEndTime());
+        assertEquals(bars.get(99).getEndTime(), series.getBar(99).getEndTime());
+        assertNumEquals(bars.get(95).getClosePrice(), series.getBar(95).getClosePrice());
+    }
+
+    @Test
+    public void barViewsAreWritable() {
+        BarSeries series = new ColumnarBarSeries("columnar", numFunction);
+        series.addBar(Duration.ofMinutes(1), ZonedDateTime.now());
+        assertTrue(series.getLastBar().getClosePrice().isNaN());
+
+        series.addTrade(numOf(2), numOf(10));
+        series.addTrade(numOf(3), numOf(12));
+        series.addPrice(numOf(9));
+        Bar lastBar = series.getLastBar();
+        assertNumEquals(10, lastBar.getOpenPrice());
+        assertNumEquals(12, lastBar.getHighPrice());
+        assertNumEquals(9, lastBar.getLowPrice());
+        assertNumEquals(9, lastBar.getClosePrice());
+        assertNumEquals(5, lastBar.getVolume());
+        assertNumEquals(56, lastBar.getAmount());
+        assertEquals(2, lastBar.getTrades());
+    }
+
+    @Test
+    public void replaceLastBar() {
+        Bar replacement = new BaseBar(Duration.ofMinutes(1), bars.get(99).getEndTime(), 1, 1, 1, 1, 1, 1, 1,
+                numFunction);
+        Bar lastBar = columnarSeries.getLastBar();
+        columnarSeries.addBar(replacement, true);
+        assertEquals(100, columnarSeries.getBarCount());
+        assertNumEquals(1, columnarSeries.getLastBar().getClosePrice());
+        // bar views reflect the storage
+        assertNumEquals(1, lastBar.getClosePrice());
+    }
+
+    @Test
+    public void subSeriesIsColumnarCopy() {
+        BarSeries subSeries = columnarSeries.getSubSeries(10, 20);
+        assertTrue(subSeries instanceof ColumnarBarSeries);
+        assertEquals(10, subSeries.getBarCount());
+        assertEquals(0, subSeries.getBeginIndex());
+        assertEquals(9, subSeries.getEndIndex());
+        assertEquals(bars.get(10).getEndTime(), subSeries.getFirstBar().getEndTime());
+        assertEquals(bars.get(19).getEndTime(), subSeries.getLastBar().getEndTime());
+
+        subSeries.addPrice(numOf(1000));
+        assertNumEquals(bars.get(19).getClosePrice(), columnarSeries.getBar(19).getClosePrice());
+    }
+
+    @Test
+    public void decimalValuesAreRoundedToDouble() {
+        String price = "100.12345678901234567891";
+        Bar bar = new BaseBar(Duration.ofMinutes(1), bars.get(0).getEndTime(), DecimalNum.valueOf(price),
+                DecimalNum.valueOf(price), DecimalNum.valueOf(price), DecimalNum.valueOf(price), DecimalNum.valueOf(1),
+                DecimalNum.valueOf(price), 1);
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(DecimalNum::valueOf)
+                .withBars(new ArrayList<>(Arrays.asList(bar)))
+                .withColumnarStorage(true)
+                .build();
+
+        Num closePrice = series.getBar(0).getClosePrice();
+        assertTrue(closePrice instanceof DecimalNum);
+        assertEquals(DecimalNum.valueOf(Double.parseDouble(price)), closePrice);
+        assertFalse(DecimalNum.valueOf(price).equals(closePrice));
+        assertEquals(DecimalNum.valueOf(Double.parseDouble(price)), series.getBar(0).getAmount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addBarWithEndTimePriorToSeriesEndTimeShouldThrowException() {
+        columnarSeries.addBar(bars.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mixedNumTypesShouldThrowException() {
+        List<Bar> mixedBars = new ArrayList<>(bars);
+        ZonedDateTime endTime = bars.get(99).getEndTime().plusMinutes(1);
+        mixedBars.add(new BaseBar(Duration.ofMinutes(1), endTime, 1, 1, 1, 1, 1, 1, 1,
+                numOf(1) instanceof DoubleNum ? DecimalNum::valueOf : DoubleNum::valueOf));
+        new ColumnarBarSeries("mixed", mixedBars, numFunction);
+    }
+
+    private static Strategy crossStrategy(BarSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 8);
+        return new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                new CrossedDownIndicatorRule(closePrice, sma));
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.Num;
+
+public class MappedBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private BarSeries series;
+
+    private Path path;
+
+    public MappedBarSeriesTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        series = buildSeries(2500);
+        path = folder.newFile("bars.bin").toPath();
+        BarFileWriter.write(series, path);
+    }
+
+    private BarSeries buildSeries(int barCount) {
+        List<Bar> bars = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.of("Europe/Paris"));
+        for (int i = 0; i < barCount; i++) {
+            double close = 100 + 10 * Math.sin(i / 5d);
+            bars.add(new BaseBar(Duration.ofMinutes(1), time.plusMinutes(i), close - 1, close + 2, close - 2, close,
+                    10 + i, 1000 + i, i, numFunction));
+        }
+        return new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withBars(bars).build();
+    }
+
+    private static void assertSameBars(BarSeries expected, BarSeries actual) {
+        assertEquals(expected.getBeginIndex(), actual.getBeginIndex());
+        assertEquals(expected.getEndIndex(), actual.getEndIndex());
+        assertEquals(expected.getBarCount(), actual.getBarCount());
+        for (int i = expected.getBeginIndex(); i <= expected.getEndIndex(); i++) {
+            Bar expectedBar = expected.getBar(i);
+            Bar actualBar = actual.getBar(i);
+            assertEquals(expectedBar.getEndTime(), actualBar.getEndTime());
+            assertEquals(expectedBar.getBeginTime(), actualBar.getBeginTime());
+            assertEquals(expectedBar.getTimePeriod(), actualBar.getTimePeriod());
+            assertNumEquals(expectedBar.getOpenPrice(), actualBar.getOpenPrice());
+            assertNumEquals(expectedBar.getHighPrice(), actualBar.getHighPrice());
+            assertNumEquals(expectedBar.getLowPrice(), actualBar.getLowPrice());
+            assertNumEquals(expectedBar.getClosePrice(), actualBar.getClosePrice());
+            assertNumEquals(expectedBar.getVolume(), actualBar.getVolume());
+            assertNumEquals(expectedBar.getAmount(), actualBar.getAmount());
+            assertEquals(expectedBar.getTrades(), actualBar.getTrades());
+            assertEquals(actualBar, expectedBar);
+        }
+    }
+
+    @Test
+    public void roundTripKeepsBars() throws IOException {
+        MappedBarSeries mappedSeries = new MappedBarSeries("mapped", path, numFunction);
+        assertEquals("mapped", mappedSeries.getName());
+        assertEquals(ZoneId.of("Europe/Paris"), mappedSeries.getZone());
+        assertEquals(numFunction.apply(1).getClass(), mappedSeries.numOf(1).getClass());
+        assertSameBars(series, mappedSeries);
+        assertEquals(mappedSeries.getBarData(), series.getBarData());
+    }
+
+    @Test
+    public void roundTripOverSeveralMappedBuffers() throws IOException {
+        assertSameBars(series, new MappedBarSeries("mapped", path, numFunction, 7));
+        assertSameBars(series, new MappedBarSeries("mapped", path, numFunction, 2500));
+    }
+
+    @Test
+    public void indicatorsMatchBaseBarSeries() throws IOException {
+        MappedBarSeries mappedSeries = new MappedBarSeries("mapped", path, numFunction);
+        assertIndicatorEquals(new SMAIndicator(new ClosePriceIndicator(series), 20),
+                new SMAIndicator(new ClosePriceIndicator(mappedSeries), 20));
+        assertIndicatorEquals(new RSIIndicator(new ClosePriceIndicator(series), 14),
+                new RSIIndicator(new ClosePriceIndicator(mappedSeries), 14));
+    }
+
+    @Test
+    public void emptySeries() throws IOException {
+        Path emptyPath = folder.newFile("empty.bin").toPath();
+        BarFileWriter.write(new BaseBarSeries(), emptyPath);
+        MappedBarSeries mappedSeries = new MappedBarSeries(emptyPath);
+        assertEquals("empty.bin", mappedSeries.getName());
+        assertTrue(mappedSeries.isEmpty());
+        assertEquals(-1, mappedSeries.getBeginIndex());
+        assertEquals(-1, mappedSeries.getEndIndex());
+        assertTrue(mappedSeries.getBarData().isEmpty());
+    }
+
+    @Test
+    public void writerAppendsBarsOneByOne() throws IOException {
+        Path otherPath = folder.newFile("other.bin").toPath();
+        try (BarFileWriter writer = new BarFileWriter(otherPath, ZoneId.of("Europe/Paris"))) {
+            for (int i = 0; i < 10; i++) {
+                writer.write(series.getBar(i));
+            }
+            assertEquals(10, writer.getBarCount());
+        }
+        MappedBarSeries mappedSeries = new MappedBarSeries("mapped", otherPath, numFunction);
+        assertSameBars(series.getSubSeries(0, 10), mappedSeries);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writerRejectsUnorderedBars() throws IOException {
+        try (BarFileWriter writer = new BarFileWriter(folder.newFile("other.bin").toPath(), ZoneId.of("UTC"))) {
+            writer.write(series.getBar(1));
+            writer.write(series.getBar(0));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidFile() throws IOException {
+        Path invalidPath = folder.newFile("invalid.bin").toPath();
+        Files.write(invalidPath, new byte[256]);
+        new MappedBarSeries(invalidPath);
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedFile() throws IOException {
+        byte[] content = Files.readAllBytes(path);
+        Path truncatedPath = folder.newFile("truncated.bin").toPath();
+        Files.write(truncatedPath, Arrays.copyOf(content, content.length - 1));
+        new MappedBarSeries(truncatedPath);
+    }
+
+    @Test(expected = NotSerializableException.class)
+    public void cannotBeSerialized() throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+            out.writeObject(new MappedBarSeries("mapped", path, numFunction));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cannotAddBars() throws IOException {
+        new MappedBarSeries("mapped", path, numFunction).addPrice(numOf(1));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cannotModifyBars() throws IOException {
+        new MappedBarSeries("mapped", path, numFunction).getLastBar().addPrice(numOf(1));
+    }
+
+    @Test
+    public void subSeriesIsView() throws IOException {
+        MappedBarSeries mappedSeries = new MappedBarSeries("mapped", path, numFunction);
+        BarSeries subSeries = mappedSeries.getSubSeries(100, 200);
+        assertTrue(subSeries instanceof BarSeriesView);
+        assertSameBars(series.getSubSeries(100, 200), subSeries);
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+
+public class OffHeapBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private List<Bar> bars;
+
+    private BarSeries baseSeries;
+
+    private OffHeapBarSeries offHeapSeries;
+
+    public OffHeapBarSeriesTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        bars = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.of("Europe/Paris"));
+        for (int i = 0; i < 100; i++) {
+            double close = 100 + 10 * Math.sin(i / 5d);
+            bars.add(new BaseBar(Duration.ofMinutes(1), time.plusMinutes(i), close - 1, close + 2, close - 2, close,
+                    10 + i, 1000 + i, i, numFunction));
+        }
+        baseSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withBars(new ArrayList<>(bars)).build();
+        offHeapSeries = new OffHeapBarSeries("off-heap", bars, numFunction);
+    }
+
+    @After
+    public void tearDown() {
+        offHeapSeries.close();
+    }
+
+    @Test
+    public void barViewsMatchBars() {
+        assertEquals(baseSeries.getBeginIndex(), offHeapSeries.getBeginIndex());
+        assertEquals(baseSeries.getEndIndex(), offHeapSeries.getEndIndex());
+        assertEquals(numFunction.apply(1).getClass(), offHeapSeries.numOf(1).getClass());
+        for (int i = 0; i < bars.size(); i++) {
+            Bar expected = bars.get(i);
+            Bar actual = offHeapSeries.getBar(i);
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(expected.getBeginTime(), actual.getBeginTime());
+            assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+            assertNumEquals(expected.getOpenPrice(), actual.getOpenPrice());
+            assertNumEquals(expected.getHighPrice(), actual.getHighPrice());
+            assertNumEquals(expected.getLowPrice(), actual.getLowPrice());
+            assertNumEquals(expected.getClosePrice(), actual.getClosePrice());
+            assertNumEquals(expected.getVolume(), actual.getVolume());
+            assertNumEquals(expected.getAmount(), actual.getAmount());
+            assertEquals(expected.getTrades(), actual.getTrades());
+            assertEquals(actual, expected);
+        }
+    }
+
+    @Test
+    public void addBarsFromColumnsMatchesBaseBarSeries() {
+        int count = bars.size();
+        long[] endTimes = new long[count];
+        double[] opens = new double[count];
+        double[] highs = new double[count];
+        double[] lows = new double[count];
+        double[] closes = new double[count];
+        double[] volumes = new double[count];
+        for (int i = 0; i < count; i++) {
+            Bar bar = bars.get(i);
+            endTimes[i] = bar.getEndTimeEpochNanos();
+            opens[i] = bar.getOpenPrice().doubleValue();
+            highs[i] = bar.getHighPrice().doubleValue();
+            lows[i] = bar.getLowPrice().doubleValue();
+            closes[i] = bar.getClosePrice().doubleValue();
+            volumes[i] = bar.getVolume().doubleValue();
+        }
+        BarSeries expected = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withMaxBarCount(60).build();
+        OffHeapBarSeries series = new OffHeapBarSeries("off-heap", numFunction);
+        series.setMaximumBarCount(60);
+        ZoneId zone = bars.get(0).getZone();
+        for (int[] range : new int[][] { { 0, 30 }, { 30, count } }) {
+            for (int i = range[0]; i < range[1]; i++) {
+                expected.addBar(Duration.ofMinutes(1), bars.get(i).getEndTime(), opens[i], highs[i], lows[i], closes[i],
+                        volumes[i]);
+            }
+            series.addBars(Duration.ofMinutes(1), zone, Arrays.copyOfRange(endTimes, range[0], range[1]),
+                    Arrays.copyOfRange(opens, range[0], range[1]), Arrays.copyOfRange(highs, range[0], range[1]),
+                    Arrays.copyOfRange(lows, range[0], range[1]), Arrays.copyOfRange(closes, range[0], range[1]),
+                    Arrays.copyOfRange(volumes, range[0], range[1]));
+            assertEquals(expected.getBeginIndex(), series.getBeginIndex());
+            assertEquals(expected.getEndIndex(), series.getEndIndex());
+            assertEquals(expected.getRemovedBarsCount(), series.getRemovedBarsCount());
+        }
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertEquals(series.getBar(i), expected.getBar(i));
+        }
+        series.close();
+    }
+
+    @Test
+    public void indicatorsMatchBaseBarSeries() {
+        assertIndicatorEquals(new SMAIndicator(new ClosePriceIndicator(baseSeries), 10),
+                new SMAIndicator(new ClosePriceIndicator(offHeapSeries), 10));
+        assertIndicatorEquals(new RSIIndicator(new ClosePriceIndicator(baseSeries), 14),
+                new RSIIndicator(new ClosePriceIndicator(offHeapSeries), 14));
+    }
+
+    @Test
+    public void maximumBarCountKeepsIndexContract() {
+        BarSeries expected = new BaseBarSeries("base", numFunction);
+        expected.setMaximumBarCount(20);
+        try (OffHeapBarSeries series = new OffHeapBarSeries("off-heap", numFunction, 8)) {
+            series.setMaximumBarCount(20);
+            long allocatedBytes = 0;
+            for (Bar bar : bars) {
+                expected.addBar(bar);
+                series.addBar(bar);
+                assertEquals(expected.getBeginIndex(), series.getBeginIndex());
+                assertEquals(expected.getEndIndex(), series.getEndIndex());
+                assertEquals(expected.getBarCount(), series.getBarCount());
+                assertEquals(expected.getRemovedBarsCount(), series.getRemovedBarsCount());
+                for (int i = expected.getRemovedBarsCount(); i <= expected.getEndIndex(); i++) {
+                    assertEquals(expected.getBar(i).getEndTime(), series.getBar(i).getEndTime());
+                    assertNumEquals(expected.getBar(i).getClosePrice(), series.getBar(i).getClosePrice());
+                }
+                if (expected.getRemovedBarsCount() == 0) {
+                    allocatedBytes = series.getAllocatedBytes();
+                } else {
+                    // slabs are recycled once the series is full
+                    assertTrue(series.getAllocatedBytes() <= allocatedBytes + 8 * BarFileFormat.RECORD_SIZE);
+                }
+            }
+            assertEquals(80, series.getRemovedBarsCount());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void removedBarViewsCannotBeRead() {
+        try (OffHeapBarSeries series = new OffHeapBarSeries("off-heap", numFunction, 8)) {
+            series.setMaximumBarCount(5);
+            series.addBar(bars.get(0));
+            Bar firstBar = series.getFirstBar();
+            for (int i = 1; i < 10; i++) {
+                series.addBar(bars.get(i));
+            }
+            firstBar.getClosePrice();
+        }
+    }
+
+    @Test
+    public void barViewsAreWritable() {
+        try (OffHeapBarSeries series = new OffHeapBarSeries("off-heap", numFunction)) {
+            series.addBar(Duration.ofMinutes(1), ZonedDateTime.now());
+            assertTrue(series.getLastBar().getClosePrice().isNaN());
+
+            series.addTrade(numOf(2), numOf(10));
+            series.addTrade(numOf(3), numOf(12));
+            series.addPrice(numOf(9));
+            Bar lastBar = series.getLastBar();
+            assertNumEquals(10, lastBar.getOpenPrice());
+            assertNumEquals(12, lastBar.getHighPrice());
+            assertNumEquals(9, lastBar.getLowPrice());
+            assertNumEquals(9, lastBar.getClosePrice());
+            assertNumEquals(5, lastBar.getVolume());
+            assertNumEquals(56, lastBar.getAmount());
+            assertEquals(2, lastBar.getTrades());
+        }
+    }
+
+    @Test
+    public void replaceLastBar() {
+        Bar replacement = new BaseBar(Duration.ofMinutes(1), bars.get(99).getEndTime(), 1, 1, 1, 1, 1, 1, 1,
+                numFunction);
+        Bar lastBar = offHeapSeries.getLastBar();
+        offHeapSeries.addBar(replacement, true);
+        assertEquals(100, offHeapSeries.getBarCount());
+        assertNumEquals(1, offHeapSeries.getLastBar().getClosePrice());
+        assertNumEquals(1, lastBar.getClosePrice());
+    }
+
+    @Test
+    public void subSeriesIsOffHeapCopy() {
+        try (OffHeapBarSeries subSeries = offHeapSeries.getSubSeries(10, 20)) {
+            assertEquals(10, subSeries.getBarCount());
+            assertEquals(0, subSeries.getBeginIndex());
+            assertEquals(9, subSeries.getEndIndex());
+            assertEquals(bars.get(10).getEndTime(), subSeries.getFirstBar().getEndTime());
+            assertEquals(bars.get(19).getEndTime(), subSeries.getLastBar().getEndTime());
+
+            subSeries.addPrice(numOf(1000));
+            assertNumEquals(bars.get(19).getClosePrice(), offHeapSeries.getBar(19).getClosePrice());
+        }
+    }
+
+    @Test
+    public void closeReleasesStorage() {
+        assertTrue(offHeapSeries.getAllocatedBytes() > 0);
+        offHeapSeries.close();
+        assertTrue(offHeapSeries.isClosed());
+        assertEquals(0, offHeapSeries.getAllocatedBytes());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void closedSeriesCannotBeRead() {
+        offHeapSeries.close();
+        offHeapSeries.getBar(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void closedBarViewsCannotBeRead() {
+        Bar bar = offHeapSeries.getBar(0);
+        offHeapSeries.close();
+        bar.getClosePrice();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mixedNumTypesShouldThrowException() {
+        List<Bar> mixedBars = new ArrayList<>(bars);
+        ZonedDateTime endTime = bars.get(99).getEndTime().plusMinutes(1);
+        mixedBars.add(new BaseBar(Duration.ofMinutes(1), endTime, 1, 1, 1, 1, 1, 1, 1,
+                numOf(1) instanceof DoubleNum ? DecimalNum::valueOf : DoubleNum::valueOf));
+        new OffHeapBarSeries("mixed", mixedBars, numFunction);
+    }
+
+    @Test
+    public void heapUsageComparedToBaseBarSeries() {
+        int barCount = 100_000;
+        long heapBefore = usedHeap();
+        try (OffHeapBarSeries series = fill(new OffHeapBarSeries("off-heap", numFunction), barCount)) {
+            long offHeapSeriesHeap = usedHeap() - heapBefore;
+            assertEquals(barCount, series.getBarCount());
+            assertTrue(series.getAllocatedBytes() >= (long) barCount * BarFileFormat.RECORD_SIZE);
+
+            heapBefore = usedHeap();
+            BarSeries base = fill(new BaseBarSeries("base", numFunction), barCount);
+            long baseSeriesHeap = usedHeap() - heapBefore;
+            assertEquals(barCount, base.getBarCount());
+
+            // an off-heap series only keeps a few objects per memory slab on the heap
+            assertTrue(String.format("off-heap: %s bytes, base: %s bytes", offHeapSeriesHeap, baseSeriesHeap),
+                    offHeapSeriesHeap * 10 < baseSeriesHeap);
+        }
+    }
+
+    private <T extends BarSeries> T fill(T series, int barCount) {
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.of("Europe/Paris"));
+        for (int i = 0; i < barCount; i++) {
+            series.addBar(Duration.ofMinutes(1), time.plusMinutes(i), numOf(i), numOf(i + 2), numOf(i - 2),
+                    numOf(i + 1), numOf(10));
+        }
+        return series;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
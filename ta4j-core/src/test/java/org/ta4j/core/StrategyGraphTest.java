@@ -0,0 +1,256 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.CCIIndicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.FisherIndicator;
+import org.ta4j.core.indicators.IndicatorDependencies;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.StochasticOscillatorKIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.helpers.LowestValueIndicator;
+import org.ta4j.core.indicators.helpers.SumIndicator;
+import org.ta4j.core.indicators.ichimoku.IchimokuSenkouSpanAIndicator;
+import org.ta4j.core.indicators.keltner.KeltnerChannelMiddleIndicator;
+import org.ta4j.core.indicators.keltner.KeltnerChannelUpperIndicator;
+import org.ta4j.core.indicators.numeric.NumericIndicator;
+import org.ta4j.core.indicators.statistics.SimpleLinearRegressionIndicator.SimpleLinearRegressionType;
+import org.ta4j.core.indicators.statistics.SimpleLinearRegressionIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.indicators.volume.VWAPIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.AndRule;
+import org.ta4j.core.rules.ChainRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.InPipeRule;
+import org.ta4j.core.rules.JustOnceRule;
+import org.ta4j.core.rules.NotRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.StopLossRule;
+import org.ta4j.core.rules.TrailingStopLossRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
+import org.ta4j.core.rules.helper.ChainLink;
+
+public class StrategyGraphTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private ClosePriceIndicator closePrice;
+    private SMAIndicator sma;
+    private EMAIndicator ema;
+    private NumericIndicator spread;
+
+    private Rule crossedUp;
+    private Rule overSma;
+    private Rule underEma;
+    private Rule chain;
+    private Rule entryRule;
+    private Rule exitRule;
+
+    private StrategyGraph graph;
+
+    public StrategyGraphTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        closePrice = new ClosePriceIndicator(series);
+        sma = new SMAIndicator(closePrice, 3);
+        ema = new EMAIndicator(closePrice, 5);
+        spread = NumericIndicator.of(closePrice).minus(sma);
+
+        crossedUp = new CrossedUpIndicatorRule(sma, ema);
+        overSma = new OverIndicatorRule(closePrice, sma);
+        underEma = new UnderIndicatorRule(closePrice, ema);
+        chain = new ChainRule(overSma, new ChainLink(underEma, 2));
+        entryRule = new AndRule(crossedUp, chain);
+        exitRule = new OverIndicatorRule(spread, closePrice);
+
+        graph = StrategyGraph.of(new BaseStrategy(entryRule, exitRule));
+    }
+
+    @Test
+    public void rulesAfterTheirInputs() {
+        List<Rule> rules = graph.getRules();
+        assertEquals(Arrays.asList(crossedUp, overSma, underEma, chain, entryRule, exitRule), rules);
+        assertEquals(Arrays.asList(crossedUp, chain), graph.getInputRules(entryRule));
+        assertEquals(Arrays.asList(overSma, underEma), graph.getInputRules(chain));
+        assertTrue(graph.getInputRules(overSma).isEmpty());
+    }
+
+    @Test
+    public void indicatorsAfterTheirInputs() {
+        List<Indicator<?>> indicators = graph.getIndicators();
+        // each indicator once, after its inputs
+        assertEquals(1, indicators.stream().filter(i -> i == closePrice).count());
+        assertSame(closePrice, indicators.get(0));
+        for (Indicator<?> indicator : indicators) {
+            int index = indexOf(indicators, indicator);
+            for (Indicator<?> input : graph.getInputs(indicator)) {
+                assertTrue(indexOf(indicators, input) < index);
+            }
+        }
+        assertTrue(indexOf(indicators, sma) >= 0);
+        assertTrue(indexOf(indicators, ema) >= 0);
+        assertTrue(indexOf(indicators, spread) > indexOf(indicators, sma));
+    }
+
+    @Test
+    public void inputsOfRulesAndIndicators() {
+        assertEquals(Arrays.asList(closePrice, sma), graph.getInputIndicators(overSma));
+        assertEquals(Arrays.asList(closePrice), graph.getInputs(sma));
+        assertTrue(graph.getInputs(closePrice).isEmpty());
+        // the spread is calculated from the close price and the SMA through its
+        // operation
+        List<Indicator<?>> spreadInputs = graph.getInputs(spread);
+        assertEquals(1, spreadInputs.size());
+        List<Indicator<?>> operands = graph.getInputs(spreadInputs.get(0));
+        assertEquals(2, operands.size());
+        assertEquals(Arrays.asList(closePrice), graph.getInputs(operands.get(0)));
+        assertSame(sma, operands.get(1));
+    }
+
+    @Test
+    public void dependents() {
+        List<Object> smaDependents = graph.getDependents(sma);
+        assertTrue(smaDependents.contains(overSma));
+        assertTrue(graph.getDependents(chain).contains(entryRule));
+        assertTrue(graph.getDependents(underEma).contains(chain));
+        assertTrue(graph.getDependents(entryRule).isEmpty());
+        assertTrue(graph.getDependents(exitRule).isEmpty());
+    }
+
+    @Test
+    public void visitor() {
+        List<Object> visited = new ArrayList<>();
+        graph.accept(new StrategyGraph.Visitor() {
+            @Override
+            public void visitIndicator(Indicator<?> indicator) {
+                visited.add(indicator);
+            }
+
+            @Override
+            public void visitRule(Rule rule) {
+                for (Rule input : graph.getInputRules(rule)) {
+                    assertTrue(visited.contains(input));
+                }
+                for (Indicator<?> input : graph.getInputIndicators(rule)) {
+                    assertTrue(visited.contains(input));
+                }
+                visited.add(rule);
+            }
+        });
+        assertEquals(graph.getRules().size() + graph.getIndicators().size(), visited.size());
+        assertSame(exitRule, visited.get(visited.size() - 1));
+    }
+
+    @Test
+    public void onlyIndicatorFieldsAreWalked() {
+        Indicator<Num> indicator = new CachedIndicator<Num>(closePrice) {
+
+            private final Indicator<Num> input = sma;
+            private final List<Indicator<Num>> inputs = Arrays.asList(ema, closePrice);
+            private final Iterable<Num> values = () -> {
+                throw new AssertionError("values walked");
+            };
+            private final Object other = spread;
+
+            @Override
+            protected Num calculate(int index) {
+                return input.getValue(index);
+            }
+        };
+        for (int i = 0; i <= closePrice.getBarSeries().getEndIndex(); i++) {
+            indicator.getValue(i);
+        }
+        assertEquals(Arrays.asList(sma, ema, closePrice), indicator.getInputs());
+    }
+
+    @Test
+    public void coreIndicatorsAndRulesListTheirFieldInputs() {
+        List<Indicator<?>> indicators = Arrays.asList(sma, ema, spread, new RSIIndicator(closePrice, 14),
+                new MACDIndicator(closePrice, 3, 5), new CCIIndicator(closePrice.getBarSeries(), 5),
+                new StochasticOscillatorKIndicator(closePrice.getBarSeries(), 5),
+                new BollingerBandsUpperIndicator(new BollingerBandsMiddleIndicator(sma),
+                        new StandardDeviationIndicator(closePrice, 3)),
+                new KeltnerChannelUpperIndicator(new KeltnerChannelMiddleIndicator(closePrice.getBarSeries(), 3), 2, 3),
+                new IchimokuSenkouSpanAIndicator(closePrice.getBarSeries()),
+                new VWAPIndicator(closePrice.getBarSeries(), 3),
+                new SimpleLinearRegressionIndicator(closePrice, 3, SimpleLinearRegressionType.SLOPE),
+                new SumIndicator(closePrice, sma, ema), new FisherIndicator(closePrice, 3));
+        for (Indicator<?> indicator : indicators) {
+            for (Indicator<?> input : IndicatorDependencies.getSubIndicators(indicator)) {
+                assertTrue(indicator + " " + input, indexOf(indicator.getInputs(), input) >= 0);
+            }
+        }
+        List<Rule> rules = Arrays.asList(crossedUp, overSma, chain, entryRule, exitRule, new JustOnceRule(),
+                new JustOnceRule(overSma), new InPipeRule(closePrice, 5, 2), new StopLossRule(closePrice, 5),
+                new TrailingStopLossRule(closePrice, numOf(5)), new NotRule(overSma));
+        for (Rule rule : rules) {
+            for (Rule input : IndicatorDependencies.getSubRules(rule)) {
+                assertTrue(rule + " " + input, rule.getInputRules().contains(input));
+            }
+            for (Indicator<?> input : IndicatorDependencies.getRuleIndicators(rule)) {
+                assertTrue(rule + " " + input, indexOf(rule.getInputIndicators(), input) >= 0);
+            }
+        }
+    }
+
+    @Test
+    public void inputsCapturedByInnerIndicatorsAreListed() {
+        FisherIndicator fisher = new FisherIndicator(closePrice, 3);
+        List<Indicator<?>> all = IndicatorDependencies.getAllIndicators(fisher);
+        assertTrue(all.stream().anyMatch(indicator -> indicator instanceof HighestValueIndicator));
+        assertTrue(all.stream().anyMatch(indicator -> indicator instanceof LowestValueIndicator));
+    }
+
+    private static int indexOf(List<Indicator<?>> indicators, Indicator<?> indicator) {
+        for (int i = 0; i < indicators.size(); i++) {
+            if (indicators.get(i) == indicator) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -33,6 +33,7 @@ import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.CriterionFactory;
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedPointNum;
 import org.ta4j.core.num.Num;
 
 @RunWith(Parameterized.class)
@@ -53,9 +54,9 @@ public abstract class AbstractCriterionTest {
         this.numFunction = numFunction;
     }
 
-    @Parameterized.Parameters(name = "Test Case: {index} (0=DoubleNum, 1=DecimalNum)")
+    @Parameterized.Parameters(name = "Test Case: {index} (0=DoubleNum, 1=DecimalNum, 2=FixedPointNum)")
     public static List<Function<Number, Num>> function() {
-        return Arrays.asList(DoubleNum::valueOf, DecimalNum::valueOf);
+        return Arrays.asList(DoubleNum::valueOf, DecimalNum::valueOf, FixedPointNum::valueOf);
     }
 
     /**
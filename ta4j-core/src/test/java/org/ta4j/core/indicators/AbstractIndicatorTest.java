@@ -36,14 +36,15 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.IndicatorFactory;
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedPointNum;
 import org.ta4j.core.num.Num;
 
 /**
  * Abstract test class to extend BarSeries, Indicator an other test cases. The
- * extending class will be called twice. First time with
- * {@link DecimalNum#valueOf}, second time with {@link DoubleNum#valueOf} as
+ * extending class will be called three times, with {@link DoubleNum#valueOf},
+ * {@link DecimalNum#valueOf} and {@link FixedPointNum#valueOf} as
  * <code>Function<Number, Num></></code> parameter. This should ensure that the
- * defined test case is valid for both data types.
+ * defined test case is valid for all data types.
  *
  * @param <D> Data source of test object, needed for Excel-Sheet validation
  *            (could be <code>Indicator<Num></code> or <code>BarSeries</code>,
@@ -56,9 +57,9 @@ public abstract class AbstractIndicatorTest<D, I> {
 
     public final Function<Number, Num> numFunction;
 
-    @Parameterized.Parameters(name = "Test Case: {index} (0=DoubleNum, 1=DecimalNum)")
+    @Parameterized.Parameters(name = "Test Case: {index} (0=DoubleNum, 1=DecimalNum, 2=FixedPointNum)")
     public static List<Function<Number, Num>> function() {
-        return Arrays.asList(DoubleNum::valueOf, DecimalNum::valueOf);
+        return Arrays.asList(DoubleNum::valueOf, DecimalNum::valueOf, FixedPointNum::valueOf);
     }
 
     private final IndicatorFactory<D, I> factory;
@@ -26,16 +26,22 @@ package org.ta4j.core.indicators;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.num.NaN.NaN;
 
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
 import org.ta4j.core.BaseBarSeriesBuilder;
 import org.ta4j.core.BaseStrategy;
 import org.ta4j.core.Indicator;
@@ -43,6 +49,8 @@ import org.ta4j.core.Strategy;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
 import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleNum;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.rules.OverIndicatorRule;
 import org.ta4j.core.rules.UnderIndicatorRule;
@@ -181,4 +189,171 @@ public class CachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, N
         assertNumEquals(5, closePrice.getValue(barSeries.getEndIndex()));
     }
 
+    @Test
+    public void cachedResultsOnLongRunningMovingSeries() {
+        BarSeries barSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withMaxBarCount(20).build();
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(barSeries), 5);
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 1000; i++) {
+            barSeries.addBar(time.plusMinutes(i), i, i, i, i, i);
+            if (i >= 4) {
+                assertNumEquals(i - 2, sma.getValue(i));
+            }
+            if (i >= 5) {
+                // cached in an earlier iteration
+                assertNumEquals(i - 3, sma.getValue(i - 1));
+            }
+        }
+        assertEquals(980, barSeries.getRemovedBarsCount());
+        for (int i = barSeries.getRemovedBarsCount() + 4; i <= barSeries.getEndIndex(); i++) {
+            assertNumEquals(i - 2, sma.getValue(i));
+        }
+    }
+
+    @Test
+    public void readingRemovedResultsDoesNotShiftCachedResults() {
+        BarSeries barSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withMaxBarCount(10).build();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 30; i++) {
+            barSeries.addBar(time.plusMinutes(i), i, i, i, i, i);
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(barSeries);
+        SMAIndicator sma = new SMAIndicator(closePrice, 1);
+        assertNumEquals(20, sma.getValue(20));
+        assertNumEquals(21, sma.getValue(21));
+        // Removed bar: the first remaining bar is used instead
+        assertNumEquals(20, sma.getValue(15));
+        assertNumEquals(20, sma.getValue(20));
+        assertNumEquals(21, sma.getValue(21));
+    }
+
+    @Test
+    public void readingRemovedResultsFirstDoesNotOverwriteFirstRemainingResult() {
+        BarSeries barSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withMaxBarCount(10).build();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 30; i++) {
+            barSeries.addBar(time.plusMinutes(i), i, i, i, i, i);
+        }
+        CachedIndicator<Num> barIndex = new CachedIndicator<Num>(barSeries) {
+            @Override
+            protected Num calculate(int index) {
+                return numOf(index);
+            }
+        };
+        int firstRemainingIndex = barSeries.getRemovedBarsCount();
+        // Removed bar: calculated with the workaround of issue #120
+        assertNumEquals(0, barIndex.getValue(15));
+        assertNumEquals(firstRemainingIndex, barIndex.getValue(firstRemainingIndex));
+        assertNumEquals(firstRemainingIndex + 1, barIndex.getValue(firstRemainingIndex + 1));
+    }
+
+    @Test
+    public void cachedResultsAreCalculatedOnce() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        int[] calculations = new int[1];
+        CachedIndicator<Num> doubled = new CachedIndicator<Num>(series) {
+            @Override
+            protected Num calculate(int index) {
+                calculations[0]++;
+                return index == 3 ? NaN : closePrice.getValue(index).multipliedBy(numOf(2));
+            }
+        };
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < series.getEndIndex(); i++) {
+                if (i == 3) {
+                    assertSame(NaN, doubled.getValue(i));
+                } else {
+                    assertEquals(closePrice.getValue(i).multipliedBy(numOf(2)), doubled.getValue(i));
+                }
+            }
+        }
+        assertEquals(series.getEndIndex(), calculations[0]);
+    }
+
+    @Test
+    public void cachedResultsAreDecodedOnce() {
+        BarSeries doubleSeries = new MockBarSeries(DoubleNum::valueOf, 1, 2, 3, 4, 3, 4, 5);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(doubleSeries);
+        CachedIndicator<Num> doubled = new CachedIndicator<Num>(doubleSeries) {
+            @Override
+            protected Num calculate(int index) {
+                return closePrice.getValue(index).multipliedBy(numOf(2));
+            }
+        };
+        for (int i = 0; i < doubleSeries.getEndIndex(); i++) {
+            doubled.getValue(i);
+            Num cached = doubled.getValue(i);
+            assertSame(cached, doubled.getValue(i));
+        }
+    }
+
+    @Test
+    public void resultsOfOtherTypesAreCachedAsObjects() {
+        int[] calculations = new int[1];
+        CachedIndicator<Num> decimal = new CachedIndicator<Num>(series) {
+            @Override
+            protected Num calculate(int index) {
+                calculations[0]++;
+                return DecimalNum.valueOf(index);
+            }
+        };
+        CachedIndicator<Boolean> even = new CachedIndicator<Boolean>(series) {
+            @Override
+            protected Boolean calculate(int index) {
+                calculations[0]++;
+                return index % 2 == 0;
+            }
+        };
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < series.getEndIndex(); i++) {
+                assertEquals(DecimalNum.valueOf(i), decimal.getValue(i));
+                assertEquals(i % 2 == 0, even.getValue(i));
+            }
+        }
+        assertEquals(2 * series.getEndIndex(), calculations[0]);
+    }
+
+    @Test
+    public void lastBarValueIsCachedUntilSeriesIsModified() {
+        BarSeries barSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        barSeries.addBar(time, 1, 1, 1, 1, 1);
+        barSeries.addBar(time.plusMinutes(1), 2, 2, 2, 2, 1);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(barSeries);
+        int[] calculations = new int[1];
+        CachedIndicator<Num> counting = new CachedIndicator<Num>(barSeries) {
+            @Override
+            protected Num calculate(int index) {
+                calculations[0]++;
+                return closePrice.getValue(index);
+            }
+        };
+        SMAIndicator sma = new SMAIndicator(closePrice, 2);
+
+        assertNumEquals(2, counting.getValue(1));
+        assertNumEquals(2, counting.getValue(1));
+        assertEquals(1, calculations[0]);
+        assertNumEquals(1.5, sma.getValue(1));
+
+        long modificationCount = barSeries.getModificationCount();
+        barSeries.addTrade(numOf(1), numOf(4));
+        assertTrue(barSeries.getModificationCount() > modificationCount);
+        assertNumEquals(4, counting.getValue(1));
+        assertNumEquals(2.5, sma.getValue(1));
+        assertEquals(2, calculations[0]);
+
+        barSeries.addPrice(numOf(6));
+        assertNumEquals(6, counting.getValue(1));
+        assertNumEquals(3.5, sma.getValue(1));
+
+        barSeries.addBar(new BaseBar(Duration.ofDays(1), time.plusMinutes(1), numOf(8), numOf(8), numOf(8), numOf(8),
+                numOf(1), numOf(0)), true);
+        assertNumEquals(8, counting.getValue(1));
+        assertNumEquals(4.5, sma.getValue(1));
+
+        barSeries.addBar(time.plusMinutes(2), 10, 10, 10, 10, 1);
+        assertNumEquals(10, counting.getValue(2));
+        assertNumEquals(9, sma.getValue(2));
+        assertEquals(5, calculations[0]);
+    }
 }
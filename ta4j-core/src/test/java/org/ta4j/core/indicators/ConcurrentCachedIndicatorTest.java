@@ -0,0 +1,182 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.Num;
+
+public class ConcurrentCachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private static final int BAR_COUNT = 1000;
+
+    private static final int READER_COUNT = 4;
+
+    private final double[] closePrices = new double[BAR_COUNT];
+
+    private final ZonedDateTime start = ZonedDateTime.of(2022, 1, 3, 9, 0, 0, 0, ZoneId.systemDefault());
+
+    public ConcurrentCachedIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < BAR_COUNT; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            closePrices[i] = Math.round(price * 100) / 100d;
+        }
+    }
+
+    @Test
+    public void seriesLockIsOptIn() {
+        assertNull(new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build().getReadWriteLock());
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withConcurrentAccess(true).build();
+        assertNotNull(series.getReadWriteLock());
+        addBar(series, 0);
+        addBar(series, 1);
+        assertSame(series.getReadWriteLock(), series.getSubSeriesView(0, 2).getReadWriteLock());
+    }
+
+    @Test
+    public void concurrentReadsMatchSingleThreadedValues() throws Exception {
+        BarSeries referenceSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        for (int i = 0; i < BAR_COUNT; i++) {
+            addBar(referenceSeries, i);
+        }
+        List<Indicator<Num>> references = createIndicators(referenceSeries);
+        Num[][] expectedValues = new Num[references.size()][BAR_COUNT];
+        double[][] expectedDoubles = new double[references.size()][BAR_COUNT];
+        for (int indicator = 0; indicator < references.size(); indicator++) {
+            for (int i = 0; i < BAR_COUNT; i++) {
+                expectedValues[indicator][i] = references.get(indicator).getValue(i);
+                expectedDoubles[indicator][i] = DoubleIndicator.doubleValue(references.get(indicator), i);
+            }
+        }
+
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withConcurrentAccess(true).build();
+        addBar(series, 0);
+        List<Indicator<Num>> indicators = createIndicators(series);
+
+        ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT + 1);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean feeding = new AtomicBoolean(true);
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < READER_COUNT; r++) {
+                Random random = new Random(r);
+                readers.add(executor.submit(() -> {
+                    started.await();
+                    while (feeding.get()) {
+                        int endIndex = series.getEndIndex();
+                        int index = random.nextBoolean() ? endIndex : random.nextInt(endIndex + 1);
+                        int indicator = random.nextInt(indicators.size());
+                        assertSameValue(expectedValues[indicator][index], expectedDoubles[indicator][index],
+                                indicators.get(indicator), index);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> feed = executor.submit(() -> {
+                started.await();
+                try {
+                    for (int i = 1; i < BAR_COUNT; i++) {
+                        addBar(series, i);
+                        if (i % 16 == 0) {
+                            Thread.yield();
+                        }
+                    }
+                } finally {
+                    feeding.set(false);
+                }
+                return null;
+            });
+            started.countDown();
+            feed.get(1, TimeUnit.MINUTES);
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        for (int indicator = 0; indicator < indicators.size(); indicator++) {
+            for (int i = 0; i < BAR_COUNT; i++) {
+                assertSameValue(expectedValues[indicator][i], expectedDoubles[indicator][i], indicators.get(indicator),
+                        i);
+            }
+        }
+    }
+
+    private List<Indicator<Num>> createIndicators(BarSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Indicator<Num>> indicators = new ArrayList<>();
+        indicators.add(new SMAIndicator(closePrice, 10));
+        indicators.add(new EMAIndicator(closePrice, 20));
+        indicators.add(new RSIIndicator(closePrice, 14));
+        indicators.add(new StandardDeviationIndicator(closePrice, 20));
+        indicators.add(new MACDIndicator(closePrice, 12, 26));
+        indicators.add(new ATRIndicator(series, 14));
+        return indicators;
+    }
+
+    private void addBar(BarSeries series, int i) {
+        double close = closePrices[i];
+        double open = i == 0 ? close : closePrices[i - 1];
+        series.addBar(new BaseBar(Duration.ofMinutes(1), start.plusMinutes(i), numOf(open),
+                numOf(Math.max(open, close) + 0.5), numOf(Math.min(open, close) - 0.5), numOf(close), numOf(1000),
+                numOf(0), 0));
+    }
+
+    private static void assertSameValue(Num expected, double expectedDouble, Indicator<Num> indicator, int index) {
+        Num actual = indicator.getValue(index);
+        assertTrue(indicator + "(" + index + "): expected " + expected + " but was " + actual,
+                expected.isNaN() ? actual.isNaN() : expected.isEqual(actual));
+        double actualDouble = DoubleIndicator.doubleValue(indicator, index);
+        assertTrue(indicator + "(" + index + "): expected " + expectedDouble + " but was " + actualDouble,
+                Double.compare(expectedDouble, actualDouble) == 0);
+    }
+}
@@ -27,6 +27,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
@@ -55,4 +56,26 @@ public class DateTimeIndicatorTest extends AbstractIndicatorTest<Indicator<Num>,
         DateTimeIndicator dateTimeIndicator = new DateTimeIndicator(series, Bar::getEndTime);
         assertEquals(expectedZonedDateTime, dateTimeIndicator.getValue(0));
     }
+
+    @Test
+    public void primitiveTimesMatchDateTimes() {
+        ZonedDateTime endTime = ZonedDateTime.parse("2019-03-31T01:30:00+01:00[Europe/Paris]");
+        List<Bar> bars = new ArrayList<>();
+        for (int i = 0; i < 48; i++) {
+            bars.add(new MockBar(endTime.plusMinutes(30 * i), 1, numFunction));
+        }
+        BarSeries series = new MockBarSeries(bars);
+        DateTimeIndicator fastIndicator = new DateTimeIndicator(series);
+        DateTimeIndicator slowIndicator = new DateTimeIndicator(series, Bar::getBeginTime);
+        for (int i = 0; i < bars.size(); i++) {
+            ZonedDateTime beginTime = bars.get(i).getBeginTime();
+            assertEquals(beginTime, fastIndicator.getValue(i));
+            assertEquals(beginTime.toInstant().toEpochMilli() * 1_000_000, fastIndicator.getEpochNanos(i));
+            assertEquals(slowIndicator.getEpochNanos(i), fastIndicator.getEpochNanos(i));
+            assertEquals(beginTime.toLocalTime().toNanoOfDay(), fastIndicator.getNanoOfDay(i));
+            assertEquals(slowIndicator.getNanoOfDay(i), fastIndicator.getNanoOfDay(i));
+            assertEquals(beginTime.getDayOfWeek(), fastIndicator.getDayOfWeek(i));
+            assertEquals(slowIndicator.getDayOfWeek(i), fastIndicator.getDayOfWeek(i));
+        }
+    }
 }
@@ -0,0 +1,190 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.GainIndicator;
+import org.ta4j.core.indicators.helpers.HighPriceIndicator;
+import org.ta4j.core.indicators.helpers.LossIndicator;
+import org.ta4j.core.indicators.helpers.LowPriceIndicator;
+import org.ta4j.core.indicators.helpers.MedianPriceIndicator;
+import org.ta4j.core.indicators.helpers.OpenPriceIndicator;
+import org.ta4j.core.indicators.helpers.TRIndicator;
+import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.indicators.statistics.VarianceIndicator;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.IsEqualRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
+
+public class DoubleIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public DoubleIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void doublesMatchValues() {
+        assertDoublesMatchValues(randomWalk(600, Integer.MAX_VALUE), false);
+        assertDoublesMatchValues(randomWalk(600, Integer.MAX_VALUE), true);
+    }
+
+    @Test
+    public void doublesMatchValuesOnMovingSeries() {
+        assertDoublesMatchValues(randomWalk(600, 100), false);
+    }
+
+    @Test
+    public void rulesMatchValues() {
+        BarSeries series = randomWalk(600, Integer.MAX_VALUE);
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(close, 5);
+        EMAIndicator ema = new EMAIndicator(close, 5);
+        RSIIndicator rsi = new RSIIndicator(close, 14);
+        Rule over = new OverIndicatorRule(sma, ema);
+        Rule under = new UnderIndicatorRule(rsi, 40);
+        Rule equal = new IsEqualRule(close, sma);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertEquals(sma.getValue(i).isGreaterThan(ema.getValue(i)), over.isSatisfied(i));
+            assertEquals(rsi.getValue(i).isLessThan(numOf(40)), under.isSatisfied(i));
+            assertEquals(close.getValue(i).isEqual(sma.getValue(i)), equal.isSatisfied(i));
+        }
+    }
+
+    @Test
+    public void lastBarEvaluationDoesNotAllocate() {
+        assumeTrue(numOf(0) instanceof DoubleNum);
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+
+        BarSeries series = randomWalk(1000, Integer.MAX_VALUE);
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(close, 20);
+        EMAIndicator ema = new EMAIndicator(close, 10);
+        RSIIndicator rsi = new RSIIndicator(close, 14);
+        StandardDeviationIndicator sd = new StandardDeviationIndicator(close, 20);
+        ATRIndicator atr = new ATRIndicator(series, 14);
+        List<DoubleIndicator> indicators = Arrays.asList(sma, ema, rsi, sd, atr);
+        List<Rule> rules = Arrays.asList(new OverIndicatorRule(sma, ema), new UnderIndicatorRule(rsi, 30),
+                new CrossedUpIndicatorRule(ema, sma));
+        int endIndex = series.getEndIndex();
+        // Filling the caches (and warming up)
+        for (int i = 0; i <= endIndex; i++) {
+            evaluate(indicators, rules, i);
+        }
+
+        int iterations = 10_000;
+        long threadId = Thread.currentThread().getId();
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        double checksum = 0;
+        for (int i = 0; i < iterations; i++) {
+            checksum += evaluate(indicators, rules, endIndex);
+        }
+        long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(checksum != 0);
+        // A single Num per evaluation would take 16 bytes
+        assertTrue("Allocated " + allocated + " bytes", allocated < iterations);
+    }
+
+    private void assertDoublesMatchValues(BarSeries series, boolean reverse) {
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        List<DoubleIndicator> indicators = Arrays.asList(close, new OpenPriceIndicator(series),
+                new HighPriceIndicator(series), new LowPriceIndicator(series), new TypicalPriceIndicator(series),
+                new MedianPriceIndicator(series), new GainIndicator(close), new LossIndicator(close),
+                new SMAIndicator(close, 10), new EMAIndicator(close, 10), new MMAIndicator(close, 10),
+                new EMAIndicator(new SMAIndicator(new TypicalPriceIndicator(series), 5), 20),
+                new RSIIndicator(close, 14), new VarianceIndicator(close, 20),
+                new StandardDeviationIndicator(close, 20), new TRIndicator(series), new ATRIndicator(series, 14));
+        for (DoubleIndicator indicator : indicators) {
+            for (int j = series.getBeginIndex(); j <= series.getEndIndex(); j++) {
+                int i = reverse ? series.getEndIndex() - j + series.getBeginIndex() : j;
+                double expected = indicator.getValue(i).doubleValue();
+                double actual = indicator.getDouble(i);
+                assertEquals(indicator + " at " + i, Double.doubleToLongBits(expected),
+                        Double.doubleToLongBits(actual));
+            }
+        }
+    }
+
+    private static double evaluate(List<DoubleIndicator> indicators, List<Rule> rules, int index) {
+        // Indexed loops: iterators would allocate
+        double sum = 0;
+        for (int i = 0; i < indicators.size(); i++) {
+            sum += indicators.get(i).getDouble(index);
+        }
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).isSatisfied(index)) {
+                sum++;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return a random walk with flat stretches (where RSI has no gain and no loss)
+     */
+    private BarSeries randomWalk(int barCount, int maximumBarCount) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        series.setMaximumBarCount(maximumBarCount);
+        Random random = new Random(42);
+        ZonedDateTime time = ZonedDateTime.of(2022, 1, 3, 9, 0, 0, 0, ZoneId.of("UTC"));
+        double close = 100;
+        for (int i = 0; i < barCount; i++) {
+            double open = close;
+            if (i % 100 >= 50 || i % 100 < 20) {
+                close = Math.round((close + random.nextGaussian()) * 100) / 100d;
+            }
+            double high = Math.max(open, close) + random.nextInt(100) / 100d;
+            double low = Math.min(open, close) - random.nextInt(100) / 100d;
+            series.addBar(new BaseBar(Duration.ofMinutes(1), time.plusMinutes(i), open, high, low, close,
+                    random.nextInt(1000), 0, 0, numFunction));
+        }
+        return series;
+    }
+}
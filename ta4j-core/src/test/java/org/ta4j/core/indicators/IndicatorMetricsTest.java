@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.indicators.statistics.VarianceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class IndicatorMetricsTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+
+    private ClosePriceIndicator closePrice;
+
+    public IndicatorMetricsTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(numFunction, 1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        closePrice = new ClosePriceIndicator(series);
+    }
+
+    @Test
+    public void metricsAreDisabledByDefault() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        sma.getValue(5);
+
+        assertNull(sma.getMetrics());
+    }
+
+    @Test
+    public void hitsAndMissesAreCounted() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        sma.setMetricsEnabled(true);
+        IndicatorMetrics metrics = sma.getMetrics();
+
+        sma.getValue(5);
+        sma.getValue(5);
+        sma.getValue(6);
+
+        assertEquals(3, metrics.getRequestCount());
+        assertEquals(1, metrics.getHitCount());
+        assertEquals(2, metrics.getMissCount());
+        assertEquals(2, metrics.getCalculationCount());
+        assertEquals(2, sma.getCacheSize());
+
+        metrics.reset();
+        assertEquals(0, metrics.getRequestCount());
+        assertEquals(0, metrics.getMissCount());
+    }
+
+    @Test
+    public void lastBarCalculationsAreCounted() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        sma.setMetricsEnabled(true);
+        IndicatorMetrics metrics = sma.getMetrics();
+
+        sma.getValue(series.getEndIndex());
+        sma.getValue(series.getEndIndex());
+        series.addPrice(numOf(5));
+        sma.getValue(series.getEndIndex());
+
+        assertEquals(3, metrics.getRequestCount());
+        assertEquals(2, metrics.getLastBarCalculationCount());
+        assertEquals(0, metrics.getCalculationCount());
+        assertEquals(0, sma.getCacheSize());
+    }
+
+    @Test
+    public void removedBarCalculationsAreCounted() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        sma.setMetricsEnabled(true);
+        series.setMaximumBarCount(5);
+
+        sma.getValue(0);
+
+        assertEquals(1, sma.getMetrics().getRemovedBarCalculationCount());
+    }
+
+    @Test
+    public void metricsAreEnabledForSubIndicators() {
+        StandardDeviationIndicator standardDeviation = new StandardDeviationIndicator(closePrice, 3);
+        IndicatorMetrics.enable(standardDeviation);
+        standardDeviation.getValue(5);
+
+        IndicatorMetrics.Node root = IndicatorMetrics.tree(standardDeviation);
+        assertSame(standardDeviation, root.getIndicator());
+        assertNotNull(root.getMetrics());
+        assertEquals(1, root.getChildren().size());
+
+        IndicatorMetrics.Node variance = root.getChildren().get(0);
+        assertTrue(variance.getIndicator() instanceof VarianceIndicator);
+        assertEquals(1, variance.getMetrics().getCalculationCount());
+        assertEquals(2, variance.getChildren().size());
+        assertSame(closePrice, variance.getChildren().get(0).getIndicator());
+        assertNull(variance.getChildren().get(0).getMetrics());
+
+        IndicatorMetrics.Node sma = variance.getChildren().get(1);
+        assertTrue(sma.getIndicator() instanceof SMAIndicator);
+        assertEquals(1, sma.getMetrics().getCalculationCount());
+
+        long selfNanos = root.getMetrics().getCalculationNanos() + variance.getMetrics().getCalculationNanos()
+                + sma.getMetrics().getCalculationNanos();
+        assertEquals(selfNanos, root.getTotalCalculationNanos());
+        assertTrue(root.toString().contains("SMAIndicator"));
+
+        IndicatorMetrics.disable(standardDeviation);
+        assertNull(IndicatorMetrics.tree(standardDeviation).getChildren().get(0).getMetrics());
+    }
+}
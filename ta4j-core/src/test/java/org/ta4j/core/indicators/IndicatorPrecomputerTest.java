@@ -0,0 +1,172 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
+
+public class IndicatorPrecomputerTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+
+    private ClosePriceIndicator closePrice;
+
+    public IndicatorPrecomputerTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        Random random = new Random(7);
+        double[] prices = new double[2000];
+        double price = 100;
+        for (int i = 0; i < prices.length; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            prices[i] = Math.round(price * 100) / 100d;
+        }
+        series = new MockBarSeries(numFunction, prices);
+        closePrice = new ClosePriceIndicator(series);
+    }
+
+    @Test
+    public void precomputedValuesMatchLazyValues() {
+        List<Indicator<Num>> indicators = Arrays.asList(new RSIIndicator(closePrice, 14),
+                new MACDIndicator(closePrice, 12, 26), new StandardDeviationIndicator(closePrice, 20),
+                new EMAIndicator(new SMAIndicator(closePrice, 5), 10));
+        IndicatorPrecomputer.precompute(indicators, series.getBeginIndex(), series.getEndIndex());
+
+        assertIndicatorEquals(new RSIIndicator(closePrice, 14), indicators.get(0));
+        assertIndicatorEquals(new MACDIndicator(closePrice, 12, 26), indicators.get(1));
+        assertIndicatorEquals(new StandardDeviationIndicator(closePrice, 20), indicators.get(2));
+        assertIndicatorEquals(new EMAIndicator(new SMAIndicator(closePrice, 5), 10), indicators.get(3));
+    }
+
+    @Test
+    public void eachValueIsCalculatedOnceInForwardLoops() {
+        EMAIndicator ema = new EMAIndicator(closePrice, 20);
+        RSIIndicator rsi = new RSIIndicator(ema, 14);
+        IndicatorMetrics.enable(rsi);
+
+        rsi.precompute(100, series.getEndIndex() - 1);
+
+        // the EMA starts at 0 as it is recursive, without recursing over the
+        // RecursiveCachedIndicator threshold
+        assertEquals(series.getEndIndex(), ema.getMetrics().getCalculationCount());
+        assertEquals(series.getEndIndex() - 100, rsi.getMetrics().getCalculationCount());
+        assertEquals(0, rsi.getMetrics().getHitCount());
+
+        rsi.getValue(series.getEndIndex() - 1);
+        assertEquals(1, rsi.getMetrics().getHitCount());
+    }
+
+    @Test
+    public void parallelAndSequentialPrecomputationsMatch() {
+        List<Indicator<Num>> parallel = Arrays.asList(new RSIIndicator(closePrice, 14),
+                new SMAIndicator(closePrice, 50), new CCIIndicator(series, 20));
+        List<Indicator<Num>> sequential = Arrays.asList(new RSIIndicator(closePrice, 14),
+                new SMAIndicator(closePrice, 50), new CCIIndicator(series, 20));
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            IndicatorPrecomputer.precompute(parallel, 0, series.getEndIndex(), pool);
+        } finally {
+            pool.shutdown();
+        }
+        IndicatorPrecomputer.precompute(sequential, 0, series.getEndIndex(), null);
+
+        for (int i = 0; i < parallel.size(); i++) {
+            assertIndicatorEquals(sequential.get(i), parallel.get(i));
+        }
+    }
+
+    @Test
+    public void branchesAreComputedInTheCallingThreadWithoutConcurrentAccess() {
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        List<Indicator<Num>> indicators = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            indicators.add(new CachedIndicator<Num>(series) {
+                @Override
+                protected Num calculate(int index) {
+                    threads.add(Thread.currentThread());
+                    return closePrice.getValue(index);
+                }
+            });
+        }
+        assertEquals(4, IndicatorPrecomputer.plan(indicators).getBranchCount());
+
+        IndicatorPrecomputer.precompute(indicators, 0, series.getEndIndex());
+
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void branchesSharingCachedIndicatorsAreNotIndependent() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 5);
+        EMAIndicator ema = new EMAIndicator(closePrice, 5);
+        List<Indicator<?>> independent = IndicatorDependencies
+                .inDependencyOrder(Arrays.asList(new RSIIndicator(sma, 14), new RSIIndicator(ema, 14)));
+        assertEquals(2, IndicatorPrecomputer.getIndependentBranches(independent).size());
+
+        List<Indicator<?>> shared = IndicatorDependencies
+                .inDependencyOrder(Arrays.asList(new RSIIndicator(sma, 14), new EMAIndicator(sma, 14)));
+        assertEquals(1, IndicatorPrecomputer.getIndependentBranches(shared).size());
+    }
+
+    @Test
+    public void indicatorsAreFoundThroughRules() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 5);
+        EMAIndicator ema = new EMAIndicator(closePrice, 5);
+        Strategy strategy = new BaseStrategy(new OverIndicatorRule(sma, ema).and(new UnderIndicatorRule(closePrice, 5)),
+                new UnderIndicatorRule(sma, ema));
+
+        // the threshold of the under rule is a constant indicator
+        List<Indicator<?>> indicators = IndicatorDependencies.getIndicators(strategy);
+        assertEquals(4, indicators.size());
+        assertEquals(Arrays.asList(sma, ema, closePrice), indicators.subList(0, 3));
+        assertEquals(Arrays.asList(closePrice, sma, ema, indicators.get(3)),
+                IndicatorDependencies.getAllIndicators(strategy));
+    }
+}
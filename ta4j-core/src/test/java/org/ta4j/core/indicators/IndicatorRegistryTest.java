@@ -0,0 +1,130 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.MeanDeviationIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.indicators.statistics.VarianceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class IndicatorRegistryTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+
+    private ClosePriceIndicator closePrice;
+
+    public IndicatorRegistryTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(numFunction, 1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        closePrice = new ClosePriceIndicator(series);
+    }
+
+    @Test
+    public void sameTypeAndArgumentsReturnSameIndicator() {
+        IndicatorRegistry registry = new IndicatorRegistry();
+        SMAIndicator sma = registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 3), closePrice, 3);
+
+        assertSame(sma, registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 3), closePrice, 3));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void otherTypeOrArgumentsReturnOtherIndicator() {
+        IndicatorRegistry registry = new IndicatorRegistry();
+        SMAIndicator sma = registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 3), closePrice, 3);
+        ClosePriceIndicator otherClosePrice = new ClosePriceIndicator(series);
+
+        assertNotSame(sma, registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 4), closePrice, 4));
+        assertNotSame(sma,
+                registry.get(SMAIndicator.class, () -> new SMAIndicator(otherClosePrice, 3), otherClosePrice, 3));
+        assertNotSame(sma, registry.get(EMAIndicator.class, () -> new EMAIndicator(closePrice, 3), closePrice, 3));
+        assertEquals(4, registry.size());
+    }
+
+    @Test
+    public void indicatorsAreNotSharedWithoutRegistry() {
+        assertNull(series.getIndicatorRegistry());
+        assertNotSame(
+                IndicatorRegistry.shared(series, SMAIndicator.class, () -> new SMAIndicator(closePrice, 3), closePrice,
+                        3),
+                IndicatorRegistry.shared(series, SMAIndicator.class, () -> new SMAIndicator(closePrice, 3), closePrice,
+                        3));
+    }
+
+    @Test
+    public void subIndicatorsAreSharedWithRegistry() {
+        IndicatorRegistry registry = new IndicatorRegistry();
+        series.setIndicatorRegistry(registry);
+
+        VarianceIndicator variance = new VarianceIndicator(closePrice, 3);
+        MeanDeviationIndicator meanDeviation = new MeanDeviationIndicator(closePrice, 3);
+        new StandardDeviationIndicator(closePrice, 3);
+
+        // one SMA shared by the variance and the mean deviation, one variance
+        // for the standard deviation
+        assertEquals(2, registry.size());
+        registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, 3), closePrice, 3);
+        registry.get(VarianceIndicator.class, () -> variance, closePrice, 3);
+        assertEquals(2, registry.size());
+
+        series.setIndicatorRegistry(null);
+        assertIndicatorEquals(new VarianceIndicator(closePrice, 3), variance);
+        assertIndicatorEquals(new MeanDeviationIndicator(closePrice, 3), meanDeviation);
+    }
+
+    @Test
+    public void sharedIndicatorsComputeSameValues() {
+        Indicator<Num> rsi = new RSIIndicator(closePrice, 5);
+        Indicator<Num> cci = new CCIIndicator(series, 5);
+
+        series.setIndicatorRegistry(new IndicatorRegistry());
+        assertIndicatorEquals(rsi, new RSIIndicator(closePrice, 5));
+        assertIndicatorEquals(cci, new CCIIndicator(series, 5));
+    }
+
+    @Test
+    public void subSeriesViewHasNoRegistry() {
+        BarSeries view = series.getSubSeriesView(0, 5);
+        view.setIndicatorRegistry(new IndicatorRegistry());
+        assertNull(view.getIndicatorRegistry());
+    }
+}
@@ -24,9 +24,13 @@
 package org.ta4j.core.indicators;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertIndicatorEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 
 import org.junit.Before;
@@ -37,6 +41,8 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TestUtils;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
 
 public class SMAIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
@@ -103,4 +109,164 @@ public class SMAIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num>
                 TestUtils.GENERAL_OFFSET);
     }
 
+    @Test
+    public void resultsDoNotDependOnTheOrderOfCalculations() {
+        BarSeries series = new MockBarSeries(numFunction, randomWalk(5000, -1));
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sequential = new SMAIndicator(closePrice, 200);
+        SMAIndicator reversed = new SMAIndicator(closePrice, 200);
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            reversed.getValue(i);
+        }
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(reversed.getValue(i), sequential.getValue(i));
+        }
+    }
+
+    @Test
+    public void updatedSumMatchesSummedWindow() {
+        // Prices with all the digits of a double, whose sums are rounded
+        BarSeries series = new MockBarSeries(numFunction, randomWalk(20_000, -1));
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        int barCount = 200;
+        SMAIndicator sma = new SMAIndicator(closePrice, barCount);
+        double maxDrift = 0;
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            Num windowSum = numOf(0);
+            for (int j = Math.max(0, i - barCount + 1); j <= i; j++) {
+                windowSum = windowSum.plus(closePrice.getValue(j));
+            }
+            Num expected = windowSum.dividedBy(numOf(Math.min(barCount, i + 1)));
+            if (expected instanceof DoubleNum) {
+                maxDrift = Math.max(maxDrift, Math.abs(expected.doubleValue() - sma.getValue(i).doubleValue()));
+            } else {
+                assertEquals(expected, sma.getValue(i));
+            }
+        }
+        // At most 2 * barCount units in the last place of sums around 20000,
+        // divided by the bar count
+        assertTrue("drift " + maxDrift, maxDrift <= 2 * Math.ulp(20000d * 1.1));
+    }
+
+    @Test
+    public void resultsMatchSummedWindowOnFullPrecisionValues() {
+        BarSeries series = new MockBarSeries(numFunction, randomWalk(2000, 2));
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        // RSI values have all the digits of the precision, closes only a few
+        assertMatchesSummedWindow(new RSIIndicator(closePrice, 14), 20);
+        assertMatchesSummedWindow(closePrice, 20);
+    }
+
+    private void assertMatchesSummedWindow(Indicator<Num> indicator, int barCount) {
+        SMAIndicator sma = new SMAIndicator(indicator, barCount);
+        for (int i = 0; i <= indicator.getBarSeries().getEndIndex(); i++) {
+            Num windowSum = numOf(0);
+            for (int j = Math.max(0, i - barCount + 1); j <= i; j++) {
+                windowSum = windowSum.plus(indicator.getValue(j));
+            }
+            Num expected = windowSum.dividedBy(numOf(Math.min(barCount, i + 1)));
+            if (!(expected instanceof DoubleNum)) {
+                Num actual = sma.getValue(i);
+                assertEquals(expected, actual);
+                assertEquals(expected.toString(), actual.toString());
+            }
+        }
+    }
+
+    @Test
+    public void removedBarsAreSummedAgain() {
+        BarSeries series = new MockBarSeries(numFunction, randomWalk(100, 2));
+        series.setMaximumBarCount(20);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 5);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            SMAIndicator expected = new SMAIndicator(closePrice, 5);
+            assertEquals(expected.getValue(i), sma.getValue(i));
+        }
+    }
+
+    @Test
+    public void nanLeavingTheWindow() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3, 4, 5, 6, 7, 8);
+        Indicator<Num> closePrice = new ClosePriceIndicator(series) {
+            @Override
+            public Num getValue(int index) {
+                return index == 2 ? NaN.NaN : super.getValue(index);
+            }
+        };
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        assertNumEquals(1.5, sma.getValue(1));
+        assertTrue(sma.getValue(2).isNaN());
+        assertTrue(sma.getValue(4).isNaN());
+        assertNumEquals(5, sma.getValue(5));
+        assertNumEquals(6, sma.getValue(6));
+    }
+
+    @Test
+    public void updatedLastBar() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3, 4);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            sma.getValue(i);
+        }
+        assertNumEquals(3, sma.getValue(3));
+        series.addPrice(numOf(7));
+        assertEquals(new SMAIndicator(new ClosePriceIndicator(series), 3).getValue(3), sma.getValue(3));
+        series.addBar(series.getLastBar().getTimePeriod(),
+                series.getLastBar().getEndTime().plus(series.getLastBar().getTimePeriod()), 1, 1, 1, 1, 0);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(new SMAIndicator(new ClosePriceIndicator(series), 3).getValue(i), sma.getValue(i));
+        }
+    }
+
+    @Test
+    public void lastBarTicksReadFewInputValues() {
+        BarSeries series = new MockBarSeries(numFunction, randomWalk(1000, 2));
+        int[] reads = new int[1];
+        Indicator<Num> closePrice = new ClosePriceIndicator(series) {
+            @Override
+            public Num getValue(int index) {
+                reads[0]++;
+                return super.getValue(index);
+            }
+        };
+        int barCount = 200;
+        SMAIndicator sma = new SMAIndicator(closePrice, barCount);
+        sma.getValue(series.getEndIndex());
+        int ticks = 500;
+        int newBarReads = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            reads[0] = 0;
+            series.addBar(series.getLastBar().getTimePeriod(),
+                    series.getLastBar().getEndTime().plus(series.getLastBar().getTimePeriod()), 100, 100, 100, 100, 1);
+            sma.getValue(series.getEndIndex());
+            newBarReads += reads[0];
+            for (int price = 0; price < 3; price++) {
+                reads[0] = 0;
+                series.addPrice(numOf(100 + price));
+                Num value = sma.getValue(series.getEndIndex());
+                // the live bar enters the window and the oldest bar leaves it
+                assertTrue("reads " + reads[0], reads[0] <= 2);
+                assertEquals(new SMAIndicator(closePrice, barCount).getValue(series.getEndIndex()), value);
+            }
+        }
+        // O(1) per new bar, plus summing a window every barCount bars
+        assertTrue("reads " + newBarReads, newBarReads <= 4 * ticks + 3 * barCount);
+    }
+
+    /**
+     * @param count    the number of prices
+     * @param decimals the decimals of the prices, or -1 to keep all of them
+     * @return a random walk around 100
+     */
+    private static List<Double> randomWalk(int count, int decimals) {
+        List<Double> prices = new ArrayList<>(count);
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < count; i++) {
+            price += random.nextGaussian() / 10;
+            prices.add(decimals < 0 ? price : Math.round(price * Math.pow(10, decimals)) / Math.pow(10, decimals));
+        }
+        return prices;
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BarSeriesView;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class BarSeriesViewIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+
+    public BarSeriesViewIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(numFunction, 1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2, 5, 6, 7, 6, 5, 6, 7);
+    }
+
+    @Test
+    public void valuesMatchIndicatorOnSubSeries() {
+        SMAIndicator parentSma = new SMAIndicator(new ClosePriceIndicator(series), 4);
+        BarSeriesView view = series.getSubSeriesView(5, 15);
+        Indicator<Num> sma = new BarSeriesViewIndicator<>(new SMAIndicator(new ClosePriceIndicator(view), 4), parentSma,
+                4);
+
+        BarSeries subSeries = series.getSubSeries(5, 15);
+        assertIndicatorEquals(new SMAIndicator(new ClosePriceIndicator(subSeries), 4), sma);
+    }
+
+    @Test
+    public void reusesParentValues() {
+        CountingIndicator parentSma = new CountingIndicator(new SMAIndicator(new ClosePriceIndicator(series), 4));
+        for (int i = series.getBeginIndex(); i < series.getEndIndex(); i++) {
+            parentSma.getValue(i);
+        }
+        assertEquals(series.getBarCount() - 1, parentSma.calculations);
+
+        BarSeriesView view = series.getSubSeriesView(5, 15);
+        CountingIndicator viewSma = new CountingIndicator(new SMAIndicator(new ClosePriceIndicator(view), 4));
+        Indicator<Num> sma = new BarSeriesViewIndicator<>(viewSma, parentSma, 4);
+        for (int i = view.getBeginIndex(); i <= view.getEndIndex(); i++) {
+            sma.getValue(i);
+        }
+        // Only the 3 first values are calculated on the view
+        assertEquals(3, viewSma.calculations);
+        assertEquals(series.getBarCount() - 1, parentSma.calculations);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indicatorNotBuiltOnView() {
+        new BarSeriesViewIndicator<>(new ClosePriceIndicator(series), new ClosePriceIndicator(series), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parentIndicatorNotBuiltOnParent() {
+        BarSeries otherSeries = new MockBarSeries(numFunction, 1, 2, 3);
+        new BarSeriesViewIndicator<>(new ClosePriceIndicator(series.getSubSeriesView(1, 5)),
+                new ClosePriceIndicator(otherSeries), 1);
+    }
+
+    /**
+     * Caches the values of an indicator and counts the calculations.
+     */
+    private static class CountingIndicator extends CachedIndicator<Num> {
+
+        private final Indicator<Num> indicator;
+        private int calculations = 0;
+
+        CountingIndicator(Indicator<Num> indicator) {
+            super(indicator);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected Num calculate(int index) {
+            calculations++;
+            return indicator.getValue(index);
+        }
+    }
+}
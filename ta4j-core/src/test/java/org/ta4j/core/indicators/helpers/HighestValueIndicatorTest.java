@@ -24,16 +24,22 @@
 package org.ta4j.core.indicators.helpers;
 
 import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 import static org.ta4j.core.num.NaN.NaN;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicatorTest;
 import org.ta4j.core.mocks.MockBarSeries;
@@ -110,4 +116,87 @@ public class HighestValueIndicatorTest extends AbstractIndicatorTest<Indicator<N
                 assertEquals(series.getBar(i).getClosePrice().toString(), highestValue.getValue(i).toString());
         }
     }
+
+    @Test
+    public void anyOrderOfCalculationsMatchesTheWindow() {
+        Indicator<Num> values = randomValuesWithNaN(new MockBarSeries(numFunction, randomWalk(2000)));
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            indices.add(i);
+        }
+        HighestValueIndicator sequential = new HighestValueIndicator(values, 20);
+        HighestValueIndicator reversed = new HighestValueIndicator(values, 20);
+        HighestValueIndicator shuffled = new HighestValueIndicator(values, 20);
+        Collections.shuffle(indices, new Random(1));
+        for (int index : indices) {
+            assertSameValue(highestOfWindow(values, index, 20), shuffled.getValue(index));
+        }
+        for (int i = 1999; i >= 0; i--) {
+            assertSameValue(highestOfWindow(values, i, 20), reversed.getValue(i));
+        }
+        for (int i = 0; i < 2000; i++) {
+            assertSameValue(highestOfWindow(values, i, 20), sequential.getValue(i));
+        }
+    }
+
+    @Test
+    public void movingSeriesAndUpdatedLastBar() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        series.setMaximumBarCount(50);
+        ZonedDateTime time = ZonedDateTime.now();
+        for (double price : randomWalk(200)) {
+            time = time.plusDays(1);
+            series.addBar(time, price, price, price, price);
+        }
+        Indicator<Num> values = randomValuesWithNaN(series);
+        HighestValueIndicator highestValue = new HighestValueIndicator(values, 20);
+        // the windows of the first remaining bars include removed bars
+        for (int i = series.getRemovedBarsCount(); i <= series.getEndIndex(); i++) {
+            assertSameValue(highestOfWindow(values, i, 20), highestValue.getValue(i));
+        }
+        for (int price : new int[] { 0, 1000, 100 }) {
+            series.addPrice(numOf(price));
+            assertSameValue(highestOfWindow(values, series.getEndIndex(), 20),
+                    highestValue.getValue(series.getEndIndex()));
+        }
+    }
+
+    private static void assertSameValue(Num expected, Num actual) {
+        assertTrue("expected " + expected + " but was " + actual,
+                expected.isNaN() ? actual.isNaN() : expected.isEqual(actual));
+    }
+
+    private static Num highestOfWindow(Indicator<Num> values, int index, int barCount) {
+        Num highest = NaN;
+        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+            Num value = values.getValue(i);
+            if (!value.isNaN() && (highest.isNaN() || value.isGreaterThan(highest))) {
+                highest = value;
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * @return the close prices, NaN on every seventh bar and on a run of 30 bars
+     */
+    private static Indicator<Num> randomValuesWithNaN(BarSeries series) {
+        return new ClosePriceIndicator(series) {
+            @Override
+            public Num getValue(int index) {
+                return index % 7 == 3 || (index >= 100 && index < 130) ? NaN : super.getValue(index);
+            }
+        };
+    }
+
+    private static double[] randomWalk(int count) {
+        double[] prices = new double[count];
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < count; i++) {
+            price += random.nextInt(21) - 10;
+            prices[i] = price;
+        }
+        return prices;
+    }
 }
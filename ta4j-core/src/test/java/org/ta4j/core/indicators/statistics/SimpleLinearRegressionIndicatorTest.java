@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
@@ -34,6 +35,7 @@ import org.junit.Test;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicatorTest;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.SimpleLinearRegressionIndicator.SimpleLinearRegressionType;
 import org.ta4j.core.mocks.MockBarSeries;
 import org.ta4j.core.num.Num;
 
@@ -107,6 +109,108 @@ public class SimpleLinearRegressionIndicatorTest extends AbstractIndicatorTest<I
         assertNumEquals(origReg.predict(4), reg.getValue(4));
     }
 
+    @Test
+    public void slopeAndInterceptOfSlidingWindows() {
+        int barCount = 4;
+        SimpleLinearRegressionIndicator y = new SimpleLinearRegressionIndicator(closePrice, barCount);
+        SimpleLinearRegressionIndicator slope = new SimpleLinearRegressionIndicator(closePrice, barCount,
+                SimpleLinearRegressionType.SLOPE);
+        SimpleLinearRegressionIndicator intercept = new SimpleLinearRegressionIndicator(closePrice, barCount,
+                SimpleLinearRegressionType.INTERCEPT);
+        for (int i = 1; i <= closePrice.getBarSeries().getEndIndex(); i++) {
+            SimpleRegression origReg = new SimpleRegression();
+            for (int j = Math.max(0, i - barCount + 1); j <= i; j++) {
+                origReg.addData(j, closePrice.getValue(j).doubleValue());
+            }
+            assertNumEquals(origReg.getSlope(), slope.getValue(i));
+            assertNumEquals(origReg.getIntercept(), intercept.getValue(i));
+            assertNumEquals(origReg.predict(i), y.getValue(i));
+        }
+    }
+
+    @Test
+    public void valuesDoNotDependOnCalculationOrder() {
+        MockBarSeries series = new MockBarSeries(numFunction, 200);
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        SimpleLinearRegressionIndicator forward = new SimpleLinearRegressionIndicator(close, 7,
+                SimpleLinearRegressionType.SLOPE);
+        SimpleLinearRegressionIndicator backward = new SimpleLinearRegressionIndicator(close, 7,
+                SimpleLinearRegressionType.SLOPE);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            forward.getValue(i);
+        }
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            assertEquals(forward.getValue(i), backward.getValue(i));
+        }
+    }
+
+    @Test
+    public void componentsShareOneLine() {
+        SimpleLinearRegressionLineIndicator line = new SimpleLinearRegressionLineIndicator(closePrice, 5);
+        for (int i = 0; i <= closePrice.getBarSeries().getEndIndex(); i++) {
+            SimpleLinearRegressionLineIndicator.Line value = line.getValue(i);
+            if (i == 0) {
+                assertTrue(value.getSlope().isNaN());
+                assertTrue(value.getIntercept().isNaN());
+                assertTrue(value.getY().isNaN());
+                continue;
+            }
+            // the fitted value is the line at the index
+            assertNumEquals(value.getSlope().multipliedBy(numOf(i)).plus(value.getIntercept()).doubleValue(),
+                    value.getY());
+        }
+    }
+
+    @Test
+    public void componentsCreatedFromOneLineComputeItOnce() {
+        SimpleLinearRegressionLineIndicator line = new SimpleLinearRegressionLineIndicator(closePrice, 4);
+        line.setMetricsEnabled(true);
+        SimpleLinearRegressionIndicator y = new SimpleLinearRegressionIndicator(line, SimpleLinearRegressionType.Y);
+        SimpleLinearRegressionIndicator slope = new SimpleLinearRegressionIndicator(line,
+                SimpleLinearRegressionType.SLOPE);
+        SimpleLinearRegressionIndicator intercept = new SimpleLinearRegressionIndicator(line,
+                SimpleLinearRegressionType.INTERCEPT);
+        int endIndex = closePrice.getBarSeries().getEndIndex();
+        for (int i = 0; i <= endIndex; i++) {
+            assertEquals(new SimpleLinearRegressionIndicator(closePrice, 4).getValue(i), y.getValue(i));
+            assertEquals(
+                    new SimpleLinearRegressionIndicator(closePrice, 4, SimpleLinearRegressionType.SLOPE).getValue(i),
+                    slope.getValue(i));
+            assertEquals(new SimpleLinearRegressionIndicator(closePrice, 4, SimpleLinearRegressionType.INTERCEPT)
+                    .getValue(i), intercept.getValue(i));
+        }
+        assertEquals(endIndex + 1,
+                line.getMetrics().getCalculationCount() + line.getMetrics().getLastBarCalculationCount());
+    }
+
+    @Test
+    public void lastBarTicksReadFewInputValues() {
+        MockBarSeries series = new MockBarSeries(numFunction, 300);
+        int[] reads = new int[1];
+        Indicator<Num> close = new ClosePriceIndicator(series) {
+            @Override
+            public Num getValue(int index) {
+                reads[0]++;
+                return super.getValue(index);
+            }
+        };
+        SimpleLinearRegressionIndicator reg = new SimpleLinearRegressionIndicator(close, 50);
+        reg.getValue(series.getEndIndex());
+        for (int tick = 0; tick < 100; tick++) {
+            series.addBar(series.getLastBar().getTimePeriod(),
+                    series.getLastBar().getEndTime().plus(series.getLastBar().getTimePeriod()), 100, 100, 100, 100, 1);
+            reg.getValue(series.getEndIndex());
+            for (int price = 0; price < 3; price++) {
+                reads[0] = 0;
+                series.addPrice(numOf(100 + price));
+                Num value = reg.getValue(series.getEndIndex());
+                // the live bar enters the window and the oldest bar leaves it
+                assertTrue("reads " + reads[0], reads[0] <= 2);
+                assertEquals(new SimpleLinearRegressionIndicator(close, 50).getValue(series.getEndIndex()), value);
+            }
+        }
+    }
+
     /**
      * @param values values
      * @return a simple linear regression based on provided values
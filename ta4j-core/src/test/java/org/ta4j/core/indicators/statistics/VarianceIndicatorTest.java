@@ -23,8 +23,13 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.util.Arrays;
+import java.util.Random;
 import java.util.function.Function;
 
 import org.junit.Before;
@@ -34,6 +39,8 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicatorTest;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleNum;
 import org.ta4j.core.num.Num;
 
 public class VarianceIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
@@ -89,4 +96,108 @@ public class VarianceIndicatorTest extends AbstractIndicatorTest<Indicator<Num>,
         assertNumEquals(2.25, var.getValue(9));
         assertNumEquals(20.25, var.getValue(10));
     }
+
+    @Test
+    public void updatedVarianceMatchesTwoPassVariance() {
+        BarSeries series = new MockBarSeries(numFunction, randomWalk(5000));
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        int barCount = 50;
+        VarianceIndicator variance = new VarianceIndicator(closePrice, barCount);
+        double maxError = 0;
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            Num expected = twoPassVariance(closePrice, i, barCount);
+            maxError = Math.max(maxError, expected.minus(variance.getValue(i)).abs().doubleValue());
+        }
+        // The variance of prices around 100 is about 10
+        if (numOf(0) instanceof DoubleNum) {
+            assertTrue("error " + maxError, maxError < 1e-11);
+        } else if (numOf(0) instanceof DecimalNum) {
+            assertTrue("error " + maxError, maxError < 1e-25);
+        } else {
+            // Rounding the mean to 8 decimals
+            assertTrue("error " + maxError, maxError < 1e-6);
+        }
+    }
+
+    @Test
+    public void resultsDoNotDependOnTheOrderOfCalculations() {
+        BarSeries series = new MockBarSeries(numFunction, randomWalk(1000));
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        VarianceIndicator sequential = new VarianceIndicator(closePrice, 30);
+        VarianceIndicator reversed = new VarianceIndicator(closePrice, 30);
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            reversed.getValue(i);
+        }
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(reversed.getValue(i), sequential.getValue(i));
+        }
+    }
+
+    @Test
+    public void constantValuesHaveNoVariance() {
+        double[] prices = new double[100];
+        Arrays.fill(prices, 100.1);
+        VarianceIndicator variance = new VarianceIndicator(
+                new ClosePriceIndicator(new MockBarSeries(numFunction, prices)), 7);
+        for (int i = 0; i < prices.length; i++) {
+            assertNumEquals(0, variance.getValue(i));
+            assertFalse(variance.getValue(i).isNegative());
+        }
+    }
+
+    @Test
+    public void lastBarTicksReadFewInputValues() {
+        BarSeries series = new MockBarSeries(numFunction, randomWalk(500));
+        int[] reads = new int[1];
+        Indicator<Num> closePrice = new ClosePriceIndicator(series) {
+            @Override
+            public Num getValue(int index) {
+                reads[0]++;
+                return super.getValue(index);
+            }
+        };
+        int barCount = 50;
+        VarianceIndicator variance = new VarianceIndicator(closePrice, barCount);
+        variance.getValue(series.getEndIndex());
+        for (int tick = 0; tick < 100; tick++) {
+            series.addBar(series.getLastBar().getTimePeriod(),
+                    series.getLastBar().getEndTime().plus(series.getLastBar().getTimePeriod()), 100, 100, 100, 100, 1);
+            variance.getValue(series.getEndIndex());
+            for (int price = 0; price < 3; price++) {
+                reads[0] = 0;
+                series.addPrice(numOf(100 + price));
+                Num value = variance.getValue(series.getEndIndex());
+                // the live bar enters the window and the oldest bar leaves it
+                assertTrue("reads " + reads[0], reads[0] <= 2);
+                assertEquals(new VarianceIndicator(closePrice, barCount).getValue(series.getEndIndex()), value);
+            }
+        }
+    }
+
+    private Num twoPassVariance(Indicator<Num> indicator, int index, int barCount) {
+        int startIndex = Math.max(0, index - barCount + 1);
+        Num count = numOf(index - startIndex + 1);
+        Num sum = numOf(0);
+        for (int i = startIndex; i <= index; i++) {
+            sum = sum.plus(indicator.getValue(i));
+        }
+        Num mean = sum.dividedBy(count);
+        Num squaredDeviations = numOf(0);
+        for (int i = startIndex; i <= index; i++) {
+            Num deviation = indicator.getValue(i).minus(mean);
+            squaredDeviations = squaredDeviations.plus(deviation.multipliedBy(deviation));
+        }
+        return squaredDeviations.dividedBy(count);
+    }
+
+    private static double[] randomWalk(int count) {
+        double[] prices = new double[count];
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < count; i++) {
+            price = Math.round((price + random.nextGaussian()) * 10_000) / 10_000d;
+            prices[i] = price;
+        }
+        return prices;
+    }
 }
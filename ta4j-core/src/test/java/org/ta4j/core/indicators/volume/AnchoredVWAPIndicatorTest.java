@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.volume;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.IsoFields;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.IndicatorMetrics;
+import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
+import org.ta4j.core.indicators.pivotpoints.TimeLevel;
+import org.ta4j.core.num.Num;
+
+public class AnchoredVWAPIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+
+    public AnchoredVWAPIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        // 4-hour bars over about two months, in a zone with daylight saving time
+        series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        ZonedDateTime time = ZonedDateTime.of(2022, 2, 20, 0, 0, 0, 0, ZoneId.of("America/New_York"));
+        for (int i = 0; i < 400; i++) {
+            double close = 100 + (i * 7 % 13) - (i % 5);
+            series.addBar(Duration.ofHours(4), time.plusHours(4L * (i + 1)), close - 1, close + 2, close - 3, close,
+                    10 + i % 17);
+        }
+    }
+
+    @Test
+    public void dailyVWAP() {
+        assertMatchesPeriods(TimeLevel.DAY, bar -> bar.getEndTime().toLocalDate().toEpochDay());
+    }
+
+    @Test
+    public void weeklyVWAP() {
+        assertMatchesPeriods(TimeLevel.WEEK, bar -> bar.getEndTime().get(IsoFields.WEEK_BASED_YEAR) * 100L
+                + bar.getEndTime().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+
+    @Test
+    public void monthlyVWAP() {
+        assertMatchesPeriods(TimeLevel.MONTH,
+                bar -> bar.getEndTime().getYear() * 12L + bar.getEndTime().getMonthValue());
+    }
+
+    @Test
+    public void barBasedVWAPIsTheTypicalPrice() {
+        AnchoredVWAPIndicator vwap = new AnchoredVWAPIndicator(series, TimeLevel.BARBASED);
+        TypicalPriceIndicator typicalPrice = new TypicalPriceIndicator(series);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertNumEquals(typicalPrice.getValue(i).doubleValue(), vwap.getValue(i));
+        }
+    }
+
+    @Test
+    public void randomAccessMatchesSequentialCalculations() {
+        AnchoredVWAPIndicator sequential = new AnchoredVWAPIndicator(series, TimeLevel.WEEK);
+        AnchoredVWAPIndicator reversed = new AnchoredVWAPIndicator(series, TimeLevel.WEEK);
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            reversed.getValue(i);
+        }
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(reversed.getValue(i), sequential.getValue(i));
+        }
+    }
+
+    @Test
+    public void lastBarTicksReadTheLastBarOnly() {
+        AnchoredVWAPIndicator vwap = new AnchoredVWAPIndicator(series, TimeLevel.WEEK);
+        IndicatorMetrics.enable(vwap);
+        vwap.getValue(series.getEndIndex());
+        inputRequests(vwap);
+        for (int tick = 0; tick < 50; tick++) {
+            Bar lastBar = series.getLastBar();
+            series.addBar(lastBar.getTimePeriod(), lastBar.getEndTime().plus(lastBar.getTimePeriod()), 100, 102, 97,
+                    100, 10);
+            vwap.getValue(series.getEndIndex());
+            // the bar before the last one and the last bar, or the first bar of a period
+            assertTrue(inputRequests(vwap) <= 4);
+            for (int price = 0; price < 3; price++) {
+                series.addPrice(numOf(100 + price));
+                Num value = vwap.getValue(series.getEndIndex());
+                assertEquals(2, inputRequests(vwap));
+                assertEquals(new AnchoredVWAPIndicator(series, TimeLevel.WEEK).getValue(series.getEndIndex()), value);
+            }
+        }
+    }
+
+    private void assertMatchesPeriods(TimeLevel timeLevel, ToLongFunction<Bar> period) {
+        AnchoredVWAPIndicator vwap = new AnchoredVWAPIndicator(series, timeLevel);
+        TypicalPriceIndicator typicalPrice = new TypicalPriceIndicator(series);
+        Num priceVolumeSum = numOf(0);
+        Num volumeSum = numOf(0);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            Bar bar = series.getBar(i);
+            if (i > 0 && period.applyAsLong(series.getBar(i - 1)) != period.applyAsLong(bar)) {
+                priceVolumeSum = numOf(0);
+                volumeSum = numOf(0);
+            }
+            priceVolumeSum = priceVolumeSum.plus(typicalPrice.getValue(i).multipliedBy(bar.getVolume()));
+            volumeSum = volumeSum.plus(bar.getVolume());
+            assertNumEquals(priceVolumeSum.dividedBy(volumeSum).doubleValue(), vwap.getValue(i));
+        }
+    }
+
+    /**
+     * @param indicator an indicator with metrics enabled
+     * @return the number of values requested from its inputs since the last reset
+     */
+    private static long inputRequests(Indicator<Num> indicator) {
+        long requests = 0;
+        for (Indicator<?> input : indicator.getInputs()) {
+            if (input instanceof CachedIndicator) {
+                IndicatorMetrics metrics = ((CachedIndicator<?>) input).getMetrics();
+                requests += metrics.getRequestCount();
+                metrics.reset();
+            }
+        }
+        return requests;
+    }
+}
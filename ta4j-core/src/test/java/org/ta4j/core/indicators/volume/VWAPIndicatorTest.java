@@ -23,18 +23,27 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import static org.junit.Assert.assertEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.IndicatorMetrics;
+import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.mocks.MockBar;
 import org.ta4j.core.mocks.MockBarSeries;
 import org.ta4j.core.num.Num;
@@ -94,4 +103,79 @@ public class VWAPIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num
         assertNumEquals(44.0840, vwap.getValue(17));
         assertNumEquals(43.8247, vwap.getValue(18));
     }
+
+    @Test
+    public void updatedSumsMatchSummedWindow() {
+        BarSeries series = randomBars(2000);
+        Indicator<Num> typicalPrice = new TypicalPriceIndicator(series);
+        VWAPIndicator sequential = new VWAPIndicator(series, 60);
+        VWAPIndicator reversed = new VWAPIndicator(series, 60);
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            reversed.getValue(i);
+        }
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            Num priceVolumeSum = numOf(0);
+            Num volumeSum = numOf(0);
+            for (int j = Math.max(0, i - 59); j <= i; j++) {
+                Num volume = series.getBar(j).getVolume();
+                priceVolumeSum = priceVolumeSum.plus(typicalPrice.getValue(j).multipliedBy(volume));
+                volumeSum = volumeSum.plus(volume);
+            }
+            assertNumEquals(priceVolumeSum.dividedBy(volumeSum).doubleValue(), sequential.getValue(i));
+            assertEquals(reversed.getValue(i), sequential.getValue(i));
+        }
+    }
+
+    @Test
+    public void lastBarTicksReadTheBarsEnteringAndLeavingTheWindow() {
+        BarSeries series = randomBars(300);
+        VWAPIndicator vwap = new VWAPIndicator(series, 60);
+        IndicatorMetrics.enable(vwap);
+        vwap.getValue(series.getEndIndex());
+        inputRequests(vwap);
+        for (int tick = 0; tick < 100; tick++) {
+            Bar lastBar = series.getLastBar();
+            series.addBar(lastBar.getTimePeriod(), lastBar.getEndTime().plus(lastBar.getTimePeriod()), 100, 102, 97,
+                    100, 10);
+            vwap.getValue(series.getEndIndex());
+            inputRequests(vwap);
+            for (int price = 0; price < 3; price++) {
+                series.addPrice(numOf(100 + price));
+                Num value = vwap.getValue(series.getEndIndex());
+                // typical price and volume of the bar entering and of the one leaving
+                assertEquals(4, inputRequests(vwap));
+                assertEquals(new VWAPIndicator(series, 60).getValue(series.getEndIndex()), value);
+            }
+        }
+    }
+
+    private BarSeries randomBars(int count) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        Random random = new Random(42);
+        ZonedDateTime time = ZonedDateTime.of(2022, 1, 3, 9, 0, 0, 0, ZoneId.of("UTC"));
+        double close = 100;
+        for (int i = 0; i < count; i++) {
+            double open = close;
+            close = Math.round((close + random.nextGaussian()) * 100) / 100d;
+            series.addBar(Duration.ofMinutes(1), time.plusMinutes(i), open, Math.max(open, close) + 0.5,
+                    Math.min(open, close) - 0.5, close, random.nextInt(1000) + 1);
+        }
+        return series;
+    }
+
+    /**
+     * @param indicator an indicator with metrics enabled
+     * @return the number of values requested from its inputs since the last reset
+     */
+    private static long inputRequests(Indicator<Num> indicator) {
+        long requests = 0;
+        for (Indicator<?> input : indicator.getInputs()) {
+            if (input instanceof CachedIndicator) {
+                IndicatorMetrics metrics = ((CachedIndicator<?>) input).getMetrics();
+                requests += metrics.getRequestCount();
+                metrics.reset();
+            }
+        }
+        return requests;
+    }
 }
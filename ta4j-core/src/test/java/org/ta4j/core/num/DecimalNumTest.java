@@ -25,15 +25,20 @@ package org.ta4j.core.num;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertIndicatorEquals;
 import static org.ta4j.core.TestUtils.assertIndicatorNotEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 
 import org.junit.Test;
@@ -310,4 +315,62 @@ public class DecimalNumTest {
         assertFalse(decimalNum.equals(doubleNum));
     }
 
+    @Test
+    public void testSmallIntegersAreShared() {
+        assertSame(DecimalNum.valueOf(100), DecimalNum.valueOf(100));
+        assertSame(DecimalNum.valueOf(-1), DecimalNum.valueOf(-1L));
+        assertSame(DecimalNum.valueOf(0).zero(), DecimalNum.valueOf(0).numOf(0));
+        assertSame(DecimalNum.valueOf(0).getMathContext(), DecimalNum.valueOf(2000).getMathContext());
+
+        Num highPrecision = DecimalNum.valueOf("1", 64);
+        assertEquals(64, ((DecimalNum) highPrecision.numOf(2)).getMathContext().getPrecision());
+        assertEquals(64, ((DecimalNum) highPrecision.function().apply(2)).getMathContext().getPrecision());
+    }
+
+    @Test
+    public void testArithmeticMatchesBigDecimal() {
+        String[] values = { "1", "-3", "7", "20", "0.015", "12.34", "5.67", "99999.99999", SUPER_PRECISION_STRING,
+                SUPER_PRECISION_LARGE_STRING, "0", "0.1", "1E+5", "1E-40", "3.223265736983403690" };
+        for (int precision : new int[] { 8, 32, 128 }) {
+            MathContext mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+            for (String first : values) {
+                for (String second : values) {
+                    DecimalNum a = DecimalNum.valueOf(first, precision);
+                    DecimalNum b = DecimalNum.valueOf(second, precision);
+                    BigDecimal x = a.getDelegate();
+                    BigDecimal y = b.getDelegate();
+                    String message = first + ", " + second + ", " + precision;
+                    assertEquals(message, x.add(y, mathContext), ((DecimalNum) a.plus(b)).getDelegate());
+                    assertEquals(message, x.subtract(y, mathContext), ((DecimalNum) a.minus(b)).getDelegate());
+                    assertEquals(message, x.multiply(y, mathContext), ((DecimalNum) a.multipliedBy(b)).getDelegate());
+                    if (y.signum() == 0) {
+                        assertTrue(message, a.dividedBy(b).isNaN());
+                    } else {
+                        assertEquals(message, x.divide(y, mathContext), ((DecimalNum) a.dividedBy(b)).getDelegate());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDivisionMatchesBigDecimalScale() {
+        Random random = new Random(42);
+        for (int precision : new int[] { 20, 32 }) {
+            MathContext mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+            for (int i = 0; i < 5_000; i++) {
+                BigDecimal x = BigDecimal.valueOf(random.nextLong() % 10_000_000_000_000_000L, random.nextInt(40) - 10);
+                BigDecimal y = BigDecimal.valueOf((random.nextBoolean() ? 1 : -1) << random.nextInt(20),
+                        random.nextInt(40) - 20);
+                if (random.nextBoolean()) {
+                    y = y.multiply(BigDecimal.valueOf(5).pow(random.nextInt(10)));
+                }
+                DecimalNum a = DecimalNum.valueOf(x, precision);
+                DecimalNum b = DecimalNum.valueOf(y, precision);
+                assertEquals(x + " / " + y, a.getDelegate().divide(b.getDelegate(), mathContext),
+                        ((DecimalNum) a.dividedBy(b)).getDelegate());
+            }
+        }
+    }
+
 }
@@ -0,0 +1,196 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+
+public class DoubleDoubleNumTest {
+
+    private static final MathContext REFERENCE = new MathContext(64, RoundingMode.HALF_EVEN);
+
+    @Test
+    public void decimalInputsAreExact() {
+        Num sum = DoubleDoubleNum.valueOf(0.1).plus(DoubleDoubleNum.valueOf(0.2));
+
+        assertEquals("0.3", sum.toString());
+        assertRelativeError(new BigDecimal("0.3"), sum, 1e-31);
+        assertEquals("0.33333333333333333333333333333333",
+                DoubleDoubleNum.valueOf(1).dividedBy(DoubleDoubleNum.valueOf(3)).toString());
+        assertEquals("9007199254740993", DoubleDoubleNum.valueOf(9007199254740993L).toString());
+    }
+
+    @Test
+    public void arithmeticMatchesBigDecimal() {
+        Random random = new Random(42);
+        List<BinaryOperator<Num>> operations = Arrays.asList(Num::plus, Num::minus, Num::multipliedBy, Num::dividedBy);
+        List<BinaryOperator<BigDecimal>> references = Arrays.asList((a, b) -> a.add(b, REFERENCE),
+                (a, b) -> a.subtract(b, REFERENCE), (a, b) -> a.multiply(b, REFERENCE),
+                (a, b) -> a.divide(b, REFERENCE));
+        for (int i = 0; i < 10000; i++) {
+            DoubleDoubleNum a = randomValue(random);
+            DoubleDoubleNum b = randomValue(random);
+            for (int j = 0; j < operations.size(); j++) {
+                BigDecimal expected = references.get(j).apply(a.getDelegate(), b.getDelegate());
+                assertRelativeError(expected, operations.get(j).apply(a, b), 1e-30);
+            }
+        }
+    }
+
+    @Test
+    public void functionsMatchBigDecimal() {
+        assertRelativeError(new BigDecimal("1.4142135623730950488016887242096980785696718753769"),
+                DoubleDoubleNum.valueOf(2).sqrt(), 1e-31);
+        assertRelativeError(new BigDecimal("547722.55750516611345696978280080213395274469499798"),
+                DoubleDoubleNum.valueOf("3E11").sqrt(), 1e-31);
+        assertRelativeError(new BigDecimal("0.69314718055994530941723212145817656807550013436026"),
+                DoubleDoubleNum.valueOf(2).log(), 1e-31);
+        assertRelativeError(new BigDecimal("-2.3025850929940456840179914546843642076011014886288"),
+                DoubleDoubleNum.valueOf(0.1).log(), 1e-31);
+        assertRelativeError(new BigDecimal("1.4142135623730950488016887242096980785696718753769"),
+                DoubleDoubleNum.valueOf(2).pow(DoubleDoubleNum.valueOf(0.5)), 1e-30);
+
+        BigDecimal minuteCompounding = new BigDecimal("1.0001").pow(525600, REFERENCE);
+        assertRelativeError(minuteCompounding, DoubleDoubleNum.valueOf(1.0001).pow(525600), 1e-26);
+        assertRelativeError(minuteCompounding,
+                DoubleDoubleNum.valueOf(1.0001)
+                        .pow(DoubleDoubleNum.valueOf(525600.5))
+                        .dividedBy(DoubleDoubleNum.valueOf(1.0001).sqrt()),
+                1e-26);
+    }
+
+    @Test
+    public void compoundingKeepsPrecision() {
+        Random random = new Random(42);
+        Num equity = DoubleDoubleNum.valueOf(1);
+        BigDecimal reference = BigDecimal.ONE;
+        // one year of minute bars, 252 days of 390 minutes
+        for (int i = 0; i < 252 * 390; i++) {
+            double change = Math.round(random.nextGaussian() * 1000) / 1e7;
+            equity = equity.multipliedBy(DoubleDoubleNum.valueOf(1 + change));
+            reference = reference.multiply(BigDecimal.ONE.add(BigDecimal.valueOf(change)), REFERENCE);
+        }
+        assertRelativeError(reference, equity, 1e-25);
+    }
+
+    @Test
+    public void indicatorsMatchDecimalNum() {
+        BarSeries doubleDoubleSeries = randomWalk(DoubleDoubleNum::valueOf);
+        BarSeries decimalSeries = randomWalk(DecimalNum.valueOf("0", 64).function());
+        List<Function<BarSeries, Indicator<Num>>> indicators = Arrays.asList(
+                series -> new RSIIndicator(new ClosePriceIndicator(series), 14),
+                series -> new EMAIndicator(new ClosePriceIndicator(series), 10),
+                series -> new StandardDeviationIndicator(new ClosePriceIndicator(series), 20));
+        for (Function<BarSeries, Indicator<Num>> indicator : indicators) {
+            Indicator<Num> actual = indicator.apply(doubleDoubleSeries);
+            Indicator<Num> expected = indicator.apply(decimalSeries);
+            for (int i = 0; i <= doubleDoubleSeries.getEndIndex(); i++) {
+                assertRelativeError(((DecimalNum) expected.getValue(i)).getDelegate(), actual.getValue(i), 1e-28);
+            }
+        }
+    }
+
+    @Test
+    public void roundingFunctions() {
+        assertEquals(DoubleDoubleNum.valueOf(-3), DoubleDoubleNum.valueOf(-2.5).floor());
+        assertEquals(DoubleDoubleNum.valueOf(-2), DoubleDoubleNum.valueOf(-2.5).ceil());
+        assertEquals(DoubleDoubleNum.valueOf(3), DoubleDoubleNum.valueOf("2.000000000000000000000001").ceil());
+        assertEquals(DoubleDoubleNum.valueOf(2), DoubleDoubleNum.valueOf("2.000000000000000000000001").floor());
+        assertEquals(DoubleDoubleNum.valueOf(1), DoubleDoubleNum.valueOf("1.999999999999999999999999").floor());
+        assertEquals(DoubleDoubleNum.valueOf(-1.5),
+                DoubleDoubleNum.valueOf(-7.5).remainder(DoubleDoubleNum.valueOf(2)));
+        assertEquals(1, DoubleDoubleNum.valueOf("1.999999999999999999999999").intValue());
+    }
+
+    @Test
+    public void comparisons() {
+        Num one = DoubleDoubleNum.valueOf(1);
+        Num slightlyMore = DoubleDoubleNum.valueOf("1.000000000000000000000001");
+
+        assertTrue(slightlyMore.isGreaterThan(one));
+        assertTrue(one.isLessThan(slightlyMore));
+        assertSame(slightlyMore, one.max(slightlyMore));
+        assertTrue(DoubleDoubleNum.valueOf(-0.0).isEqual(DoubleDoubleNum.valueOf(0)));
+        assertEquals(DoubleDoubleNum.valueOf(-0.0).hashCode(), DoubleDoubleNum.valueOf(0).hashCode());
+        assertSame(NaN, one.dividedBy(one.zero()));
+        assertSame(NaN, one.negate().sqrt());
+        assertSame(NaN, one.zero().log());
+    }
+
+    @Test
+    public void selectableInSeriesBuilder() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(DoubleDoubleNum.class).build();
+
+        assertEquals(DoubleDoubleNum.valueOf(1), series.numOf(1));
+    }
+
+    private static DoubleDoubleNum randomValue(Random random) {
+        DoubleDoubleNum value = DoubleDoubleNum.valueOf(BigDecimal.valueOf(random.nextGaussian())
+                .multiply(BigDecimal.valueOf(random.nextGaussian()))
+                .scaleByPowerOfTen(random.nextInt(20) - 10));
+        return value.isZero() ? DoubleDoubleNum.valueOf(1) : value;
+    }
+
+    private static BarSeries randomWalk(Function<Number, Num> numFunction) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        Random random = new Random(42);
+        ZonedDateTime time = ZonedDateTime.parse("2020-01-01T00:00:00Z");
+        double price = 100;
+        for (int i = 0; i < 500; i++) {
+            price = Math.max(1, Math.round((price + random.nextGaussian()) * 100) / 100d);
+            series.addBar(time.plusMinutes(i), price, price + 1, price - 1, price, 1000);
+        }
+        return series;
+    }
+
+    private static void assertRelativeError(BigDecimal expected, Num actual, double maximumError) {
+        BigDecimal error = ((DoubleDoubleNum) actual).getDelegate().subtract(expected).abs();
+        if (expected.signum() != 0) {
+            error = error.divide(expected.abs(), REFERENCE);
+        }
+        assertTrue(String.format("expected %s but was %s", expected, actual),
+                error.compareTo(BigDecimal.valueOf(maximumError)) <= 0);
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+
+public class FixedPointNumTest {
+
+    @Test
+    public void decimalFractionsAreExact() {
+        Num sum = FixedPointNum.valueOf(0.1).plus(FixedPointNum.valueOf(0.2));
+
+        assertEquals(FixedPointNum.valueOf("0.3"), sum);
+        assertEquals(30000000L, ((FixedPointNum) sum).getUnscaledValue());
+    }
+
+    @Test
+    public void valueOfRoundsHalfUp() {
+        assertEquals("1.01", FixedPointNum.valueOf(1.005, 2).toString());
+        assertEquals("-1.01", FixedPointNum.valueOf(-1.005, 2).toString());
+        assertEquals("0.33333333", FixedPointNum.valueOf(1d / 3).toString());
+        assertEquals("12345678.9", FixedPointNum.valueOf(12345678.9).toString());
+        assertEquals("2", FixedPointNum.valueOf(new BigDecimal("1.5"), 0).toString());
+        assertThrows(NumberFormatException.class, () -> FixedPointNum.valueOf(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> FixedPointNum.valueOf(1, FixedPointNum.MAX_SCALE + 1));
+    }
+
+    @Test
+    public void multipliedByRoundsHalfUp() {
+        assertEquals(FixedPointNum.valueOf("0.01"),
+                FixedPointNum.valueOf("0.1").multipliedBy(FixedPointNum.valueOf("0.1")));
+        assertEquals(FixedPointNum.valueOf("0.00000001"),
+                FixedPointNum.valueOf("0.0001").multipliedBy(FixedPointNum.valueOf("0.00005")));
+        assertEquals(FixedPointNum.valueOf("-0.00000001"),
+                FixedPointNum.valueOf("-0.0001").multipliedBy(FixedPointNum.valueOf("0.00005")));
+        assertEquals(FixedPointNum.valueOf("0"),
+                FixedPointNum.valueOf("0.0001").multipliedBy(FixedPointNum.valueOf("0.000049")));
+    }
+
+    @Test
+    public void multipliedByLargeValues() {
+        Num price = FixedPointNum.valueOf("91234.56789012");
+        Num volume = FixedPointNum.valueOf("1000000.5");
+
+        BigDecimal expected = new BigDecimal("91234.56789012").multiply(new BigDecimal("1000000.5"));
+        assertEquals(FixedPointNum.valueOf(expected, 8), price.multipliedBy(volume));
+        assertEquals(FixedPointNum.valueOf(expected.negate(), 8), price.negate().multipliedBy(volume));
+    }
+
+    @Test
+    public void dividedByRoundsHalfUp() {
+        assertEquals(FixedPointNum.valueOf("0.33333333"), FixedPointNum.valueOf(1).dividedBy(FixedPointNum.valueOf(3)));
+        assertEquals(FixedPointNum.valueOf("-0.66666667"),
+                FixedPointNum.valueOf(-2).dividedBy(FixedPointNum.valueOf(3)));
+        assertEquals(FixedPointNum.valueOf("0.5"), FixedPointNum.valueOf(1).dividedBy(FixedPointNum.valueOf(2)));
+        assertSame(NaN, FixedPointNum.valueOf(1).dividedBy(FixedPointNum.valueOf(0)));
+    }
+
+    @Test
+    public void dividedByLargeValues() {
+        Num dividend = FixedPointNum.valueOf("91234567890.12345678");
+        Num divisor = FixedPointNum.valueOf("7654.32198765");
+
+        BigDecimal expected = new BigDecimal("91234567890.12345678").divide(new BigDecimal("7654.32198765"), 8,
+                RoundingMode.HALF_UP);
+        assertEquals(FixedPointNum.valueOf(expected, 8), dividend.dividedBy(divisor));
+        assertEquals(FixedPointNum.valueOf(expected, 8), dividend.negate().dividedBy(divisor.negate()));
+    }
+
+    @Test
+    public void overflowReportsExactValue() {
+        Num max = FixedPointNum.valueOf(90000000000L);
+
+        FixedPointOverflowException plus = assertThrows(FixedPointOverflowException.class,
+                () -> max.plus(FixedPointNum.valueOf(10000000000L)));
+        assertEquals(DecimalNum.valueOf("100000000000"), plus.getExactValue());
+
+        FixedPointOverflowException multipliedBy = assertThrows(FixedPointOverflowException.class,
+                () -> max.multipliedBy(FixedPointNum.valueOf(2)));
+        assertEquals(DecimalNum.valueOf("180000000000"), multipliedBy.getExactValue());
+
+        assertThrows(FixedPointOverflowException.class, () -> max.dividedBy(FixedPointNum.valueOf("0.5")));
+        assertThrows(FixedPointOverflowException.class, () -> FixedPointNum.valueOf(1e11));
+    }
+
+    @Test
+    public void scaleIsConfigurable() {
+        Num num = FixedPointNum.valueOf(2, 2);
+
+        assertEquals(2, ((FixedPointNum) num.dividedBy(num.numOf(3))).getScale());
+        assertEquals("0.67", num.dividedBy(num.numOf(3)).toString());
+        assertEquals("1.41", num.sqrt().toString());
+        assertEquals(FixedPointNum.ofUnscaled(100, 2), num.one());
+        assertTrue(num.isEqual(FixedPointNum.valueOf(2)));
+        assertFalse(num.equals(FixedPointNum.valueOf(2)));
+    }
+
+    @Test
+    public void roundingFunctions() {
+        assertEquals(FixedPointNum.valueOf(-3), FixedPointNum.valueOf(-2.5).floor());
+        assertEquals(FixedPointNum.valueOf(-2), FixedPointNum.valueOf(-2.5).ceil());
+        assertEquals(FixedPointNum.valueOf(3), FixedPointNum.valueOf(2.5).ceil());
+        assertEquals(FixedPointNum.valueOf("0.00390625"), FixedPointNum.valueOf("0.5").pow(8));
+        assertEquals(FixedPointNum.valueOf(4), FixedPointNum.valueOf(16).pow(FixedPointNum.valueOf("0.5")));
+        assertEquals(FixedPointNum.valueOf("0.5"), FixedPointNum.valueOf(5.5).remainder(FixedPointNum.valueOf(1)));
+    }
+
+    @Test
+    public void selectableInSeriesBuilder() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(FixedPointNum.class).build();
+
+        assertEquals(FixedPointNum.valueOf(1), series.numOf(1));
+
+        BarSeries scaled = new BaseBarSeriesBuilder().withNumTypeOf(FixedPointNum.valueOf(0, 4)).build();
+
+        assertEquals(FixedPointNum.valueOf(1, 4), scaled.numOf(1));
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+
+public class NumAccumulatorTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    public NumAccumulatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void matchesImmutableOperations() {
+        Random random = new Random(42);
+        NumAccumulator accumulator = numOf(0.5).newAccumulator();
+        Num sum = numOf(0.5);
+        for (int i = 0; i < 1000; i++) {
+            Num a = numOf(random.nextInt(2000000) / 1000d - 1000);
+            Num b = numOf(random.nextInt(2000000) / 1000d - 1000);
+            switch (i % 4) {
+            case 0:
+                accumulator.add(a);
+                sum = sum.plus(a);
+                break;
+            case 1:
+                accumulator.addProduct(a, b);
+                sum = sum.plus(a.multipliedBy(b));
+                break;
+            case 2:
+                accumulator.addSquare(a);
+                sum = sum.plus(a.multipliedBy(a));
+                break;
+            default:
+                accumulator.addAbsoluteDifference(a, b);
+                sum = sum.plus(a.minus(b).abs());
+            }
+            assertEquals(sum, accumulator.toNum());
+        }
+    }
+
+    @Test
+    public void matchesImmutableOperationsWithInexactValues() {
+        NumAccumulator accumulator = numOf(0).newAccumulator();
+        Num sum = numOf(0);
+        Num third = numOf(1).dividedBy(numOf(3));
+        Num seventh = numOf(1).dividedBy(numOf(7));
+        for (int i = 0; i < 100; i++) {
+            accumulator.add(third).addProduct(third, seventh).addSquare(seventh).addAbsoluteDifference(seventh, third);
+            sum = sum.plus(third)
+                    .plus(third.multipliedBy(seventh))
+                    .plus(seventh.multipliedBy(seventh))
+                    .plus(seventh.minus(third).abs());
+        }
+        assertEquals(sum, accumulator.toNum());
+    }
+
+    @Test
+    public void factoryAccumulatorStartsWithZero() {
+        NumAccumulator accumulator = NumFactory.of(numFunction).newAccumulator();
+
+        assertNumEquals(0, accumulator.toNum());
+        assertNumEquals(6, accumulator.add(numOf(1)).addProduct(numOf(2), numOf(2)).addSquare(numOf(1)).toNum());
+    }
+
+    @Test
+    public void nanIsKept() {
+        assertSame(NaN, numOf(1).newAccumulator().add(NaN).add(numOf(1)).toNum());
+        assertSame(NaN, numOf(1).newAccumulator().addProduct(numOf(1), NaN).toNum());
+        assertSame(NaN, numOf(1).newAccumulator().addSquare(NaN).toNum());
+        assertSame(NaN, numOf(1).newAccumulator().addAbsoluteDifference(NaN, numOf(1)).toNum());
+        assertSame(NaN, NaN.newAccumulator().add(numOf(1)).toNum());
+    }
+
+    @Test
+    public void fixedPointOverflowIsReported() {
+        NumAccumulator accumulator = FixedPointNum.ofUnscaled(Long.MAX_VALUE, 2).newAccumulator();
+
+        assertThrows(FixedPointOverflowException.class, () -> accumulator.add(FixedPointNum.valueOf(1, 2)));
+        assertThrows(FixedPointOverflowException.class, () -> FixedPointNum.valueOf(0, 2)
+                .newAccumulator()
+                .addAbsoluteDifference(FixedPointNum.ofUnscaled(Long.MAX_VALUE, 2), FixedPointNum.valueOf(-1, 2)));
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.ZonedDateTime;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+
+public class NumFactoryTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    public NumFactoryTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void constantsAreShared() {
+        NumFactory factory = NumFactory.of(numFunction);
+
+        assertNumEquals(0, factory.zero());
+        assertNumEquals(1, factory.one());
+        assertNumEquals(2, factory.two());
+        assertNumEquals(100, factory.hundred());
+        assertSame(factory.zero(), factory.numOf(0));
+        assertSame(factory.hundred(), factory.numOf(Integer.valueOf(100)));
+        assertSame(factory.numOf(-128), factory.numOf(-128));
+        assertSame(factory.numOf(1024), factory.numOf((short) 1024));
+    }
+
+    @Test
+    public void otherValuesAreCreated() {
+        NumFactory factory = NumFactory.of(numFunction);
+
+        assertNumEquals(1025, factory.numOf(1025));
+        assertNotSame(factory.numOf(1025), factory.numOf(1025));
+        assertNumEquals(-129, factory.numOf(-129));
+        assertNumEquals(100, factory.numOf(100L));
+        assertNumEquals(0.5, factory.numOf(0.5));
+        assertEquals(numOf(0.5), factory.numOf(0.5));
+        assertSame(numFunction, factory.function());
+    }
+
+    @Test
+    public void factoriesAreSharedPerFunction() {
+        assertSame(NumFactory.of(numFunction), NumFactory.of(numFunction));
+        Function<Number, Num> otherFunction = number -> numFunction.apply(number);
+        assertNotSame(NumFactory.of(numFunction), NumFactory.of(otherFunction));
+        assertSame(otherFunction, NumFactory.of(otherFunction).function());
+    }
+
+    @Test
+    public void seriesShareTheirFactory() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        series.addBar(ZonedDateTime.now(), 1, 2, 0, 1);
+
+        assertSame(series.numFactory(), series.numFactory());
+        assertSame(series.numFactory(), series.getSubSeriesView(0, 1).numFactory());
+        assertSame(series.numFactory(), new ClosePriceIndicator(series).numFactory());
+        assertSame(series.numFactory().zero(), series.numOf(0));
+        assertSame(series.numFactory().numOf(14), series.numOf(14));
+    }
+}
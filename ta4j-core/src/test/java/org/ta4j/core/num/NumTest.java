@@ -25,6 +25,7 @@ package org.ta4j.core.num;
 
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 import static org.ta4j.core.TestUtils.assertNumNotEquals;
@@ -97,6 +98,10 @@ public class NumTest extends AbstractIndicatorTest<Object, Num> {
         String highPrecisionString = "1.928749238479283749238472398472936872364823749823749238749238749283749238472983749238749832749274";
         Num num = numOf(highPrecisionString, HIGH_PRECISION);
         Num highPrecisionNum = DecimalNum.valueOf(highPrecisionString, HIGH_PRECISION);
+        if (num.getClass().equals(FixedPointNum.class)) {
+            assertEquals("1.92874924", num.toString());
+            return;
+        }
         assertTrue(((DecimalNum) highPrecisionNum).matches(num, 17));
         BigDecimal fromNum = new BigDecimal(num.toString());
         if (num.getClass().equals(DoubleNum.class)) {
@@ -305,6 +310,10 @@ public class NumTest extends AbstractIndicatorTest<Object, Num> {
     public void sqrtLudicrousPrecision() {
         BigDecimal numBD = BigDecimal.valueOf(Double.MAX_VALUE)
                 .multiply(BigDecimal.valueOf(Double.MAX_VALUE).add(BigDecimal.ONE));
+        if (numOf(0).getClass().equals(FixedPointNum.class)) {
+            assertThrows(FixedPointOverflowException.class, () -> numOf(numBD));
+            return;
+        }
         Num sqrt = numOf(numBD).sqrt(100000);
         if (numOf(0).getClass().equals(DoubleNum.class)) {
             assertEquals("Infinity", sqrt.toString());
@@ -342,6 +351,11 @@ public class NumTest extends AbstractIndicatorTest<Object, Num> {
     @Test
     public void sqrtOddExponent() {
         BigDecimal numBD = BigDecimal.valueOf(Double.valueOf("3E11"));
+        if (numOf(0).getClass().equals(FixedPointNum.class)) {
+            // 3E11 needs fewer decimal places to fit into a long
+            assertEquals("547722.5575", FixedPointNum.valueOf(numBD, 4).sqrt().toString());
+            return;
+        }
         Num sqrt = numOf(numBD).sqrt();
         assertNumEquals("547722.55750516611345696978280080", sqrt);
     }
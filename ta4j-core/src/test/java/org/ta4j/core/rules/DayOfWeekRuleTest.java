@@ -68,4 +68,19 @@ public class DayOfWeekRuleTest extends AbstractIndicatorTest<Object, Object> {
         assertFalse(rule.isSatisfied(5, null));
         assertFalse(rule.isSatisfied(6, null));
     }
+
+    @Test
+    public void isSatisfiedWithPrimitiveTimes() {
+        // 22:00 in New York is already the next day in UTC
+        ZonedDateTime monday = ZonedDateTime.parse("2019-09-16T22:00:00-04:00[America/New_York]");
+        DateTimeIndicator dateTime = new DateTimeIndicator(
+                new MockBarSeries(numFunction, new double[] { 100, 100, 100 },
+                        new ZonedDateTime[] { monday, monday.plusDays(4), monday.plusDays(5) }),
+                Bar::getEndTime, Bar::getEndTimeEpochNanos);
+        DayOfWeekRule rule = new DayOfWeekRule(dateTime, DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+        assertTrue(rule.isSatisfied(0, null));
+        assertTrue(rule.isSatisfied(1, null));
+        assertFalse(rule.isSatisfied(2, null));
+    }
 }
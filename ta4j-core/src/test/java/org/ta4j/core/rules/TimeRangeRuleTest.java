@@ -82,4 +82,21 @@ public class TimeRangeRuleTest extends AbstractIndicatorTest<Object, Object> {
         assertTrue(rule.isSatisfied(9, null));
         assertFalse(rule.isSatisfied(10, null));
     }
+
+    @Test
+    public void isSatisfiedWithPrimitiveTimes() {
+        ZonedDateTime time = ZonedDateTime.parse("2019-03-30T06:30:00+01:00[Europe/Paris]");
+        DateTimeIndicator dateTimeIndicator = new DateTimeIndicator(
+                new MockBarSeries(numFunction, new double[] { 100, 100, 100, 100 },
+                        new ZonedDateTime[] { time, time.plusHours(1), time.plusHours(23), time.plusHours(24) }),
+                Bar::getEndTime, Bar::getEndTimeEpochNanos);
+        TimeRangeRule rule = new TimeRangeRule(
+                Arrays.asList(new TimeRangeRule.TimeRange(LocalTime.of(6, 0), LocalTime.of(7, 0))), dateTimeIndicator);
+
+        assertTrue(rule.isSatisfied(0, null));
+        assertFalse(rule.isSatisfied(1, null));
+        // summer time starts in the night: 23 hours later is 06:30 again
+        assertTrue(rule.isSatisfied(2, null));
+        assertFalse(rule.isSatisfied(3, null));
+    }
 }
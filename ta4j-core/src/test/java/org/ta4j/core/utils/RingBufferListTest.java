@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RingBufferListTest {
+
+    @Test
+    public void addAndGet() {
+        RingBufferList<Integer> list = new RingBufferList<>(2);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void slidingWindowDoesNotGrow() {
+        RingBufferList<Integer> list = new RingBufferList<>(6);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            if (list.size() > 5) {
+                list.remove(0);
+            }
+        }
+        assertEquals(6, list.capacity());
+        assertEquals(Arrays.asList(995, 996, 997, 998, 999), list);
+    }
+
+    @Test
+    public void removeHeadRange() {
+        RingBufferList<Integer> list = new RingBufferList<>(4);
+        list.addAll(Arrays.asList(0, 1, 2, 3));
+        list.subList(0, 3).clear();
+        list.addAll(Arrays.asList(4, 5, 6));
+        assertEquals(Arrays.asList(3, 4, 5, 6), list);
+        assertEquals(4, list.capacity());
+    }
+
+    @Test
+    public void clearReleasesElements() {
+        RingBufferList<Integer> list = new RingBufferList<>();
+        list.addAll(Arrays.asList(0, 1, 2, 3));
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.add(null);
+        assertNull(list.get(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBounds() {
+        RingBufferList<Integer> list = new RingBufferList<>();
+        list.add(1);
+        list.remove(0);
+        list.get(0);
+    }
+
+    @Test
+    public void behavesLikeArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        RingBufferList<Integer> actual = new RingBufferList<>(1);
+        for (int i = 0; i < 10_000; i++) {
+            int operation = random.nextInt(6);
+            if (expected.isEmpty() || operation < 2) {
+                expected.add(i);
+                actual.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual.add(index, i);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            } else if (operation == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), actual.set(index, -i));
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(expected.size() - from + 1);
+                expected.subList(from, to).clear();
+                actual.subList(from, to).clear();
+            }
+            assertEquals(expected, actual);
+        }
+    }
+}
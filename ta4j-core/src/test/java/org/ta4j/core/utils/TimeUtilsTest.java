@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TimeUtilsTest {
+
+    private static final ZoneId[] ZONES = { ZoneOffset.UTC, ZoneOffset.ofHours(-5), ZoneId.of("Europe/Paris"),
+            ZoneId.of("America/New_York"), ZoneId.of("Asia/Kolkata"), ZoneId.of("Australia/Lord_Howe") };
+
+    @Test
+    public void epochNanosRoundTrip() {
+        ZonedDateTime dateTime = ZonedDateTime.of(2019, 9, 17, 0, 4, 0, 123_456_789, ZoneId.of("Europe/Paris"));
+        long epochNanos = TimeUtils.toEpochNanos(dateTime);
+        assertEquals(TimeUtils.toEpochNanos(dateTime.toInstant()), epochNanos);
+        assertEquals(dateTime, TimeUtils.toZonedDateTime(epochNanos, dateTime.getZone()));
+
+        ZonedDateTime beforeEpoch = ZonedDateTime.of(1960, 1, 1, 0, 0, 0, 1, ZoneOffset.UTC);
+        assertEquals(beforeEpoch, TimeUtils.toZonedDateTime(TimeUtils.toEpochNanos(beforeEpoch), ZoneOffset.UTC));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void outOfRange() {
+        TimeUtils.toEpochNanos(Instant.parse("2300-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void localFieldsMatchZonedDateTime() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            // around 1960 to 2080
+            long epochNanos = (random.nextLong() % (3_600_000_000L * TimeUtils.NANOS_PER_SECOND));
+            for (ZoneId zone : ZONES) {
+                ZonedDateTime dateTime = TimeUtils.toZonedDateTime(epochNanos, zone);
+                assertEquals(dateTime.toLocalTime().toNanoOfDay(), TimeUtils.toNanoOfDay(epochNanos, zone));
+                assertEquals(dateTime.getDayOfWeek(), TimeUtils.toDayOfWeek(epochNanos, zone));
+                assertEquals(dateTime.toLocalDate().toEpochDay(), TimeUtils.toEpochDay(epochNanos, zone));
+            }
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.Trade;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.num.DecimalNum;
@@ -53,6 +54,8 @@ public class SimpleMovingAverageRangeBacktest {
 
     public static void main(String[] args) {
         BarSeries series = CsvBarsLoader.loadAppleIncSeries();
+        // the entry and exit rules of a strategy share their indicators
+        series.setIndicatorRegistry(new IndicatorRegistry());
 
         int start = 3;
         int stop = 50;
@@ -72,14 +75,18 @@ public class SimpleMovingAverageRangeBacktest {
     }
 
     private static Rule createEntryRule(BarSeries series, int barCount) {
-        Indicator<Num> closePrice = new ClosePriceIndicator(series);
-        SMAIndicator sma = new SMAIndicator(closePrice, barCount);
+        Indicator<Num> closePrice = IndicatorRegistry.shared(series, ClosePriceIndicator.class,
+                () -> new ClosePriceIndicator(series), series);
+        SMAIndicator sma = IndicatorRegistry.shared(series, SMAIndicator.class,
+                () -> new SMAIndicator(closePrice, barCount), closePrice, barCount);
         return new UnderIndicatorRule(sma, closePrice);
     }
 
     private static Rule createExitRule(BarSeries series, int barCount) {
-        Indicator<Num> closePrice = new ClosePriceIndicator(series);
-        SMAIndicator sma = new SMAIndicator(closePrice, barCount);
+        Indicator<Num> closePrice = IndicatorRegistry.shared(series, ClosePriceIndicator.class,
+                () -> new ClosePriceIndicator(series), series);
+        SMAIndicator sma = IndicatorRegistry.shared(series, SMAIndicator.class,
+                () -> new SMAIndicator(closePrice, barCount), closePrice, barCount);
         return new OverIndicatorRule(sma, closePrice);
     }
 
@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.barSeries;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.utils.TimeUtils;
+
+/**
+ * Compares the time needed to backfill a bar series bar by bar with
+ * {@link BarSeries#addBar(Duration, ZonedDateTime, Number, Number, Number, Number, Number)}
+ * and at once with
+ * {@link BarSeries#addBars(Duration, ZoneId, long[], double[], double[], double[], double[], double[])}.
+ *
+ * The number of bars can be given as first argument (10 million by default, run
+ * with a large enough heap, e.g. -Xmx4g).
+ */
+public class BulkBarLoading {
+
+    private static final int DEFAULT_BAR_COUNT = 10_000_000;
+
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    public static void main(String[] args) {
+        int barCount = args != null && args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BAR_COUNT;
+
+        // Random walk of one minute bars
+        ZoneId zone = ZoneId.of("UTC");
+        ZonedDateTime start = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, zone);
+        long startNanos = TimeUtils.toEpochNanos(start);
+        long[] endTimes = new long[barCount];
+        double[] opens = new double[barCount];
+        double[] highs = new double[barCount];
+        double[] lows = new double[barCount];
+        double[] closes = new double[barCount];
+        double[] volumes = new double[barCount];
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < barCount; i++) {
+            endTimes[i] = startNanos + (i + 1) * PERIOD.toNanos();
+            opens[i] = price;
+            price = Math.max(1, price + random.nextGaussian());
+            closes[i] = price;
+            highs[i] = Math.max(opens[i], closes[i]) + random.nextDouble();
+            lows[i] = Math.min(opens[i], closes[i]) - random.nextDouble();
+            volumes[i] = random.nextInt(1000);
+        }
+
+        Supplier<BarSeries> baseSeries = () -> new BaseBarSeriesBuilder().withName("BaseBarSeries")
+                .withNumTypeOf(DoubleNum::valueOf)
+                .build();
+        Supplier<BarSeries> columnarSeries = () -> new BaseBarSeriesBuilder().withName("ColumnarBarSeries")
+                .withNumTypeOf(DoubleNum::valueOf)
+                .withColumnarStorage(true)
+                .build();
+
+        for (Supplier<BarSeries> seriesSupplier : Arrays.asList(baseSeries, columnarSeries)) {
+            long perBar = time(seriesSupplier.get(), series -> {
+                for (int i = 0; i < barCount; i++) {
+                    series.addBar(PERIOD, TimeUtils.toZonedDateTime(endTimes[i], zone), opens[i], highs[i], lows[i],
+                            closes[i], volumes[i]);
+                }
+            });
+            long bulk = time(seriesSupplier.get(),
+                    series -> series.addBars(PERIOD, zone, endTimes, opens, highs, lows, closes, volumes));
+            System.out.printf("[%s] %,d bars%n    -Bar by bar: %,d ms%n    -Bulk:       %,d ms (x%.1f)%n",
+                    seriesSupplier.get().getName(), barCount, perBar, bulk, perBar / (double) Math.max(1, bulk));
+        }
+    }
+
+    private static long time(BarSeries series, Consumer<BarSeries> load) {
+        System.gc();
+        long start = System.nanoTime();
+        load.accept(series);
+        long end = System.nanoTime();
+        return (end - start) / 1_000_000;
+    }
+}
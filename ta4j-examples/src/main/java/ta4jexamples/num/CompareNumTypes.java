@@ -42,6 +42,7 @@ import org.ta4j.core.indicators.helpers.CombineIndicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
 import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleDoubleNum;
 import org.ta4j.core.num.DoubleNum;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.rules.IsEqualRule;
@@ -56,6 +57,9 @@ public class CompareNumTypes {
         BarSeries seriesD = barSeriesBuilder.withName("Sample Series Double    ")
                 .withNumTypeOf(DoubleNum::valueOf)
                 .build();
+        BarSeries seriesDD = barSeriesBuilder.withName("Sample Series DoubleDouble")
+                .withNumTypeOf(DoubleDoubleNum::valueOf)
+                .build();
         BarSeries seriesP = barSeriesBuilder.withName("Sample Series DecimalNum 32")
                 .withNumTypeOf(DecimalNum::valueOf)
                 .build();
@@ -67,14 +71,18 @@ public class CompareNumTypes {
         for (int i = 0; i < randoms.length; i++) {
             ZonedDateTime date = ZonedDateTime.now().minusSeconds(NUMBARS - i);
             seriesD.addBar(date, randoms[i], randoms[i] + 21, randoms[i] - 21, randoms[i] - 5);
+            seriesDD.addBar(date, randoms[i], randoms[i] + 21, randoms[i] - 21, randoms[i] - 5);
             seriesP.addBar(date, randoms[i], randoms[i] + 21, randoms[i] - 21, randoms[i] - 5);
             seriesPH.addBar(date, randoms[i], randoms[i] + 21, randoms[i] - 21, randoms[i] - 5);
         }
         Num D = DecimalNum.valueOf(test(seriesD).toString(), 256);
+        Num DD = DecimalNum.valueOf(test(seriesDD).toString(), 256);
         Num P = DecimalNum.valueOf(test(seriesP).toString(), 256);
         Num standard = DecimalNum.valueOf(test(seriesPH).toString(), 256);
         System.out.println(seriesD.getName() + " error: "
                 + D.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
+        System.out.println(seriesDD.getName() + " error: "
+                + DD.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
         System.out.println(seriesP.getName() + " error: "
                 + P.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
     }
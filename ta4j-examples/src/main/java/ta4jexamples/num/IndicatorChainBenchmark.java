@@ -0,0 +1,146 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.num;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandWidthIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsLowerIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.bollinger.PercentBIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedPointNum;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.TimeUtils;
+
+/**
+ * Measures the time and the heap allocations needed to evaluate a RSI and
+ * Bollinger Bands indicator chain on every bar of a series, for each
+ * {@link Num} type.
+ *
+ * Every round builds the indicators from scratch, so that cached values of a
+ * previous round are not reused. The number of bars can be given as first
+ * argument (100 000 by default).
+ */
+public class IndicatorChainBenchmark {
+
+    private static final int DEFAULT_BAR_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int barCount = args != null && args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BAR_COUNT;
+
+        List<Function<Number, Num>> numFunctions = Arrays.asList(DoubleNum::valueOf, DecimalNum::valueOf,
+                FixedPointNum::valueOf);
+        for (Function<Number, Num> numFunction : numFunctions) {
+            BarSeries series = randomWalk(barCount, numFunction);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                evaluate(series);
+            }
+            System.gc();
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            Num checksum = series.numOf(0);
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                checksum = checksum.plus(evaluate(series));
+            }
+            long end = System.nanoTime();
+            long allocated = allocatedBytes() - allocatedBefore;
+            System.out.printf(
+                    "[%s] %,d bars%n    -Time:       %,d ms per round%n    -Allocated:  %,d bytes per bar%n"
+                            + "    -Checksum:   %s%n",
+                    series.numOf(0).getName(), barCount, (end - start) / MEASURED_ROUNDS / 1_000_000,
+                    allocated < 0 ? -1 : allocated / MEASURED_ROUNDS / barCount, checksum);
+        }
+    }
+
+    /**
+     * Evaluates RSI(14) and Bollinger Bands(20, 2) with %B and band width on every
+     * bar.
+     *
+     * @return the sum of the last values
+     */
+    private static Num evaluate(BarSeries series) {
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        RSIIndicator rsi = new RSIIndicator(close, 14);
+        BollingerBandsMiddleIndicator middle = new BollingerBandsMiddleIndicator(new SMAIndicator(close, 20));
+        StandardDeviationIndicator deviation = new StandardDeviationIndicator(close, 20);
+        BollingerBandsUpperIndicator upper = new BollingerBandsUpperIndicator(middle, deviation);
+        BollingerBandsLowerIndicator lower = new BollingerBandsLowerIndicator(middle, deviation);
+        BollingerBandWidthIndicator width = new BollingerBandWidthIndicator(upper, middle, lower);
+        PercentBIndicator percentB = new PercentBIndicator(close, 20, 2);
+
+        int endIndex = series.getEndIndex();
+        for (int i = series.getBeginIndex(); i <= endIndex; i++) {
+            rsi.getValue(i);
+            width.getValue(i);
+            percentB.getValue(i);
+        }
+        return rsi.getValue(endIndex).plus(width.getValue(endIndex)).plus(percentB.getValue(endIndex));
+    }
+
+    private static BarSeries randomWalk(int barCount, Function<Number, Num> numFunction) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        ZoneId zone = ZoneId.of("UTC");
+        long start = TimeUtils.toEpochNanos(ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, zone));
+        Duration period = Duration.ofMinutes(1);
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < barCount; i++) {
+            double open = price;
+            // prices with cents, as received from an exchange
+            price = Math.max(1, Math.round((price + random.nextGaussian()) * 100) / 100d);
+            double high = Math.max(open, price) + random.nextInt(100) / 100d;
+            double low = Math.min(open, price) - random.nextInt(100) / 100d;
+            series.addBar(period, TimeUtils.toZonedDateTime(start + (i + 1) * period.toNanos(), zone), open, high, low,
+                    price, random.nextInt(1000));
+        }
+        return series;
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -93,18 +93,16 @@ public class WalkForward {
     }
 
     /**
-     * Returns a new bar series which is a copy from a subset of the current series.
+     * Returns a view on a subset of the current series.
      *
-     * The new series has begin and end indexes which correspond to the bounds of
-     * the sub-set into the full series.<br>
      * The bars of the series are shared between the original bar series and the
      * returned one (i.e. no copy).
      *
      * @param series     the bar series to get a sub-series of
      * @param beginIndex the begin index (inclusive) of the bar series
      * @param duration   the duration of the bar series
-     * @return a constrained {@link BarSeries bar series} which is a sub-set of the
-     *         current series
+     * @return a read-only {@link BarSeries bar series} view which is a sub-set of
+     *         the current series
      */
     public static BarSeries subseries(BarSeries series, int beginIndex, Duration duration) {
 
@@ -127,7 +125,7 @@ public class WalkForward {
             subseriesNbBars++;
         }
 
-        return series.getSubSeries(beginIndex, beginIndex + subseriesNbBars);
+        return series.getSubSeriesView(beginIndex, beginIndex + subseriesNbBars);
     }
 
     /**